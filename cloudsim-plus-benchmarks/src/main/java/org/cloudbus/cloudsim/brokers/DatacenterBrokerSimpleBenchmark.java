@@ -0,0 +1,113 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for the submission of waiting Cloudlets by the {@link DatacenterBrokerSimple},
+ * which maps every Cloudlet to a created VM using a Round-Robin, least loaded or best fit policy.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class DatacenterBrokerSimpleBenchmark {
+    @Param({"10000", "100000"})
+    private int cloudlets;
+
+    @Param({"100", "10000"})
+    private int vms;
+
+    @Param({"roundRobin", "leastLoaded", "bestFit"})
+    private String mapper;
+
+    private DatacenterBrokerSimple broker;
+
+    /**
+     * Creates a broker with all VMs already created and all Cloudlets waiting
+     * to be submitted, before each execution of the benchmark.
+     */
+    @Setup(Level.Invocation)
+    public void doSetup() {
+        Log.disable();
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>();
+        hosts.add(new HostSimple(0, 1000000, Collections.singletonList(new PeSimple(1000, new PeProvisionerSimple()))));
+        final Datacenter datacenter = new DatacenterSimple(simulation,
+            new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple());
+        broker = new DatacenterBrokerSimple(simulation);
+        if ("leastLoaded".equals(mapper)) {
+            broker.setVmMapper(broker::selectLeastLoadedVm);
+        } else if ("bestFit".equals(mapper)) {
+            broker.setVmMapper(broker::selectBestFitVm);
+        }
+
+        for (int i = 0; i < vms; i++) {
+            final Vm vm = new VmSimple(i, 1000, 1).setBroker(broker);
+            broker.processSuccessVmCreationInDatacenter(vm, datacenter);
+        }
+
+        final List<Cloudlet> list = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            list.add(new CloudletSimple(i, 1000, 1).setUtilizationModel(UtilizationModel.NULL).setBroker(broker));
+        }
+        broker.submitCloudletList(list);
+    }
+
+    @Benchmark
+    public int testRequestDatacentersToCreateWaitingCloudlets() {
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        return broker.getCloudletsCreatedList().size();
+    }
+}
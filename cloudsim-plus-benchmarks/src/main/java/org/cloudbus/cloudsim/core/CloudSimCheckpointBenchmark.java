@@ -0,0 +1,146 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for writing a {@link CloudSim} checkpoint,
+ * restoring a simulation from it and forking a simulation in memory,
+ * for simulations of different sizes.
+ * The size of the checkpoint of each scenario is printed when it is created.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CloudSimCheckpointBenchmark {
+    private static final int HOST_PES = 8;
+    private static final int VM_PES = 2;
+    private static final int CLOUDLETS_BY_VM = 4;
+
+    @Param({"10", "100", "1000"})
+    private int hosts;
+
+    private CloudSim simulation;
+    private byte[] checkpoint;
+
+    /**
+     * Creates a simulation with 4 VMs by Host and 4 Cloudlets by VM,
+     * and writes a checkpoint of it to be used by the restore benchmark.
+     */
+    @Setup(Level.Trial)
+    public void doSetup() {
+        simulation = createSimulation();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        simulation.checkpoint(output);
+        checkpoint = output.toByteArray();
+        System.out.printf("%nCheckpoint size for %d Hosts: %d bytes%n", hosts, checkpoint.length);
+    }
+
+    @Benchmark
+    public int testCheckpoint() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(checkpoint.length);
+        simulation.checkpoint(output);
+        return output.size();
+    }
+
+    @Benchmark
+    public CloudSim testRestore() {
+        return CloudSim.restore(new ByteArrayInputStream(checkpoint));
+    }
+
+    @Benchmark
+    public List<CloudSim> testFork() {
+        return simulation.fork(1);
+    }
+
+    private CloudSim createSimulation() {
+        final CloudSim sim = new CloudSim();
+        sim.getLogScope().disable();
+        final List<Host> hostList = new ArrayList<>(hosts);
+        for (int i = 0; i < hosts; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+            }
+            hostList.add(new HostSimple(i, 1000000, peList)
+                .setRamProvisioner(new ResourceProvisionerSimple(new Ram(8192)))
+                .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+                .setVmScheduler(new VmSchedulerTimeShared()));
+        }
+        new DatacenterSimple(sim, new DatacenterCharacteristicsSimple(hostList), new VmAllocationPolicySimple());
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(sim);
+        final List<Vm> vms = new ArrayList<>();
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < hosts * HOST_PES / VM_PES; i++) {
+            vms.add(new VmSimple(i, 1000, VM_PES)
+                .setRam(512).setBw(1000).setSize(10000)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+            for (int j = 0; j < CLOUDLETS_BY_VM; j++) {
+                cloudlets.add(new CloudletSimple(cloudlets.size(), 10000, 1)
+                    .setUtilizationModel(new UtilizationModelFull()));
+            }
+        }
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        return sim;
+    }
+}
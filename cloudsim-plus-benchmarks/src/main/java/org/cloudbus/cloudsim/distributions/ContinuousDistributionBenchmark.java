@@ -0,0 +1,93 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.distributions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for sampling {@link ContinuousDistribution}s, one value at a time
+ * or in bulk using {@link ContinuousDistribution#sample(double[], int, int)},
+ * with the default commons-math generator or with a {@link XoroshiroRandomGenerator} stream.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ContinuousDistributionBenchmark {
+    private static final long SEED = 1475098589732L;
+    private static final int SAMPLES = 1024;
+
+    @Param({"uniform", "exponential", "normal"})
+    private String distribution;
+
+    @Param({"default", "xoroshiro"})
+    private String generator;
+
+    private ContinuousDistribution random;
+    private double[] samples;
+
+    /**
+     * Creates the distribution to be sampled.
+     */
+    @Setup(Level.Trial)
+    public void doSetup() {
+        final boolean xoroshiro = "xoroshiro".equals(generator);
+        switch (distribution) {
+            case "exponential":
+                random = xoroshiro ? new ExponentialDistr(SEED, 0, 10) : new ExponentialDistr(SEED, 10);
+            break;
+            case "normal":
+                random = xoroshiro ? new NormalDistr(SEED, 0, 10, 2) : new NormalDistr(SEED, 10, 2);
+            break;
+            default:
+                random = xoroshiro ? new UniformDistr(0, 10, SEED, 0) : new UniformDistr(0, 10, SEED);
+        }
+        samples = new double[SAMPLES];
+    }
+
+    @Benchmark
+    public double[] testSample() {
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = random.sample();
+        }
+        return samples;
+    }
+
+    @Benchmark
+    public double[] testBulkSample() {
+        random.sample(samples, 0, SAMPLES);
+        return samples;
+    }
+}
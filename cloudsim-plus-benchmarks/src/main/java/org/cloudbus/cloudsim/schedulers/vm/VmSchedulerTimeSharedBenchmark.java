@@ -0,0 +1,105 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.vm;
+
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeAllocationTable;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for the reallocation of PEs for all VMs of a Host,
+ * as performed at every processing update of a {@link org.cloudbus.cloudsim.hosts.HostDynamicWorkload},
+ * using the {@link VmSchedulerTimeShared} or the {@link VmSchedulerTimeSharedIncremental}
+ * with PE provisioners backed by maps or by a {@link PeAllocationTable}.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class VmSchedulerTimeSharedBenchmark {
+    private static final int VM_PES = 2;
+
+    @Param({"10", "100"})
+    private int vms;
+
+    @Param({"timeShared", "incremental"})
+    private String scheduler;
+
+    @Param({"simple", "indexed"})
+    private String provisioner;
+
+    private VmScheduler vmScheduler;
+    private Map<Vm, double[]> requestedMips;
+
+    /**
+     * Creates a Host with enough PEs to run all VMs and allocates PEs for them.
+     */
+    @Setup(Level.Trial)
+    public void doSetup() {
+        Log.disable();
+        final List<Pe> peList = new ArrayList<>(vms * VM_PES);
+        for (int i = 0; i < vms * VM_PES; i++) {
+            peList.add(new PeSimple(i, 1000, new PeProvisionerSimple()));
+        }
+        if ("indexed".equals(provisioner)) {
+            new PeAllocationTable(peList);
+        }
+
+        vmScheduler = "incremental".equals(scheduler) ? new VmSchedulerTimeSharedIncremental() : new VmSchedulerTimeShared();
+        new HostSimple(0, 1000000, peList).setVmScheduler(vmScheduler);
+        requestedMips = new LinkedHashMap<>();
+        for (int i = 0; i < vms; i++) {
+            final double mips = 500 + i % 500;
+            requestedMips.put(new VmSimple(i, 1000, VM_PES), new double[]{mips, mips});
+        }
+        vmScheduler.reallocateAll(requestedMips);
+    }
+
+    @Benchmark
+    public double testReallocateAll() {
+        vmScheduler.reallocateAll(requestedMips);
+        return vmScheduler.getAvailableMips();
+    }
+}
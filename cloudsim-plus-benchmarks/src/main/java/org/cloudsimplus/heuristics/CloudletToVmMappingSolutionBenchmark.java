@@ -23,50 +23,65 @@
  */
 package org.cloudsimplus.heuristics;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.IntStream;
 
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 /**
- * A set of benchmarks for the {@link CloudletToVmMappingSolution} class.
+ * A set of benchmarks for the {@link CloudletToVmMappingSolution} and
+ * {@link CloudletToVmAssignmentSolution} classes.
  *
  * @author Manoel Campos da Silva Filho
  */
 @BenchmarkMode({Mode.AverageTime, Mode.Throughput})
 @State(Scope.Thread)
 public class CloudletToVmMappingSolutionBenchmark {
+    @Param({"100", "100000"})
+    private int cloudlets;
+
     private CloudletToVmMappingSimulatedAnnealing heuristic;
     private CloudletToVmMappingSolution instance1;
     private CloudletToVmMappingSolution instance2;
+    private CloudletToVmAssignmentSolution assignment;
+    private UniformDistr random;
 
     @Setup
     public void doSetup() {
-        CloudletToVmMappingSimulatedAnnealing heuristic =
-            new CloudletToVmMappingSimulatedAnnealing(0, new UniformDistr(0, 1));
+        heuristic = new CloudletToVmMappingSimulatedAnnealing(0, new UniformDistr(0, 1));
+        random = new UniformDistr(0, 1, 1);
         instance1 = createInstance();
         instance2 = createInstance();
         /*Call the getCost the first time without measure it
         in order to measure the time for the second call,
         when the cost is already computed*/
         instance2.getCost();
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(instance1.getResult().keySet());
+        final List<Vm> vmList = new ArrayList<>(instance1.getResult().values());
+        assignment = new CloudletToVmAssignmentSolution(heuristic, cloudletList, vmList, instance1);
     }
 
     private CloudletToVmMappingSolution createInstance() {
         CloudletToVmMappingSolution result = new CloudletToVmMappingSolution(heuristic);
         UtilizationModel um = UtilizationModel.NULL;
-        IntStream.range(0, 100).forEach(i
+        IntStream.range(0, cloudlets).forEach(i
                 -> result.bindCloudletToVm(
-                        new CloudletSimple(i, 1, 1).setUtilizationModel(um),
-                        new VmSimple(i, 1000, 1))
+                        new CloudletSimple(i, 1, 1 + i % 4).setUtilizationModel(um),
+                        new VmSimple(i, 1000, 1 + i % 3))
         );
 
         return result;
@@ -95,4 +110,21 @@ public class CloudletToVmMappingSolutionBenchmark {
     public double testGetCost_SecondCall() {
         return instance2.getCost();
     }
+
+    /**
+     * Generates a neighbor of a {@link CloudletToVmAssignmentSolution} by swapping the VMs
+     * of two random Cloudlets in place, getting the cost of the changed solution.
+     * It is the operation performed by the {@link CloudletToVmMappingSimulatedAnnealing}
+     * for each neighbor, which is equivalent to calling
+     * {@link #testCreateNeighbor()} and {@link #testGetCost_FirstCall()}.
+     *
+     * @return the cost value
+     */
+    @Benchmark
+    public double testAssignmentSwapAndGetCost() {
+        final int i = (int) (random.sample() * cloudlets);
+        final int j = (int) (random.sample() * cloudlets);
+        assignment.swap(i, j);
+        return assignment.getCost();
+    }
 }
@@ -52,7 +52,7 @@ public final class PlanetLabHelper {
 		for (int i = 0; i < files.length; i++) {
 			try {
                 UtilizationModel utilizationModelCPU =
-                        new UtilizationModelPlanetLab(
+                        UtilizationModelPlanetLab.getInstance(
 								files[i].getAbsolutePath(),
 								Constants.SCHEDULING_INTERVAL);
 				CloudletSimple cloudlet = new CloudletSimple(
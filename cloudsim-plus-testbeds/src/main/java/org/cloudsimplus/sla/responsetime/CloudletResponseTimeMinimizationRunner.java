@@ -75,6 +75,8 @@ final class CloudletResponseTimeMinimizationRunner extends ExperimentRunner<Clou
                 .setApplyAntitheticVariatesTechnique(true)
                 .setNumberOfBatches(5) //Comment this or set to 0 to disable the "Batch Means Method"
                 .setBaseSeed(1475098589732L) //Comment this to use the current time as base seed
+                .setParallelism(Runtime.getRuntime().availableProcessors()) //Set to 1 to execute simulation runs sequentially
+                //.setTargetRelativeError(0.05) //Uncomment to stop when the relative error of every metric is at most 5%
                 .setVerbose(true)
                 .run();
     }
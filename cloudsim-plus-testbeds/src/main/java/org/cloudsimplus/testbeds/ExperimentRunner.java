@@ -28,10 +28,17 @@ import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.util.LogScope;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
 
 /**
@@ -78,6 +85,31 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      * @see #getNumberOfBatches()
      */
     private int numberOfBatches;
+
+    /**
+     * @see #getParallelism()
+     */
+    private int parallelism;
+
+    /**
+     * @see #getMaxExperimentsInFlight()
+     */
+    private int maxExperimentsInFlight;
+
+    /**
+     * @see #getTargetRelativeError()
+     */
+    private double targetRelativeError;
+
+    /**
+     * @see #getConfidenceLevel()
+     */
+    private double confidenceLevel;
+
+    /**
+     * @see #getMinimumNumberOfSimulationRuns()
+     */
+    private int minimumNumberOfSimulationRuns;
     
     /**
      * Creates an experiment runner, setting the
@@ -87,6 +119,9 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
         seeds = new ArrayList<>();
         setBaseSeed(System.currentTimeMillis());
         setNumberOfBatches(0);
+        setParallelism(1);
+        setConfidenceLevel(0.95);
+        setMinimumNumberOfSimulationRuns(10);
     }
 
     /**
@@ -127,6 +162,11 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
             setNumberOfSimulationRunsAsMultipleOfNumberOfBatches();
         }
 
+        if (isStopOnTargetRelativeError() && getNumberOfSimulationRuns() % precisionCheckInterval() != 0) {
+            setNumberOfSimulationRuns(
+                (getNumberOfSimulationRuns() / precisionCheckInterval() + 1) * precisionCheckInterval());
+        }
+
         setup();
         seeds = new ArrayList<>(getNumberOfSimulationRuns());
     }
@@ -213,8 +253,23 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
             return samples;
         }
 
+        final List<Double> batchMeans = batchMeans(samples);
+        System.out.printf(
+                "\tBatch Means Method applied. The number of samples was reduced to %d after computing the mean for each batch.\n", getNumberOfBatches());
+
+        return batchMeans;
+    }
+
+    /**
+     * Computes the mean of each one of the {@link #getNumberOfBatches()}
+     * consecutive batches of samples.
+     *
+     * @param samples the list of samples, whose size must be multiple of the number of batches
+     * @return the list of batch means
+     */
+    private List<Double> batchMeans(List<Double> samples) {
         List<Double> batchMeans = new ArrayList<>(getNumberOfBatches());
-        int k = batchSizeCeil();
+        int k = samples.size() / getNumberOfBatches();
         for (int i = 0; i < getNumberOfBatches(); i++) {
             double sum = 0.0;
             for (int j = 0; j < k; j++) {
@@ -223,9 +278,6 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
             batchMeans.add(sum / k);
         }
 
-        System.out.printf(
-                "\tBatch Means Method applied. The number of samples was reduced to %d after computing the mean for each batch.\n", getNumberOfBatches());
-
         return batchMeans;
     }
 
@@ -280,6 +332,27 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      * Computation and Statistical Data Analysis on the Java Platform</a>
      */
     protected double computeConfidenceErrorMargin(SummaryStatistics stats, double confidenceLevel) {
+        final double criticalValue = criticalValue(stats, confidenceLevel);
+        if (Double.isNaN(criticalValue)) {
+            return Double.NaN;
+        }
+
+        System.out.printf("\n\tt-Distribution critical value for %d samples: %f\n", stats.getN(), criticalValue);
+
+        // Calculates the confidence interval error margin
+        return criticalValue * stats.getStandardDeviation() / Math.sqrt(stats.getN());
+    }
+
+    /**
+     * Gets the critical value of the t-Distribution for a given set of samples and
+     * confidence level.
+     *
+     * @param stats the statistic object with the samples
+     * @param confidenceLevel the confidence level, in the interval from ]0 to 1[
+     * @return the critical value or {@link Double#NaN} if there are less than 2 samples
+     * @see #computeConfidenceErrorMargin(SummaryStatistics, double)
+     */
+    private double criticalValue(SummaryStatistics stats, double confidenceLevel) {
         try {
             // Creates a T-Distribution with N-1 degrees of freedom
             final double degreesOfFreedom = stats.getN() - 1;
@@ -290,11 +363,7 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
              */
             TDistribution tDist = new TDistribution(degreesOfFreedom);
             final double significance = 1.0 - confidenceLevel;
-            final double criticalValue = tDist.inverseCumulativeProbability(1.0 - significance / 2.0);
-            System.out.printf("\n\tt-Distribution critical value for %d samples: %f\n", stats.getN(), criticalValue);
-
-            // Calculates the confidence interval error margin
-            return criticalValue * stats.getStandardDeviation() / Math.sqrt(stats.getN());
+            return tDist.inverseCumulativeProbability(1.0 - significance / 2.0);
         } catch (MathIllegalArgumentException e) {
             return Double.NaN;
         }
@@ -387,7 +456,10 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      * {@link #getSeeds()} list. If it is to apply the
      * {@link #isApplyAntitheticVariatesTechnique() "Antithetic Variates Technique"}
      * to reduce results variance, the second half of experiments will use the
-     * seeds from the first half.
+     * seeds from the first half. If the runner {@link #isStopOnTargetRelativeError()
+     * stops when the target relative error is reached}, each odd experiment
+     * uses the seed of the previous experiment instead, since the total number of
+     * experiments is not known in advance.
      *
      * @param experimentIndex
      * @param minValue the minimum value the generator will return (inclusive)
@@ -398,7 +470,11 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      */
     public ContinuousDistribution createRandomGenAndAddSeedToList(int experimentIndex, double minValue, double maxValue) {
         UniformDistr prng;
-        if (isApplyAntitheticVariatesTechnique()
+        if (isApplyAntitheticVariatesTechnique() && isStopOnTargetRelativeError() && experimentIndex % 2 == 1) {
+            //the seed of the previous experiment
+            prng = new UniformDistr(minValue, maxValue, getBaseSeed() + experimentIndex)
+                    .setApplyAntitheticVariatesTechnique(true);
+        } else if (isApplyAntitheticVariatesTechnique()
                 && numberOfSimulationRuns > 1 && experimentIndex >= halfSimulationRuns()) {
             int previousExperiment = experimentIndex - halfSimulationRuns();
 
@@ -466,6 +542,11 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
 
     /**
      * Setups and starts the execution of all experiments.
+     * If the {@link #getParallelism() parallelism} is greater than 1,
+     * simulation runs are executed in parallel.
+     * If the runner {@link #isStopOnTargetRelativeError() stops when the target relative error is reached},
+     * the {@link #getNumberOfSimulationRuns() number of simulation runs}
+     * is updated to the number of runs actually executed.
      */
     @Override
     public void run() {
@@ -473,28 +554,219 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
 
         printSimulationParameters();
 
-        Log.disable();
+        experimentsStartTime = System.currentTimeMillis();
+        final int executedRuns = getParallelism() > 1 ? runExperimentsInParallel() : runExperimentsSequentially();
+        setNumberOfSimulationRuns(executedRuns);
+        System.out.println();
+        experimentsFinishTime = (System.currentTimeMillis() - experimentsStartTime) / 1000;
+
+        Map<String, List<Double>> metricsMap = createMetricsMap();
+        System.out.println("\n------------------------------------------------------------------");
+        metricsMap.entrySet().stream().forEach(this::computeAndPrintFinalResults);
+        System.out.printf("\nExperiments finished in %d seconds!\n", getExperimentsFinishTime());
+    }
+
+    /**
+     * Runs experiments one after the other in the current thread.
+     *
+     * @return the number of executed simulation runs
+     */
+    private int runExperimentsSequentially() {
+        for (int i = 0; i < getNumberOfSimulationRuns(); i++) {
+            final T experiment = createExperiment(i);
+            runSimulation(experiment);
+            finishExperiment(experiment, i + 1);
+            if (isTargetRelativeErrorReached(i + 1)) {
+                return i + 1;
+            }
+        }
+
+        return getNumberOfSimulationRuns();
+    }
+
+    /**
+     * Runs the simulation of experiments in a thread pool with
+     * {@link #getParallelism()} threads, keeping at most
+     * {@link #getMaxExperimentsInFlight()} experiments created and not finished yet.
+     *
+     * <p>Experiments are created in the current thread, in the order of their indexes,
+     * so that the seeds of each experiment are the same ones used in sequential execution.
+     * After the simulation of an experiment finishes, its results are also collected
+     * in the current thread, following the order of experiment indexes.
+     * This way, metrics don't need to be collected in a thread-safe way
+     * and the results are exactly the same ones of the sequential execution.
+     * If the target relative error is reached, experiments still running are discarded,
+     * as well as the seeds added to the {@link #getSeeds() seeds list} when they were created.</p>
+     *
+     * @return the number of executed simulation runs
+     */
+    private int runExperimentsInParallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(getParallelism());
+        final Deque<Future<T>> inFlight = new ArrayDeque<>(getMaxExperimentsInFlight());
+        // The size of the seeds list just after each experiment in flight was created
+        final Deque<Integer> seedsInFlight = new ArrayDeque<>(getMaxExperimentsInFlight());
         try {
-            experimentsStartTime = System.currentTimeMillis();
-            for (int i = 0; i < getNumberOfSimulationRuns(); i++) {
-                if (isVerbose()) {
-                    System.out.print(((i + 1) % 100 == 0 ? String.format(". Run #%d\n", i + 1) : "."));
+            int next = 0;
+            int finished = 0;
+            while (next < getNumberOfSimulationRuns() || !inFlight.isEmpty()) {
+                while (next < getNumberOfSimulationRuns() && inFlight.size() < getMaxExperimentsInFlight()) {
+                    final T experiment = createExperiment(next++);
+                    seedsInFlight.addLast(seeds.size());
+                    inFlight.addLast(executor.submit(() -> runSimulation(experiment)));
+                }
+
+                final int seedsOfFinishedRuns = seedsInFlight.removeFirst();
+                finishExperiment(waitForSimulation(inFlight.removeFirst()), ++finished);
+                if (isTargetRelativeErrorReached(finished)) {
+                    seeds.subList(seedsOfFinishedRuns, seeds.size()).clear();
+                    return finished;
                 }
-                createExperiment(i).run();
             }
-            System.out.println();
-            experimentsFinishTime = (System.currentTimeMillis() - experimentsStartTime) / 1000;
+
+            return getNumberOfSimulationRuns();
         } finally {
-            Log.enable();
+            executor.shutdownNow();
         }
+    }
 
-        Map<String, List<Double>> metricsMap = createMetricsMap();
-        System.out.println("\n------------------------------------------------------------------");
-        metricsMap.entrySet().stream().forEach(this::computeAndPrintFinalResults);
-        Log.enable();
-        System.out.printf("\nExperiments finished in %d seconds!\n", getExperimentsFinishTime());        
+    /**
+     * Checks if the runner {@link #isStopOnTargetRelativeError() stops when the target relative error is reached}
+     * and the relative error of every metric in the {@link #createMetricsMap() metrics map}
+     * is already lower or equal to the {@link #getTargetRelativeError() target}.
+     * The check is just performed after every {@link #precisionCheckInterval()} runs
+     * and after the {@link #getMinimumNumberOfSimulationRuns() minimum number of runs}
+     * has been executed.
+     *
+     * @param executedRuns the number of simulation runs executed so far
+     * @return true if no more simulation runs are required, false otherwise
+     */
+    private boolean isTargetRelativeErrorReached(final int executedRuns) {
+        if (!isStopOnTargetRelativeError() || executedRuns < getMinimumNumberOfSimulationRuns()
+            || executedRuns % precisionCheckInterval() != 0) {
+            return false;
+        }
+
+        double maxRelativeError = 0;
+        for (final List<Double> values : createMetricsMap().values()) {
+            maxRelativeError = Math.max(maxRelativeError, computeRelativeError(values));
+        }
+
+        if (isVerbose()) {
+            System.out.printf("\n\tRun #%d: maximum relative error of metrics: %.4f\n", executedRuns, maxRelativeError);
+        }
+
+        return maxRelativeError <= getTargetRelativeError();
     }
-    
+
+    /**
+     * Computes the relative error of the mean of the samples collected for a metric,
+     * that is the {@link #getConfidenceLevel() confidence interval} error margin
+     * divided by the mean. The samples are first reduced using the
+     * {@link #isApplyAntitheticVariatesTechnique() Antithetic Variates}
+     * and the {@link #isApplyBatchMeansMethod() Batch Means} techniques, if enabled.
+     *
+     * @param samples the samples collected for a metric
+     * @return the relative error or {@link Double#POSITIVE_INFINITY} if it cannot be computed
+     */
+    private double computeRelativeError(final List<Double> samples) {
+        final SummaryStatistics stats = new SummaryStatistics();
+        reduceSamples(samples).forEach(stats::addValue);
+
+        final double criticalValue = criticalValue(stats, getConfidenceLevel());
+        final double errorMargin = criticalValue * stats.getStandardDeviation() / Math.sqrt(stats.getN());
+        if (Double.isNaN(errorMargin)) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        if (errorMargin == 0) {
+            return 0;
+        }
+
+        return errorMargin / Math.abs(stats.getMean());
+    }
+
+    /**
+     * Applies the variance reduction techniques to a list of samples
+     * collected while the runner {@link #isStopOnTargetRelativeError() stops when
+     * the target relative error is reached}. In such a case, antithetic samples are
+     * consecutive and, after computing their means, such means are divided into batches.
+     *
+     * @param samples the samples to reduce
+     * @return the reduced samples
+     */
+    private List<Double> reduceSamples(List<Double> samples) {
+        if (isApplyAntitheticVariatesTechnique()) {
+            samples = antitheticMeans(samples);
+        }
+
+        if (isApplyBatchMeansMethod() && samples.size() >= getNumberOfBatches()) {
+            samples = batchMeans(samples);
+        }
+
+        return samples;
+    }
+
+    /**
+     * Gets the number of simulation runs between two checks of the relative error,
+     * which is the number of runs needed to add one sample to every batch
+     * (if the {@link #isApplyBatchMeansMethod() Batch Means Method} is applied)
+     * and to complete every pair of antithetic runs
+     * (if the {@link #isApplyAntitheticVariatesTechnique() Antithetic Variates Technique} is applied).
+     *
+     * @return
+     */
+    private int precisionCheckInterval() {
+        final int batches = isApplyBatchMeansMethod() ? getNumberOfBatches() : 1;
+        return isApplyAntitheticVariatesTechnique() ? 2 * batches : batches;
+    }
+
+    private T waitForSimulation(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an experiment to finish", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("An experiment failed to run", e.getCause());
+        }
+    }
+
+    /**
+     * Runs the simulation of an experiment with its log disabled,
+     * without changing the global {@link Log} settings.
+     *
+     * @param experiment the experiment to run
+     * @return the given experiment
+     */
+    private T runSimulation(final T experiment) {
+        final LogScope previous = Log.setCurrentScope(experiment.getCloudsim().getLogScope().disable());
+        try {
+            experiment.runSimulation();
+            return experiment;
+        } finally {
+            Log.setCurrentScope(previous);
+        }
+    }
+
+    /**
+     * Collects the results of an experiment after its simulation has finished.
+     *
+     * @param experiment the experiment to finish
+     * @param run the number of the simulation run, starting from 1
+     */
+    private void finishExperiment(final T experiment, final int run) {
+        final LogScope previous = Log.setCurrentScope(experiment.getCloudsim().getLogScope());
+        try {
+            experiment.finish();
+        } finally {
+            Log.setCurrentScope(previous);
+        }
+
+        if (isVerbose()) {
+            System.out.print((run % 100 == 0 ? String.format(". Run #%d\n", run) : "."));
+        }
+    }
+
     /**
      * Creates a Map adding a List of values for each metric to be computed.
      * The computation of final experiments results are performed on this map.
@@ -540,16 +812,34 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
             return samples;
         }
 
+        final List<Double> antitheticMeans = antitheticMeans(samples);
+        System.out.printf(
+                "\tAntithetic Variates Technique applied. The number of samples was reduced to the half (%d).\n", antitheticMeans.size());
+
+        return antitheticMeans;
+    }
+
+    /**
+     * Computes the means of each pair of antithetic samples.
+     * If the runner {@link #isStopOnTargetRelativeError() stops when the target relative error is reached},
+     * each pair is compounded of consecutive samples. Otherwise, each sample
+     * in the first half is paired with the corresponding sample in the second half.
+     *
+     * @param samples the list of samples
+     * @return the list of antithetic means
+     */
+    private List<Double> antitheticMeans(List<Double> samples) {
         final int half = samples.size() / 2;
         List<Double> antitheticMeans = new ArrayList<>(half);
         //applies the "Antithetic Variates Technique" to reduce variance
         for (int i = 0; i < half; i++) {
-            antitheticMeans.add((samples.get(i) + samples.get(half + i)) / 2.0);
+            if (isStopOnTargetRelativeError()) {
+                antitheticMeans.add((samples.get(2 * i) + samples.get(2 * i + 1)) / 2.0);
+            } else {
+                antitheticMeans.add((samples.get(i) + samples.get(half + i)) / 2.0);
+            }
         }
 
-        System.out.printf(
-                "\tAntithetic Variates Technique applied. The number of samples was reduced to the half (%d).\n", half);
-
         return antitheticMeans;
     }
 
@@ -564,6 +854,8 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      * and the {@link #isApplyBatchMeansMethod() Batch Means} techniques
      * are enabled and then apply them over the given list of Doubles.
      * These techniques are used for variance reduction.
+     * If the runner {@link #isStopOnTargetRelativeError() stops when the target relative error is reached},
+     * antithetic means are computed before batch means, since antithetic runs are consecutive.
      *
      * @param values the List of values to add to the {@link SummaryStatistics} object
      * @return the {@link SummaryStatistics} object containing
@@ -572,8 +864,13 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      */
     protected SummaryStatistics computeFinalStatistics(List<Double> values) {
         SummaryStatistics stats = new SummaryStatistics();
-        values = computeBatchMeans(values);
-        values = computeAntitheticMeans(values);
+        if (isStopOnTargetRelativeError()) {
+            values = computeAntitheticMeans(values);
+            values = computeBatchMeans(values);
+        } else {
+            values = computeBatchMeans(values);
+            values = computeAntitheticMeans(values);
+        }
         values.forEach(stats::addValue);
         return stats;
     }
@@ -631,4 +928,160 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
         this.verbose = verbose;
         return this;
     }
+
+    /**
+     * Gets the number of threads used to execute simulation runs in parallel.
+     * If it is 1 (the default), simulation runs are executed sequentially
+     * in the thread that calls {@link #run()}.
+     *
+     * <p>Since experiments are created and their results are collected
+     * in the order of their indexes, the final results
+     * don't depend on the number of threads.</p>
+     *
+     * @return
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of threads used to execute simulation runs in parallel.
+     * It also sets the {@link #getMaxExperimentsInFlight() maximum number of experiments in flight}
+     * to twice such a number of threads.
+     *
+     * @param parallelism the number of threads to set, such as
+     * {@link Runtime#availableProcessors()}, or 1 to execute simulation runs sequentially
+     * @return
+     * @see #getParallelism()
+     */
+    public final ExperimentRunner setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+
+        this.parallelism = parallelism;
+        this.maxExperimentsInFlight = 2 * parallelism;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of experiments that may be created and not finished yet
+     * when simulation runs are executed in parallel.
+     * It limits the memory used by the experiments waiting to be executed
+     * or waiting to have their results collected.
+     *
+     * @return
+     * @see #getParallelism()
+     */
+    public int getMaxExperimentsInFlight() {
+        return maxExperimentsInFlight;
+    }
+
+    /**
+     * Sets the maximum number of experiments that may be created and not finished yet
+     * when simulation runs are executed in parallel.
+     * Values lower than the {@link #getParallelism() parallelism} leave some threads idle.
+     *
+     * @param maxExperimentsInFlight the maximum number of experiments to set
+     * @return
+     */
+    public ExperimentRunner setMaxExperimentsInFlight(int maxExperimentsInFlight) {
+        if (maxExperimentsInFlight < 1) {
+            throw new IllegalArgumentException("The maximum number of experiments in flight must be at least 1.");
+        }
+
+        this.maxExperimentsInFlight = maxExperimentsInFlight;
+        return this;
+    }
+
+    /**
+     * Gets the maximum relative error accepted for the mean of every metric,
+     * that is the {@link #getConfidenceLevel() confidence interval} error margin divided by the mean.
+     * If it is greater than zero, experiments stop running as soon as the relative error
+     * of every metric in the {@link #createMetricsMap() metrics map} is lower or equal to it,
+     * and the {@link #getNumberOfSimulationRuns() number of simulation runs}
+     * becomes the maximum number of runs to execute.
+     *
+     * @return the target relative error, such as 0.05 for 5%, or zero if
+     * all simulation runs are always executed (the default)
+     */
+    public double getTargetRelativeError() {
+        return targetRelativeError;
+    }
+
+    /**
+     * Sets the maximum relative error accepted for the mean of every metric.
+     *
+     * @param targetRelativeError the target relative error to set, such as 0.05 for 5%, or zero to always
+     * execute all the simulation runs
+     * @return
+     * @see #getTargetRelativeError()
+     */
+    public ExperimentRunner setTargetRelativeError(double targetRelativeError) {
+        if (targetRelativeError < 0) {
+            throw new IllegalArgumentException("The target relative error cannot be negative.");
+        }
+
+        this.targetRelativeError = targetRelativeError;
+        return this;
+    }
+
+    /**
+     * Checks if experiments stop running when the {@link #getTargetRelativeError() target relative error}
+     * is reached.
+     *
+     * @return
+     */
+    public boolean isStopOnTargetRelativeError() {
+        return targetRelativeError > 0;
+    }
+
+    /**
+     * Gets the confidence level used to compute the relative error of metrics
+     * when the runner {@link #isStopOnTargetRelativeError() stops when the target relative error is reached}.
+     *
+     * @return the confidence level, in the interval from ]0 to 1[ (0.95 by default)
+     */
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    /**
+     * Sets the confidence level used to compute the relative error of metrics.
+     *
+     * @param confidenceLevel the confidence level to set, in the interval from ]0 to 1[
+     * @return
+     * @see #getConfidenceLevel()
+     */
+    public final ExperimentRunner setConfidenceLevel(double confidenceLevel) {
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new IllegalArgumentException("The confidence level must be in the interval ]0 to 1[.");
+        }
+
+        this.confidenceLevel = confidenceLevel;
+        return this;
+    }
+
+    /**
+     * Gets the minimum number of simulation runs to execute before checking
+     * if the {@link #getTargetRelativeError() target relative error} was reached,
+     * avoiding to stop due to a misleading low variance of the first few runs.
+     *
+     * @return the minimum number of simulation runs (10 by default)
+     */
+    public int getMinimumNumberOfSimulationRuns() {
+        return minimumNumberOfSimulationRuns;
+    }
+
+    /**
+     * Sets the minimum number of simulation runs to execute before checking
+     * if the {@link #getTargetRelativeError() target relative error} was reached.
+     *
+     * @param minimumNumberOfSimulationRuns the minimum number of simulation runs to set
+     * @return
+     */
+    public final ExperimentRunner setMinimumNumberOfSimulationRuns(int minimumNumberOfSimulationRuns) {
+        this.minimumNumberOfSimulationRuns = minimumNumberOfSimulationRuns;
+        return this;
+    }
 }
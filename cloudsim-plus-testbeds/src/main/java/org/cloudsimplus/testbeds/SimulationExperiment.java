@@ -145,8 +145,30 @@ public abstract class SimulationExperiment implements Runnable {
      */
     @Override
     public final void run() {
+        runSimulation();
+        finish();
+    }
+
+    /**
+     * Builds the simulation scenario and runs the simulation,
+     * without collecting the experiment results.
+     * Since each experiment has its own {@link CloudSim} instance,
+     * different experiments can run this method in parallel.
+     *
+     * @see #finish()
+     */
+    final void runSimulation() {
         buildScenario();
         cloudsim.start();
+    }
+
+    /**
+     * Calls the {@link #setAfterExperimentFinish(Consumer) afterExperimentFinish Consumer}
+     * to collect the experiment results and prints them, after the simulation has finished.
+     *
+     * @see #runSimulation()
+     */
+    final void finish() {
         getAfterExperimentFinish().accept(this);
         printResultsInternal();
     }
@@ -0,0 +1,160 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds.sweep;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a {@link ParameterSweep} over the number of Hosts and VMs, the Datacenter
+ * scheduling interval and the classes of {@link VmAllocationPolicy} and {@link CloudletScheduler},
+ * writing the results to a CSV file. Run it twice to see that, in the second time,
+ * all results are read from the cache.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public final class DatacenterSweepRunner {
+    private static final int HOST_PES = 8;
+    private static final int VM_PES = 2;
+    private static final int CLOUDLETS_BY_VM = 4;
+
+    /**
+     * Starts the execution of the sweep.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        final List<SweepPoint> points = new ParameterSweep()
+            .addParameter("hosts", 4, 8, 16)
+            .addParameter("vms", 8, 16, 32, 64)
+            .addParameter("schedulingInterval", 0.0, 5.0)
+            .addParameter("allocationPolicy", VmAllocationPolicySimple.class)
+            .addParameter("cloudletScheduler", CloudletSchedulerTimeShared.class, CloudletSchedulerSpaceShared.class)
+            .addParameter("replication", 0, 1, 2)
+            .setBaseSeed(1475098589732L)
+            .grid();
+
+        final SweepRunner runner = new SweepRunner(points, DatacenterSweepRunner::runExperiment)
+            .setCacheDirectory(new File("sweep-cache"))
+            .setCsvFile(new File("sweep-results.csv"))
+            .setVerbose(true);
+        runner.run();
+        System.out.printf("%nSweep finished: %d points executed and %d read from cache.%n",
+            runner.getExecutedPoints(), runner.getCachedPoints());
+    }
+
+    private DatacenterSweepRunner(){}
+
+    /**
+     * Builds and runs the simulation scenario for a point of the sweep.
+     *
+     * @param point the point defining the scenario parameters
+     * @return the value of each collected metric
+     */
+    private static Map<String, Double> runExperiment(final SweepPoint point) {
+        final CloudSim simulation = new CloudSim();
+        simulation.getLogScope().disable();
+
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i < point.getInt("hosts"); i++) {
+            hosts.add(createHost(i));
+        }
+        new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(hosts),
+            point.newInstance("allocationPolicy", VmAllocationPolicy.class))
+            .setSchedulingInterval(point.getDouble("schedulingInterval"));
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final ContinuousDistribution random = new UniformDistr(point.getSeed());
+        final List<Vm> vms = new ArrayList<>();
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < point.getInt("vms"); i++) {
+            vms.add(new VmSimple(i, 1000, VM_PES)
+                .setRam(512).setBw(1000).setSize(10000)
+                .setCloudletScheduler(point.newInstance("cloudletScheduler", CloudletScheduler.class))
+                .setBroker(broker));
+            for (int j = 0; j < CLOUDLETS_BY_VM; j++) {
+                final long length = 10000 + (long) (random.sample() * 40000);
+                cloudlets.add(new CloudletSimple(cloudlets.size(), length, 1)
+                    .setFileSize(300).setOutputSize(300)
+                    .setUtilizationModel(new UtilizationModelFull())
+                    .setBroker(broker));
+            }
+        }
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+
+        simulation.start();
+
+        final List<Cloudlet> finished = broker.getCloudletsFinishedList();
+        final Map<String, Double> metrics = new HashMap<>();
+        metrics.put("finishedCloudlets", (double) finished.size());
+        metrics.put("makespan", finished.stream().mapToDouble(Cloudlet::getFinishTime).max().orElse(0));
+        metrics.put("meanCloudletExecutionTime",
+            finished.stream().mapToDouble(c -> c.getFinishTime() - c.getExecStartTime()).average().orElse(0));
+        return metrics;
+    }
+
+    private static Host createHost(final int id) {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+        }
+
+        return new HostSimple(id, 1000000, peList)
+            .setRamProvisioner(new ResourceProvisionerSimple(new Ram(8192)))
+            .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+            .setVmScheduler(new VmSchedulerTimeShared());
+    }
+}
@@ -0,0 +1,279 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds.sweep;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Defines the parameters of a simulation scenario to be swept,
+ * such as the number of Hosts and VMs, the scheduling interval,
+ * migration thresholds or the {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy}
+ * class to use, and generates the {@link SweepPoint}s to be executed by a {@link SweepRunner}.
+ *
+ * <p>Points can be generated as a full {@link #grid() grid} of all combinations
+ * of parameter values, or as a {@link #latinHypercube(int) Latin Hypercube sample},
+ * which covers the range of every parameter with a much lower number of points.</p>
+ *
+ * <p>To run multiple replications of each point, just add a parameter
+ * with the replication numbers, such as {@code addParameter("replication", 0, 1, 2)},
+ * which gives a different seed for each replication.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class ParameterSweep {
+    /**
+     * The discrete values of each parameter, or null for parameters
+     * defined by a {@link #addRange(String, double, double) range}.
+     */
+    private final Map<String, List<Object>> values;
+
+    /**
+     * The minimum and maximum values of parameters defined by a range.
+     */
+    private final Map<String, double[]> ranges;
+
+    /**
+     * @see #getBaseSeed()
+     */
+    private long baseSeed;
+
+    /**
+     * @see #getVersion()
+     */
+    private String version;
+
+    /**
+     * Creates a ParameterSweep with no parameters.
+     */
+    public ParameterSweep() {
+        values = new LinkedHashMap<>();
+        ranges = new LinkedHashMap<>();
+        version = "";
+    }
+
+    /**
+     * Adds a parameter with a list of discrete values to the sweep.
+     *
+     * @param name the name of the parameter
+     * @param values the values the parameter can assume,
+     *               such as numbers, Strings or classes
+     * @return
+     */
+    public ParameterSweep addParameter(final String name, final Object... values) {
+        return addParameter(name, Arrays.asList(values));
+    }
+
+    /**
+     * Adds a parameter with a list of discrete values to the sweep.
+     *
+     * @param name the name of the parameter
+     * @param values the values the parameter can assume,
+     *               such as numbers, Strings or classes
+     * @return
+     */
+    public ParameterSweep addParameter(final String name, final List<?> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("The parameter " + name + " must have at least one value.");
+        }
+
+        checkNewParameter(name);
+        this.values.put(name, Collections.unmodifiableList(new ArrayList<>(values)));
+        return this;
+    }
+
+    /**
+     * Adds a parameter whose values are continuous in a given range.
+     * Such parameters can only be used to generate a {@link #latinHypercube(int) Latin Hypercube sample}.
+     *
+     * @param name the name of the parameter
+     * @param min the minimum value of the parameter (inclusive)
+     * @param max the maximum value of the parameter (exclusive)
+     * @return
+     */
+    public ParameterSweep addRange(final String name, final double min, final double max) {
+        if (max < min) {
+            throw new IllegalArgumentException("The maximum value of the parameter " + name + " is lower than the minimum.");
+        }
+
+        checkNewParameter(name);
+        this.values.put(name, null);
+        this.ranges.put(name, new double[]{min, max});
+        return this;
+    }
+
+    private void checkNewParameter(final String name) {
+        Objects.requireNonNull(name);
+        if (values.containsKey(name)) {
+            throw new IllegalArgumentException("The parameter " + name + " was already added.");
+        }
+    }
+
+    /**
+     * Generates a point for every combination of parameter values,
+     * where the values of the last added parameter change first.
+     *
+     * @return the list of points
+     * @throws IllegalStateException when some parameter is defined by a range
+     */
+    public List<SweepPoint> grid() {
+        if (!ranges.isEmpty()) {
+            throw new IllegalStateException("A grid cannot be generated for parameters defined by a range: " + ranges.keySet());
+        }
+
+        final List<String> names = new ArrayList<>(values.keySet());
+        int size = 1;
+        for (final List<Object> list : values.values()) {
+            size = Math.multiplyExact(size, list.size());
+        }
+
+        final List<SweepPoint> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Map<String, Object> point = new LinkedHashMap<>();
+            int remaining = i;
+            for (int j = names.size() - 1; j >= 0; j--) {
+                final List<Object> list = values.get(names.get(j));
+                point.put(names.get(j), list.get(remaining % list.size()));
+                remaining /= list.size();
+            }
+            points.add(createPoint(i, names, point));
+        }
+
+        return points;
+    }
+
+    /**
+     * Generates a Latin Hypercube sample of the parameters space.
+     * The range of each parameter is split into a number of equally probable intervals
+     * equal to the number of points and every interval is used by exactly one point.
+     * For parameters with discrete values, intervals are mapped to the values list.
+     * The sample is reproducible for the same {@link #getBaseSeed() base seed}.
+     *
+     * @param samples the number of points to generate
+     * @return the list of points
+     */
+    public List<SweepPoint> latinHypercube(final int samples) {
+        final List<String> names = new ArrayList<>(values.keySet());
+        final Random random = new Random(baseSeed);
+        final List<Map<String, Object>> points = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            points.add(new LinkedHashMap<>());
+        }
+
+        for (final String name : names) {
+            final int[] strata = permutation(samples, random);
+            for (int i = 0; i < samples; i++) {
+                final List<Object> list = values.get(name);
+                if (list == null) {
+                    final double[] range = ranges.get(name);
+                    final double position = (strata[i] + random.nextDouble()) / samples;
+                    points.get(i).put(name, range[0] + position * (range[1] - range[0]));
+                } else {
+                    points.get(i).put(name, list.get((int) ((long) strata[i] * list.size() / samples)));
+                }
+            }
+        }
+
+        final List<SweepPoint> result = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            result.add(createPoint(i, names, points.get(i)));
+        }
+        return result;
+    }
+
+    private static int[] permutation(final int size, final Random random) {
+        final int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = i;
+        }
+
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+        return array;
+    }
+
+    /**
+     * Creates a point keeping the parameters in the order they were added to the sweep.
+     */
+    private SweepPoint createPoint(final int index, final List<String> names, final Map<String, Object> point) {
+        final Map<String, Object> ordered = new LinkedHashMap<>();
+        for (final String name : names) {
+            ordered.put(name, point.get(name));
+        }
+        return new SweepPoint(index, ordered, baseSeed, version);
+    }
+
+    /**
+     * Gets the seed from which the seed of every point is derived.
+     * It is also used to generate {@link #latinHypercube(int) Latin Hypercube samples}.
+     * @return
+     */
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    /**
+     * Sets the seed from which the seed of every point is derived.
+     *
+     * @param baseSeed the base seed to set
+     * @return
+     */
+    public ParameterSweep setBaseSeed(final long baseSeed) {
+        this.baseSeed = baseSeed;
+        return this;
+    }
+
+    /**
+     * Gets a text that is included in the {@link SweepPoint#getHash() hash} of every point.
+     * It must be changed whenever the experiment code changes in a way that
+     * invalidates previously cached results.
+     * @return
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets a text that is included in the {@link SweepPoint#getHash() hash} of every point.
+     *
+     * @param version the version to set
+     * @return
+     * @see #getVersion()
+     */
+    public ParameterSweep setVersion(final String version) {
+        this.version = Objects.requireNonNull(version);
+        return this;
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds.sweep;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * A point of a {@link ParameterSweep}, defining a value for every swept parameter
+ * and the seed to be used by the experiment executed for such values.
+ *
+ * <p>The seed is derived from the {@link ParameterSweep#getBaseSeed() base seed}
+ * and the parameter values, instead of the position of the point in the sweep.
+ * This way, a point always gets the same seed and {@link #getHash() hash},
+ * even if values are added to or removed from other parameters,
+ * which enables the {@link SweepRunner} to reuse cached results.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public final class SweepPoint {
+    private final int index;
+    private final Map<String, Object> parameters;
+    private final long seed;
+    private final String hash;
+
+    /**
+     * Creates a SweepPoint.
+     *
+     * @param index the position of the point in the sweep
+     * @param parameters the value of each parameter, in the order they were added to the sweep
+     * @param baseSeed the base seed of the sweep
+     * @param version the version of the sweep
+     * @see ParameterSweep#getVersion()
+     */
+    SweepPoint(final int index, final Map<String, Object> parameters, final long baseSeed, final String version) {
+        this.index = index;
+        this.parameters = Collections.unmodifiableMap(parameters);
+
+        final String configuration = configuration();
+        this.seed = baseSeed ^ toLong(sha256(configuration));
+        this.hash = toHex(sha256(configuration + "seed=" + seed + "\nversion=" + version + '\n'));
+    }
+
+    /**
+     * Gets a text representing the parameter values,
+     * sorted by name so that the order in which parameters were added doesn't matter.
+     */
+    private String configuration() {
+        final StringBuilder builder = new StringBuilder();
+        for (final Map.Entry<String, Object> entry : new TreeMap<>(parameters).entrySet()) {
+            builder.append(entry.getKey()).append('=').append(valueToString(entry.getValue())).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets the text representation of a parameter value.
+     * Classes are represented by their fully qualified name.
+     *
+     * @param value the value to convert
+     * @return
+     */
+    static String valueToString(final Object value) {
+        return value instanceof Class ? ((Class<?>) value).getName() : String.valueOf(value);
+    }
+
+    private static byte[] sha256(final String text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long toLong(final byte[] bytes) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (final byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets the position of the point in the sweep.
+     * @return
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets a read-only map with the value of each parameter,
+     * in the order the parameters were added to the sweep.
+     * @return
+     */
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Gets the seed to be used by pseudo random number generators
+     * of the experiment executed for this point.
+     * @return
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets a SHA-256 hash of the parameter values, the {@link #getSeed() seed}
+     * and the {@link ParameterSweep#getVersion() version} of the sweep,
+     * which identifies the results of this point in the {@link SweepRunner} cache.
+     * @return the hash as an hexadecimal string
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the value of a parameter.
+     *
+     * @param name the name of the parameter
+     * @return the parameter value
+     * @throws IllegalArgumentException when the point doesn't have the given parameter
+     */
+    public Object get(final String name) {
+        final Object value = parameters.get(name);
+        if (value == null && !parameters.containsKey(name)) {
+            throw new IllegalArgumentException("The sweep doesn't have a parameter named " + name);
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets the value of a numeric parameter as an int,
+     * truncating decimal values.
+     *
+     * @param name the name of the parameter
+     * @return the parameter value
+     */
+    public int getInt(final String name) {
+        return ((Number) get(name)).intValue();
+    }
+
+    /**
+     * Gets the value of a numeric parameter as a long,
+     * truncating decimal values.
+     *
+     * @param name the name of the parameter
+     * @return the parameter value
+     */
+    public long getLong(final String name) {
+        return ((Number) get(name)).longValue();
+    }
+
+    /**
+     * Gets the value of a numeric parameter as a double.
+     *
+     * @param name the name of the parameter
+     * @return the parameter value
+     */
+    public double getDouble(final String name) {
+        return ((Number) get(name)).doubleValue();
+    }
+
+    /**
+     * Gets the value of a parameter as a String.
+     *
+     * @param name the name of the parameter
+     * @return the parameter value
+     */
+    public String getString(final String name) {
+        return valueToString(get(name));
+    }
+
+    /**
+     * Creates an instance of a parameter whose value is a class,
+     * such as a {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy} implementation,
+     * using its no-argument constructor.
+     *
+     * @param name the name of the parameter
+     * @param type the type of the instance to create
+     * @param <T> the type of the instance to create
+     * @return the created instance
+     * @throws IllegalStateException when the class cannot be instantiated
+     */
+    public <T> T newInstance(final String name, final Class<T> type) {
+        final Class<?> klass = (Class<?>) get(name);
+        try {
+            return type.cast(klass.newInstance());
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Unable to instantiate " + klass.getName(), e);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof SweepPoint && hash.equals(((SweepPoint) other).hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SweepPoint #%d %s", index, parameters);
+    }
+}
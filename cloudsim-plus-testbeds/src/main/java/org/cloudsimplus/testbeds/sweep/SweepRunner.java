@@ -0,0 +1,419 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds.sweep;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Runs an experiment for every {@link SweepPoint} of a {@link ParameterSweep} in parallel,
+ * caching the results of each point on disk and writing all results to a CSV file.
+ *
+ * <p>The experiment is a {@link Function} that receives a point, builds and runs
+ * a simulation using the point's parameter values and {@link SweepPoint#getSeed() seed},
+ * and returns a map where each key is the name of a metric and each value is the metric value.
+ * Since experiments run in parallel, each one must create its own
+ * {@link org.cloudbus.cloudsim.core.CloudSim} instance and should disable logging
+ * through its {@link org.cloudbus.cloudsim.core.CloudSim#getLogScope() log scope}
+ * instead of the global {@link org.cloudbus.cloudsim.util.Log}.</p>
+ *
+ * <p>If a {@link #setCacheDirectory(File) cache directory} is set,
+ * the results of each point are stored in a file named after the point's
+ * {@link SweepPoint#getHash() hash}. Points whose results are already in the cache
+ * are not executed again. This way, an interrupted sweep can be resumed and,
+ * after adding values to a parameter, just the new points are executed.</p>
+ *
+ * <p>Results are written to the {@link #setCsvFile(File) CSV file} as soon as they are available,
+ * following the order of points, with one column for each parameter, the seed, the hash and
+ * one column for each metric.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class SweepRunner {
+    private static final String CACHE_FILE_EXTENSION = ".result";
+
+    private final List<SweepPoint> points;
+    private final Function<SweepPoint, Map<String, Double>> experiment;
+
+    /**
+     * @see #getParallelism()
+     */
+    private int parallelism;
+
+    /**
+     * @see #getCacheDirectory()
+     */
+    private File cacheDirectory;
+
+    /**
+     * @see #getCsvFile()
+     */
+    private File csvFile;
+
+    /**
+     * @see #isVerbose()
+     */
+    private boolean verbose;
+
+    /**
+     * @see #getExecutedPoints()
+     */
+    private int executedPoints;
+
+    /**
+     * @see #getCachedPoints()
+     */
+    private int cachedPoints;
+
+    /**
+     * The names of the metrics written to the CSV file,
+     * which are defined by the results of the first point.
+     */
+    private List<String> metricNames;
+
+    /**
+     * Creates a SweepRunner that uses all available processors.
+     *
+     * @param points the points to run the experiment for
+     * @param experiment a {@link Function} that runs the experiment for a given point
+     *                   and returns the value of each collected metric
+     */
+    public SweepRunner(final List<SweepPoint> points, final Function<SweepPoint, Map<String, Double>> experiment) {
+        this.points = Objects.requireNonNull(points);
+        this.experiment = Objects.requireNonNull(experiment);
+        setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Runs the experiment for every point that doesn't have results in the cache.
+     *
+     * @return the results of every point, in the order of points
+     * @throws UncheckedIOException when the cache or the CSV file cannot be accessed
+     * @throws IllegalStateException when some experiment fails
+     */
+    public List<Map<String, Double>> run() {
+        executedPoints = 0;
+        cachedPoints = 0;
+        metricNames = null;
+        final List<Map<String, Double>> results = new ArrayList<>(points.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        final Deque<Future<Map<String, Double>>> inFlight = new ArrayDeque<>();
+        try (Writer csv = csvFile == null ? null : Files.newBufferedWriter(csvFile.toPath(), StandardCharsets.UTF_8)) {
+            int next = 0;
+            while (results.size() < points.size()) {
+                while (next < points.size() && inFlight.size() < 2 * parallelism) {
+                    inFlight.addLast(submit(executor, points.get(next++)));
+                }
+
+                final SweepPoint point = points.get(results.size());
+                final Map<String, Double> result = waitForResult(inFlight.removeFirst(), point);
+                results.add(result);
+                if (csv != null) {
+                    writeCsvRow(csv, point, result);
+                }
+                if (verbose) {
+                    System.out.printf("%d/%d points finished (%d from cache)%n", results.size(), points.size(), cachedPoints);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    /**
+     * Gets the results of a point from the cache or submits the experiment
+     * for the point to be executed.
+     */
+    private Future<Map<String, Double>> submit(final ExecutorService executor, final SweepPoint point) throws IOException {
+        final Map<String, Double> cached = readCache(point);
+        if (cached != null) {
+            cachedPoints++;
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        executedPoints++;
+        return executor.submit(() -> {
+            final Map<String, Double> result = new LinkedHashMap<>(experiment.apply(point));
+            writeCache(point, result);
+            return result;
+        });
+    }
+
+    private Map<String, Double> waitForResult(final Future<Map<String, Double>> future, final SweepPoint point) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the experiment of " + point, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The experiment failed for " + point, e.getCause());
+        }
+    }
+
+    private Path getCacheFile(final SweepPoint point) {
+        return new File(cacheDirectory, point.getHash() + CACHE_FILE_EXTENSION).toPath();
+    }
+
+    /**
+     * Reads the results of a point from the cache.
+     *
+     * @param point the point to read the results of
+     * @return the results or null if they are not in the cache
+     */
+    private Map<String, Double> readCache(final SweepPoint point) throws IOException {
+        if (cacheDirectory == null) {
+            return null;
+        }
+
+        final Path file = getCacheFile(point);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        final Map<String, Double> result = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int separator = line.lastIndexOf('=');
+                if (line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                result.put(line.substring(0, separator), Double.valueOf(line.substring(separator + 1)));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes the results of a point to the cache.
+     * The results are written to a temporary file that is then renamed,
+     * so that an interrupted sweep never leaves incomplete results in the cache.
+     */
+    private void writeCache(final SweepPoint point, final Map<String, Double> result) throws IOException {
+        if (cacheDirectory == null) {
+            return;
+        }
+
+        final Path file = getCacheFile(point);
+        final Path tmp = Files.createTempFile(cacheDirectory.toPath(), point.getHash(), ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            writer.write("# seed=" + point.getSeed());
+            writer.newLine();
+            for (final Map.Entry<String, Object> entry : point.getParameters().entrySet()) {
+                writer.write("# " + entry.getKey() + '=' + SweepPoint.valueToString(entry.getValue()));
+                writer.newLine();
+            }
+            for (final Map.Entry<String, Double> entry : result.entrySet()) {
+                writer.write(entry.getKey() + '=' + entry.getValue());
+                writer.newLine();
+            }
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeCsvRow(final Writer csv, final SweepPoint point, final Map<String, Double> result) throws IOException {
+        if (metricNames == null) {
+            metricNames = new ArrayList<>(result.keySet());
+            final List<String> header = new ArrayList<>(point.getParameters().keySet());
+            header.add("seed");
+            header.add("hash");
+            header.addAll(metricNames);
+            writeCsvLine(csv, header);
+        }
+
+        final List<String> row = new ArrayList<>();
+        point.getParameters().values().forEach(value -> row.add(SweepPoint.valueToString(value)));
+        row.add(String.valueOf(point.getSeed()));
+        row.add(point.getHash());
+        for (final String metric : metricNames) {
+            final Double value = result.get(metric);
+            row.add(value == null ? "" : value.toString());
+        }
+        writeCsvLine(csv, row);
+    }
+
+    private static void writeCsvLine(final Writer csv, final List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            csv.write(escapeCsv(values.get(i)));
+        }
+        csv.write(System.lineSeparator());
+        csv.flush();
+    }
+
+    private static String escapeCsv(final String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Gets a read-only list of the points to run the experiment for.
+     * @return
+     */
+    public List<SweepPoint> getPoints() {
+        return Collections.unmodifiableList(points);
+    }
+
+    /**
+     * Gets the number of threads used to run experiments in parallel.
+     * @return
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of threads used to run experiments in parallel.
+     *
+     * @param parallelism the number of threads to set
+     * @return
+     */
+    public final SweepRunner setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Gets the directory where the results of each point are cached,
+     * or null if results are not cached.
+     * @return
+     */
+    public File getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Sets the directory where the results of each point are cached,
+     * creating it if it doesn't exist.
+     *
+     * @param cacheDirectory the cache directory to set or null to disable caching
+     * @return
+     * @throws UncheckedIOException when the directory cannot be created
+     */
+    public SweepRunner setCacheDirectory(final File cacheDirectory) {
+        if (cacheDirectory != null) {
+            try {
+                Files.createDirectories(cacheDirectory.toPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
+    /**
+     * Gets the CSV file where the results of all points are written,
+     * or null if no file is written.
+     * @return
+     */
+    public File getCsvFile() {
+        return csvFile;
+    }
+
+    /**
+     * Sets the CSV file where the results of all points are written.
+     * The file is overwritten at every {@link #run()}.
+     *
+     * @param csvFile the CSV file to set or null to not write results to a file
+     * @return
+     */
+    public SweepRunner setCsvFile(final File csvFile) {
+        this.csvFile = csvFile;
+        return this;
+    }
+
+    /**
+     * Indicates if the runner prints the progress of the sweep.
+     * @return
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Defines if the runner prints the progress of the sweep.
+     *
+     * @param verbose true to print the progress, false otherwise
+     * @return
+     */
+    public SweepRunner setVerbose(final boolean verbose) {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Gets the number of points whose experiments were executed by the last {@link #run()}.
+     * @return
+     */
+    public int getExecutedPoints() {
+        return executedPoints;
+    }
+
+    /**
+     * Gets the number of points whose results were read from the cache by the last {@link #run()}.
+     * @return
+     */
+    public int getCachedPoints() {
+        return cachedPoints;
+    }
+}
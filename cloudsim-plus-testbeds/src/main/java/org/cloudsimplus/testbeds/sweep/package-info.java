@@ -0,0 +1,35 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Provides classes to run an experiment for every combination of values of
+ * a set of scenario parameters (a parameter sweep), such as the number of Hosts and VMs,
+ * the scheduling interval or the {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy}
+ * class to use. Points of the sweep are defined by a {@link org.cloudsimplus.testbeds.sweep.ParameterSweep}
+ * and executed in parallel by a {@link org.cloudsimplus.testbeds.sweep.SweepRunner},
+ * which caches the results of each point on disk, so that re-running a sweep
+ * just executes the points that were not executed yet.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+package org.cloudsimplus.testbeds.sweep;
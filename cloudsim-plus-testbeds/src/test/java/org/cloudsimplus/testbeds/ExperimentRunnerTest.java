@@ -0,0 +1,274 @@
+package org.cloudsimplus.testbeds;
+
+import org.apache.commons.math3.distribution.TDistribution;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class ExperimentRunnerTest {
+    private static final long BASE_SEED = 1000;
+    private static final int MAX_RUNS = 1000;
+
+    /**
+     * Creates a runner whose experiments return a value computed
+     * from a uniform random number in [0, 1[.
+     *
+     * @param metric the function to compute the value of each experiment from the random number
+     * @return the created runner
+     */
+    private static UniformRunner createRunner(final DoubleUnaryOperator metric) {
+        final UniformRunner runner = new UniformRunner(metric);
+        runner.setNumberOfSimulationRuns(MAX_RUNS);
+        runner.setBaseSeed(BASE_SEED);
+        return runner;
+    }
+
+    @Test
+    public void testAllRunsAreExecutedWhenTargetRelativeErrorIsNotSet() {
+        final UniformRunner runner = createRunner(u -> u);
+        runner.setNumberOfSimulationRuns(20);
+        runner.run();
+        assertEquals(20, runner.getNumberOfSimulationRuns());
+        assertEquals(20, runner.values.size());
+    }
+
+    @Test
+    public void testAllRunsAreExecutedWhenTargetRelativeErrorIsNotReached() {
+        final UniformRunner runner = createRunner(u -> u);
+        runner.setNumberOfSimulationRuns(20);
+        runner.setTargetRelativeError(0.0001);
+        runner.run();
+        assertEquals(20, runner.values.size());
+    }
+
+    @Test
+    public void testStopsAtMinimumNumberOfRunsWhenThereIsNoVariance() {
+        final UniformRunner runner = createRunner(u -> 1);
+        runner.setTargetRelativeError(0.05);
+        runner.run();
+        assertEquals(runner.getMinimumNumberOfSimulationRuns(), runner.getNumberOfSimulationRuns());
+        assertEquals(runner.getMinimumNumberOfSimulationRuns(), runner.values.size());
+    }
+
+    @Test
+    public void testRelativeErrorIsJustCheckedWhenEveryBatchHasTheSameNumberOfSamples() {
+        final UniformRunner runner = createRunner(u -> 1);
+        runner.setTargetRelativeError(0.05);
+        runner.setNumberOfBatches(4);
+        runner.run();
+        // The first multiple of the number of batches after the minimum number of runs (10)
+        assertEquals(12, runner.values.size());
+    }
+
+    @Test
+    public void testRelativeErrorIsJustCheckedAfterCompletingAntitheticPairsOfEveryBatch() {
+        final UniformRunner runner = createRunner(u -> 1);
+        runner.setTargetRelativeError(0.05);
+        runner.setNumberOfBatches(4);
+        runner.setApplyAntitheticVariatesTechnique(true);
+        runner.run();
+        assertEquals(16, runner.values.size());
+    }
+
+    @Test
+    public void testExperimentWithKnownVarianceStopsWithinTheExpectedNumberOfRuns() {
+        final double targetRelativeError = 0.01;
+        final UniformRunner runner = createRunner(u -> 10 + u);
+        runner.setTargetRelativeError(targetRelativeError);
+        runner.run();
+
+        // The values are uniformly distributed in [10, 11[, then mean = 10.5 and variance = 1/12
+        final double errorMarginForOneRun = 1.96 * Math.sqrt(1 / 12.0) / 10.5;
+        final double expectedRuns = Math.pow(errorMarginForOneRun / targetRelativeError, 2);
+        final int runs = runner.getNumberOfSimulationRuns();
+        assertTrue("Executed runs: " + runs, runs >= expectedRuns / 2 && runs <= expectedRuns * 2);
+        assertEquals(runs, runner.values.size());
+
+        final SummaryStatistics stats = new SummaryStatistics();
+        runner.values.forEach(stats::addValue);
+        final double criticalValue = new TDistribution(runs - 1).inverseCumulativeProbability(0.975);
+        final double relativeError = criticalValue * stats.getStandardDeviation() / Math.sqrt(runs) / stats.getMean();
+        assertTrue(relativeError <= targetRelativeError);
+    }
+
+    @Test
+    public void testAntitheticRunsAreConsecutiveAndShareTheSeed() {
+        final UniformRunner runner = createRunner(u -> u);
+        runner.setTargetRelativeError(0.05);
+        runner.setApplyAntitheticVariatesTechnique(true);
+        runner.run();
+
+        final List<Double> values = runner.values;
+        assertEquals(0, values.size() % 2);
+        for (int i = 0; i < values.size(); i += 2) {
+            assertEquals(1, values.get(i) + values.get(i + 1), 1e-9);
+        }
+
+        // Each pair of runs adds a single seed
+        assertEquals(values.size() / 2, runner.getSeeds().size());
+        // The antithetic means have no variance, then the runner stops as soon as possible
+        assertEquals(runner.getMinimumNumberOfSimulationRuns(), values.size());
+    }
+
+    @Test
+    public void testFinalStatisticsComputeAntitheticMeansBeforeBatchMeans() {
+        final UniformRunner runner = createRunner(u -> u);
+        runner.setTargetRelativeError(0.05);
+        runner.setApplyAntitheticVariatesTechnique(true);
+        runner.setNumberOfBatches(2);
+        runner.setNumberOfSimulationRuns(8);
+
+        // Antithetic means: 1.5, 3.5, 5.5, 7.5; batch means: 2.5, 6.5
+        final SummaryStatistics stats = runner.computeFinalStatistics(Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0));
+        assertEquals(2, stats.getN());
+        assertEquals(4.5, stats.getMean(), 1e-9);
+        assertEquals(2.5, stats.getMin(), 1e-9);
+        assertEquals(6.5, stats.getMax(), 1e-9);
+    }
+
+    @Test
+    public void testConfidenceIntervalOfBatchMeans() {
+        final UniformRunner runner = createRunner(u -> u);
+        runner.setNumberOfBatches(4);
+        runner.setNumberOfSimulationRuns(8);
+
+        // Batch means: 1.5, 3.5, 5.5, 7.5
+        final SummaryStatistics stats = runner.computeFinalStatistics(Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0));
+        assertEquals(4, stats.getN());
+        assertEquals(4.5, stats.getMean(), 1e-9);
+
+        final double criticalValue = new TDistribution(3).inverseCumulativeProbability(0.975);
+        final double expected = criticalValue * stats.getStandardDeviation() / 2;
+        assertEquals(expected, runner.computeConfidenceErrorMargin(stats, 0.95), 1e-9);
+    }
+
+    @Test
+    public void testParallelRunsHaveTheSameResultsAndSeedsOfSequentialRuns() {
+        final UniformRunner sequential = createRunner(u -> 10 + u);
+        sequential.setTargetRelativeError(0.01);
+        sequential.run();
+
+        final UniformRunner parallel = createRunner(u -> 10 + u);
+        parallel.setTargetRelativeError(0.01);
+        parallel.setParallelism(4);
+        parallel.run();
+
+        assertEquals(sequential.getNumberOfSimulationRuns(), parallel.getNumberOfSimulationRuns());
+        assertEquals(sequential.values, parallel.values);
+        assertEquals(sequential.getSeeds(), parallel.getSeeds());
+    }
+
+    @Test
+    public void testSeedsOfRunsDiscardedInParallelAreRemoved() {
+        final UniformRunner runner = createRunner(u -> 1);
+        runner.setTargetRelativeError(0.05);
+        runner.setParallelism(4);
+        runner.setMaxExperimentsInFlight(8);
+        runner.run();
+
+        final int runs = runner.getMinimumNumberOfSimulationRuns();
+        assertEquals(runs, runner.getNumberOfSimulationRuns());
+        assertTrue(runner.createdExperiments > runs);
+        assertEquals(runs, runner.getSeeds().size());
+        for (int i = 0; i < runs; i++) {
+            assertEquals(BASE_SEED + i + 1, (long) runner.getSeeds().get(i));
+        }
+    }
+
+    /**
+     * A runner of {@link UniformExperiment}s that collects the value of each experiment.
+     */
+    private static final class UniformRunner extends ExperimentRunner<UniformExperiment> {
+        private final DoubleUnaryOperator metric;
+        private final List<Double> values = new ArrayList<>();
+        private int createdExperiments;
+
+        UniformRunner(final DoubleUnaryOperator metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void setup() {
+            values.clear();
+            createdExperiments = 0;
+        }
+
+        @Override
+        protected Map<String, List<Double>> createMetricsMap() {
+            final Map<String, List<Double>> map = new HashMap<>();
+            map.put("value", values);
+            return map;
+        }
+
+        @Override
+        protected UniformExperiment createExperiment(final int i) {
+            createdExperiments++;
+            final UniformExperiment experiment =
+                new UniformExperiment(i, this, metric.applyAsDouble(createRandomGenAndAddSeedToList(i).sample()));
+            experiment.<UniformExperiment>setAfterExperimentFinish(exp -> values.add(exp.value));
+            return experiment;
+        }
+
+        @Override
+        protected void printSimulationParameters() {}
+
+        @Override
+        protected void printFinalResults(final String metricName, final SummaryStatistics stats) {}
+    }
+
+    /**
+     * An experiment with an empty scenario, whose result is a value defined when it is created.
+     */
+    private static final class UniformExperiment extends SimulationExperiment {
+        private final double value;
+
+        UniformExperiment(final int index, final ExperimentRunner runner, final double value) {
+            super(index, runner);
+            this.value = value;
+        }
+
+        @Override
+        public void printResults() {}
+
+        @Override
+        protected DatacenterBroker createBroker() {
+            return new DatacenterBrokerSimple(getCloudsim());
+        }
+
+        @Override
+        protected List<Cloudlet> createCloudlets(final DatacenterBroker broker) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected List<Vm> createVms(final DatacenterBroker broker) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected List<Host> createHosts() {
+            return Collections.singletonList(
+                new HostSimple(0, 1000, Collections.singletonList(new PeSimple(1000, new PeProvisionerSimple()))));
+        }
+    }
+}
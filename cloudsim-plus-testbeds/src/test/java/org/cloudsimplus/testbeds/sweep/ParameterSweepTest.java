@@ -0,0 +1,147 @@
+package org.cloudsimplus.testbeds.sweep;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class ParameterSweepTest {
+    private static final int SAMPLES = 20;
+
+    @Test
+    public void testGridHasEveryCombinationWithLastParameterChangingFirst() {
+        final List<SweepPoint> points = new ParameterSweep()
+            .addParameter("hosts", 10, 20)
+            .addParameter("vms", 1, 2, 3)
+            .grid();
+
+        assertEquals(6, points.size());
+        final int[][] expected = {{10, 1}, {10, 2}, {10, 3}, {20, 1}, {20, 2}, {20, 3}};
+        for (int i = 0; i < expected.length; i++) {
+            final SweepPoint point = points.get(i);
+            assertEquals(i, point.getIndex());
+            assertEquals(Arrays.asList("hosts", "vms"), new ArrayList<>(point.getParameters().keySet()));
+            assertEquals(expected[i][0], point.getInt("hosts"));
+            assertEquals(expected[i][1], point.getInt("vms"));
+        }
+    }
+
+    @Test
+    public void testAddingValuesKeepsHashesOfExistingPoints() {
+        final List<SweepPoint> points = new ParameterSweep()
+            .addParameter("hosts", 10, 20)
+            .addParameter("vms", 1, 2)
+            .grid();
+        final List<SweepPoint> morePoints = new ParameterSweep()
+            .addParameter("hosts", 10, 20, 30)
+            .addParameter("vms", 1, 2)
+            .grid();
+
+        assertTrue(new HashSet<>(morePoints).containsAll(points));
+        assertEquals(4, new HashSet<>(points).size());
+    }
+
+    @Test
+    public void testReplicationsHaveDifferentSeeds() {
+        final List<SweepPoint> points = new ParameterSweep()
+            .addParameter("hosts", 10)
+            .addParameter("replication", 0, 1, 2)
+            .grid();
+
+        final Set<Long> seeds = new HashSet<>();
+        for (final SweepPoint point : points) {
+            seeds.add(point.getSeed());
+        }
+        assertEquals(points.size(), seeds.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGridWithRangeParameter() {
+        new ParameterSweep().addRange("threshold", 0.5, 1).grid();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddDuplicatedParameter() {
+        new ParameterSweep().addParameter("hosts", 10).addRange("hosts", 1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddParameterWithoutValues() {
+        new ParameterSweep().addParameter("hosts");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddRangeWithMaxLowerThanMin() {
+        new ParameterSweep().addRange("threshold", 1, 0.5);
+    }
+
+    @Test
+    public void testLatinHypercubeUsesEveryIntervalOfRangeOnce() {
+        final double min = 0.5, max = 1;
+        final List<SweepPoint> points = new ParameterSweep()
+            .setBaseSeed(7)
+            .addRange("threshold", min, max)
+            .addRange("interval", 0, 100)
+            .latinHypercube(SAMPLES);
+
+        assertEquals(SAMPLES, points.size());
+        assertEveryIntervalUsedOnce(points, "threshold", min, max);
+        assertEveryIntervalUsedOnce(points, "interval", 0, 100);
+    }
+
+    private static void assertEveryIntervalUsedOnce(
+        final List<SweepPoint> points, final String name, final double min, final double max)
+    {
+        final Set<Integer> intervals = new HashSet<>();
+        for (final SweepPoint point : points) {
+            final double value = point.getDouble(name);
+            assertTrue(value >= min && value < max);
+            intervals.add((int) ((value - min) / (max - min) * points.size()));
+        }
+        assertEquals(points.size(), intervals.size());
+    }
+
+    @Test
+    public void testLatinHypercubeUsesDiscreteValuesEvenly() {
+        final List<SweepPoint> points = new ParameterSweep()
+            .addParameter("vms", 1, 2, 3, 4)
+            .latinHypercube(SAMPLES);
+
+        final Map<Integer, Integer> occurrences = new HashMap<>();
+        for (final SweepPoint point : points) {
+            occurrences.merge(point.getInt("vms"), 1, Integer::sum);
+        }
+        assertEquals(4, occurrences.size());
+        for (final int count : occurrences.values()) {
+            assertEquals(SAMPLES / 4, count);
+        }
+    }
+
+    @Test
+    public void testLatinHypercubeIsReproducibleForTheSameBaseSeed() {
+        final List<SweepPoint> points1 = createSample(1);
+        final List<SweepPoint> points2 = createSample(1);
+        final List<SweepPoint> points3 = createSample(2);
+
+        assertEquals(points1, points2);
+        assertNotEquals(points1, points3);
+    }
+
+    private static List<SweepPoint> createSample(final long baseSeed) {
+        return new ParameterSweep()
+            .setBaseSeed(baseSeed)
+            .addRange("threshold", 0.5, 1)
+            .addParameter("vms", 1, 2)
+            .latinHypercube(SAMPLES);
+    }
+}
@@ -0,0 +1,93 @@
+package org.cloudsimplus.testbeds.sweep;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class SweepPointTest {
+    private static final long BASE_SEED = 42;
+
+    private static SweepPoint createPoint(final long baseSeed, final String version, final Object... nameValuePairs) {
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < nameValuePairs.length; i += 2) {
+            parameters.put((String) nameValuePairs[i], nameValuePairs[i + 1]);
+        }
+        return new SweepPoint(0, parameters, baseSeed, version);
+    }
+
+    @Test
+    public void testHashAndSeedDontDependOnParametersOrder() {
+        final SweepPoint point1 = createPoint(BASE_SEED, "", "hosts", 10, "vms", 20);
+        final SweepPoint point2 = createPoint(BASE_SEED, "", "vms", 20, "hosts", 10);
+        assertEquals(point1.getHash(), point2.getHash());
+        assertEquals(point1.getSeed(), point2.getSeed());
+        assertEquals(point1, point2);
+    }
+
+    @Test
+    public void testHashAndSeedChangeWithParameterValues() {
+        final SweepPoint point1 = createPoint(BASE_SEED, "", "hosts", 10);
+        final SweepPoint point2 = createPoint(BASE_SEED, "", "hosts", 11);
+        assertNotEquals(point1.getHash(), point2.getHash());
+        assertNotEquals(point1.getSeed(), point2.getSeed());
+    }
+
+    @Test
+    public void testSeedIsDerivedFromBaseSeed() {
+        final SweepPoint point1 = createPoint(BASE_SEED, "", "hosts", 10);
+        final SweepPoint point2 = createPoint(BASE_SEED + 1, "", "hosts", 10);
+        assertEquals(point1.getSeed() ^ BASE_SEED, point2.getSeed() ^ (BASE_SEED + 1));
+        assertNotEquals(point1.getHash(), point2.getHash());
+    }
+
+    @Test
+    public void testVersionChangesHashButNotSeed() {
+        final SweepPoint point1 = createPoint(BASE_SEED, "1", "hosts", 10);
+        final SweepPoint point2 = createPoint(BASE_SEED, "2", "hosts", 10);
+        assertEquals(point1.getSeed(), point2.getSeed());
+        assertNotEquals(point1.getHash(), point2.getHash());
+    }
+
+    @Test
+    public void testHashIsSha256InHexadecimal() {
+        final String hash = createPoint(BASE_SEED, "", "hosts", 10).getHash();
+        assertEquals(64, hash.length());
+        assertTrue(hash.matches("[0-9a-f]+"));
+    }
+
+    @Test
+    public void testClassParameterIsRepresentedByItsName() {
+        final SweepPoint point = createPoint(BASE_SEED, "", "policy", VmAllocationPolicySimple.class);
+        assertEquals(VmAllocationPolicySimple.class.getName(), point.getString("policy"));
+        assertEquals(
+            createPoint(BASE_SEED, "", "policy", VmAllocationPolicySimple.class.getName()).getHash(),
+            point.getHash());
+        assertTrue(point.newInstance("policy", VmAllocationPolicy.class) instanceof VmAllocationPolicySimple);
+    }
+
+    @Test
+    public void testNumericGetters() {
+        final SweepPoint point = createPoint(BASE_SEED, "", "threshold", 0.75, "hosts", 10);
+        assertEquals(0.75, point.getDouble("threshold"), 0);
+        assertEquals(0, point.getInt("threshold"));
+        assertEquals(10L, point.getLong("hosts"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetUnknownParameter() {
+        createPoint(BASE_SEED, "", "hosts", 10).get("vms");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testParametersAreReadOnly() {
+        createPoint(BASE_SEED, "", "hosts", 10).getParameters().put("vms", 20);
+    }
+}
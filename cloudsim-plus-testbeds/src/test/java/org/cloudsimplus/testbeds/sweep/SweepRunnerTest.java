@@ -0,0 +1,208 @@
+package org.cloudsimplus.testbeds.sweep;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class SweepRunnerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<SweepPoint> points;
+    private AtomicInteger executions;
+
+    @Before
+    public void setUp() {
+        points = new ParameterSweep().addParameter("hosts", 1, 2, 3, 4).grid();
+        executions = new AtomicInteger();
+    }
+
+    /**
+     * An experiment that returns the number of hosts of the point and its double.
+     */
+    private Map<String, Double> experiment(final SweepPoint point) {
+        executions.incrementAndGet();
+        final Map<String, Double> result = new LinkedHashMap<>();
+        result.put("value", point.getDouble("hosts"));
+        result.put("doubled", 2 * point.getDouble("hosts"));
+        return result;
+    }
+
+    private SweepRunner createRunner(final List<SweepPoint> points, final File cacheDir) {
+        return new SweepRunner(points, this::experiment).setParallelism(2).setCacheDirectory(cacheDir);
+    }
+
+    private static void assertResults(final List<SweepPoint> points, final List<Map<String, Double>> results) {
+        assertEquals(points.size(), results.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(points.get(i).getDouble("hosts"), results.get(i).get("value"), 0);
+            assertEquals(2 * points.get(i).getDouble("hosts"), results.get(i).get("doubled"), 0);
+        }
+    }
+
+    @Test
+    public void testRunWithoutCache() {
+        final SweepRunner runner = createRunner(points, null);
+        assertResults(points, runner.run());
+        assertEquals(points.size(), runner.getExecutedPoints());
+        assertEquals(0, runner.getCachedPoints());
+    }
+
+    @Test
+    public void testCacheMissExecutesAndCacheHitReusesResults() throws IOException {
+        final File cacheDir = folder.newFolder("cache");
+        final SweepRunner runner = createRunner(points, cacheDir);
+        runner.run();
+        assertEquals(points.size(), executions.get());
+        assertEquals(points.size(), runner.getExecutedPoints());
+
+        final List<Map<String, Double>> results = runner.run();
+        assertResults(points, results);
+        assertEquals(points.size(), executions.get());
+        assertEquals(0, runner.getExecutedPoints());
+        assertEquals(points.size(), runner.getCachedPoints());
+    }
+
+    @Test
+    public void testJustNewPointsAreExecutedAfterAddingValues() throws IOException {
+        final File cacheDir = folder.newFolder("cache");
+        createRunner(points, cacheDir).run();
+
+        final List<SweepPoint> morePoints = new ParameterSweep().addParameter("hosts", 1, 2, 3, 4, 5, 6).grid();
+        final SweepRunner runner = createRunner(morePoints, cacheDir);
+        assertResults(morePoints, runner.run());
+        assertEquals(2, runner.getExecutedPoints());
+        assertEquals(points.size(), runner.getCachedPoints());
+    }
+
+    @Test
+    public void testCacheFilesAreMovedIntoPlaceAtomically() throws IOException {
+        final File cacheDir = folder.newFolder("cache");
+        createRunner(points, cacheDir).run();
+
+        final String[] files = cacheDir.list();
+        assertNotNull(files);
+        assertEquals(points.size(), files.length);
+        for (final SweepPoint point : points) {
+            final File file = new File(cacheDir, point.getHash() + ".result");
+            assertTrue(file.exists());
+            final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            assertEquals("# seed=" + point.getSeed(), lines.get(0));
+        }
+    }
+
+    @Test
+    public void testTemporaryFileLeftByInterruptedSweepIsNotACacheHit() throws IOException {
+        final File cacheDir = folder.newFolder("cache");
+        final SweepPoint point = points.get(0);
+        Files.write(new File(cacheDir, point.getHash() + "123.tmp").toPath(),
+            Collections.singletonList("hosts=1000"), StandardCharsets.UTF_8);
+
+        final SweepRunner runner = createRunner(Collections.singletonList(point), cacheDir);
+        assertResults(Collections.singletonList(point), runner.run());
+        assertEquals(1, runner.getExecutedPoints());
+    }
+
+    @Test
+    public void testFailedExperimentIsNotCached() throws IOException {
+        final File cacheDir = folder.newFolder("cache");
+        final Function<SweepPoint, Map<String, Double>> failing = point -> {
+            throw new IllegalArgumentException("failure");
+        };
+        final SweepRunner runner = new SweepRunner(points, failing).setCacheDirectory(cacheDir);
+        try {
+            runner.run();
+            fail("An IllegalStateException was expected");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+
+        final String[] files = cacheDir.list((dir, name) -> name.endsWith(".result"));
+        assertNotNull(files);
+        assertEquals(0, files.length);
+    }
+
+    @Test
+    public void testCsvRowsAreWrittenInPointsOrderEvenIfExperimentsFinishOutOfOrder() throws IOException {
+        final CountDownLatch otherPointsFinished = new CountDownLatch(points.size() - 1);
+        final Function<SweepPoint, Map<String, Double>> experiment = point -> {
+            if (point.getIndex() == 0) {
+                await(otherPointsFinished);
+            }
+            final Map<String, Double> result = experiment(point);
+            if (point.getIndex() > 0) {
+                otherPointsFinished.countDown();
+            }
+            return result;
+        };
+
+        final File csv = folder.newFile("results.csv");
+        new SweepRunner(points, experiment).setParallelism(points.size()).setCsvFile(csv).run();
+        assertEquals(0, otherPointsFinished.getCount());
+
+        final List<String> lines = Files.readAllLines(csv.toPath(), StandardCharsets.UTF_8);
+        assertEquals("hosts,seed,hash,value,doubled", lines.get(0));
+        assertEquals(points.size() + 1, lines.size());
+        for (int i = 0; i < points.size(); i++) {
+            final SweepPoint point = points.get(i);
+            final String expected = point.getInt("hosts") + "," + point.getSeed() + "," + point.getHash() + "," +
+                point.getDouble("hosts") + "," + 2 * point.getDouble("hosts");
+            assertEquals(expected, lines.get(i + 1));
+        }
+    }
+
+    @Test
+    public void testCsvRowsAreStreamedAsResultsBecomeAvailable() throws IOException {
+        final File csv = folder.newFile("results.csv");
+        final int[] linesWhenLastPointStarted = new int[1];
+        final Function<SweepPoint, Map<String, Double>> experiment = point -> {
+            if (point.getIndex() == points.size() - 1) {
+                linesWhenLastPointStarted[0] = readLines(csv).size();
+            }
+            return experiment(point);
+        };
+
+        // With a single thread, the last point is only submitted after the first two rows are written
+        new SweepRunner(points, experiment).setParallelism(1).setCsvFile(csv).run();
+        assertTrue(linesWhenLastPointStarted[0] >= 3);
+        assertEquals(points.size() + 1, readLines(csv).size());
+    }
+
+    private static List<String> readLines(final File file) {
+        try {
+            return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timeout waiting for other points");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.allocationpolicies;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface VmAllocationPolicy {
+public interface VmAllocationPolicy extends Serializable {
     /**
      * Gets the {@link Datacenter} associated to the Allocation Policy.
      * @return
@@ -107,6 +108,7 @@ public interface VmAllocationPolicy {
      * objects.
      */
     VmAllocationPolicy NULL = new VmAllocationPolicy() {
+        private static final long serialVersionUID = 1L;
         @Override public Datacenter getDatacenter() { return Datacenter.NULL; }
         @Override public void setDatacenter(Datacenter datacenter) {}
         @Override public boolean allocateHostForVm(Vm vm){ return false; }
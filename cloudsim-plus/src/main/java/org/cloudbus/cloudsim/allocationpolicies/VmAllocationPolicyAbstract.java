@@ -35,6 +35,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getVmHostMap()
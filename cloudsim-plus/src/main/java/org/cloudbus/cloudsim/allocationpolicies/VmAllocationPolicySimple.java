@@ -27,6 +27,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @since CloudSim Toolkit 1.0
  */
 public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a new VmAllocationPolicySimple object.
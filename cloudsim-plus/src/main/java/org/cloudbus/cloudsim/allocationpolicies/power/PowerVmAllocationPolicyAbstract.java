@@ -36,6 +36,7 @@ import org.cloudbus.cloudsim.core.Simulation;
  * @since CloudSim Toolkit 3.0
  */
 public abstract class PowerVmAllocationPolicyAbstract extends VmAllocationPolicyAbstract implements PowerVmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getVmHostMap()
@@ -73,6 +73,7 @@ public interface PowerVmAllocationPolicyMigration extends PowerVmAllocationPolic
      * objects.
      */
     PowerVmAllocationPolicyMigration NULL = new PowerVmAllocationPolicyMigration(){
+        private static final long serialVersionUID = 1L;
         @Override public PowerHost findHostForVm(Vm vm) { return PowerHost.NULL; }
         @Override public Datacenter getDatacenter() { return Datacenter.NULL; }
         @Override public void setDatacenter(Datacenter datacenter) {}
@@ -20,7 +20,7 @@ import org.cloudbus.cloudsim.selectionpolicies.power.PowerVmSelectionPolicy;
 import org.cloudbus.cloudsim.vms.power.PowerVm;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.Simulation;
-import org.cloudbus.cloudsim.util.ExecutionTimeMeasurer;
+import org.cloudbus.cloudsim.util.SimulationProfiler;
 
 /**
  * An abstract power-aware VM allocation policy that dynamically optimizes the
@@ -44,6 +44,11 @@ import org.cloudbus.cloudsim.util.ExecutionTimeMeasurer;
  */
 public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAllocationPolicyAbstract
     implements PowerVmAllocationPolicyMigration {
+    private static final long serialVersionUID = 1L;
+
+    private static final String HOST_SELECTION_SECTION = SimulationProfiler.MIGRATION_OPTIMIZATION + ":host-selection";
+    private static final String VM_SELECTION_SECTION = SimulationProfiler.MIGRATION_OPTIMIZATION + ":vm-selection";
+    private static final String VM_REALLOCATION_SECTION = SimulationProfiler.MIGRATION_OPTIMIZATION + ":vm-reallocation";
 
     /**@see #getUnderUtilizationThreshold() */
     private double underUtilizationThreshold = 0.35;
@@ -123,29 +128,27 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
 
     @Override
     public Map<Vm, Host> optimizeAllocation(List<? extends Vm> vmList) {
-        ExecutionTimeMeasurer.start("optimizeAllocationTotal");
+        final long totalStartTime = System.nanoTime();
 
-        ExecutionTimeMeasurer.start("optimizeAllocationHostSelection");
+        long startTime = System.nanoTime();
         List<PowerHostUtilizationHistory> overUtilizedHosts = getOverUtilizedHosts();
-        getExecutionTimeHistoryHostSelection().add(
-                ExecutionTimeMeasurer.end("optimizeAllocationHostSelection"));
+        getExecutionTimeHistoryHostSelection().add(recordExecutionTime(HOST_SELECTION_SECTION, startTime));
 
         printOverUtilizedHosts(overUtilizedHosts);
 
         saveAllocation();
 
-        ExecutionTimeMeasurer.start("optimizeAllocationVmSelection");
+        startTime = System.nanoTime();
         List<Vm> vmsToMigrate = getVmsToMigrateFromHosts(overUtilizedHosts);
-        getExecutionTimeHistoryVmSelection().add(ExecutionTimeMeasurer.end("optimizeAllocationVmSelection"));
+        getExecutionTimeHistoryVmSelection().add(recordExecutionTime(VM_SELECTION_SECTION, startTime));
 
         Map<Vm, Host> migrationMap = new HashMap<>();
         if(!overUtilizedHosts.isEmpty()){
             Log.printLine("Reallocation of VMs from the over-utilized hosts: ");
-            ExecutionTimeMeasurer.start("optimizeAllocationVmReallocation");
+            startTime = System.nanoTime();
             migrationMap =
                     getNewVmPlacement(vmsToMigrate, new HashSet<>(overUtilizedHosts));
-            getExecutionTimeHistoryVmReallocation().add(
-                    ExecutionTimeMeasurer.end("optimizeAllocationVmReallocation"));
+            getExecutionTimeHistoryVmReallocation().add(recordExecutionTime(VM_REALLOCATION_SECTION, startTime));
             Log.printLine();
         }
 
@@ -153,11 +156,25 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
 
         restoreAllocation();
 
-        getExecutionTimeHistoryTotal().add(ExecutionTimeMeasurer.end("optimizeAllocationTotal"));
+        getExecutionTimeHistoryTotal().add(recordExecutionTime(SimulationProfiler.MIGRATION_OPTIMIZATION, totalStartTime));
 
         return migrationMap;
     }
 
+    /**
+     * Records the execution time of a section of the {@link #optimizeAllocation(List)} method
+     * into the simulation {@link SimulationProfiler profiler}.
+     *
+     * @param section the name of the section
+     * @param startTime the time the section started, got from {@link System#nanoTime()}
+     * @return the section execution time in seconds
+     */
+    private double recordExecutionTime(final String section, final long startTime) {
+        final long nanos = System.nanoTime() - startTime;
+        getDatacenter().getSimulation().getProfiler().record(section, nanos);
+        return nanos / 1e9;
+    }
+
     /**
      * Gets the migration map from under utilized hosts.
      *
@@ -14,6 +14,7 @@ import java.util.Objects;
  */
 public abstract class PowerVmAllocationPolicyMigrationDynamicUpperThresholdAbstract extends PowerVmAllocationPolicyMigrationAbstract
     implements PowerVmAllocationPolicyMigrationDynamicUpperThreshold {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSafetyParameter()
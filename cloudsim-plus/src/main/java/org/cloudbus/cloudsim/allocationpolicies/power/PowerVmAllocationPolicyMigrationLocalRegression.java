@@ -33,6 +33,7 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmAllocationPolicyMigrationLocalRegression extends PowerVmAllocationPolicyMigrationDynamicUpperThresholdAbstract{
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSchedulingInterval()
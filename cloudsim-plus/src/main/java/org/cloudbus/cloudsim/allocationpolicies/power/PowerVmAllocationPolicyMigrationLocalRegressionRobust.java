@@ -29,6 +29,7 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmAllocationPolicyMigrationLocalRegressionRobust extends PowerVmAllocationPolicyMigrationLocalRegression {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a PowerVmAllocationPolicyMigrationLocalRegressionRobust
@@ -30,6 +30,7 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmAllocationPolicyMigrationMedianAbsoluteDeviation extends PowerVmAllocationPolicyMigrationDynamicUpperThresholdAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a PowerVmAllocationPolicyMigrationMedianAbsoluteDeviation
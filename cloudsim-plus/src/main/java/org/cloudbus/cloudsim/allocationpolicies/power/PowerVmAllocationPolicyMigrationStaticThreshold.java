@@ -31,6 +31,7 @@ import org.cloudbus.cloudsim.selectionpolicies.power.PowerVmSelectionPolicy;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmAllocationPolicyMigrationStaticThreshold extends PowerVmAllocationPolicyMigrationAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getOverUtilizationThreshold(PowerHost)
@@ -31,6 +31,7 @@ import org.cloudbus.cloudsim.selectionpolicies.power.PowerVmSelectionPolicy;
  * @since CloudSim Plus 1.0
  */
 public class PowerVmAllocationPolicyMigrationWorstFitStaticThreshold extends PowerVmAllocationPolicyMigrationStaticThreshold {
+    private static final long serialVersionUID = 1L;
 
     public PowerVmAllocationPolicyMigrationWorstFitStaticThreshold(
             PowerVmSelectionPolicy vmSelectionPolicy,
@@ -35,6 +35,8 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmAllocationPolicySimple extends PowerVmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Instantiates a new PowerVmAllocationPolicySimple.
      *
@@ -205,6 +205,7 @@ public interface DatacenterBroker extends SimEntity {
      * objects.
      */
     DatacenterBroker NULL = new DatacenterBroker() {
+        private static final long serialVersionUID = 1L;
         @Override public int compareTo(SimEntity o) {
             return 0;
         }
@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.brokers;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -29,6 +30,8 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements DatacenterBroker {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getLastSelectedVm()
      */
@@ -51,7 +54,43 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     /**
      * @see #getVmsCreatedList()
      */
-    private List<Vm> vmsCreatedList;
+    private VmsCreatedList vmsCreatedList;
+
+    /**
+     * A map where each key is a VM in the {@link #getVmsCreatedList()} and
+     * each value is the index of such a VM in that list,
+     * which enables checking if a VM was created and getting its index in constant time.
+     *
+     * @see #getVmCreatedIndex(Vm)
+     */
+    private Map<Vm, Integer> vmsCreatedIndexes;
+
+    /**
+     * The number of {@link VmsCreatedList#getChanges() changes} of the {@link #vmsCreatedList}
+     * when the {@link #vmsCreatedIndexes} were last updated.
+     * If the list has changed since then, the indexes have to be rebuilt.
+     */
+    private int vmsCreatedIndexesChanges;
+
+    /**
+     * @see #getVmLoadIndex()
+     */
+    private final VmLoadIndex vmLoadIndex;
+
+    /**
+     * Indicates if the {@link #vmLoadIndex} is being maintained,
+     * which only happens after it is requested for the first time
+     * by a VM mapper that selects VMs by their load.
+     * This way, brokers using other mappers don't pay for keeping the index updated.
+     */
+    private boolean vmLoadIndexEnabled;
+
+    /**
+     * The number of {@link VmsCreatedList#getChanges() changes} of the {@link #vmsCreatedList}
+     * when the VMs in the {@link #vmLoadIndex} were last updated.
+     */
+    private int vmLoadIndexChanges;
+
     /**
      * @see #getCloudletsWaitingList()
      */
@@ -111,7 +150,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         super(simulation);
 
         this.vmsWaitingList = new ArrayList<>();
-        this.vmsCreatedList = new ArrayList<>();
+        this.vmsCreatedList = new VmsCreatedList();
+        this.vmsCreatedIndexes = new HashMap<>();
+        this.vmLoadIndex = new VmLoadIndex();
         this.cloudletsWaitingList = new ArrayList<>();
         this.cloudletsFinishedList = new ArrayList<>();
         this.lastSubmittedCloudlet = Cloudlet.NULL;
@@ -127,9 +168,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         cloudletCreationRequestsMap = new HashMap<>();
         vmsToDatacentersMap = new HashMap<>();
         lastSelectedVm = Vm.NULL;
-        datacenterSupplier = () -> Datacenter.NULL;
+        datacenterSupplier = (Supplier<Datacenter> & Serializable) () -> Datacenter.NULL;
         fallbackDatacenterSupplier = datacenterSupplier;
-        vmMapper = (cloudlet) -> Vm.NULL;
+        vmMapper = (Function<Cloudlet, Vm> & Serializable) (cloudlet) -> Vm.NULL;
     }
 
     @Override
@@ -292,6 +333,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             case CloudSimTags.CLOUDLET_RETURN:
                 processCloudletReturn(ev);
                 break;
+            case CloudSimTags.CLOUDLET_RETURN_LIST:
+                processCloudletReturnList(ev);
+                break;
+            case CloudSimTags.CLOUDLET_CANCEL:
+                processCloudletCancel(ev);
+                break;
             case CloudSimTags.END_OF_SIMULATION:
                 shutdownEntity();
                 break;
@@ -412,7 +459,17 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     protected void processSuccessVmCreationInDatacenter(Vm vm, Datacenter datacenter) {
         getVmsToDatacentersMap().put(vm, datacenter);
         vmsWaitingList.remove(vm);
-        getVmsCreatedList().add(vm);
+        final boolean indexesUpdated = vmsCreatedIndexesChanges == vmsCreatedList.getChanges();
+        final boolean loadIndexUpdated = vmLoadIndexEnabled && vmLoadIndexChanges == vmsCreatedList.getChanges();
+        vmsCreatedList.add(vm);
+        if (indexesUpdated) {
+            vmsCreatedIndexes.putIfAbsent(vm, vmsCreatedList.size() - 1);
+            vmsCreatedIndexesChanges = vmsCreatedList.getChanges();
+        }
+        if (loadIndexUpdated) {
+            vmLoadIndex.addVm(vm);
+            vmLoadIndexChanges = vmsCreatedList.getChanges();
+        }
         Log.printFormattedLine(
             "%.2f: %s: VM #%s has been created in Host #%d of Datacenter #%s",
             getSimulation().clock(), getName(), vm.getId(), vm.getHost().getId(), datacenter.getId());
@@ -440,11 +497,69 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @post $none
      */
     protected void processCloudletReturn(SimEvent ev) {
-        Cloudlet cloudlet = (Cloudlet) ev.getData();
+        receiveFinishedCloudlet((Cloudlet) ev.getData());
+        checkIfAllReturnedCloudletsFinished();
+    }
+
+    /**
+     * Processes the end of execution of a list of cloudlets
+     * returned at once by a Datacenter (see {@link CloudSimTags#CLOUDLET_RETURN_LIST}).
+     *
+     * @param ev The event containing the list of cloudlets that have just finished to execute
+     * @pre ev != $null
+     * @post $none
+     */
+    protected void processCloudletReturnList(SimEvent ev) {
+        if (!(ev.getData() instanceof List<?>)) {
+            throw new ClassCastException("The data object must be List<Cloudlet>");
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<Cloudlet> list = (List<Cloudlet>) ev.getData();
+        for (final Cloudlet cloudlet : list) {
+            receiveFinishedCloudlet(cloudlet);
+        }
+        checkIfAllReturnedCloudletsFinished();
+    }
+
+    /**
+     * Adds a cloudlet returned by a Datacenter to the {@link #getCloudletsFinishedList() finished list}.
+     *
+     * @param cloudlet the cloudlet that has just finished to execute
+     */
+    private void receiveFinishedCloudlet(Cloudlet cloudlet) {
         getCloudletsFinishedList().add(cloudlet);
-        Log.printFormattedLine("%.2f: %s: %s %d received",
-            getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId());
+        if (Log.isEnabled()) {
+            Log.printFormattedLine("%.2f: %s: %s %d received",
+                getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId());
+        }
         cloudletsCreated--;
+        if (vmLoadIndexEnabled) {
+            vmLoadIndex.removeCloudlet(cloudlet);
+        }
+    }
+
+    /**
+     * Processes the notification that a Cloudlet was canceled by a Datacenter,
+     * removing its load from the VM it was mapped to.
+     *
+     * @param ev the event containing the canceled Cloudlet
+     * @pre ev != $null
+     * @post $none
+     */
+    protected void processCloudletCancel(SimEvent ev) {
+        final Cloudlet cloudlet = (Cloudlet) ev.getData();
+        if (vmLoadIndexEnabled && cloudlet.getStatus() == Cloudlet.Status.CANCELED) {
+            vmLoadIndex.removeCloudlet(cloudlet);
+        }
+    }
+
+    /**
+     * Checks if all cloudlets sent to Datacenters have returned,
+     * in order to finish the broker execution or
+     * to request the creation of the VMs that waiting cloudlets are bound to.
+     */
+    private void checkIfAllReturnedCloudletsFinished() {
         if (getCloudletsWaitingList().isEmpty() && cloudletsCreated == 0) {
             // all cloudlets executed
             Log.printFormattedLine(
@@ -536,34 +651,88 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @see #submitCloudletList(java.util.List)
      */
     protected void requestDatacentersToCreateWaitingCloudlets() {
-        List<Cloudlet> successfullySubmitted = new ArrayList<>();
-        for (Cloudlet cloudlet : getCloudletsWaitingList()) {
-            if (cloudletCreationRequestsMap.containsKey(cloudlet)) {
-                continue;
+        /* Cloudlets that remain waiting are moved to the beginning of the list,
+         * which is then truncated, instead of removing each submitted Cloudlet. */
+        final List<Cloudlet> waitingList = getCloudletsWaitingList();
+        final Map<Datacenter, Map<Double, List<Cloudlet>>> cloudletsByDatacenter = new LinkedHashMap<>();
+        int stillWaiting = 0;
+        for (int i = 0; i < waitingList.size(); i++) {
+            final Cloudlet cloudlet = waitingList.get(i);
+            if (!selectVmForCloudlet(cloudlet, cloudletsByDatacenter)) {
+                waitingList.set(stillWaiting++, cloudlet);
             }
+        }
 
-            //selects a VM for the given Cloudlet
-            lastSelectedVm = vmMapper.apply(cloudlet);
-            if (lastSelectedVm == Vm.NULL) {
-                // vm was not created
-                Log.printFormattedLine(
-                    "%.2f: %s: : Postponing execution of cloudlet %d: bind VM not available.",
-                    getSimulation().clock(), getName(), cloudlet.getId());
-                continue;
+        // remove created cloudlets from waiting list
+        waitingList.subList(stillWaiting, waitingList.size()).clear();
+        cloudletsByDatacenter.forEach(this::requestDatacenterToCreateCloudlets);
+    }
+
+    /**
+     * Requests a Datacenter to create a list of Cloudlets, sending
+     * a single event for all Cloudlets having the same submission delay.
+     *
+     * @param datacenter the Datacenter to request the creation of Cloudlets
+     * @param cloudletsByDelay a map where each key is a submission delay
+     *                         and each value is the list of Cloudlets with such a delay
+     * @see CloudSimTags#CLOUDLET_SUBMIT_LIST
+     */
+    private void requestDatacenterToCreateCloudlets(
+        final Datacenter datacenter, final Map<Double, List<Cloudlet>> cloudletsByDelay)
+    {
+        for (final Map.Entry<Double, List<Cloudlet>> entry : cloudletsByDelay.entrySet()) {
+            final List<Cloudlet> list = entry.getValue();
+            if (list.size() == 1) {
+                send(datacenter.getId(), entry.getKey(), CloudSimTags.CLOUDLET_SUBMIT, list.get(0));
+            } else {
+                send(datacenter.getId(), entry.getKey(), CloudSimTags.CLOUDLET_SUBMIT_LIST, list);
             }
+        }
+    }
+
+    /**
+     * Selects a VM for a waiting Cloudlet and adds the Cloudlet to the
+     * ones to be submitted to the Datacenter of such a VM.
+     *
+     * @param cloudlet the Cloudlet to request the creation
+     * @param cloudletsByDatacenter a map where each key is a Datacenter and each value
+     *                              is a map of the Cloudlets to submit to it, grouped by submission delay
+     * @return true if the creation of the Cloudlet is going to be requested, false if the Cloudlet has to keep waiting
+     */
+    private boolean selectVmForCloudlet(
+        final Cloudlet cloudlet, final Map<Datacenter, Map<Double, List<Cloudlet>>> cloudletsByDatacenter)
+    {
+        if (cloudletCreationRequestsMap.containsKey(cloudlet)) {
+            return false;
+        }
+
+        //selects a VM for the given Cloudlet
+        lastSelectedVm = vmMapper.apply(cloudlet);
+        if (lastSelectedVm == Vm.NULL) {
+            // vm was not created
+            Log.printFormattedLine(
+                "%.2f: %s: : Postponing execution of cloudlet %d: bind VM not available.",
+                getSimulation().clock(), getName(), cloudlet.getId());
+            return false;
+        }
+        if (Log.isEnabled()) {
             Log.printFormattedLine(
                 "%.2f: %s: Sending %s %d to VM #%d. %d VMs created.",
                 getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId(),
                 lastSelectedVm.getId(), getVmsCreatedList().size());
-            cloudlet.setVm(lastSelectedVm);
-            send(getVmDatacenter(lastSelectedVm).getId(),
-                cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
-            cloudletCreationRequestsMap.put(cloudlet, getVmDatacenter(lastSelectedVm));
-            cloudletsCreated++;
-            successfullySubmitted.add(cloudlet);
         }
-        // remove created cloudlets from waiting list
-        getCloudletsWaitingList().removeAll(successfullySubmitted);
+        cloudlet.setVm(lastSelectedVm);
+        if (vmLoadIndexEnabled) {
+            vmLoadIndex.addCloudlet(cloudlet);
+        }
+        final Datacenter datacenter = getVmDatacenter(lastSelectedVm);
+        cloudletsByDatacenter
+            .computeIfAbsent(datacenter, dc -> new LinkedHashMap<>())
+            .computeIfAbsent(cloudlet.getSubmissionDelay(), delay -> new ArrayList<>())
+            .add(cloudlet);
+        cloudletCreationRequestsMap.put(cloudlet, datacenter);
+        cloudletsCreated++;
+        return true;
     }
 
     /**
@@ -577,7 +746,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             Log.printFormattedLine("%.2f: %s: Destroying VM #%d", getSimulation().clock(), getName(), vm.getId());
             sendNow(getVmDatacenter(vm).getId(), CloudSimTags.VM_DESTROY, vm);
         }
-        getVmsCreatedList().clear();
+        vmsCreatedList.clear();
+        vmsCreatedIndexes.clear();
+        vmsCreatedIndexesChanges = vmsCreatedList.getChanges();
+        // The load of the Cloudlets of destroyed VMs is removed with them
+        vmLoadIndex.clear();
+        vmLoadIndexChanges = vmsCreatedIndexesChanges;
     }
 
     /**
@@ -639,6 +813,88 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return vmIndex >= 0 && vmIndex < vmsCreatedList.size() ? vmsCreatedList.get(vmIndex) : Vm.NULL;
     }
 
+    /**
+     * Gets the index of a VM in the {@link #getVmsCreatedList() list of created VMs},
+     * in constant time.
+     *
+     * @param vm the VM to get its index
+     * @return the index of the VM or -1 if the VM wasn't created
+     */
+    protected int getVmCreatedIndex(final Vm vm) {
+        if (vmsCreatedIndexesChanges != vmsCreatedList.getChanges()) {
+            // The list of created VMs was changed directly, thus the indexes have to be rebuilt
+            rebuildVmsCreatedIndexes();
+        }
+
+        final Integer index = vmsCreatedIndexes.get(vm);
+        return index == null ? -1 : index;
+    }
+
+    private void rebuildVmsCreatedIndexes() {
+        vmsCreatedIndexes.clear();
+        for (int i = 0; i < vmsCreatedList.size(); i++) {
+            vmsCreatedIndexes.putIfAbsent(vmsCreatedList.get(i), i);
+        }
+        vmsCreatedIndexesChanges = vmsCreatedList.getChanges();
+    }
+
+    /**
+     * Gets the index of the {@link #getVmsCreatedList() created VMs} sorted by the load
+     * of the Cloudlets mapped to them, which is updated as Cloudlets are
+     * sent to VMs, returned by Datacenters or canceled.
+     * The index is only maintained after this method is called for the first time,
+     * when it is built from the Cloudlets that are still running.
+     *
+     * @return the VM load index
+     */
+    protected VmLoadIndex getVmLoadIndex() {
+        if (!vmLoadIndexEnabled) {
+            enableVmLoadIndex();
+        } else if (vmLoadIndexChanges != vmsCreatedList.getChanges()) {
+            // The list of created VMs was changed directly, thus the index has to be synchronized
+            vmLoadIndex.retainVms(vmsCreatedList);
+            vmLoadIndexChanges = vmsCreatedList.getChanges();
+        }
+
+        return vmLoadIndex;
+    }
+
+    /**
+     * Checks if the {@link #getVmLoadIndex() VM load index} is being maintained.
+     * @return
+     */
+    boolean isVmLoadIndexEnabled() {
+        return vmLoadIndexEnabled;
+    }
+
+    /**
+     * Starts maintaining the {@link #vmLoadIndex}, adding the created VMs
+     * and the Cloudlets sent to them which haven't finished or been canceled yet.
+     */
+    private void enableVmLoadIndex() {
+        vmLoadIndexEnabled = true;
+        vmLoadIndex.retainVms(vmsCreatedList);
+        vmLoadIndexChanges = vmsCreatedList.getChanges();
+
+        final Set<Cloudlet> finished = new HashSet<>(cloudletsFinishedList);
+        for (final Cloudlet cloudlet : cloudletCreationRequestsMap.keySet()) {
+            if (!finished.contains(cloudlet) && cloudlet.getStatus() != Cloudlet.Status.CANCELED) {
+                vmLoadIndex.addCloudlet(cloudlet);
+            }
+        }
+    }
+
+    /**
+     * Checks if a VM is in the {@link #getVmsCreatedList() list of created VMs},
+     * in constant time.
+     *
+     * @param vm the VM to check
+     * @return true if the VM was created, false otherwise
+     */
+    protected boolean isVmCreated(final Vm vm) {
+        return getVmCreatedIndex(vm) >= 0;
+    }
+
     /**
      * Gets the number of VM creation requests.
      *
@@ -736,4 +992,67 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         Objects.requireNonNull(vmMapper);
         this.vmMapper = vmMapper;
     }
+
+    /**
+     * The list of VMs created by the broker, which counts every change performed on it,
+     * including the ones that don't change its size, such as sorting it or replacing a VM.
+     * Since such a list is returned by {@link #getVmsCreatedList()} and can be changed
+     * by anyone, this enables the broker to know when the data
+     * it keeps about the created VMs has to be rebuilt.
+     */
+    private static final class VmsCreatedList extends AbstractList<Vm> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Vm> vms = new ArrayList<>();
+
+        /**
+         * @see #getChanges()
+         */
+        private int changes;
+
+        @Override
+        public Vm get(final int index) {
+            return vms.get(index);
+        }
+
+        @Override
+        public int size() {
+            return vms.size();
+        }
+
+        @Override
+        public Vm set(final int index, final Vm vm) {
+            changes++;
+            return vms.set(index, vm);
+        }
+
+        @Override
+        public void add(final int index, final Vm vm) {
+            changes++;
+            modCount++;
+            vms.add(index, vm);
+        }
+
+        @Override
+        public Vm remove(final int index) {
+            changes++;
+            modCount++;
+            return vms.remove(index);
+        }
+
+        @Override
+        public void clear() {
+            changes++;
+            modCount++;
+            vms.clear();
+        }
+
+        /**
+         * Gets the number of changes performed on the list so far.
+         * @return
+         */
+        int getChanges() {
+            return changes;
+        }
+    }
 }
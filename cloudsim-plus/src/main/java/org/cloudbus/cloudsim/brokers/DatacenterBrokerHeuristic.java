@@ -1,5 +1,7 @@
 package org.cloudbus.cloudsim.brokers;
 
+import java.io.Serializable;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.util.Log;
@@ -20,6 +22,8 @@ import org.cloudsimplus.heuristics.Heuristic;
  * @author Manoel Campos da Silva Filho
  */
 public class DatacenterBrokerHeuristic extends DatacenterBrokerSimple {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getHeuristic()
      */
@@ -34,7 +38,7 @@ public class DatacenterBrokerHeuristic extends DatacenterBrokerSimple {
      */
     public DatacenterBrokerHeuristic(CloudSim simulation) {
         super(simulation);
-        setVmMapper(this::selectVmForWaitingCloudlet);
+        setVmMapper((Function<Cloudlet, Vm> & Serializable) this::selectVmForWaitingCloudlet);
         heuristic = CloudletToVmMappingHeuristic.NULL;
     }
 
@@ -13,6 +13,10 @@ import org.cloudbus.cloudsim.vms.Vm;
 
 import org.cloudbus.cloudsim.core.CloudSim;
 
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * A simple implementation of {@link DatacenterBroker} that try to host customer's VMs
  * at the first Datacenter found. If there isn't capacity in that one,
@@ -20,7 +24,9 @@ import org.cloudbus.cloudsim.core.CloudSim;
  * <p>
  * <p>The selection of VMs for each cloudlet is based on a Round-Robin policy,
  * cyclically selecting the next VM from the broker VM list for each requesting
- * cloudlet.</p>
+ * cloudlet. The {@link #selectLeastLoadedVm(Cloudlet) least loaded} and
+ * {@link #selectBestFitVm(Cloudlet) best fit} policies can be used instead
+ * by setting them as the {@link #setVmMapper(java.util.function.Function) VM mapper}.</p>
  *
  * @author Rodrigo N. Calheiros
  * @author Anton Beloglazov
@@ -28,6 +34,8 @@ import org.cloudbus.cloudsim.core.CloudSim;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new DatacenterBroker object.
      *
@@ -36,9 +44,9 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
      */
     public DatacenterBrokerSimple(CloudSim simulation) {
         super(simulation);
-        setDatacenterSupplier(this::selectDatacenterForWaitingVms);
-        setFallbackDatacenterSupplier(this::selectFallbackDatacenterForWaitingVms);
-        setVmMapper(this::selectVmForWaitingCloudlet);
+        setDatacenterSupplier((Supplier<Datacenter> & Serializable) this::selectDatacenterForWaitingVms);
+        setFallbackDatacenterSupplier((Supplier<Datacenter> & Serializable) this::selectFallbackDatacenterForWaitingVms);
+        setVmMapper((Function<Cloudlet, Vm> & Serializable) this::selectVmForWaitingCloudlet);
     }
 
     /**
@@ -79,7 +87,7 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
      * no suitable VM was found
      */
     protected Vm selectVmForWaitingCloudlet(Cloudlet cloudlet) {
-        if (cloudlet.isBindToVm() && getVmsCreatedList().contains(cloudlet.getVm())) {
+        if (cloudlet.isBindToVm() && isVmCreated(cloudlet.getVm())) {
             return cloudlet.getVm();
         }
 
@@ -88,6 +96,48 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
         return getVmFromCreatedList(getNextVmIndex());
     }
 
+    /**
+     * Selects the VM with the lowest ratio between the PEs demanded by its
+     * running and waiting Cloudlets and its number of PEs to host a Cloudlet,
+     * in O(log n) time, where n is the number of created VMs.
+     * It can be used as the VM mapper of the broker by calling
+     * {@code broker.setVmMapper(broker::selectLeastLoadedVm)}.
+     *
+     * @param cloudlet the cloudlet that needs a VM to be placed into
+     * @return the VM bound to the cloudlet (if it was created), the least loaded VM or {@link Vm#NULL} if
+     * no VM was created
+     * @see VmLoadIndex
+     */
+    public Vm selectLeastLoadedVm(Cloudlet cloudlet) {
+        if (cloudlet.isBindToVm() && isVmCreated(cloudlet.getVm())) {
+            return cloudlet.getVm();
+        }
+
+        return getVmLoadIndex().getLeastLoadedVm();
+    }
+
+    /**
+     * Selects the VM that has the lowest number of free PEs that is enough
+     * to run a Cloudlet, in O(log n) time, where n is the number of created VMs.
+     * The free PEs of a VM are the ones not demanded by its running and waiting Cloudlets.
+     * If no VM has enough free PEs, the least loaded VM is selected.
+     * It can be used as the VM mapper of the broker by calling
+     * {@code broker.setVmMapper(broker::selectBestFitVm)}.
+     *
+     * @param cloudlet the cloudlet that needs a VM to be placed into
+     * @return the VM bound to the cloudlet (if it was created), the best fit VM or {@link Vm#NULL} if
+     * no VM was created
+     * @see VmLoadIndex
+     * @see #selectLeastLoadedVm(Cloudlet)
+     */
+    public Vm selectBestFitVm(Cloudlet cloudlet) {
+        if (cloudlet.isBindToVm() && isVmCreated(cloudlet.getVm())) {
+            return cloudlet.getVm();
+        }
+
+        return getVmLoadIndex().getBestFitVm(cloudlet);
+    }
+
     /**
      * Gets the index of next VM in the broker's created VM list.
      * If not VM was selected yet, selects the first one,
@@ -100,7 +150,7 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
             return -1;
         }
 
-        final int vmIndex = getVmsCreatedList().indexOf(getLastSelectedVm());
+        final int vmIndex = getVmCreatedIndex(getLastSelectedVm());
         return (vmIndex + 1) % getVmsCreatedList().size();
     }
 
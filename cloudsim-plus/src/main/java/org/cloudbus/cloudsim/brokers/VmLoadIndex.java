@@ -0,0 +1,296 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.io.Serializable;
+
+/**
+ * An index of the VMs created by a {@link DatacenterBroker}, sorted by their load,
+ * which is the number of PEs demanded by the Cloudlets running or waiting inside each VM.
+ * The index is incrementally updated when Cloudlets are mapped to VMs
+ * and when they finish or are canceled, enabling the selection of the least loaded VM or the VM that
+ * best fits a Cloudlet in O(log n) time, where n is the number of VMs,
+ * instead of scanning the entire list of created VMs for every Cloudlet.
+ *
+ * <p>The VMs are kept into balanced search trees instead of binary heaps,
+ * since the load of any VM must be updated when a Cloudlet finishes,
+ * an operation that takes linear time in a heap.</p>
+ *
+ * <p>The index keeps the entry each Cloudlet was counted into,
+ * so that adding or removing the same Cloudlet more than once doesn't change the load
+ * and the Cloudlets of a removed VM don't change the load of a VM added later.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ * @see DatacenterBrokerSimple#selectLeastLoadedVm(Cloudlet)
+ * @see DatacenterBrokerSimple#selectBestFitVm(Cloudlet)
+ */
+public class VmLoadIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Sorts entries by the ratio between the demanded PEs and the number of PEs of the VM,
+     * comparing the cross products to avoid floating-point errors.
+     */
+    private static final Comparator<Entry> BY_LOAD = (a, b) -> {
+        final int result = Long.compare(a.demandedPes * b.pes, b.demandedPes * a.pes);
+        return result == 0 ? Long.compare(a.sequence, b.sequence) : result;
+    };
+
+    /**
+     * Sorts entries by the number of PEs that are not demanded by any Cloudlet.
+     */
+    private static final Comparator<Entry> BY_FREE_PES = (a, b) -> {
+        final int result = Long.compare(a.getFreePes(), b.getFreePes());
+        return result == 0 ? Long.compare(a.sequence, b.sequence) : result;
+    };
+
+    private final Map<Vm, Entry> entries;
+
+    /**
+     * A map where each key is a Cloudlet whose PEs were added to the load of a VM
+     * and each value is the entry of such a VM.
+     */
+    private final Map<Cloudlet, Entry> cloudlets;
+    private final TreeSet<Entry> byLoad;
+    private final TreeSet<Entry> byFreePes;
+
+    /**
+     * The number of VMs added so far, used to break ties
+     * between VMs with the same load, in the order they were added.
+     */
+    private long sequence;
+
+    /**
+     * Creates an empty VmLoadIndex.
+     */
+    public VmLoadIndex() {
+        entries = new HashMap<>();
+        cloudlets = new HashMap<>();
+        byLoad = new TreeSet<>(BY_LOAD);
+        byFreePes = new TreeSet<>(BY_FREE_PES);
+    }
+
+    /**
+     * Adds a VM to the index, with no load.
+     * If the VM was already added, nothing is changed.
+     *
+     * @param vm the VM to add
+     */
+    public void addVm(final Vm vm) {
+        if (entries.containsKey(vm)) {
+            return;
+        }
+
+        final Entry entry = new Entry(vm, sequence++);
+        entries.put(vm, entry);
+        byLoad.add(entry);
+        byFreePes.add(entry);
+    }
+
+    /**
+     * Removes a VM from the index.
+     *
+     * @param vm the VM to remove
+     */
+    public void removeVm(final Vm vm) {
+        final Entry entry = entries.remove(vm);
+        if (entry != null) {
+            byLoad.remove(entry);
+            byFreePes.remove(entry);
+        }
+    }
+
+    /**
+     * Makes the index contain exactly the VMs in a given collection,
+     * removing the VMs that aren't in it and adding the missing ones with no load.
+     *
+     * @param vms the VMs to keep into the index
+     */
+    public void retainVms(final Collection<? extends Vm> vms) {
+        final Set<Vm> set = new HashSet<>(vms);
+        final Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            final Entry entry = it.next();
+            if (!set.contains(entry.vm)) {
+                it.remove();
+                byLoad.remove(entry);
+                byFreePes.remove(entry);
+            }
+        }
+
+        for (final Vm vm : vms) {
+            addVm(vm);
+        }
+    }
+
+    /**
+     * Removes all VMs from the index.
+     */
+    public void clear() {
+        entries.clear();
+        cloudlets.clear();
+        byLoad.clear();
+        byFreePes.clear();
+    }
+
+    /**
+     * Increases the load of the VM a Cloudlet is mapped to,
+     * by the number of PEs of the Cloudlet.
+     * If the Cloudlet was already added or its VM isn't in the index, nothing is changed.
+     *
+     * @param cloudlet the Cloudlet that was mapped to its {@link Cloudlet#getVm() VM}
+     */
+    public void addCloudlet(final Cloudlet cloudlet) {
+        final Entry entry = entries.get(cloudlet.getVm());
+        if (entry == null || cloudlets.containsKey(cloudlet)) {
+            return;
+        }
+
+        cloudlets.put(cloudlet, entry);
+        updateLoad(entry, cloudlet.getNumberOfPes());
+    }
+
+    /**
+     * Decreases the load of the VM a Cloudlet was mapped to,
+     * by the number of PEs of the Cloudlet.
+     * If the Cloudlet wasn't added or its VM was removed from the index, nothing is changed.
+     *
+     * @param cloudlet the Cloudlet that has finished or was canceled
+     */
+    public void removeCloudlet(final Cloudlet cloudlet) {
+        final Entry entry = cloudlets.remove(cloudlet);
+        if (entry == null || entries.get(entry.vm) != entry) {
+            return;
+        }
+
+        updateLoad(entry, -cloudlet.getNumberOfPes());
+    }
+
+    private void updateLoad(final Entry entry, final long pes) {
+        // The entry must be removed before changing the key it is sorted by
+        byLoad.remove(entry);
+        byFreePes.remove(entry);
+        entry.demandedPes = Math.max(0, entry.demandedPes + pes);
+        byLoad.add(entry);
+        byFreePes.add(entry);
+    }
+
+    /**
+     * Gets the VM with the lowest ratio between the PEs demanded by its Cloudlets
+     * and its number of PEs.
+     *
+     * @return the least loaded VM or {@link Vm#NULL} if the index is empty
+     */
+    public Vm getLeastLoadedVm() {
+        return byLoad.isEmpty() ? Vm.NULL : byLoad.first().vm;
+    }
+
+    /**
+     * Gets the VM with the lowest number of free PEs that is enough to run a given Cloudlet.
+     * If no VM has enough free PEs, gets the {@link #getLeastLoadedVm() least loaded VM}.
+     *
+     * @param cloudlet the Cloudlet to find a VM for
+     * @return the best fit VM or {@link Vm#NULL} if the index is empty
+     */
+    public Vm getBestFitVm(final Cloudlet cloudlet) {
+        final Entry entry = byFreePes.ceiling(Entry.probe(cloudlet.getNumberOfPes()));
+        return entry == null ? getLeastLoadedVm() : entry.vm;
+    }
+
+    /**
+     * Gets the number of PEs demanded by the Cloudlets mapped to a VM.
+     *
+     * @param vm the VM to get its load
+     * @return the number of demanded PEs or 0 if the VM isn't in the index
+     */
+    public long getDemandedPes(final Vm vm) {
+        final Entry entry = entries.get(vm);
+        return entry == null ? 0 : entry.demandedPes;
+    }
+
+    /**
+     * Gets the number of VMs in the index.
+     * @return
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Checks if the index has no VMs.
+     * @return
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * The load of a VM into the index.
+     */
+    private static final class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Vm vm;
+        private final long pes;
+        private final long sequence;
+        private long demandedPes;
+
+        Entry(final Vm vm, final long sequence) {
+            this(vm, vm.getNumberOfPes(), sequence);
+        }
+
+        private Entry(final Vm vm, final long pes, final long sequence) {
+            this.vm = vm;
+            this.pes = pes;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Creates an entry that is placed before all actual entries having
+         * a given number of free PEs, used to search the index.
+         *
+         * @param freePes the number of free PEs to search for
+         * @return the search entry
+         */
+        static Entry probe(final long freePes) {
+            return new Entry(Vm.NULL, freePes, Long.MIN_VALUE);
+        }
+
+        long getFreePes() {
+            return pes - demandedPes;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerDatacenterBroker extends DatacenterBrokerSimple {
+	private static final long serialVersionUID = 1L;
 
 	/**
 	 * Instantiates a new PowerDatacenterBroker.
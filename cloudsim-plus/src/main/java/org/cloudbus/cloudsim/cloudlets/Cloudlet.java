@@ -831,6 +831,7 @@ public interface Cloudlet extends UniquelyIdentificable, ChangeableId, Delayable
      * objects.
      */
     Cloudlet NULL = new Cloudlet() {
+        private static final long serialVersionUID = 1L;
         @Override public void setId(int id) {}
         @Override public int getId() { return -1; }
         @Override public String getUid() { return ""; }
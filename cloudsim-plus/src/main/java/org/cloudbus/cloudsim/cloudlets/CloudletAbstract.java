@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.cloudlets;
 
+import org.cloudbus.cloudsim.core.SideEffectBuffer;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.core.UniquelyIdentificable;
@@ -16,6 +17,7 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.CloudletVmEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
+import java.io.Serializable;
 import java.text.DecimalFormat;
 import java.util.*;
 
@@ -27,6 +29,8 @@ import java.util.*;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class CloudletAbstract implements Cloudlet {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getId()
      */
@@ -237,8 +241,12 @@ public abstract class CloudletAbstract implements Cloudlet {
 
     @Override
     public void notifyOnUpdateProcessingListeners(double time) {
+        if (onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
         CloudletVmEventInfo info = CloudletVmEventInfo.of(time, this);
-        onUpdateProcessingListeners.forEach(l -> l.update(info));
+        SideEffectBuffer.run(() -> onUpdateProcessingListeners.forEach(l -> l.update(info)));
     }
 
     @Override
@@ -346,9 +354,9 @@ public abstract class CloudletAbstract implements Cloudlet {
      * if it in fact has finished.
      */
     private void notifyListenersIfCloudletIsFinished() {
-        if (isFinished()) {
+        if (isFinished() && !onFinishListeners.isEmpty()) {
             CloudletVmEventInfo info = CloudletVmEventInfo.of(this);
-            onFinishListeners.forEach(l -> l.update(info));
+            SideEffectBuffer.run(() -> onFinishListeners.forEach(l -> l.update(info)));
         }
     }
 
@@ -920,7 +928,9 @@ public abstract class CloudletAbstract implements Cloudlet {
      * {@link Datacenter Datacenters}. Each time a cloudlet is run on a given Datacenter, the cloudlet's
      * execution history on each Datacenter is registered at {@link #getLastExecutionInDatacenterInfo()}
      */
-    protected static class ExecutionInDatacenterInfo {
+    protected static class ExecutionInDatacenterInfo implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         static final ExecutionInDatacenterInfo NULL = new ExecutionInDatacenterInfo();
 
         /**
@@ -11,6 +11,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.util.Conversion;
+import java.io.Serializable;
 
 /**
  * Stores execution information about a {@link Cloudlet} submitted to a specific {@link Datacenter} for
@@ -32,7 +33,9 @@ import org.cloudbus.cloudsim.util.Conversion;
  * @author Rajkumar Buyya
  * @since CloudSim Toolkit 1.0
  */
-public class CloudletExecutionInfo {
+public class CloudletExecutionInfo implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A property that implements the Null Object Design Pattern for {@link CloudletExecutionInfo}
      * objects.
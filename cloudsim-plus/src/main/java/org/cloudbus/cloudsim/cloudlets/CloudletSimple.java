@@ -22,6 +22,8 @@ import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
  * @see DatacenterBroker
  */
 public class CloudletSimple extends CloudletAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a Cloudlet with no priority or id. The id is defined when the Cloudlet is submitted to
      * a {@link DatacenterBroker}. The file size and output size is defined as 1.
@@ -67,8 +67,20 @@ import org.cloudbus.cloudsim.vms.Vm;
  *
  */
 public class CloudletReceiveTask extends CloudletTask {
+    private static final long serialVersionUID = 1L;
+
     private final List<VmPacket> packetsReceived;
 
+    /**
+     * @see #getNumberOfReceivedPackets()
+     */
+    private long numberOfReceivedPackets;
+
+    /**
+     * @see #getReceivedBytes()
+     */
+    private long receivedBytes;
+
     /**
      * @see #getNumberOfExpectedPacketsToReceive()
      */
@@ -100,8 +112,55 @@ public class CloudletReceiveTask extends CloudletTask {
     public void receivePacket(VmPacket packet) {
         packet.setReceiveTime(getCloudlet().getSimulation().clock());
         this.packetsReceived.add(packet);
-        boolean finished = this.packetsReceived.size() >= numberOfExpectedPacketsToReceive;
-        setFinished(finished);
+        addReceivedPackets(packet.getNumberOfPackets(), packet.getSize());
+    }
+
+    /**
+     * Receives a given number of packets with the same size, sent from a {@link CloudletSendTask},
+     * just updating the received packets counters.
+     * No packet object is stored by this method, enabling bulk transfers to be
+     * consumed at once.
+     *
+     * @param numberOfPackets the number of packets received
+     * @param packetSize the size of each received packet (in bytes)
+     * @see #getNumberOfReceivedPackets()
+     * @see #getReceivedBytes()
+     */
+    public void receivePackets(long numberOfPackets, long packetSize) {
+        addReceivedPackets(numberOfPackets, numberOfPackets * packetSize);
+    }
+
+    private void addReceivedPackets(long numberOfPackets, long bytes) {
+        this.numberOfReceivedPackets += numberOfPackets;
+        this.receivedBytes += bytes;
+        setFinished(numberOfReceivedPackets >= numberOfExpectedPacketsToReceive);
+    }
+
+    /**
+     * Gets the total number of packets received so far,
+     * including the ones received in batch
+     * by {@link #receivePackets(long, long)}.
+     * @return
+     */
+    public long getNumberOfReceivedPackets() {
+        return numberOfReceivedPackets;
+    }
+
+    /**
+     * Gets the total number of bytes received so far.
+     * @return
+     */
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * Gets the number of packets still expected to be received
+     * for the task to finish.
+     * @return
+     */
+    public long getNumberOfPendingPacketsToReceive() {
+        return Math.max(numberOfExpectedPacketsToReceive - numberOfReceivedPackets, 0);
     }
 
     /**
@@ -39,6 +39,8 @@ import org.cloudbus.cloudsim.network.VmPacket;
  *
  */
 public class CloudletSendTask extends CloudletTask {
+    private static final long serialVersionUID = 1L;
+
     private final List<VmPacket> packetsToSend;
 
     /**
@@ -62,6 +64,25 @@ public class CloudletSendTask extends CloudletTask {
      * @throws IllegalArgumentException when the source or destination Cloudlet doesn't have an assigned VM
      */
     public VmPacket addPacket(Cloudlet destinationCloudlet, long dataLength) {
+        return addPackets(destinationCloudlet, dataLength, 1);
+    }
+
+    /**
+     * Creates and add a single packet representing a batch of packets with the same size,
+     * to be sent to a {@link Cloudlet} that is inside a specific VM.
+     * It enables bulk transfers to be simulated without creating
+     * one object for each packet to send.
+     *
+     * @param destinationCloudlet destination cloudlet to send packets to
+     * @param dataLength the number of data bytes of each packet
+     * @param numberOfPackets the number of packets to send
+     * @return the created packet representing the whole batch
+     * @throws RuntimeException when a NetworkCloudlet was not assigned to the Task
+     * @throws IllegalArgumentException when the source or destination Cloudlet doesn't have an assigned VM
+     * or the number of packets is not greater than zero
+     * @see VmPacket#getNumberOfPackets()
+     */
+    public VmPacket addPackets(Cloudlet destinationCloudlet, long dataLength, long numberOfPackets) {
         if(Objects.isNull(getCloudlet())) {
             throw new RuntimeException("You must assign a NetworkCloudlet to this Task before adding packets.");
         }
@@ -74,7 +95,7 @@ public class CloudletSendTask extends CloudletTask {
 
         VmPacket packet = new VmPacket(
                 getCloudlet().getVm(), destinationCloudlet.getVm(),
-                dataLength, getCloudlet(), destinationCloudlet);
+                dataLength, numberOfPackets, getCloudlet(), destinationCloudlet);
         packetsToSend.add(packet);
         return packet;
     }
@@ -33,6 +33,8 @@ import org.cloudbus.cloudsim.core.Identificable;
  * and {@link CloudletExecutionInfo} share a common set of attributes that would be defined by a common interface.
  */
 public abstract class CloudletTask implements Identificable {
+    private static final long serialVersionUID = 1L;
+
     private boolean finished = false;
 
     /**
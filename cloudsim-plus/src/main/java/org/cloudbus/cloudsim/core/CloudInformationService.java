@@ -29,6 +29,7 @@ import java.util.*;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudInformationService extends CloudSimEntity {
+    private static final long serialVersionUID = 1L;
 
     /**
      * A list containing all Datacenters that are registered at the
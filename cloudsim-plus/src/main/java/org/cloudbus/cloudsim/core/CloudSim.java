@@ -7,6 +7,10 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -14,6 +18,8 @@ import org.cloudbus.cloudsim.core.events.*;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogScope;
+import org.cloudbus.cloudsim.util.SimulationProfiler;
 import java.util.function.Predicate;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
@@ -30,6 +36,7 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudSim implements Simulation {
+    private static final long serialVersionUID = 1L;
 
     /**
      * CloudSim Plus current version.
@@ -41,6 +48,13 @@ public class CloudSim implements Simulation {
      */
     private static final int NOT_FOUND = -1;
 
+    /**
+     * The partition containing the entities that weren't assigned to any other partition,
+     * whose events are always processed synchronously when the simulation runs in parallel.
+     * @see #setPartition(SimEntity, int)
+     */
+    public static final int SHARED_PARTITION = 0;
+
     /**
      * An array that works as a circular queue with capacity to just 2 elements
      * (defined in the constructor). When a new element is added to the queue,
@@ -147,10 +161,48 @@ public class CloudSim implements Simulation {
      */
     private boolean alreadyRunOnce;
 
+    /**
+     * @see #getLogScope()
+     */
+    private final LogScope logScope = new LogScope();
+
+    /**
+     * @see #getProfiler()
+     */
+    private final SimulationProfiler profiler = new SimulationProfiler();
+
     private Set<EventListener<SimEvent>> onEventProcessingListeners;
     private Set<EventListener<EventInfo>> onSimulationPausedListeners;
     private Set<EventListener<EventInfo>> onClockTickListeners;
 
+    /**
+     * @see #getParallelism()
+     */
+    private int parallelism;
+
+    /**
+     * The partition of each entity assigned to a partition other than the {@link #SHARED_PARTITION}.
+     * @see #setPartition(SimEntity, int)
+     */
+    private final Map<SimEntity, Integer> partitions;
+
+    /**
+     * The kernel processing the partitions in parallel, which is just created
+     * when the simulation starts, if it's able to run in parallel.
+     */
+    private ParallelKernel kernel;
+
+    /**
+     * Indicates if the entities have to be run before processing the next events
+     * when the simulation runs in parallel, since the last events were delivered synchronously.
+     */
+    private boolean runnableEntitiesPending;
+
+    /**
+     * Indicates if a termination was requested while partitions were being processed in parallel.
+     */
+    private volatile boolean terminationRequestedInWindow;
+
     /**
      * Creates a CloudSim simulation using a default calendar.
      * Internally it creates a CloudInformationService.
@@ -190,6 +242,8 @@ public class CloudSim implements Simulation {
         this.onClockTickListeners = new HashSet<>();
         this.circularClockTimesQueue = new double[]{0, -1};
         this.lastTimeClockTickListenersWereUpdated = 0;
+        this.parallelism = 1;
+        this.partitions = new HashMap<>();
 
         // NOTE: the order for the lines below is important
         this.calendar = (Objects.isNull(calendar) ? Calendar.getInstance() : calendar);
@@ -227,13 +281,190 @@ public class CloudSim implements Simulation {
 
     @Override
     public double start() {
-        Log.printConcatLine("Starting CloudSim Plus version ", CLOUDSIMPLUS_VERSION_STRING);
-        return run();
+        final LogScope previousScope = Log.setCurrentScope(logScope);
+        try {
+            Log.printConcatLine("Starting CloudSim Plus version ", CLOUDSIMPLUS_VERSION_STRING);
+            return run();
+        } finally {
+            logScope.flush();
+            Log.setCurrentScope(previousScope);
+        }
+    }
+
+    @Override
+    public SimulationProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the {@link Log} settings used while this simulation is running,
+     * which enable setting a log output or disabling the log just for this simulation.
+     * Settings not defined in this scope are taken from the global {@link Log} settings.
+     *
+     * @return
+     */
+    public LogScope getLogScope() {
+        return logScope;
+    }
+
+    /**
+     * Gets the maximum number of threads used to process the
+     * {@link #setPartition(SimEntity, int) partitions} of the simulation in parallel.
+     *
+     * @return the parallelism, where 1 means the simulation runs sequentially
+     * @see #setParallelism(int)
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of threads used to process the
+     * {@link #setPartition(SimEntity, int) partitions} of the simulation in parallel
+     * (which is 1 by default, meaning the simulation runs sequentially).
+     *
+     * <p>When running in parallel, each partition has its own event queues and
+     * the events of different partitions are processed in parallel inside windows
+     * limited by the {@link #getLookahead() lookahead}, producing the same results
+     * as the sequential execution. The simulation runs sequentially
+     * if there are less than 2 partitions besides the {@link #SHARED_PARTITION},
+     * if the lookahead is zero or if there are listeners for the processing of events
+     * or clock ticks, which require all events to be processed in order.</p>
+     *
+     * <p>Entities of different partitions must interact just by sending events, which must be sent
+     * with a delay not smaller than the lookahead (such as using the {@link #getNetworkTopology() network delay}).
+     * Otherwise, an {@link IllegalStateException} is thrown. Requests to {@link #terminate()} the simulation
+     * or to {@link #abort()} it made while partitions are processed in parallel are just attended
+     * after all partitions reach the end of the current window.</p>
+     *
+     * @param parallelism the parallelism to set
+     * @return
+     * @throws IllegalArgumentException when the parallelism is smaller than 1
+     * @throws IllegalStateException when the simulation was already started
+     */
+    public CloudSim setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+
+        checkSimulationNotStarted();
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Gets the partition of a given entity.
+     *
+     * @param entity the entity to get the partition
+     * @return the entity partition or {@link #SHARED_PARTITION} if it wasn't assigned to any partition
+     * @see #setPartition(SimEntity, int)
+     */
+    public int getPartition(final SimEntity entity) {
+        return partitions.getOrDefault(entity, SHARED_PARTITION);
+    }
+
+    /**
+     * Assigns an entity to a partition, whose events can be processed in parallel
+     * with the ones of other partitions, when the simulation {@link #setParallelism(int) runs in parallel}.
+     * Usually, a partition contains all the entities of a region,
+     * such as some Datacenters and the brokers using them.
+     *
+     * <p>Entities not assigned to any partition belong to the {@link #SHARED_PARTITION},
+     * whose events are processed synchronously with the ones of all partitions,
+     * enabling such entities to communicate with any other one without delay.</p>
+     *
+     * @param entity the entity to assign to a partition
+     * @param partition the number of the partition, where {@link #SHARED_PARTITION} removes
+     *                  the entity from the partition it was previously assigned to
+     * @return
+     * @throws IllegalArgumentException when the partition is negative or the entity belongs to another simulation
+     * @throws IllegalStateException when the simulation was already started
+     */
+    public CloudSim setPartition(final SimEntity entity, final int partition) {
+        if (partition < 0) {
+            throw new IllegalArgumentException("The partition number cannot be negative.");
+        }
+
+        if (entity.getSimulation() != this) {
+            throw new IllegalArgumentException("The entity doesn't belong to this simulation.");
+        }
+
+        checkSimulationNotStarted();
+        if (partition == SHARED_PARTITION) {
+            partitions.remove(entity);
+        } else {
+            partitions.put(entity, partition);
+        }
+
+        return this;
+    }
+
+    private void checkSimulationNotStarted() {
+        if (running || alreadyRunOnce) {
+            throw new IllegalStateException("The simulation was already started.");
+        }
+    }
+
+    /**
+     * Gets the minimum delay of events sent between entities of different partitions,
+     * according to the {@link #getNetworkTopology() network topology},
+     * which defines the size of the windows of events that can be processed in parallel.
+     * Entities of the {@link #SHARED_PARTITION} are not considered.
+     *
+     * @return the lookahead or 0 if there are less than 2 partitions
+     * @see #setPartition(SimEntity, int)
+     */
+    public double getLookahead() {
+        double lookahead = Double.MAX_VALUE;
+        for (final Map.Entry<SimEntity, Integer> source : partitions.entrySet()) {
+            for (final Map.Entry<SimEntity, Integer> destination : partitions.entrySet()) {
+                if (!source.getValue().equals(destination.getValue())) {
+                    lookahead = Math.min(lookahead,
+                        networkTopology.getDelay(source.getKey().getId(), destination.getKey().getId()));
+                }
+            }
+        }
+
+        return lookahead == Double.MAX_VALUE ? 0 : lookahead;
+    }
+
+    /**
+     * Creates the kernel to process partitions in parallel, if the simulation
+     * was set to run in parallel and it is able to.
+     *
+     * @see #setParallelism(int)
+     */
+    private void createParallelKernelIfEnabled() {
+        if (parallelism == 1) {
+            return;
+        }
+
+        final double lookahead = getLookahead();
+        if (new HashSet<>(partitions.values()).size() < 2) {
+            Log.printLine("Running the simulation sequentially since less than 2 partitions were defined.");
+        } else if (lookahead <= 0) {
+            Log.printLine("Running the simulation sequentially since the lookahead between partitions is zero.");
+        } else if (!onEventProcessingListeners.isEmpty() || !onClockTickListeners.isEmpty()) {
+            Log.printLine("Running the simulation sequentially since there are listeners requiring all events to be processed in order.");
+        } else {
+            final int[] entityPartitions = new int[entities.size()];
+            for (final CloudSimEntity entity : entities) {
+                entityPartitions[entity.getId()] = getPartition(entity);
+            }
+
+            kernel = new ParallelKernel(this, entityPartitions, lookahead, parallelism);
+            runnableEntitiesPending = true;
+        }
     }
 
     @Override
     public boolean terminate() {
         if(running) {
+            if(kernel != null && kernel.isProcessingWindow()) {
+                terminationRequestedInWindow = true;
+                return true;
+            }
+
             running = false;
             return true;
         }
@@ -274,7 +505,7 @@ public class CloudSim implements Simulation {
 
     @Override
     public double clock() {
-        return clock;
+        return kernel == null ? clock : kernel.clock(clock);
     }
 
     /**
@@ -351,14 +582,17 @@ public class CloudSim implements Simulation {
     public void addEntity(CloudSimEntity e) {
         if (running) {
             // Post an event to make this entity
-            SimEvent evt = new CloudSimEvent(this, SimEvent.Type.CREATE, clock, 1, 0, 0, e);
-            future.addEvent(evt);
+            SimEvent evt = new CloudSimEvent(this, SimEvent.Type.CREATE, clock(), 1, 0, 0, e);
+            addEvent(evt);
         }
 
         if (e.getId() == -1) { // Only add once!
             e.setId(entities.size());
             entities.add(e);
             entitiesByName.put(e.getName(), e);
+            if (running && kernel != null) {
+                kernel.addEntity(e);
+            }
         }
     }
 
@@ -396,6 +630,11 @@ public class CloudSim implements Simulation {
      * events in the {@link #future future event queue}.
      */
     private void runClockTickAndProcessFutureEventQueue() {
+        if (kernel != null) {
+            runParallelClockTick();
+            return;
+        }
+
         executeRunnableEntities();
 
         if (future.isEmpty()) {
@@ -407,6 +646,66 @@ public class CloudSim implements Simulation {
         }
     }
 
+    /**
+     * Run one tick of the simulation when partitions are processed in parallel.
+     * If the events happening from the next event time until the end of the
+     * {@link #getParallelWindowEnd(double) parallel window} can be processed without
+     * synchronizing partitions, all of them are processed in parallel.
+     * Otherwise, the events happening at the next time are delivered to the entities
+     * of all partitions, just like {@link #runClockTickAndProcessFutureEventQueue()} does.
+     */
+    private void runParallelClockTick() {
+        if (runnableEntitiesPending) {
+            executeRunnableEntities();
+        }
+
+        if (kernel.isEmpty()) {
+            running = false;
+            printMessage("Simulation: No more future events");
+            return;
+        }
+
+        final double time = kernel.getNextEventTime();
+        final double windowEnd = getParallelWindowEnd(time);
+        runnableEntitiesPending = windowEnd <= time;
+        if (runnableEntitiesPending) {
+            if (time < clock) {
+                throw new IllegalArgumentException("Past event detected.");
+            }
+            setClock(time);
+            kernel.deliverEvents(time);
+            return;
+        }
+
+        setClock(kernel.processWindow(windowEnd));
+        if (terminationRequestedInWindow) {
+            running = false;
+        }
+    }
+
+    /**
+     * Gets the end (exclusive) of the window of events that can be processed
+     * in parallel, starting from a given time.
+     * The window is limited by the {@link #getLookahead() lookahead},
+     * the next event of the {@link #SHARED_PARTITION} and any requested pause or termination time.
+     *
+     * @param time the time of the next event
+     * @return the end of the window, which is not greater than the given time
+     *         if the next events have to be processed synchronously
+     */
+    private double getParallelWindowEnd(final double time) {
+        double windowEnd = Math.min(time + kernel.getLookahead(), kernel.getNextSharedEventTime());
+        if (isTerminationRequested()) {
+            windowEnd = Math.min(windowEnd, terminateAt);
+        }
+
+        if (isPauseRequested()) {
+            windowEnd = Math.min(windowEnd, pauseAt);
+        }
+
+        return windowEnd;
+    }
+
     private void processAllFutureEventsHappeningAtSameTimeOfTheFirstOne(SimEvent firstEvent) {
         processEvent(firstEvent);
         future.remove(firstEvent);
@@ -444,8 +743,12 @@ public class CloudSim implements Simulation {
             throw new IllegalArgumentException("Send delay can't be negative.");
         }
 
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
-        future.addEvent(e);
+        SimEvent e = new CloudSimEvent(this, SimEvent.Type.SEND, clock() + delay, src, dest, tag, data);
+        if (SideEffectBuffer.isCollecting()) {
+            SideEffectBuffer.run(() -> addEvent(e));
+        } else {
+            addEvent(e);
+        }
     }
 
     @Override
@@ -454,12 +757,49 @@ public class CloudSim implements Simulation {
             throw new IllegalArgumentException("Send delay can't be negative.");
         }
 
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
-        future.addEventFirst(e);
+        SimEvent e = new CloudSimEvent(this, SimEvent.Type.SEND, clock() + delay, src, dest, tag, data);
+        if (SideEffectBuffer.isCollecting()) {
+            SideEffectBuffer.run(() -> addEventFirst(e));
+        } else {
+            addEventFirst(e);
+        }
+    }
+
+    /**
+     * Adds an event to the future event queue or, when running in parallel,
+     * to the queue of the partition that has to process it.
+     *
+     * @param e the event to add
+     */
+    private void addEvent(SimEvent e) {
+        if (kernel == null) {
+            future.addEvent(e);
+        } else {
+            kernel.addEvent(e, false);
+        }
+    }
+
+    /**
+     * Adds an event to the head of the future event queue or, when running in parallel,
+     * to the head of the queue of the partition that has to process it.
+     *
+     * @param e the event to add
+     */
+    private void addEventFirst(SimEvent e) {
+        if (kernel == null) {
+            future.addEventFirst(e);
+        } else {
+            kernel.addEvent(e, true);
+        }
     }
 
     @Override
     public void wait(CloudSimEntity src, Predicate<SimEvent> p) {
+        if (kernel != null) {
+            kernel.wait(src, p);
+            return;
+        }
+
         src.setState(SimEntity.State.WAITING);
         if (p != SIM_ANY) {
             // If a predicate has been used, store it in order to check incomming events that matches it
@@ -469,19 +809,30 @@ public class CloudSim implements Simulation {
 
     @Override
     public long waiting(int dest, Predicate<SimEvent> p) {
-        return filterEventsToDestinationEntity(deferred, p, dest).count();
+        return filterEventsToDestinationEntity(getDeferredQueue(dest), p, dest).count();
     }
 
     @Override
     public SimEvent select(int dest, Predicate<SimEvent> p) {
         SimEvent evt = findFirstDeferred(dest, p);
-        deferred.remove(evt);
+        getDeferredQueue(dest).remove(evt);
         return evt;
     }
 
     @Override
     public SimEvent findFirstDeferred(int dest, Predicate<SimEvent> p) {
-        return filterEventsToDestinationEntity(deferred, p, dest).findFirst().orElse(SimEvent.NULL);
+        return filterEventsToDestinationEntity(getDeferredQueue(dest), p, dest).findFirst().orElse(SimEvent.NULL);
+    }
+
+    /**
+     * Gets the queue containing the events already delivered to a given entity.
+     *
+     * @param entityId the id of the entity
+     * @return the deferred event queue or, when running in parallel,
+     *         the deferred queue of the entity partition
+     */
+    private DeferredQueue getDeferredQueue(int entityId) {
+        return kernel == null ? deferred : kernel.getDeferred(entityId);
     }
 
     /**
@@ -499,6 +850,11 @@ public class CloudSim implements Simulation {
 
     @Override
     public SimEvent cancel(int src, Predicate<SimEvent> p) {
+        if (kernel != null) {
+            final List<SimEvent> cancelled = kernel.cancel(src, p, false);
+            return cancelled.isEmpty() ? SimEvent.NULL : cancelled.get(0);
+        }
+
         SimEvent evt = future.stream().filter(p.and(e -> e.getSource() == src)).findFirst().orElse(SimEvent.NULL);
         future.remove(evt);
         return evt;
@@ -506,6 +862,10 @@ public class CloudSim implements Simulation {
 
     @Override
     public boolean cancelAll(int src, Predicate<SimEvent> p) {
+        if (kernel != null) {
+            return !kernel.cancel(src, p, true).isEmpty();
+        }
+
         final int previousSize = future.size();
         List<SimEvent> cancelList = filterEventsFromSourceEntity(future, p, src).collect(toList());
         future.removeAll(cancelList);
@@ -649,17 +1009,140 @@ public class CloudSim implements Simulation {
         return wasPaused;
     }
 
+    /**
+     * Writes a checkpoint with the current state of the simulation, which can be
+     * {@link #restore(InputStream) restored} later to continue the simulation from that point,
+     * without simulating again everything that happened before.
+     * This way, several what-if scenarios can be started from the same state,
+     * such as after a long warm-up period.
+     *
+     * <p>A checkpoint can be written before starting the simulation or while it is paused,
+     * usually inside a {@link #addOnSimulationPausedListener(EventListener) pause listener}.
+     * It stores all objects reachable from the simulation, such as entities, event queues,
+     * Hosts, VMs, Cloudlets, listeners and random number generators.
+     * Therefore, all such objects must be serializable, including the lambda expressions given to them
+     * (listeners are serializable as long as the variables they capture are).
+     * The {@link #getLogScope() log output} is not stored.</p>
+     *
+     * @param output the stream to write the checkpoint to, which is not closed
+     * @throws IllegalStateException when the simulation is running but is not paused, or it has already finished
+     * @throws UncheckedIOException when the checkpoint cannot be written, including when an object is not serializable
+     */
+    public void checkpoint(final OutputStream output) {
+        requireNotStartedOrPaused("A checkpoint can only be written");
+        try {
+            SimulationCheckpoint.write(this, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restores a simulation from a {@link #checkpoint(OutputStream) checkpoint}.
+     * Calling {@link #start()} on the restored simulation continues its execution
+     * from the point the checkpoint was written, as if it was resumed.
+     *
+     * <p>Each call creates a new copy of all simulation objects,
+     * so that the same checkpoint can be restored many times to run independent branches
+     * of a simulation. Objects of the restored simulation can be accessed by means of its
+     * {@link #getEntityList() entities}, such as the brokers and Datacenters.</p>
+     *
+     * <p>A checkpoint is tied to the build of CloudSim Plus and of the simulation classes which wrote it.
+     * It's intended to be restored by the same application, not to be kept as a long-term archive.
+     * Although all CloudSim Plus classes declare a fixed {@code serialVersionUID},
+     * serializable lambda expressions are stored as references to methods generated by the compiler,
+     * whose names may change when any class declaring them is changed and recompiled.</p>
+     *
+     * @param input the stream to read the checkpoint from, which is not closed
+     * @return the restored simulation
+     * @throws UncheckedIOException when the checkpoint cannot be read
+     * @throws IllegalStateException when the class of some object stored in the checkpoint is not found
+     */
+    public static CloudSim restore(final InputStream input) {
+        final CloudSim simulation;
+        try {
+            simulation = SimulationCheckpoint.read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The checkpoint contains objects whose classes were not found.", e);
+        }
+
+        return simulation.prepareToContinue();
+    }
+
+    /**
+     * Creates independent copies of this simulation in memory, which continue
+     * from its current state when {@link #start()} is called on them.
+     * It's equivalent to {@link #checkpoint(OutputStream) write a checkpoint}
+     * and {@link #restore(InputStream) restore} it many times,
+     * but without compressing the copies and sharing among all of them the data of
+     * {@link ImmutableDataHolder}s, such as utilization traces and network topology matrices.
+     *
+     * <p>Each fork can be changed independently, for instance, to use different policies or parameters,
+     * and then started on its own thread to run several what-if branches in parallel,
+     * while this simulation can be resumed normally.
+     * The same requirements of a checkpoint apply to a fork.</p>
+     *
+     * @param copies the number of copies to create
+     * @return the list of forked simulations
+     * @throws IllegalArgumentException when the number of copies is not positive
+     * @throws IllegalStateException when the simulation is running but is not paused, or it has already finished
+     * @throws UncheckedIOException when the simulation cannot be copied, including when an object is not serializable
+     * @see #pause(double)
+     * @see #addOnSimulationPausedListener(EventListener)
+     */
+    public List<CloudSim> fork(final int copies) {
+        if (copies <= 0) {
+            throw new IllegalArgumentException("The number of copies must be greater than zero.");
+        }
+        requireNotStartedOrPaused("A simulation can only be forked");
+
+        final List<CloudSim> forks;
+        try {
+            forks = SimulationCheckpoint.fork(this, copies);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The simulation contains objects whose classes were not found.", e);
+        }
+
+        forks.forEach(CloudSim::prepareToContinue);
+        return forks;
+    }
+
+    private void requireNotStartedOrPaused(final String action) {
+        if (running ? !paused : alreadyRunOnce) {
+            throw new IllegalStateException(action + " before starting the simulation or while it is paused.");
+        }
+    }
+
+    /**
+     * Prepares a simulation read from a checkpoint to continue
+     * its execution when {@link #start()} is called.
+     * @return this simulation
+     */
+    private CloudSim prepareToContinue() {
+        if (running) {
+            paused = false;
+            pauseAt = -1;
+            alreadyRunOnce = false;
+        }
+
+        return this;
+    }
+
     @Override
     public void pauseEntity(int src, double delay) {
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src);
-        future.addEvent(e);
+        SimEvent e = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock() + delay, src);
+        addEvent(e);
         entities.get(src).setState(SimEntity.State.HOLDING);
     }
 
     @Override
     public void holdEntity(int src, long delay) {
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src);
-        future.addEvent(e);
+        SimEvent e = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock() + delay, src);
+        addEvent(e);
         entities.get(src).setState(SimEntity.State.HOLDING);
     }
 
@@ -678,6 +1161,7 @@ public class CloudSim implements Simulation {
         }
 
         if (!running) {
+            createParallelKernelIfEnabled();
             runStart();
         }
 
@@ -765,11 +1249,11 @@ public class CloudSim implements Simulation {
     }
 
     private boolean isThereFutureEvtsAndNextOneHappensAfterTimeToPause() {
-        return !future.isEmpty() && clock <= pauseAt && isNextFutureEventHappeningAfterTimeToPause();
+        return !isFutureQueueEmpty() && clock <= pauseAt && isNextFutureEventHappeningAfterTimeToPause();
     }
 
     private boolean isNotThereNextFutureEvtsAndIsTimeToPause() {
-        return future.isEmpty() && clock >= pauseAt;
+        return isFutureQueueEmpty() && clock >= pauseAt;
     }
 
     private boolean isTerminationRequested() {
@@ -777,7 +1261,15 @@ public class CloudSim implements Simulation {
     }
 
     private boolean isNextFutureEventHappeningAfterTimeToPause() {
-        return future.iterator().next().eventTime() >= pauseAt;
+        return getNextFutureEventTime() >= pauseAt;
+    }
+
+    private boolean isFutureQueueEmpty() {
+        return kernel == null ? future.isEmpty() : kernel.isEmpty();
+    }
+
+    private double getNextFutureEventTime() {
+        return kernel == null ? future.iterator().next().eventTime() : kernel.getNextEventTime();
     }
 
     /**
@@ -793,6 +1285,13 @@ public class CloudSim implements Simulation {
 
         entities.forEach(SimEntity::shutdownEntity);
         running = false;
+        if (kernel != null) {
+            kernel.shutdown();
+            kernel = null;
+        }
+        if (profiler.isEnabled()) {
+            profiler.print();
+        }
     }
 
     @Override
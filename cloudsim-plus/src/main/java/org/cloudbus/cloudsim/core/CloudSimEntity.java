@@ -9,6 +9,7 @@ package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SimulationProfiler;
 
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -21,6 +22,8 @@ import java.util.function.Predicate;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class CloudSimEntity implements SimEntity {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #isStarted()
      */
@@ -409,8 +412,11 @@ public abstract class CloudSimEntity implements SimEntity {
     public void run() {
         SimEvent ev = buffer != null ? buffer : getNextEvent();
 
+        final SimulationProfiler profiler = simulation.getProfiler();
         while (ev != null) {
+            final long startTime = profiler.start();
             processEvent(ev);
+            profiler.stopEvent(ev.getTag(), startTime);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -277,6 +277,33 @@ public final class CloudSimTags {
      */
     public static final int HOST_FAILURE = FAILURE + 1;
 
+    /**
+     * Denotes a request from a {@link org.cloudbus.cloudsim.util.WorkloadFeeder}
+     * to itself, to submit the next batch of Cloudlets read from a workload
+     * to a broker.
+     */
+    public static final int WORKLOAD_FEEDER_SUBMIT = BASE + 50;
+
+    /**
+     * Denotes the submission of a list of Cloudlets to a Datacenter,
+     * all of them with the same submission delay. This tag is normally
+     * used by a DatacenterBroker to avoid sending one {@link #CLOUDLET_SUBMIT}
+     * event for each Cloudlet.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@link java.util.List} of {@link Cloudlet} objects.
+     */
+    public static final int CLOUDLET_SUBMIT_LIST = BASE + 51;
+
+    /**
+     * Denotes the return of a list of finished Cloudlets back to the sender,
+     * which all belong to the same DatacenterBroker. This tag is normally used
+     * by a Datacenter to avoid sending one {@link #CLOUDLET_RETURN} event
+     * for each Cloudlet that finished in the same update of Cloudlets processing.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@link java.util.List} of {@link Cloudlet} objects.
+     */
+    public static final int CLOUDLET_RETURN_LIST = BASE + 52;
+
     /**
      * Private constructor to avoid instantiating such a class.
      */
@@ -23,12 +23,14 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import java.io.Serializable;
+
 /**
  * An interface for objects that have to be identified by an id.
  *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface Identificable {
+public interface Identificable extends Serializable {
     int getId();
 }
@@ -0,0 +1,48 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.util.List;
+
+/**
+ * An object that holds data which is never changed after being created,
+ * such as utilization traces and network topology matrices.
+ * When a simulation is {@link CloudSim#fork(int) forked}, such data is shared
+ * by all forks instead of being copied for each one.
+ *
+ * <p>Objects holding such data must not change it in place.
+ * If the data needs to be changed, a new copy has to be created and stored
+ * in place of the shared one (copy-on-write).</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public interface ImmutableDataHolder {
+    /**
+     * Gets the objects held by this object which are never changed
+     * and can be shared by different simulations.
+     * @return
+     */
+    List<Object> getImmutableData();
+}
@@ -0,0 +1,569 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.DeferredQueue;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogScope;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * A partition of the entities of a {@link CloudSim} simulation,
+ * having its own event queues and clock, which is used by the {@link ParallelKernel}
+ * to process the events of different partitions in parallel.
+ *
+ * <p>While a parallel window is being processed, every event and log message
+ * produced by the logical process receives an {@link OrderKey} representing
+ * the position it would have if the simulation was processed sequentially.
+ * Such keys are used at the end of the window to merge the events sent to other
+ * partitions and the log messages of all partitions in a deterministic order.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+final class LogicalProcess implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The logical process whose window is being processed by the current thread, if any.
+     */
+    private static final ThreadLocal<LogicalProcess> current = new ThreadLocal<>();
+
+    private final ParallelKernel kernel;
+
+    /**
+     * @see #getIndex()
+     */
+    private final int index;
+
+    /**
+     * The entities belonging to this logical process, sorted by id.
+     */
+    private final List<CloudSimEntity> entities;
+
+    /**
+     * The events to be processed by the entities of this logical process,
+     * sorted by time and serial.
+     */
+    private final SortedSet<SimEvent> future;
+
+    /**
+     * @see #getDeferred()
+     */
+    private final DeferredQueue deferred;
+
+    private final Map<SimEntity, Predicate<SimEvent>> waitPredicates;
+
+    /**
+     * The events created inside the current window which have to be
+     * serialized at the end of the window.
+     */
+    private final List<PendingEvent> pendingEvents;
+
+    /**
+     * The log messages written inside the current window.
+     */
+    private final List<LogRecord> logRecords;
+
+    private transient LogScope logScope;
+
+    /**
+     * @see #getClock()
+     */
+    private double clock;
+
+    /**
+     * The time of the last events delivered to the entities
+     * and how many times events were delivered at such a time.
+     */
+    private double roundTime;
+    private int round;
+
+    /**
+     * The id of the entity being run, or -1 if no entity is running.
+     */
+    private int rank;
+
+    /**
+     * A sequential number for the events and log messages produced in the current window.
+     */
+    private long sequence;
+
+    /**
+     * The serial to be assigned to the next event sent to
+     * an entity of this logical process inside the current window.
+     */
+    private long nextSerial;
+
+    /**
+     * @see #getWindowEnd()
+     */
+    private double windowEnd;
+
+    LogicalProcess(final ParallelKernel kernel, final int index) {
+        this.kernel = kernel;
+        this.index = index;
+        this.entities = new ArrayList<>();
+        this.future = new TreeSet<>();
+        this.deferred = new DeferredQueue();
+        this.waitPredicates = new HashMap<>();
+        this.pendingEvents = new ArrayList<>();
+        this.logRecords = new ArrayList<>();
+        this.logScope = new LogScope().setOutput(new LogRecorder());
+        this.roundTime = -1;
+        this.rank = -1;
+        this.windowEnd = -1;
+    }
+
+    /**
+     * Creates the scope recording the log messages of windows
+     * when the process is restored from a simulation checkpoint.
+     *
+     * @param in the stream to read the process from
+     * @see CloudSim#restore(java.io.InputStream)
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.logScope = new LogScope().setOutput(new LogRecorder());
+    }
+
+    /**
+     * Gets the logical process whose window is being processed by the current thread.
+     * @return the logical process or null if no window is being processed by the current thread
+     */
+    static LogicalProcess getCurrent() {
+        return current.get();
+    }
+
+    /**
+     * Sets the logical process whose window is being processed by the current thread.
+     *
+     * @param process the logical process to set or null to clear it
+     * @return the logical process previously set for the current thread (which may be null)
+     */
+    static LogicalProcess setCurrent(final LogicalProcess process) {
+        final LogicalProcess previous = current.get();
+        if (process == null) {
+            current.remove();
+        } else {
+            current.set(process);
+        }
+
+        return previous;
+    }
+
+    ParallelKernel getKernel() {
+        return kernel;
+    }
+
+    /**
+     * Gets the index of this logical process, where 0 is the one
+     * containing the entities of the {@link CloudSim#SHARED_PARTITION}.
+     * @return
+     */
+    int getIndex() {
+        return index;
+    }
+
+    void addEntity(final CloudSimEntity entity) {
+        entities.add(entity);
+    }
+
+    /**
+     * Gets the current simulation time of this logical process.
+     * @return
+     */
+    double getClock() {
+        return clock;
+    }
+
+    void setClock(final double clock) {
+        this.clock = clock;
+    }
+
+    DeferredQueue getDeferred() {
+        return deferred;
+    }
+
+    SortedSet<SimEvent> getFuture() {
+        return future;
+    }
+
+    /**
+     * Gets the time of the next event to be processed by this logical process.
+     * @return the time of the next event or {@link Double#MAX_VALUE} if there is no event
+     */
+    double getNextEventTime() {
+        return future.isEmpty() ? Double.MAX_VALUE : future.first().eventTime();
+    }
+
+    /**
+     * Gets the end (exclusive) of the window being processed by this logical process.
+     * @return the end of the window or a negative value if no window is being processed
+     */
+    double getWindowEnd() {
+        return windowEnd;
+    }
+
+    /**
+     * Starts a new window, where events can be processed
+     * without synchronizing with other logical processes.
+     *
+     * @param windowEnd the end (exclusive) of the window
+     * @param firstSerial the serial to be assigned to the first event created inside the window
+     * @param logDisabled indicates if the log is disabled for the simulation
+     */
+    void startWindow(final double windowEnd, final long firstSerial, final boolean logDisabled) {
+        this.windowEnd = windowEnd;
+        this.nextSerial = firstSerial;
+        this.sequence = 0;
+        this.logScope.setDisabled(logDisabled);
+    }
+
+    /**
+     * Processes all the events happening before the end of the current window,
+     * delivering the events to the entities and running them,
+     * just as {@link CloudSim} does when running sequentially.
+     */
+    void processWindow() {
+        final LogicalProcess previousProcess = setCurrent(this);
+        final LogScope previousScope = Log.setCurrentScope(logScope);
+        try {
+            while (getNextEventTime() < windowEnd) {
+                deliverEvents(future.first().eventTime());
+                runEntities();
+            }
+        } finally {
+            Log.setCurrentScope(previousScope);
+            setCurrent(previousProcess);
+        }
+    }
+
+    /**
+     * Finishes the current window.
+     * @return the events created inside the window that have to be serialized
+     */
+    List<PendingEvent> finishWindow() {
+        windowEnd = -1;
+        final List<PendingEvent> list = new ArrayList<>(pendingEvents);
+        pendingEvents.clear();
+        return list;
+    }
+
+    /**
+     * Gets the log messages written inside the current window and clears them.
+     * @return
+     */
+    List<LogRecord> pollLogRecords() {
+        final List<LogRecord> list = new ArrayList<>(logRecords);
+        logRecords.clear();
+        return list;
+    }
+
+    private void deliverEvents(final double time) {
+        if (time < clock) {
+            throw new IllegalArgumentException("Past event detected.");
+        }
+
+        clock = time;
+        startRound(time, roundTime == time ? round + 1 : 1);
+        while (getNextEventTime() == time) {
+            final SimEvent evt = future.first();
+            future.remove(evt);
+            deliver(evt);
+        }
+    }
+
+    /**
+     * Sets the number of times events were delivered at a given time.
+     *
+     * @param time the time of the delivered events
+     * @param round the number of times events were delivered at that time
+     */
+    void startRound(final double time, final int round) {
+        this.roundTime = time;
+        this.round = round;
+    }
+
+    /**
+     * Gets the number of times events were delivered at a given time.
+     *
+     * @param time the time to get the number of deliveries
+     * @return
+     */
+    int getRound(final double time) {
+        return roundTime == time ? round : 0;
+    }
+
+    private void runEntities() {
+        final List<CloudSimEntity> runnableEntities = new ArrayList<>();
+        for (final CloudSimEntity entity : entities) {
+            if (entity.getState() == SimEntity.State.RUNNABLE) {
+                runnableEntities.add(entity);
+            }
+        }
+
+        for (final CloudSimEntity entity : runnableEntities) {
+            rank = entity.getId();
+            entity.run();
+        }
+        rank = -1;
+    }
+
+    /**
+     * Delivers an event to its destination entity,
+     * making it available to be processed by such an entity.
+     *
+     * @param evt the event to deliver
+     */
+    void deliver(final SimEvent evt) {
+        switch (evt.getType()) {
+            case NULL:
+                throw new IllegalArgumentException("Event has a null type.");
+            case CREATE:
+                kernel.getSimulation().addEntityDynamically((SimEntity) evt.getData());
+                break;
+            case SEND:
+                deliverSendEvent(evt);
+                break;
+            case HOLD_DONE:
+                if (evt.getSource() < 0) {
+                    throw new IllegalArgumentException("Null entity holding.");
+                }
+                kernel.getEntity(evt.getSource()).setState(SimEntity.State.RUNNABLE);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void deliverSendEvent(final SimEvent evt) {
+        if (evt.getDestination() < 0) {
+            throw new IllegalArgumentException("Attempt to send to a null entity detected.");
+        }
+
+        final CloudSimEntity destination = kernel.getEntity(evt.getDestination());
+        if (destination.getState() == SimEntity.State.WAITING) {
+            final Predicate<SimEvent> predicate = waitPredicates.get(destination);
+            if (predicate == null || evt.getTag() == 9999 || predicate.test(evt)) {
+                destination.setEventBuffer(new CloudSimEvent(evt));
+                destination.setState(SimEntity.State.RUNNABLE);
+                waitPredicates.remove(destination);
+                return;
+            }
+        }
+
+        deferred.addEvent(evt);
+    }
+
+    /**
+     * Makes an entity of this logical process to wait for an event matching a given predicate.
+     *
+     * @param entity the entity that will wait
+     * @param predicate the predicate to match
+     */
+    void wait(final CloudSimEntity entity, final Predicate<SimEvent> predicate) {
+        entity.setState(SimEntity.State.WAITING);
+        if (predicate != Simulation.SIM_ANY) {
+            waitPredicates.put(entity, predicate);
+        }
+    }
+
+    /**
+     * Adds an event sent by an entity of this logical process inside the current window.
+     * Events sent to entities of other logical processes are kept pending until the end of the window.
+     *
+     * @param evt the event to add
+     * @param destination the logical process of the destination entity
+     * @param first indicates if the event has to be processed before any other one happening at the same time
+     * @throws IllegalStateException when the event is sent to another logical process
+     *                               to happen before the end of the current window
+     */
+    void addEvent(final SimEvent evt, final LogicalProcess destination, final boolean first) {
+        final PendingEvent pending = new PendingEvent(nextKey(), evt, destination, first);
+        if (destination != this) {
+            if (evt.eventTime() < windowEnd) {
+                throw new IllegalStateException(String.format(
+                    "An event from entity %d to entity %d was sent at time %.4f to happen at %.4f, " +
+                    "but entities of different partitions must communicate with a delay of at least %.4f.",
+                    evt.getSource(), evt.getDestination(), clock, evt.eventTime(), kernel.getLookahead()));
+            }
+            pendingEvents.add(pending);
+            return;
+        }
+
+        evt.setSerial(first ? 0 : nextSerial++);
+        future.add(evt);
+        if (evt.eventTime() >= windowEnd) {
+            pendingEvents.add(pending);
+        }
+    }
+
+    /**
+     * Removes an event sent to another logical process inside the current window.
+     *
+     * @param evt the event to remove
+     */
+    void removePendingEvent(final SimEvent evt) {
+        pendingEvents.removeIf(pending -> pending.getEvent() == evt);
+    }
+
+    /**
+     * Gets the events sent inside the current window to entities of other logical processes.
+     * @return
+     */
+    List<SimEvent> getEventsSentToOtherProcesses() {
+        final List<SimEvent> list = new ArrayList<>();
+        for (final PendingEvent pending : pendingEvents) {
+            if (pending.getDestination() != this) {
+                list.add(pending.getEvent());
+            }
+        }
+
+        return list;
+    }
+
+    private OrderKey nextKey() {
+        return new OrderKey(clock, round, rank, index, sequence++);
+    }
+
+    /**
+     * The position that an event or log message produced inside a window
+     * would have if the simulation was processed sequentially.
+     * Events and messages are ordered by the time they were produced,
+     * the number of deliveries at that time and the id of the entity producing them
+     * (since {@link CloudSim} runs entities in that order).
+     */
+    static final class OrderKey implements Comparable<OrderKey> {
+        private final double time;
+        private final int round;
+        private final int rank;
+        private final int process;
+        private final long sequence;
+
+        private OrderKey(final double time, final int round, final int rank, final int process, final long sequence) {
+            this.time = time;
+            this.round = round;
+            this.rank = rank;
+            this.process = process;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(final OrderKey other) {
+            int result = Double.compare(time, other.time);
+            if (result == 0) {
+                result = Integer.compare(round, other.round);
+            }
+            if (result == 0) {
+                result = Integer.compare(rank, other.rank);
+            }
+            if (result == 0) {
+                result = Integer.compare(process, other.process);
+            }
+
+            return result == 0 ? Long.compare(sequence, other.sequence) : result;
+        }
+    }
+
+    /**
+     * An event created inside a window that will have its serial assigned at the end of such a window.
+     */
+    static final class PendingEvent implements Comparable<PendingEvent> {
+        private final OrderKey key;
+        private final SimEvent event;
+        private final LogicalProcess destination;
+        private final boolean first;
+
+        private PendingEvent(final OrderKey key, final SimEvent event, final LogicalProcess destination, final boolean first) {
+            this.key = key;
+            this.event = event;
+            this.destination = destination;
+            this.first = first;
+        }
+
+        SimEvent getEvent() {
+            return event;
+        }
+
+        LogicalProcess getDestination() {
+            return destination;
+        }
+
+        boolean isFirst() {
+            return first;
+        }
+
+        @Override
+        public int compareTo(final PendingEvent other) {
+            return key.compareTo(other.key);
+        }
+    }
+
+    /**
+     * A log message written inside a window.
+     */
+    static final class LogRecord implements Comparable<LogRecord> {
+        private final OrderKey key;
+        private final byte[] message;
+
+        private LogRecord(final OrderKey key, final byte[] message) {
+            this.key = key;
+            this.message = message;
+        }
+
+        byte[] getMessage() {
+            return message;
+        }
+
+        @Override
+        public int compareTo(final LogRecord other) {
+            return key.compareTo(other.key);
+        }
+    }
+
+    /**
+     * The output of the {@link LogScope} used inside windows,
+     * which stores each written message as a {@link LogRecord}.
+     */
+    private final class LogRecorder extends OutputStream {
+        @Override
+        public void write(final int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            logRecords.add(new LogRecord(nextKey(), Arrays.copyOfRange(b, off, off + len)));
+        }
+    }
+}
@@ -0,0 +1,481 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.LogicalProcess.LogRecord;
+import org.cloudbus.cloudsim.core.LogicalProcess.PendingEvent;
+import org.cloudbus.cloudsim.core.events.DeferredQueue;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.util.Log;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+/**
+ * A conservative parallel kernel for {@link CloudSim}, which splits the simulation entities
+ * into {@link LogicalProcess logical processes} according to their
+ * {@link CloudSim#setPartition(SimEntity, int) partitions}.
+ *
+ * <p>The kernel uses a barrier window protocol: if the minimum delay of events sent between entities
+ * of different partitions (the {@link #getLookahead() lookahead}) is {@code L} and the next event
+ * happens at time {@code T}, no partition can receive an event sent by another one
+ * before {@code T + L}. This way, the events of each partition happening before that time are processed
+ * in parallel, then events sent to other partitions are exchanged and the next window starts.
+ * Events of the {@link CloudSim#SHARED_PARTITION}, which contains the entities
+ * not assigned to any partition (such as the {@link CloudInformationService}), are
+ * processed synchronously, delivering all events happening at the same time to the entities
+ * of all partitions, just as the sequential kernel does.</p>
+ *
+ * <p>The events exchanged between partitions and the log messages written inside a window
+ * are ordered as if the simulation was processed sequentially, so that the results are
+ * exactly the same as the ones of the sequential kernel, as long as entities of different
+ * partitions just interact by sending events to each other.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+final class ParallelKernel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final CloudSim simulation;
+
+    /**
+     * The logical processes, where the one at index 0 contains the entities
+     * of the {@link CloudSim#SHARED_PARTITION}.
+     */
+    private final List<LogicalProcess> processes;
+
+    /**
+     * The logical process of each entity, indexed by the entity id.
+     */
+    private final List<LogicalProcess> processByEntity;
+
+    /**
+     * @see #getLookahead()
+     */
+    private final double lookahead;
+
+    /**
+     * The maximum number of threads to process partitions in parallel.
+     */
+    private final int parallelism;
+
+    private transient ForkJoinPool pool;
+
+    /**
+     * The serial to be assigned to the next event created outside a window.
+     */
+    private long serial;
+
+    /**
+     * @see #isProcessingWindow()
+     */
+    private volatile boolean processingWindow;
+
+    /**
+     * Creates a parallel kernel.
+     *
+     * @param simulation the simulation to process in parallel
+     * @param partitions the partition of each simulation entity, indexed by the entity id
+     * @param lookahead the minimum delay of events sent between entities of different partitions
+     * @param parallelism the maximum number of threads to process partitions in parallel
+     */
+    ParallelKernel(final CloudSim simulation, final int[] partitions, final double lookahead, final int parallelism) {
+        this.simulation = simulation;
+        this.lookahead = lookahead;
+        this.parallelism = parallelism;
+        this.processes = new ArrayList<>();
+        this.processByEntity = new ArrayList<>(partitions.length);
+
+        final SortedSet<Integer> partitionSet = new TreeSet<>();
+        partitionSet.add(CloudSim.SHARED_PARTITION);
+        for (final int partition : partitions) {
+            partitionSet.add(partition);
+        }
+
+        final Map<Integer, LogicalProcess> processByPartition = new HashMap<>();
+        for (final int partition : partitionSet) {
+            final LogicalProcess process = new LogicalProcess(this, processes.size());
+            processes.add(process);
+            processByPartition.put(partition, process);
+        }
+
+        for (int id = 0; id < partitions.length; id++) {
+            final LogicalProcess process = processByPartition.get(partitions[id]);
+            process.addEntity(getEntity(id));
+            processByEntity.add(process);
+        }
+
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Creates the thread pool when the kernel is restored from a simulation checkpoint.
+     *
+     * @param in the stream to read the kernel from
+     * @see CloudSim#restore(java.io.InputStream)
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    CloudSim getSimulation() {
+        return simulation;
+    }
+
+    CloudSimEntity getEntity(final int id) {
+        return (CloudSimEntity) simulation.getEntity(id);
+    }
+
+    /**
+     * Gets the minimum delay of events sent between entities of different partitions.
+     * @return
+     */
+    double getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Checks if a window is being processed in parallel.
+     * @return
+     */
+    boolean isProcessingWindow() {
+        return processingWindow;
+    }
+
+    /**
+     * Gets the logical process of this kernel whose window is being processed by the current thread.
+     * @return the logical process or null if the current thread isn't processing a window
+     */
+    LogicalProcess getCurrentProcess() {
+        final LogicalProcess process = LogicalProcess.getCurrent();
+        return process != null && process.getKernel() == this ? process : null;
+    }
+
+    /**
+     * Gets the current simulation time for the current thread.
+     *
+     * @param simulationClock the clock of the simulation
+     * @return the clock of the logical process being processed by the current thread
+     *         or the simulation clock if no logical process is being processed
+     */
+    double clock(final double simulationClock) {
+        final LogicalProcess process = getCurrentProcess();
+        return process == null ? simulationClock : process.getClock();
+    }
+
+    private LogicalProcess getProcess(final int entityId) {
+        return entityId >= 0 && entityId < processByEntity.size() ? processByEntity.get(entityId) : processes.get(0);
+    }
+
+    /**
+     * Gets the entity whose logical process has to receive a given event.
+     *
+     * @param evt the event
+     * @return the entity id
+     */
+    private static int getReceiverId(final SimEvent evt) {
+        switch (evt.getType()) {
+            case CREATE:
+                return ((SimEntity) evt.getData()).getId();
+            case HOLD_DONE:
+                return evt.getSource();
+            default:
+                return evt.getDestination();
+        }
+    }
+
+    /**
+     * Registers an entity created while the simulation is running, which is added
+     * to the {@link CloudSim#SHARED_PARTITION}.
+     *
+     * @param entity the entity to register
+     * @throws IllegalStateException when a window is being processed
+     */
+    void addEntity(final CloudSimEntity entity) {
+        if (processingWindow) {
+            throw new IllegalStateException("Entities cannot be added while partitions are being processed in parallel.");
+        }
+
+        processes.get(0).addEntity(entity);
+        processByEntity.add(processes.get(0));
+    }
+
+    /**
+     * Adds a new event to the queue of the logical process of its receiver.
+     *
+     * @param evt the event to add
+     * @param first indicates if the event has to be processed before any other one happening at the same time
+     */
+    void addEvent(final SimEvent evt, final boolean first) {
+        final LogicalProcess destination = getProcess(getReceiverId(evt));
+        final LogicalProcess source = getCurrentProcess();
+        if (source != null) {
+            source.addEvent(evt, destination, first);
+            return;
+        }
+
+        evt.setSerial(first ? 0 : serial++);
+        destination.getFuture().add(evt);
+    }
+
+    /**
+     * Gets the deferred queue containing the events delivered to a given entity.
+     *
+     * @param entityId the id of the entity
+     * @return
+     */
+    DeferredQueue getDeferred(final int entityId) {
+        return getProcess(entityId).getDeferred();
+    }
+
+    /**
+     * Makes an entity wait for an event matching a given predicate.
+     *
+     * @param entity the entity that will wait
+     * @param predicate the predicate to match
+     */
+    void wait(final CloudSimEntity entity, final Predicate<SimEvent> predicate) {
+        getProcess(entity.getId()).wait(entity, predicate);
+    }
+
+    /**
+     * Cancels the events sent by a given entity which match a given predicate.
+     * When a window is being processed, just the events sent to entities of the same partition
+     * or sent to other partitions inside the window can be cancelled.
+     *
+     * @param src the id of the entity that sent the events
+     * @param predicate the predicate to match
+     * @param all true to cancel all matching events, false to cancel just the first one
+     * @return the cancelled events
+     */
+    List<SimEvent> cancel(final int src, final Predicate<SimEvent> predicate, final boolean all) {
+        final Predicate<SimEvent> fromSource = predicate.and(evt -> evt.getSource() == src);
+        final LogicalProcess current = getCurrentProcess();
+        final List<SimEvent> candidates = new ArrayList<>();
+        for (final LogicalProcess process : current == null ? processes : Collections.singletonList(current)) {
+            process.getFuture().stream().filter(fromSource).forEach(candidates::add);
+        }
+        if (current != null) {
+            current.getEventsSentToOtherProcesses().stream().filter(fromSource).forEach(candidates::add);
+        }
+
+        candidates.sort(Comparator.comparingDouble(SimEvent::eventTime));
+        final List<SimEvent> cancelled = all || candidates.isEmpty() ? candidates : candidates.subList(0, 1);
+        for (final SimEvent evt : cancelled) {
+            final LogicalProcess destination = getProcess(getReceiverId(evt));
+            if (current != null && current != destination) {
+                current.removePendingEvent(evt);
+            } else {
+                destination.getFuture().remove(evt);
+                if (current != null) {
+                    current.removePendingEvent(evt);
+                }
+            }
+        }
+
+        return cancelled;
+    }
+
+    /**
+     * Checks if there is no more event to be processed.
+     * @return
+     */
+    boolean isEmpty() {
+        return getNextEventTime() == Double.MAX_VALUE;
+    }
+
+    /**
+     * Gets the time of the next event to be processed.
+     * @return the time of the next event or {@link Double#MAX_VALUE} if there is no event
+     */
+    double getNextEventTime() {
+        double time = Double.MAX_VALUE;
+        for (final LogicalProcess process : processes) {
+            time = Math.min(time, process.getNextEventTime());
+        }
+
+        return time;
+    }
+
+    /**
+     * Gets the time of the next event to be processed by an entity of the {@link CloudSim#SHARED_PARTITION}.
+     * @return the time of the next event or {@link Double#MAX_VALUE} if there is no event
+     */
+    double getNextSharedEventTime() {
+        return processes.get(0).getNextEventTime();
+    }
+
+    /**
+     * Delivers all events happening at a given time to the entities of all partitions,
+     * in the same order used by the sequential kernel.
+     *
+     * @param time the time of the events to deliver
+     */
+    void deliverEvents(final double time) {
+        int round = 0;
+        for (final LogicalProcess process : processes) {
+            process.setClock(time);
+            round = Math.max(round, process.getRound(time));
+        }
+
+        final List<SimEvent> events = new ArrayList<>();
+        for (final LogicalProcess process : processes) {
+            process.startRound(time, round + 1);
+            for (final SimEvent evt : process.getFuture()) {
+                if (evt.eventTime() != time) {
+                    break;
+                }
+                events.add(evt);
+            }
+        }
+
+        events.sort(Comparator.comparingLong(SimEvent::getSerial));
+        for (final SimEvent evt : events) {
+            final LogicalProcess process = getProcess(getReceiverId(evt));
+            process.getFuture().remove(evt);
+            process.deliver(evt);
+        }
+    }
+
+    /**
+     * Processes in parallel the events of all partitions happening before the end of a window.
+     *
+     * @param windowEnd the end (exclusive) of the window
+     * @return the time of the last event processed
+     */
+    double processWindow(final double windowEnd) {
+        final boolean logDisabled = Log.isDisabled();
+        final List<LogicalProcess> activeProcesses = new ArrayList<>();
+        for (final LogicalProcess process : processes) {
+            if (process.getNextEventTime() < windowEnd) {
+                process.startWindow(windowEnd, serial, logDisabled);
+                activeProcesses.add(process);
+            }
+        }
+
+        processingWindow = true;
+        try {
+            if (activeProcesses.size() == 1) {
+                activeProcesses.get(0).processWindow();
+            } else {
+                invokeAll(activeProcesses);
+            }
+        } finally {
+            processingWindow = false;
+        }
+
+        double clock = 0;
+        final List<PendingEvent> pendingEvents = new ArrayList<>();
+        final List<LogRecord> logRecords = new ArrayList<>();
+        for (final LogicalProcess process : activeProcesses) {
+            clock = Math.max(clock, process.getClock());
+            pendingEvents.addAll(process.finishWindow());
+            logRecords.addAll(process.pollLogRecords());
+        }
+
+        serializeEvents(pendingEvents);
+        writeLog(logRecords);
+        return clock;
+    }
+
+    private void invokeAll(final List<LogicalProcess> activeProcesses) {
+        final List<Callable<Void>> tasks = new ArrayList<>(activeProcesses.size());
+        for (final LogicalProcess process : activeProcesses) {
+            tasks.add(() -> { process.processWindow(); return null; });
+        }
+
+        for (final Future<Void> future : pool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Assigns the serials of the events created inside a window which weren't processed yet,
+     * in the order they would be created by the sequential kernel, and adds the events
+     * sent to other partitions to the queues of their logical processes.
+     *
+     * @param pendingEvents the events created inside the window
+     */
+    private void serializeEvents(final List<PendingEvent> pendingEvents) {
+        Collections.sort(pendingEvents);
+        for (final PendingEvent pending : pendingEvents) {
+            final SimEvent evt = pending.getEvent();
+            final SortedSet<SimEvent> future = pending.getDestination().getFuture();
+            if (evt.getSerial() >= 0 && !future.remove(evt)) {
+                continue;
+            }
+
+            evt.setSerial(pending.isFirst() ? 0 : serial++);
+            future.add(evt);
+        }
+    }
+
+    /**
+     * Writes the log messages of a window in the order they would be written by the sequential kernel.
+     * @param logRecords the messages written inside the window
+     */
+    private void writeLog(final List<LogRecord> logRecords) {
+        if (logRecords.isEmpty()) {
+            return;
+        }
+
+        Collections.sort(logRecords);
+        final OutputStream output = Log.getOutput();
+        try {
+            for (final LogRecord record : logRecords) {
+                output.write(record.getMessage());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Releases the threads used to process windows.
+     */
+    void shutdown() {
+        pool.shutdown();
+    }
+}
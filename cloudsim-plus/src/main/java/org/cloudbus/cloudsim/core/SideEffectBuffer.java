@@ -0,0 +1,141 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Buffers actions having side effects outside the simulation objects
+ * being updated, such as sending events, notifying listeners and writing logs,
+ * when such objects are updated by a thread other than the one running the simulation.
+ *
+ * <p>While a buffer {@link #collect(DoubleSupplier) is collecting} actions
+ * for the current thread, the actions given to {@link #run(Runnable)} are just stored
+ * to be later executed by the simulation thread, by calling {@link #flush()}.
+ * This way, independent parts of the simulation (such as the Hosts of a Datacenter)
+ * can be updated in parallel, while their side effects are executed sequentially
+ * and in a deterministic order.
+ * When there is no buffer collecting actions for the current thread,
+ * the actions are executed immediately.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public final class SideEffectBuffer {
+    /**
+     * The buffer collecting actions for the current thread, if any.
+     */
+    private static final ThreadLocal<SideEffectBuffer> current = new ThreadLocal<>();
+
+    private final List<Runnable> actions;
+
+    /**
+     * The {@link LogicalProcess} of the thread that created this buffer (if any),
+     * which is also used by the thread collecting actions,
+     * so that both see the same simulation clock.
+     */
+    private final LogicalProcess process;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public SideEffectBuffer() {
+        this.actions = new ArrayList<>();
+        this.process = LogicalProcess.getCurrent();
+    }
+
+    /**
+     * Executes an action having side effects outside the object calling this method,
+     * or stores it if there is a buffer collecting actions for the current thread.
+     *
+     * @param action the action to execute
+     */
+    public static void run(final Runnable action) {
+        final SideEffectBuffer buffer = current.get();
+        if (buffer == null) {
+            action.run();
+        } else {
+            buffer.actions.add(action);
+        }
+    }
+
+    /**
+     * Checks if there is a buffer collecting actions for the current thread.
+     * Frequently called code may use it to execute an action directly,
+     * avoiding the creation of a {@link Runnable} to be given to {@link #run(Runnable)}.
+     * @return
+     */
+    public static boolean isCollecting() {
+        return current.get() != null;
+    }
+
+    /**
+     * Performs a given work in the current thread, storing into this buffer all the actions
+     * given to {@link #run(Runnable)} while the work is performed.
+     *
+     * @param work the work to perform, that returns some result
+     * @return the result of the work
+     */
+    public double collect(final DoubleSupplier work) {
+        Objects.requireNonNull(work);
+        final SideEffectBuffer previous = current.get();
+        current.set(this);
+        final LogicalProcess previousProcess = LogicalProcess.setCurrent(process);
+        try {
+            return work.getAsDouble();
+        } finally {
+            LogicalProcess.setCurrent(previousProcess);
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Executes all the stored actions, in the order they were stored,
+     * and clears the buffer.
+     * If another buffer is collecting actions for the current thread,
+     * the stored actions are moved to such a buffer instead.
+     */
+    public void flush() {
+        for (final Runnable action : actions) {
+            SideEffectBuffer.run(action);
+        }
+
+        actions.clear();
+    }
+
+    /**
+     * Gets the number of stored actions.
+     * @return
+     */
+    public int size() {
+        return actions.size();
+    }
+}
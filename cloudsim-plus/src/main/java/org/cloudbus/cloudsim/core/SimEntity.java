@@ -100,6 +100,7 @@ public interface SimEntity extends Nameable, Cloneable, Runnable, Comparable<Sim
      * objects.
      */
     SimEntity NULL = new SimEntity() {
+        private static final long serialVersionUID = 1L;
         @Override public int compareTo(SimEntity o) { return 0; }
         @Override public boolean isStarted() { return false; }
         @Override public Simulation getSimulation() { return Simulation.NULL; }
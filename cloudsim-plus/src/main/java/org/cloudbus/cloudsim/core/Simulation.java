@@ -6,12 +6,15 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import java.io.Serializable;
 import java.util.*;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
 
 import java.util.function.Predicate;
 
+import org.cloudbus.cloudsim.util.SimulationProfiler;
+
 import org.cloudbus.cloudsim.core.predicates.PredicateAny;
 import org.cloudbus.cloudsim.core.predicates.PredicateNone;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
@@ -29,7 +32,7 @@ import org.cloudsimplus.listeners.EventListener;
  * @see CloudSim
  * @since CloudSim Plus 1.0
  */
-public interface Simulation {
+public interface Simulation extends Serializable {
     /**
      * A standard predicate that matches any event.
      */
@@ -418,11 +421,21 @@ public interface Simulation {
      */
     Map<String, SimEntity> getEntitiesByName();
 
+    /**
+     * Gets the profiler that measures the execution time of
+     * sections of code of this simulation.
+     * The profiler is disabled by default.
+     *
+     * @return
+     */
+    SimulationProfiler getProfiler();
+
     /**
      * An attribute that implements the Null Object Design Pattern for {@link Simulation}
      * objects.
      */
     Simulation NULL = new Simulation() {
+        private static final long serialVersionUID = 1L;
         @Override public void abort() {}
         @Override public void addEntity(CloudSimEntity e) {}
         @Override public SimEvent cancel(int src, Predicate<SimEvent> p) {
@@ -516,6 +529,9 @@ public interface Simulation {
         @Override public Map<String, SimEntity> getEntitiesByName() {
             return Collections.emptyMap();
         }
+        @Override public SimulationProfiler getProfiler() {
+            return SimulationProfiler.NULL;
+        }
         @Override public boolean updateEntityName(String oldName) {
             return false;
         }
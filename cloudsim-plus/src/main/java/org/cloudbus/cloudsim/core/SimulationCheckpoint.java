@@ -0,0 +1,570 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Writes and reads the checkpoints of a {@link CloudSim} simulation,
+ * which store all objects reachable from the simulation using Java serialization,
+ * compressed with the Deflate algorithm.
+ *
+ * <p>Constants such as Null Objects (for instance, {@link org.cloudbus.cloudsim.vms.Vm#NULL})
+ * are stored just as references to the static fields holding them.
+ * This way, a restored simulation uses the same constant instances as the rest of the application,
+ * instead of copies of them. It also enables storing constants which are not serializable,
+ * such as comparators declared as lambda expressions.</p>
+ *
+ * <p>Hash-based collections ({@link HashMap}, {@link LinkedHashMap}, {@link HashSet} and {@link LinkedHashSet})
+ * are stored as references to their content, which is written after the entire simulation.
+ * When a checkpoint is read, such collections are filled just after all objects are read.
+ * This way, the hash code of objects such as VMs and Cloudlets, which depends on objects they reference,
+ * is not computed while those references are not restored yet.</p>
+ *
+ * <p>When a simulation is forked, the data of {@link ImmutableDataHolder}s
+ * is shared by all forks. It's stored just as the index of the shared object into a list
+ * which is kept in memory while the forks are read.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ * @see CloudSim#checkpoint(OutputStream)
+ * @see CloudSim#restore(InputStream)
+ * @see CloudSim#fork(int)
+ */
+final class SimulationCheckpoint {
+    private static final int BUFFER_SIZE = 65536;
+
+    /**
+     * The part of the name of classes generated for lambda expressions,
+     * which comes after the name of the class declaring the expression.
+     */
+    private static final String LAMBDA_CLASS_MARKER = "$$Lambda$";
+
+    /**
+     * The constants which an object of a given class may be,
+     * mapped to the references that are stored in place of them.
+     */
+    private static final Map<Class<?>, Map<Object, ConstantReference>> CONSTANTS = new ConcurrentHashMap<>();
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private SimulationCheckpoint(){}
+
+    /**
+     * Writes a checkpoint of a simulation.
+     *
+     * @param simulation the simulation to write
+     * @param output the stream to write the checkpoint to, which is not closed
+     * @throws NotSerializableException when some object reachable from the simulation is not serializable
+     * @throws IOException when the checkpoint cannot be written
+     */
+    static void write(final CloudSim simulation, final OutputStream output) throws IOException {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            final DeflaterOutputStream compressed = new DeflaterOutputStream(output, deflater, BUFFER_SIZE);
+            final CheckpointOutputStream out = new CheckpointOutputStream(compressed);
+            out.writeSimulation(simulation);
+            out.flush();
+            compressed.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Reads a simulation from a checkpoint.
+     *
+     * @param input the stream to read the checkpoint from, which is not closed
+     * @return the simulation read
+     * @throws IOException when the checkpoint cannot be read
+     * @throws ClassNotFoundException when the class of some object of the checkpoint is not found
+     */
+    static CloudSim read(final InputStream input) throws IOException, ClassNotFoundException {
+        final Inflater inflater = new Inflater();
+        try {
+            final CheckpointInputStream in = new CheckpointInputStream(new InflaterInputStream(input, inflater, BUFFER_SIZE));
+            return in.readSimulation();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Creates copies of a simulation in memory, which share the data of {@link ImmutableDataHolder}s.
+     * Since the simulation is written just once, the copies are not compressed.
+     *
+     * @param simulation the simulation to copy
+     * @param copies the number of copies to create
+     * @return the list of copies
+     * @throws NotSerializableException when some object reachable from the simulation is not serializable
+     * @throws IOException when the simulation cannot be copied
+     * @throws ClassNotFoundException when the class of some object is not found while reading a copy
+     */
+    static List<CloudSim> fork(final CloudSim simulation, final int copies) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        final List<Object> sharedObjects = new ArrayList<>();
+        try (CheckpointOutputStream out = new ForkOutputStream(bytes, sharedObjects)) {
+            out.writeSimulation(simulation);
+        }
+
+        final byte[] buffer = bytes.toByteArray();
+        final List<CloudSim> forks = new ArrayList<>(copies);
+        for (int i = 0; i < copies; i++) {
+            try (CheckpointInputStream in = new ForkInputStream(new ByteArrayInputStream(buffer), sharedObjects)) {
+                forks.add(in.readSimulation());
+            }
+        }
+
+        return forks;
+    }
+
+    /**
+     * Gets the constants which an object of a given class may be.
+     * Such constants are the values of static final fields declared
+     * in the class, its super classes and interfaces or in the classes enclosing them.
+     *
+     * @param klass the class to get the constants
+     * @return a map where each key is a constant and each value is the reference to it
+     */
+    private static Map<Object, ConstantReference> getConstants(final Class<?> klass) {
+        return CONSTANTS.computeIfAbsent(klass, SimulationCheckpoint::findConstants);
+    }
+
+    private static Map<Object, ConstantReference> findConstants(final Class<?> klass) {
+        final Set<Class<?>> holders = new LinkedHashSet<>();
+        for (Class<?> c = klass; c != null; c = c.getSuperclass()) {
+            addConstantHolders(holders, c);
+        }
+
+        final Map<Object, ConstantReference> constants = new IdentityHashMap<>();
+        for (final Class<?> holder : holders) {
+            for (final Field field : holder.getDeclaredFields()) {
+                final Object value = getConstantValue(field);
+                if (value != null) {
+                    constants.putIfAbsent(value, new ConstantReference(holder.getName(), field.getName()));
+                }
+            }
+        }
+
+        return constants.isEmpty() ? Collections.emptyMap() : constants;
+    }
+
+    /**
+     * Adds a class, the classes enclosing it and its interfaces to a set
+     * of classes that may declare constants, ignoring classes from the Java platform.
+     *
+     * @param holders the set to add the classes to
+     * @param klass the class to add
+     */
+    private static void addConstantHolders(final Set<Class<?>> holders, final Class<?> klass) {
+        if (klass == null || isPlatformClass(klass) || !holders.add(klass)) {
+            return;
+        }
+
+        addConstantHolders(holders, getDeclaringClass(klass));
+        for (final Class<?> i : klass.getInterfaces()) {
+            addConstantHolders(holders, i);
+        }
+    }
+
+    private static boolean isPlatformClass(final Class<?> klass) {
+        final String name = klass.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.") ||
+               name.startsWith("com.sun.") || name.startsWith("jdk.");
+    }
+
+    /**
+     * Gets the class where a given class was declared, which for
+     * lambda expressions is the class containing the expression.
+     *
+     * @param klass the class to get its declaring class
+     * @return the declaring class or null if it is a top level class
+     */
+    private static Class<?> getDeclaringClass(final Class<?> klass) {
+        final int index = klass.getName().indexOf(LAMBDA_CLASS_MARKER);
+        if (index < 0) {
+            return klass.getEnclosingClass();
+        }
+
+        try {
+            return Class.forName(klass.getName().substring(0, index), false, klass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the value of a field if it is a constant object.
+     *
+     * @param field the field to get the value
+     * @return the field value or null if it is not a static final field of a reference type
+     */
+    private static Object getConstantValue(final Field field) {
+        final int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers) ||
+            field.getType().isPrimitive() || field.isEnumConstant() || field.isSynthetic())
+        {
+            return null;
+        }
+
+        try {
+            field.setAccessible(true);
+            return field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if an object is a hash-based collection whose content has to be stored
+     * after all other objects.
+     * Subclasses of such collections are not considered since they may store additional data.
+     *
+     * @param obj the object to check
+     * @return true if the object is a hash-based collection, false otherwise
+     */
+    private static boolean isHashCollection(final Object obj) {
+        final Class<?> klass = obj.getClass();
+        return klass == HashMap.class || klass == LinkedHashMap.class ||
+               klass == HashSet.class || klass == LinkedHashSet.class;
+    }
+
+    /**
+     * An {@link ObjectOutputStream} which writes {@link ConstantReference}s in place of constants
+     * and {@link HashCollectionReference}s in place of hash-based collections.
+     */
+    private static class CheckpointOutputStream extends ObjectOutputStream {
+        /**
+         * The hash-based collections written, where the index of each one
+         * is the index stored by its {@link HashCollectionReference}.
+         */
+        private final List<Object> hashCollections;
+
+        private CheckpointOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            this.hashCollections = new ArrayList<>();
+            enableReplaceObject(true);
+        }
+
+        /**
+         * Writes a simulation, followed by the content of the hash-based collections
+         * reachable from it. Since the content of a collection may reference other
+         * collections, the number of collections increases while their content is written.
+         *
+         * @param simulation the simulation to write
+         * @throws IOException when the simulation cannot be written
+         */
+        void writeSimulation(final CloudSim simulation) throws IOException {
+            writeObject(simulation);
+            for (int i = 0; i < hashCollections.size(); i++) {
+                writeBoolean(true);
+                writeObject(getContent(hashCollections.get(i)));
+            }
+            writeBoolean(false);
+        }
+
+        /**
+         * Gets the content of a hash-based collection as an array.
+         * For maps, keys and values are interleaved.
+         *
+         * @param collection the collection to get the content
+         * @return the content array
+         */
+        private static Object[] getContent(final Object collection) {
+            if (collection instanceof Collection) {
+                return ((Collection<?>) collection).toArray();
+            }
+
+            final Map<?, ?> map = (Map<?, ?>) collection;
+            final Object[] content = new Object[map.size() * 2];
+            int i = 0;
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                content[i++] = entry.getKey();
+                content[i++] = entry.getValue();
+            }
+
+            return content;
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+            final ConstantReference constant = getConstants(obj.getClass()).get(obj);
+            if (constant != null) {
+                return constant;
+            }
+
+            if (isHashCollection(obj)) {
+                hashCollections.add(obj);
+                return new HashCollectionReference(obj.getClass().getName(), hashCollections.size() - 1);
+            }
+
+            final int index = obj.getClass().getName().indexOf(LAMBDA_CLASS_MARKER);
+            if (index > 0 && !(obj instanceof Serializable)) {
+                throw new NotSerializableException(String.format(
+                    "The lambda expression declared in %s cannot be stored in a checkpoint since it is not serializable. " +
+                    "Use an interface which extends Serializable or a cast such as (Supplier<Vm> & Serializable).",
+                    obj.getClass().getName().substring(0, index)));
+            }
+
+            return obj;
+        }
+    }
+
+    /**
+     * A {@link CheckpointOutputStream} which writes {@link SharedReference}s in place of
+     * the data of {@link ImmutableDataHolder}s, adding such data to a list of shared objects.
+     * The data of a holder is registered when the holder is written,
+     * thus before the holder fields referencing the data are written.
+     */
+    private static final class ForkOutputStream extends CheckpointOutputStream {
+        private final List<Object> sharedObjects;
+        private final Map<Object, SharedReference> references;
+
+        private ForkOutputStream(final OutputStream out, final List<Object> sharedObjects) throws IOException {
+            super(out);
+            this.sharedObjects = sharedObjects;
+            this.references = new IdentityHashMap<>();
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+            final SharedReference reference = references.get(obj);
+            if (reference != null) {
+                return reference;
+            }
+
+            if (obj instanceof ImmutableDataHolder) {
+                for (final Object data : ((ImmutableDataHolder) obj).getImmutableData()) {
+                    if (data != null && !references.containsKey(data)) {
+                        references.put(data, new SharedReference(sharedObjects.size()));
+                        sharedObjects.add(data);
+                    }
+                }
+            }
+
+            return super.replaceObject(obj);
+        }
+    }
+
+    /**
+     * An {@link ObjectInputStream} which resolves the {@link HashCollectionReference}s
+     * written by a {@link CheckpointOutputStream} to empty collections,
+     * that are filled after the entire simulation is read.
+     */
+    private static class CheckpointInputStream extends ObjectInputStream {
+        /**
+         * The empty hash-based collections created for each {@link HashCollectionReference} read,
+         * in the order of the reference indexes.
+         */
+        private final List<Object> hashCollections;
+
+        private CheckpointInputStream(final InputStream in) throws IOException {
+            super(in);
+            this.hashCollections = new ArrayList<>();
+            enableResolveObject(true);
+        }
+
+        /**
+         * Reads a simulation written by {@link CheckpointOutputStream#writeSimulation(CloudSim)}.
+         *
+         * @return the simulation read
+         * @throws IOException when the simulation cannot be read
+         * @throws ClassNotFoundException when the class of some object is not found
+         */
+        CloudSim readSimulation() throws IOException, ClassNotFoundException {
+            final CloudSim simulation = (CloudSim) readObject();
+            final List<Object[]> contents = new ArrayList<>(hashCollections.size());
+            while (readBoolean()) {
+                contents.add((Object[]) readObject());
+            }
+
+            if (contents.size() != hashCollections.size()) {
+                throw new InvalidObjectException(String.format(
+                    "The checkpoint has the content of %d hash-based collections but %d were expected.",
+                    contents.size(), hashCollections.size()));
+            }
+
+            /* Collections referenced from the content of other ones come later in the list.
+             * They are filled first, since the hash code of a collection depends on its content. */
+            for (int i = hashCollections.size() - 1; i >= 0; i--) {
+                fill(hashCollections.get(i), contents.get(i));
+            }
+
+            return simulation;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static void fill(final Object collection, final Object[] content) {
+            if (collection instanceof Collection) {
+                Collections.addAll((Collection<Object>) collection, content);
+                return;
+            }
+
+            final Map<Object, Object> map = (Map<Object, Object>) collection;
+            for (int i = 0; i < content.length; i += 2) {
+                map.put(content[i], content[i + 1]);
+            }
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            if (!(obj instanceof HashCollectionReference)) {
+                return obj;
+            }
+
+            final HashCollectionReference reference = (HashCollectionReference) obj;
+            if (reference.index != hashCollections.size()) {
+                throw new InvalidObjectException("Hash-based collection references are out of order.");
+            }
+
+            final Object collection = reference.newCollection();
+            hashCollections.add(collection);
+            return collection;
+        }
+    }
+
+    /**
+     * A {@link CheckpointInputStream} which also resolves the {@link SharedReference}s
+     * written by a {@link ForkOutputStream} to the shared objects.
+     */
+    private static final class ForkInputStream extends CheckpointInputStream {
+        private final List<Object> sharedObjects;
+
+        private ForkInputStream(final InputStream in, final List<Object> sharedObjects) throws IOException {
+            super(in);
+            this.sharedObjects = sharedObjects;
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            return obj instanceof SharedReference ? sharedObjects.get(((SharedReference) obj).index) : super.resolveObject(obj);
+        }
+    }
+
+    /**
+     * A reference to a hash-based collection, which is written in place of the collection.
+     * The content of the collection is written after the entire simulation.
+     */
+    private static final class HashCollectionReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+        private final int index;
+
+        private HashCollectionReference(final String className, final int index) {
+            this.className = className;
+            this.index = index;
+        }
+
+        private Object newCollection() throws InvalidObjectException {
+            if (HashMap.class.getName().equals(className)) {
+                return new HashMap<>();
+            }
+            if (LinkedHashMap.class.getName().equals(className)) {
+                return new LinkedHashMap<>();
+            }
+            if (HashSet.class.getName().equals(className)) {
+                return new HashSet<>();
+            }
+            if (LinkedHashSet.class.getName().equals(className)) {
+                return new LinkedHashSet<>();
+            }
+
+            throw new InvalidObjectException("Unsupported hash-based collection " + className);
+        }
+    }
+
+    /**
+     * The index of an object shared by all forks of a simulation,
+     * which is written in place of that object.
+     */
+    private static final class SharedReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private SharedReference(final int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * A reference to a static final field, which is stored in a checkpoint
+     * in place of the field value and resolved to the current value of the field
+     * when the checkpoint is read.
+     */
+    private static final class ConstantReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+        private final String fieldName;
+
+        private ConstantReference(final String className, final String fieldName) {
+            this.className = className;
+            this.fieldName = fieldName;
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            try {
+                final Field field = Class.forName(className).getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return field.get(null);
+            } catch (ReflectiveOperationException e) {
+                final InvalidObjectException exception =
+                    new InvalidObjectException(String.format("The constant %s.%s was not found.", className, fieldName));
+                exception.initCause(e);
+                throw exception;
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.cloudbus.cloudsim.brokers.DatacenterBroker;
  *
  * @author Manoel Campos da Silva Filho
  */
+@SuppressWarnings("serial")
 public interface UniquelyIdentificable extends Identificable {
     /**
      * Generates an Unique Identifier (UID).
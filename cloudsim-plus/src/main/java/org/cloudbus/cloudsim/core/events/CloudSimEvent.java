@@ -22,6 +22,8 @@ import java.util.Objects;
  * @see SimEntity
  */
 public final class CloudSimEvent implements SimEvent {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getSimulation()
      */
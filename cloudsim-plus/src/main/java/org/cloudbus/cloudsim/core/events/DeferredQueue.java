@@ -23,6 +23,7 @@ import java.util.stream.Stream;
  * @see SimEvent
  */
 public class DeferredQueue implements EventQueue {
+	private static final long serialVersionUID = 1L;
 
 	/** The list of events. */
 	private final List<SimEvent> list = new LinkedList<>();
@@ -26,6 +26,7 @@ import java.util.stream.Stream;
  * @since CloudSim Toolkit 1.0
  */
 public class FutureQueue implements EventQueue {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The sorted set of events.
@@ -138,6 +138,7 @@ public interface SimEvent extends Comparable<SimEvent>, EventInfo {
      * objects.
      */
     SimEvent NULL = new SimEvent() {
+        private static final long serialVersionUID = 1L;
         @Override public Type getType() { return Type.NULL; }
         @Override public int getDestination() { return 0; }
         @Override public int getSource() { return 0; }
@@ -11,6 +11,7 @@ package org.cloudbus.cloudsim.core.predicates;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 
 import java.util.function.Predicate;
+import java.io.Serializable;
 
 /**
  * A predicate which will match any event on the deferred event queue.
@@ -21,7 +22,8 @@ import java.util.function.Predicate;
  * @see Predicate
  * @since CloudSim Toolkit 1.0
  */
-public class PredicateAny implements Predicate<SimEvent> {
+public class PredicateAny implements Predicate<SimEvent>, Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Considers that any event received by the predicate will match.
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.io.Serializable;
 
 /**
  * A predicate which selects events coming from specific registered entities.<br>
@@ -25,7 +26,8 @@ import java.util.stream.IntStream;
  * @see PredicateNotFrom
  * @see Predicate
  */
-public class PredicateFrom implements Predicate<SimEvent> {
+public class PredicateFrom implements Predicate<SimEvent>, Serializable {
+	private static final long serialVersionUID = 1L;
 
 	/** The IDs of source entities to check the reception of events from. */
 	private final List<Integer> ids;
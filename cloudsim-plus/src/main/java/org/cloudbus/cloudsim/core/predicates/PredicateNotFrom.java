@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.io.Serializable;
 
 /**
  * A predicate which selects events that have not been sent by specific entities.
@@ -25,7 +26,8 @@ import java.util.stream.IntStream;
  * @see Predicate
  * @since CloudSim Toolkit 1.0
  */
-public class PredicateNotFrom implements Predicate<SimEvent> {
+public class PredicateNotFrom implements Predicate<SimEvent>, Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The IDs of source entities to check if events were not sent from.
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.io.Serializable;
 
 /**
  * A predicate to select events that don't match specific tags.
@@ -25,7 +26,8 @@ import java.util.stream.IntStream;
  * @see Predicate
  * @since CloudSim Toolkit 1.0
  */
-public class PredicateNotType implements Predicate<SimEvent> {
+public class PredicateNotType implements Predicate<SimEvent>, Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Array of tags to verify if the tag of received events doesn't correspond to.
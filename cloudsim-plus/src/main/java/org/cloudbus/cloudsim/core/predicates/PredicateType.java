@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.io.Serializable;
 
 /**
  * A predicate to select events with specific {@link SimEvent#getTag() tags}.
@@ -24,7 +25,8 @@ import java.util.stream.Collectors;
  * @see Predicate
  * @since CloudSim Toolkit 1.0
  */
-public class PredicateType implements Predicate<SimEvent> {
+public class PredicateType implements Predicate<SimEvent>, Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Array of tags to verify if the tag of received events correspond to.
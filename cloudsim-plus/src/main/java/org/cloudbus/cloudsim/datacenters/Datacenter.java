@@ -129,6 +129,7 @@ public interface Datacenter extends SimEntity {
      * {@link Datacenter} objects.
      */
     Datacenter NULL = new Datacenter() {
+        private static final long serialVersionUID = 1L;
         @Override public int getId() { return -1; }
         @Override public int compareTo(SimEntity o) { return 0; }
         @Override public String getName() { return ""; }
@@ -309,6 +309,7 @@ public interface DatacenterCharacteristics extends Identificable {
      * objects.
      */
     DatacenterCharacteristics NULL = new DatacenterCharacteristics() {
+        private static final long serialVersionUID = 1L;
         @Override public double getCostPerBw() { return 0; }
         @Override public double getCostPerMem() { return 0; }
         @Override public double getTimeZone() { return 0; }
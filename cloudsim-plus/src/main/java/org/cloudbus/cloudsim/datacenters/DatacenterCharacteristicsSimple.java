@@ -31,6 +31,7 @@ import org.cloudbus.cloudsim.lists.PeList;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterCharacteristicsSimple implements DatacenterCharacteristics {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The Datacenter id -- setup when Datacenter is created.
@@ -6,11 +6,14 @@
  */
 package org.cloudbus.cloudsim.datacenters;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.network.IcmpPacket;
 import org.cloudbus.cloudsim.util.DataCloudTags;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogScope;
+import org.cloudbus.cloudsim.util.SimulationProfiler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.*;
@@ -19,6 +22,11 @@ import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleFunction;
 
 import org.cloudbus.cloudsim.resources.FileStorage;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
@@ -33,6 +41,22 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterSimple extends CloudSimEntity implements Datacenter {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The minimum number of Hosts updated by each parallel task,
+     * avoiding the overhead of splitting just a few Host updates among threads.
+     * @see #setHostUpdateParallelism(int)
+     */
+    private static final int MIN_HOSTS_BY_TASK = 32;
+
+    /**
+     * The number of parallel tasks created for each thread,
+     * enabling threads that finish their tasks earlier to take work from the others.
+     * @see #setHostUpdateParallelism(int)
+     */
+    private static final int TASKS_BY_THREAD = 4;
+
     /** @see #getCharacteristics() */
     private DatacenterCharacteristics characteristics;
 
@@ -54,6 +78,16 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /** @see #getSchedulingInterval() */
     private double schedulingInterval;
 
+    /** @see #getHostUpdateParallelism() */
+    private int hostUpdateParallelism;
+
+    /**
+     * The pool of threads used to update Hosts in parallel,
+     * created just when the {@link #getHostUpdateParallelism() parallelism}
+     * is greater than 1.
+     */
+    private transient ForkJoinPool hostUpdatePool;
+
     /**
      * Creates a Datacenter.
      *
@@ -86,6 +120,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         setVmAllocationPolicy(vmAllocationPolicy);
         setLastProcessTime(0.0);
         setSchedulingInterval(0);
+        setHostUpdateParallelism(1);
         setVmList(new ArrayList<>());
         setStorageList(new ArrayList<>());
         assignHostsToCurrentDatacenter();
@@ -240,6 +275,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
                 processCloudletSubmit(ev, true);
                 return 1;
 
+            // A list of new Cloudlets arrives
+            case CloudSimTags.CLOUDLET_SUBMIT_LIST:
+                processCloudletSubmitList(ev);
+                return 1;
+
             // Cancels a previously submitted Cloudlet
             case CloudSimTags.CLOUDLET_CANCEL:
                 processCloudlet(ev, CloudSimTags.CLOUDLET_CANCEL);
@@ -403,7 +443,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     protected boolean processVmCreate(SimEvent ev, boolean ackRequested) {
         Vm vm = (Vm) ev.getData();
 
+        final SimulationProfiler profiler = getSimulation().getProfiler();
+        final long startTime = profiler.start();
         boolean hostAllocatedForVm = getVmAllocationPolicy().allocateHostForVm(vm);
+        profiler.stop(SimulationProfiler.VM_PLACEMENT, startTime);
 
         if (ackRequested) {
             send(vm.getBroker().getId(), getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_CREATE_ACK, vm);
@@ -587,6 +630,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     /**
      * Processes the submission of a Cloudlet by a DatacenterBroker.
+     * The Cloudlet is submitted by calling {@link #submitCloudlet(Cloudlet, boolean)}.
      *
      * @param ev information about the event just happened
      * @param ack indicates if the event's sender expects to receive an
@@ -600,7 +644,64 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         try {
             // gets the Cloudlet object
-            Cloudlet cl = (Cloudlet) ev.getData();
+            submitCloudlet((Cloudlet) ev.getData(), ack);
+        } catch (ClassCastException c) {
+            Log.printLine(getName() + ".processCloudletSubmit(): " + "ClassCastException error.");
+            c.printStackTrace();
+        }
+
+        checkCloudletsCompletionForAllHosts();
+    }
+
+    /**
+     * Processes the submission of a list of Cloudlets by a DatacenterBroker
+     * (see {@link CloudSimTags#CLOUDLET_SUBMIT_LIST}).
+     * The processing of Cloudlets is updated and the completion of Cloudlets
+     * is checked just once for the entire list, instead of once for each Cloudlet.
+     * Each Cloudlet is submitted by calling {@link #submitCloudlet(Cloudlet, boolean)},
+     * as it is done by {@link #processCloudletSubmit(SimEvent, boolean)}.
+     *
+     * @param ev information about the event just happened,
+     *           which data is the list of submitted Cloudlets
+     *
+     * @pre ev != null
+     * @post $none
+     */
+    protected void processCloudletSubmitList(SimEvent ev) {
+        updateCloudletProcessing();
+
+        try {
+            if (!(ev.getData() instanceof List<?>)) {
+                throw new ClassCastException("The data object must be List<Cloudlet>");
+            }
+
+            @SuppressWarnings("unchecked")
+            final List<Cloudlet> list = (List<Cloudlet>) ev.getData();
+            for (final Cloudlet cl : list) {
+                submitCloudlet(cl, false);
+            }
+        } catch (ClassCastException c) {
+            Log.printLine(getName() + ".processCloudletSubmitList(): " + "ClassCastException error.");
+            c.printStackTrace();
+        }
+
+        checkCloudletsCompletionForAllHosts();
+    }
+
+    /**
+     * Submits a Cloudlet received from a DatacenterBroker to be executed inside its bind VM,
+     * unless the Cloudlet has already finished.
+     * It is called for every submitted Cloudlet, either sent alone or inside a list.
+     * Therefore, subclasses that need to process each submitted Cloudlet
+     * should override this method instead of {@link #processCloudletSubmit(SimEvent, boolean)}
+     * or {@link #processCloudletSubmitList(SimEvent)}.
+     *
+     * @param cl the submitted Cloudlet
+     * @param ack indicates if the Broker is waiting for an ACK after the Datacenter
+     * receives the cloudlet submission
+     */
+    protected void submitCloudlet(Cloudlet cl, boolean ack) {
+        try {
             if (checksIfSubmittedCloudletIsAlreadyFinishedAndNotifyBroker(cl, ack)) {
                 return;
             }
@@ -609,15 +710,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             cl.assignToDatacenter(this);
 
             submitCloudletToVm(cl, ack);
-        } catch (ClassCastException c) {
-            Log.printLine(getName() + ".processCloudletSubmit(): " + "ClassCastException error.");
-            c.printStackTrace();
         } catch (Exception e) {
-            Log.printLine(getName() + ".processCloudletSubmit(): " + "Exception error.");
+            Log.printLine(getName() + ".submitCloudlet(): " + "Exception error.");
             e.printStackTrace();
         }
-
-        checkCloudletsCompletionForAllHosts();
     }
 
     /**
@@ -627,7 +723,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @param ack indicates if the Broker is waiting for an ACK after the Datacenter
      * receives the cloudlet submission
      */
-    private void submitCloudletToVm(Cloudlet cl, boolean ack) {
+    protected void submitCloudletToVm(Cloudlet cl, boolean ack) {
         // time to transfer cloudlet files
         double fileTransferTime = predictFileTransferTime(cl.getRequiredFiles());
 
@@ -839,12 +935,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      *
      */
     protected double updateVmsProcessingOfAllHosts() {
-        List<? extends Host> list = getVmAllocationPolicy().getHostList();
-        double nextSimulationTime = Double.MAX_VALUE;
-        for (Host host : list) {
-            double time = host.updateProcessing(getSimulation().clock());
-            nextSimulationTime = Math.min(time, nextSimulationTime);
-        }
+        final double currentTime = getSimulation().clock();
+        final SimulationProfiler profiler = getSimulation().getProfiler();
+        double nextSimulationTime = updateHostsProcessing(getVmAllocationPolicy().getHostList(), host -> {
+            final long startTime = profiler.start();
+            final double time = host.updateProcessing(currentTime);
+            profiler.stop(SimulationProfiler.HOST_UPDATE, startTime);
+            return time;
+        });
 
         // Guarantees a minimal interval before scheduling the event
         final double minTimeBetweenEvents = getSimulation().clock()+getSimulation().getMinTimeBetweenEvents()+0.01;
@@ -857,6 +955,152 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationTime;
     }
 
+    /**
+     * Updates the processing of a list of Hosts, sequentially or in parallel
+     * according to the {@link #getHostUpdateParallelism() Host update parallelism}.
+     *
+     * <p>When the update is performed in parallel, the Hosts are split into
+     * consecutive partitions that are updated by different threads.
+     * Side effects of the updates, such as events sent, listener notifications
+     * and log messages, are stored into a {@link SideEffectBuffer} for each partition.
+     * After all partitions are updated, such side effects are executed by the
+     * simulation thread, following the order of the Hosts in the given list.</p>
+     *
+     * @param hosts the Hosts to update
+     * @param hostUpdater a function that updates the processing of a given Host and
+     *                    returns the predicted completion time of its earliest finishing cloudlet
+     * @return the minimum time returned by the hostUpdater for all Hosts,
+     * or {@link Double#MAX_VALUE} if there is no Host
+     */
+    protected <T extends Host> double updateHostsProcessing(final List<T> hosts, final ToDoubleFunction<? super T> hostUpdater) {
+        final int tasks = getNumberOfHostUpdateTasks(hosts.size());
+        if (tasks <= 1) {
+            return updateHostsProcessing(hosts, 0, hosts.size(), hostUpdater);
+        }
+
+        final LogScope logScope = Log.getCurrentScope();
+        final List<HostsUpdateTask<T>> taskList = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            final int fromIndex = (int) ((long) hosts.size() * i / tasks);
+            final int toIndex = (int) ((long) hosts.size() * (i + 1) / tasks);
+            taskList.add(new HostsUpdateTask<>(hosts, fromIndex, toIndex, hostUpdater, logScope));
+        }
+
+        final List<Future<Double>> futures = getHostUpdatePool().invokeAll(taskList);
+
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (int i = 0; i < tasks; i++) {
+            nextSimulationTime = Math.min(taskList.get(i).getResult(futures.get(i)), nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    private static <T extends Host> double updateHostsProcessing(
+        final List<T> hosts, final int fromIndex, final int toIndex,
+        final ToDoubleFunction<? super T> hostUpdater)
+    {
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (int i = fromIndex; i < toIndex; i++) {
+            nextSimulationTime = Math.min(hostUpdater.applyAsDouble(hosts.get(i)), nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    /**
+     * Gets the number of tasks to split the update of a given number of Hosts.
+     *
+     * @param hosts the number of Hosts to update
+     * @return the number of tasks, where 1 means the Hosts have to be updated sequentially
+     */
+    private int getNumberOfHostUpdateTasks(final int hosts) {
+        if (hostUpdateParallelism == 1) {
+            return 1;
+        }
+
+        return Math.min(hostUpdateParallelism * TASKS_BY_THREAD, hosts / MIN_HOSTS_BY_TASK);
+    }
+
+    private ForkJoinPool getHostUpdatePool() {
+        if (hostUpdatePool == null) {
+            hostUpdatePool = new ForkJoinPool(hostUpdateParallelism);
+        }
+
+        return hostUpdatePool;
+    }
+
+    /**
+     * Updates a partition of a Hosts list in a thread from the {@link #hostUpdatePool},
+     * storing the side effects of the updates into a {@link SideEffectBuffer}.
+     *
+     * <p>The task is created by the thread processing the Datacenter events,
+     * so that the thread updating the Hosts uses the same {@link LogScope}
+     * and the same simulation clock.
+     * When the simulation partitions are processed in parallel,
+     * such a clock is the one of the partition window being processed,
+     * which is given by the logical process the {@link SideEffectBuffer}
+     * captures when created and sets for the updating thread while {@link SideEffectBuffer#collect collecting}
+     * the side effects.</p>
+     */
+    private static final class HostsUpdateTask<T extends Host> implements Callable<Double> {
+        private final List<T> hosts;
+        private final int fromIndex;
+        private final int toIndex;
+        private final ToDoubleFunction<? super T> hostUpdater;
+        private final LogScope logScope;
+        private final SideEffectBuffer buffer;
+
+        private HostsUpdateTask(
+            final List<T> hosts, final int fromIndex, final int toIndex,
+            final ToDoubleFunction<? super T> hostUpdater, final LogScope logScope)
+        {
+            this.hosts = hosts;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.hostUpdater = hostUpdater;
+            this.logScope = logScope;
+            //Captures the logical process of the current thread, if any, to be used by the updating thread
+            this.buffer = new SideEffectBuffer();
+        }
+
+        @Override
+        public Double call() {
+            final LogScope previousScope = Log.setCurrentScope(logScope);
+            try {
+                return buffer.collect(() -> updateHostsProcessing(hosts, fromIndex, toIndex, hostUpdater));
+            } finally {
+                Log.setCurrentScope(previousScope);
+            }
+        }
+
+        /**
+         * Executes the side effects of the Host updates in the current thread
+         * and gets the minimum time returned by the Host updater.
+         *
+         * @param future the Future representing the execution of this task
+         * @return
+         */
+        private double getResult(final Future<Double> future) {
+            buffer.flush();
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
     /**
      * Verifies if some cloudlet inside the hosts of this Datacenter have already finished.
      * If yes, send them to the User/Broker
@@ -865,19 +1109,63 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @post $none
      */
     protected void checkCloudletsCompletionForAllHosts() {
-        List<? extends Host> list = getVmAllocationPolicy().getHostList();
-        list.forEach(this::checkCloudletsCompletionForGivenHost);
+        final Map<DatacenterBroker, List<Cloudlet>> finishedCloudlets = new LinkedHashMap<>();
+        for (final Host host : getVmAllocationPolicy().getHostList()) {
+            collectFinishedCloudlets(host, finishedCloudlets);
+        }
+        returnFinishedCloudlets(finishedCloudlets);
     }
 
     protected void checkCloudletsCompletionForGivenHost(Host host) {
-        host.getVmList().forEach(this::checkCloudletsCompletionForGivenVm);
+        final Map<DatacenterBroker, List<Cloudlet>> finishedCloudlets = new LinkedHashMap<>();
+        collectFinishedCloudlets(host, finishedCloudlets);
+        returnFinishedCloudlets(finishedCloudlets);
     }
 
     public void checkCloudletsCompletionForGivenVm(Vm vm) {
+        final Map<DatacenterBroker, List<Cloudlet>> finishedCloudlets = new LinkedHashMap<>();
+        collectFinishedCloudlets(vm, finishedCloudlets);
+        returnFinishedCloudlets(finishedCloudlets);
+    }
+
+    private void collectFinishedCloudlets(Host host, Map<DatacenterBroker, List<Cloudlet>> finishedCloudlets) {
+        for (final Vm vm : host.getVmList()) {
+            collectFinishedCloudlets(vm, finishedCloudlets);
+        }
+    }
+
+    /**
+     * Removes the finished Cloudlets from a VM, adding them
+     * to the list of finished Cloudlets of their brokers.
+     *
+     * @param vm the VM to get the finished Cloudlets from
+     * @param finishedCloudlets a map where each key is a broker and each value is
+     *                          the list of its Cloudlets that have finished
+     */
+    private void collectFinishedCloudlets(Vm vm, Map<DatacenterBroker, List<Cloudlet>> finishedCloudlets) {
         while (vm.getCloudletScheduler().hasFinishedCloudlets()) {
             Cloudlet cl = vm.getCloudletScheduler().removeNextFinishedCloudlet();
             if (cl != Cloudlet.NULL) {
-                sendNow(cl.getBroker().getId(), CloudSimTags.CLOUDLET_RETURN, cl);
+                finishedCloudlets.computeIfAbsent(cl.getBroker(), broker -> new ArrayList<>()).add(cl);
+            }
+        }
+    }
+
+    /**
+     * Sends the finished Cloudlets back to their brokers, using a single
+     * {@link CloudSimTags#CLOUDLET_RETURN_LIST} event for each broker
+     * that has more than one finished Cloudlet.
+     *
+     * @param finishedCloudlets a map where each key is a broker and each value is
+     *                          the list of its Cloudlets that have finished
+     */
+    private void returnFinishedCloudlets(Map<DatacenterBroker, List<Cloudlet>> finishedCloudlets) {
+        for (final Map.Entry<DatacenterBroker, List<Cloudlet>> entry : finishedCloudlets.entrySet()) {
+            final List<Cloudlet> list = entry.getValue();
+            if (list.size() == 1) {
+                sendNow(entry.getKey().getId(), CloudSimTags.CLOUDLET_RETURN, list.get(0));
+            } else {
+                sendNow(entry.getKey().getId(), CloudSimTags.CLOUDLET_RETURN_LIST, list);
             }
         }
     }
@@ -959,6 +1247,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     @Override
     public void shutdownEntity() {
         Log.printConcatLine(getName(), " is shutting down...");
+        shutdownHostUpdatePool();
+    }
+
+    private void shutdownHostUpdatePool() {
+        if (hostUpdatePool != null) {
+            hostUpdatePool.shutdown();
+            hostUpdatePool = null;
+        }
     }
 
     @Override
@@ -1112,6 +1408,50 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return this;
     }
 
+    /**
+     * Gets the number of threads used to update the processing of Hosts
+     * at each simulation step.
+     *
+     * @return the number of threads, where 1 means Hosts are updated sequentially
+     * @see #setHostUpdateParallelism(int)
+     */
+    public int getHostUpdateParallelism() {
+        return hostUpdateParallelism;
+    }
+
+    /**
+     * Sets the number of threads used to update the processing of Hosts
+     * at each simulation step. By default, Hosts are updated sequentially.
+     * Using {@link Runtime#availableProcessors()} enables
+     * Datacenters with thousands of Hosts to use all CPU cores.
+     *
+     * <p>Hosts are updated in parallel just when there are enough Hosts
+     * to keep the threads busy. The results are the same as the sequential
+     * update, since events sent, listener notifications and log messages
+     * are executed by the simulation thread in the order of the Host list,
+     * after all Hosts are updated.
+     * The only difference is that listeners are notified after
+     * all Hosts are updated, instead of just after the related Host is.
+     * Parallel updates require that Hosts don't share mutable state,
+     * such as a stateful {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModel}
+     * used by Cloudlets running in different Hosts.</p>
+     *
+     * @param parallelism the number of threads to use, which must be at least 1
+     * @return
+     */
+    public DatacenterSimple setHostUpdateParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The Host update parallelism must be at least 1.");
+        }
+
+        if (parallelism != hostUpdateParallelism) {
+            shutdownHostUpdatePool();
+        }
+
+        this.hostUpdateParallelism = parallelism;
+        return this;
+    }
+
     @Override
     public Host getHost(int index) {
         if (index >= 0 && index < getHostList().size()) {
@@ -16,6 +16,8 @@ import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristics;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
 import org.cloudbus.cloudsim.network.switches.AbstractSwitch;
 import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
 import org.cloudbus.cloudsim.network.switches.Switch;
@@ -50,12 +52,24 @@ import static java.util.stream.Collectors.toList;
  *
  */
 public class NetworkDatacenter extends DatacenterSimple {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSwitchMap()
      */
     private final List<Switch> switchMap;
 
+    /**
+     * A routing table where each key is the id of a VM placed into this Datacenter
+     * and each value is the {@link NetworkHost} currently running such a VM.
+     * It is updated when VMs are created, destroyed or migrated,
+     * enabling network packets to be delivered without scanning the VM list of every Host.
+     *
+     * @see #getVmHost(int)
+     * @see #getVmEdgeSwitch(int)
+     */
+    private final Map<Integer, NetworkHost> vmHostRoutingTable;
+
     /**
      * Creates a NetworkDatacenter with the given parameters.
      *
@@ -78,6 +92,7 @@ public class NetworkDatacenter extends DatacenterSimple {
         super(simulation, characteristics, vmAllocationPolicy);
 
         switchMap = new ArrayList<>();
+        vmHostRoutingTable = new HashMap<>();
     }
 
     /**
@@ -132,10 +147,75 @@ public class NetworkDatacenter extends DatacenterSimple {
             return false;
 
         Vm vm = (Vm) ev.getData();
+        updateVmRoute(vm);
         Log.printLine(vm.getId() + " VM is created on " + vm.getHost().getId());
         return true;
     }
 
+    @Override
+    protected void processVmDestroy(SimEvent ev, boolean ack) {
+        super.processVmDestroy(ev, ack);
+        vmHostRoutingTable.remove(((Vm) ev.getData()).getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The VM route is just changed to the destination Host
+     * when the migration finishes. Until there, packets keep being
+     * delivered to the source Host, where the VM is still running.</p>
+     *
+     * @param ev {@inheritDoc}
+     * @param ack {@inheritDoc}
+     */
+    @Override
+    protected void processVmMigrate(SimEvent ev, boolean ack) {
+        super.processVmMigrate(ev, ack);
+        final Vm vm = ((Map.Entry<Vm, Host>) ev.getData()).getKey();
+        if(getVmList().contains(vm) && vm.getHost().getVmList().contains(vm)) {
+            updateVmRoute(vm);
+        } else {
+            vmHostRoutingTable.remove(vm.getId());
+        }
+    }
+
+    /**
+     * Updates the {@link #vmHostRoutingTable routing table} entry of a given VM
+     * to point to the Host where the VM is currently placed.
+     *
+     * @param vm the VM to update its route
+     */
+    private void updateVmRoute(Vm vm) {
+        if(vm.getHost() instanceof NetworkHost) {
+            vmHostRoutingTable.put(vm.getId(), (NetworkHost) vm.getHost());
+        }
+    }
+
+    /**
+     * Gets the {@link NetworkHost} where a given VM is currently running,
+     * according to the Datacenter routing table.
+     *
+     * @param vmId the id of the VM to get its Host
+     * @return the Host where the VM is running or null if there is no VM with such
+     * an id running inside this Datacenter
+     */
+    public NetworkHost getVmHost(int vmId) {
+        return vmHostRoutingTable.get(vmId);
+    }
+
+    /**
+     * Gets the {@link EdgeSwitch} connected to the Host where a given VM is currently running,
+     * according to the Datacenter routing table.
+     *
+     * @param vmId the id of the VM to get the Edge Switch
+     * @return the Edge Switch or null if there is no VM with such
+     * an id running inside this Datacenter
+     */
+    public EdgeSwitch getVmEdgeSwitch(int vmId) {
+        final NetworkHost host = getVmHost(vmId);
+        return host == null ? null : host.getEdgeSwitch();
+    }
+
     /**
      * Adds a {@link AbstractSwitch} to the Datacenter.
      * @param sw the AbstractSwitch to be added
@@ -145,71 +225,28 @@ public class NetworkDatacenter extends DatacenterSimple {
     }
 
     @Override
-    protected void processCloudletSubmit(SimEvent ev, boolean ack) {
-        updateCloudletProcessing();
-
-        try {
-            // gets the Cloudlet object
-            Cloudlet cl = (Cloudlet) ev.getData();
-
-            // checks whether this Cloudlet has finished or not
-            if (cl.isFinished()) {
-                String name = getSimulation().getEntityName(cl.getBroker().getId());
-                Log.printConcatLine(
-                        getName(), ": Warning - Cloudlet #",
-                        cl.getId(), " owned by ", name,
-                        " is already completed/finished.");
-                Log.printLine("Therefore, it is not being executed again\n");
-
-                // NOTE: If a Cloudlet has finished, then it won't be processed.
-                // So, if ack is required, this method sends back a result.
-                // If ack is not required, this method don't send back a result.
-                // Hence, this might cause CloudSim to be hanged since waiting
-                // for this Cloudlet back.
-                if (ack) {
-                    // unique tag = operation tag
-                    int tag = CloudSimTags.CLOUDLET_SUBMIT_ACK;
-                    sendNow(cl.getBroker().getId(), tag, cl);
-                }
-
-                sendNow(cl.getBroker().getId(), CloudSimTags.CLOUDLET_RETURN, cl);
-
-                return;
-            }
-
-            // process this Cloudlet to this Datacenter
-            cl.assignToDatacenter(this);
-
-            // time to transfer the files
-            double fileTransferTime = predictFileTransferTime(cl.getRequiredFiles());
-
-            CloudletScheduler scheduler = cl.getVm().getCloudletScheduler();
-            double estimatedFinishTime = scheduler.cloudletSubmit(cl, fileTransferTime);
-
-            if (estimatedFinishTime > 0.0) { // if this cloudlet is in the exec
-                // time to process the cloudlet
-                estimatedFinishTime += fileTransferTime;
-                send(getId(),
-                    getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                    CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
-
-                // event to update the stages
-                send(getId(), 0.0001, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
-            }
-
-            if (ack) {
-                // unique tag = operation tag
-                sendNow(cl.getBroker().getId(), CloudSimTags.CLOUDLET_SUBMIT_ACK, cl);
-            }
-        } catch (ClassCastException c) {
-            Log.printLine(getName() + ".processCloudletSubmit(): " + "ClassCastException error.");
-            c.printStackTrace();
-        } catch (Exception e) {
-            Log.printLine(getName() + ".processCloudletSubmit(): " + "Exception error.");
-            e.printStackTrace();
+    protected void submitCloudletToVm(Cloudlet cl, boolean ack) {
+        // time to transfer the files
+        double fileTransferTime = predictFileTransferTime(cl.getRequiredFiles());
+
+        CloudletScheduler scheduler = cl.getVm().getCloudletScheduler();
+        double estimatedFinishTime = scheduler.cloudletSubmit(cl, fileTransferTime);
+
+        if (estimatedFinishTime > 0.0) { // if this cloudlet is in the exec
+            // time to process the cloudlet
+            estimatedFinishTime += fileTransferTime;
+            send(getId(),
+                getCloudletProcessingUpdateInterval(estimatedFinishTime),
+                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
+
+            // event to update the stages
+            send(getId(), 0.0001, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
         }
 
-        checkCloudletsCompletionForAllHosts();
+        if (ack) {
+            // unique tag = operation tag
+            sendNow(cl.getBroker().getId(), CloudSimTags.CLOUDLET_SUBMIT_ACK, cl);
+        }
     }
 
     /**
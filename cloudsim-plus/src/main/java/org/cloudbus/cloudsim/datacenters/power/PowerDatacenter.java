@@ -12,10 +12,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristics;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SimulationProfiler;
 import org.cloudbus.cloudsim.hosts.power.PowerHostSimple;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
@@ -45,6 +47,7 @@ import org.cloudbus.cloudsim.resources.FileStorage;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerDatacenter extends DatacenterSimple {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The Datacenter consumed power.
@@ -205,20 +208,21 @@ public class PowerDatacenter extends DatacenterSimple {
         Log.printLine("\n\n--------------------------------------------------------------\n\n");
         Log.printFormattedLine("New resource usage for the time frame starting at %.2f:", currentTime);
 
-        for (PowerHostSimple host : this.<PowerHostSimple>getHostList()) {
+        final SimulationProfiler profiler = getSimulation().getProfiler();
+        minTime = updateHostsProcessing(this.<PowerHostSimple>getHostList(), host -> {
             Log.printLine();
 
+            final long startTime = profiler.start();
             double time = host.updateProcessing(currentTime); // inform VMs to update processing
-            if (time < minTime) {
-                minTime = time;
-            }
+            profiler.stop(SimulationProfiler.HOST_UPDATE, startTime);
 
             Log.printFormattedLine(
                     "%.2f: [Host #%d] utilization is %.2f%%",
                     currentTime,
                     host.getId(),
                     host.getUtilizationOfCpu() * 100);
-        }
+            return time;
+        });
 
         if (timeDiff > 0) {
             Log.printFormattedLine(
@@ -289,8 +293,8 @@ public class PowerDatacenter extends DatacenterSimple {
     }
 
     @Override
-    protected void processCloudletSubmit(SimEvent ev, boolean ack) {
-        super.processCloudletSubmit(ev, ack);
+    protected void submitCloudlet(Cloudlet cl, boolean ack) {
+        super.submitCloudlet(cl, ack);
         setCloudletSubmitted(getSimulation().clock());
     }
 
@@ -14,6 +14,7 @@ import java.util.Map.Entry;
 import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristics;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SimulationProfiler;
 import org.cloudbus.cloudsim.hosts.power.PowerHostSimple;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
@@ -42,6 +43,8 @@ import org.cloudbus.cloudsim.resources.FileStorage;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerDatacenterNonPowerAware extends PowerDatacenter {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a Datacenter.
      *
@@ -128,10 +131,13 @@ public class PowerDatacenterNonPowerAware extends PowerDatacenter {
 
             Log.printLine("\n\n--------------------------------------------------------------\n\n");
 
+            final SimulationProfiler profiler = getSimulation().getProfiler();
             for (PowerHostSimple host : this.<PowerHostSimple>getHostList()) {
                 Log.printFormattedLine("\n%.2f: Host #%d", getSimulation().clock(), host.getId());
 
+                final long startTime = profiler.start();
                 double time = host.updateProcessing(currentTime); // inform VMs to update
+                profiler.stop(SimulationProfiler.HOST_UPDATE, startTime);
                 // processing
                 if (time < minTime) {
                     minTime = time;
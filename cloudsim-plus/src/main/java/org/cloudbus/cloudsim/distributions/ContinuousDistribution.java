@@ -7,6 +7,8 @@
  */
 package org.cloudbus.cloudsim.distributions;
 
+import java.io.Serializable;
+
 /**
  * Interface to be implemented by a pseudo random number generator (PRNG)
  * that follows a defined statistical continuous distribution.
@@ -14,7 +16,8 @@ package org.cloudbus.cloudsim.distributions;
  * @author Marcos Dias de Assuncao
  * @since CloudSim Toolkit 1.0
  */
-public interface ContinuousDistribution {
+@SuppressWarnings("serial")
+public interface ContinuousDistribution extends Serializable {
 
     /**
      * Generate a new pseudo random number.
@@ -24,6 +27,38 @@ public interface ContinuousDistribution {
      */
     double sample();
 
+    /**
+     * Generates many pseudo random numbers at once, storing them into a given array.
+     * It avoids allocating an array at each call when large amounts of numbers are required,
+     * such as by workload generators.
+     *
+     * @param samples the array to store the generated numbers
+     * @param offset the position in the array to store the first number
+     * @param length the number of numbers to generate
+     * @throws IndexOutOfBoundsException when the offset or length are out of the array bounds
+     */
+    default void sample(final double[] samples, final int offset, final int length) {
+        checkBounds(samples, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            samples[i] = sample();
+        }
+    }
+
+    /**
+     * Checks if a region of an array is inside its bounds.
+     *
+     * @param samples the array
+     * @param offset the position of the first element of the region
+     * @param length the number of elements of the region
+     * @throws IndexOutOfBoundsException when the region is out of the array bounds
+     */
+    static void checkBounds(final double[] samples, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > samples.length - length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Offset %d and length %d are out of the bounds of an array of length %d", offset, length, samples.length));
+        }
+    }
+
     /**
      * @return the seed used to initialize the generator
      */
@@ -34,6 +69,7 @@ public interface ContinuousDistribution {
      * objects.
      */
     ContinuousDistribution NULL = new ContinuousDistribution() {
+        private static final long serialVersionUID = 1L;
         @Override public double sample() { return 0.0; }
         @Override public long getSeed() { return 0; }
     };
@@ -18,6 +18,17 @@ import org.apache.commons.math3.distribution.ExponentialDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class ExponentialDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The fast generator used to sample values by inversion of the cumulative distribution function,
+     * or null if values are sampled by the commons-math distribution using its default generator.
+     * @see #ExponentialDistr(long, int, double)
+     */
+    private final XoroshiroRandomGenerator random;
+
+    private final double mean;
+
     /**
      * Creates a new exponential pseudo random number generator.
      *
@@ -26,6 +37,29 @@ public class ExponentialDistr extends ContinuousDistributionAbstract {
      */
     public ExponentialDistr(long seed, double mean) {
         super(new ExponentialDistribution(mean), seed);
+        this.random = null;
+        this.mean = mean;
+    }
+
+    /**
+     * Creates a new exponential pseudo random number generator
+     * which uses a {@link XoroshiroRandomGenerator} for a given stream of a seed,
+     * such as the stream for an experiment replication.
+     * Values are sampled directly by inversion of the cumulative distribution function,
+     * which is faster than the default generator, but produces a different sequence for the same seed.
+     *
+     * @param seed the seed to be used.
+     * @param stream the number of the stream of the seed (starting from 0)
+     * @param mean the mean for the distribution.
+     */
+    public ExponentialDistr(long seed, int stream, double mean) {
+        this(new XoroshiroRandomGenerator(seed, stream), seed, mean);
+    }
+
+    private ExponentialDistr(XoroshiroRandomGenerator random, long seed, double mean) {
+        super(new ExponentialDistribution(random, mean), seed);
+        this.random = random;
+        this.mean = mean;
     }
 
     /**
@@ -36,4 +70,22 @@ public class ExponentialDistr extends ContinuousDistributionAbstract {
     public ExponentialDistr(double mean) {
         this(-1, mean);
     }
+
+    @Override
+    public double sample() {
+        return random == null ? super.sample() : -mean * Math.log(1 - random.nextDouble());
+    }
+
+    @Override
+    public void sample(double[] samples, int offset, int length) {
+        if (random == null) {
+            super.sample(samples, offset, length);
+            return;
+        }
+
+        ContinuousDistribution.checkBounds(samples, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            samples[i] = -mean * Math.log(1 - random.nextDouble());
+        }
+    }
 }
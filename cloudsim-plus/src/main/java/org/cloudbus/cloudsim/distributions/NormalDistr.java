@@ -9,6 +9,59 @@ import org.apache.commons.math3.distribution.NormalDistribution;
  * @author Manoel Campos da Silva Filho
  */
 public class NormalDistr extends ContinuousDistributionAbstract {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of blocks of the ziggurat.
+	 */
+	private static final int ZIGGURAT_BLOCKS = 128;
+
+	/**
+	 * The start of the tail of the ziggurat, that is the right-most x coordinate of the base block.
+	 */
+	private static final double ZIGGURAT_R = 3.442619855899;
+
+	/**
+	 * The area of each block of the ziggurat.
+	 */
+	private static final double ZIGGURAT_V = 9.91256303526217e-3;
+
+	/**
+	 * The right-most x coordinate of each block of the ziggurat.
+	 */
+	private static final double[] ZIGGURAT_X = new double[ZIGGURAT_BLOCKS + 1];
+
+	/**
+	 * The ratio between the x coordinates of consecutive blocks,
+	 * below which a value is inside a block and can be accepted without computing any exponential.
+	 */
+	private static final double[] ZIGGURAT_RATIO = new double[ZIGGURAT_BLOCKS];
+
+	static {
+		double f = Math.exp(-0.5 * ZIGGURAT_R * ZIGGURAT_R);
+		ZIGGURAT_X[0] = ZIGGURAT_V / f;
+		ZIGGURAT_X[1] = ZIGGURAT_R;
+		ZIGGURAT_X[ZIGGURAT_BLOCKS] = 0;
+		for (int i = 2; i < ZIGGURAT_BLOCKS; i++) {
+			ZIGGURAT_X[i] = Math.sqrt(-2 * Math.log(ZIGGURAT_V / ZIGGURAT_X[i - 1] + f));
+			f = Math.exp(-0.5 * ZIGGURAT_X[i] * ZIGGURAT_X[i]);
+		}
+
+		for (int i = 0; i < ZIGGURAT_BLOCKS; i++) {
+			ZIGGURAT_RATIO[i] = ZIGGURAT_X[i + 1] / ZIGGURAT_X[i];
+		}
+	}
+
+	/**
+	 * The fast generator used to sample values by the ziggurat method,
+	 * or null if values are sampled by the commons-math distribution using its default generator.
+	 * @see #NormalDistr(long, int, double, double)
+	 */
+	private final XoroshiroRandomGenerator random;
+
+	private final double mean;
+	private final double standardDeviation;
+
 	/**
 	 * Creates a new normal (Gaussian) pseudo random number generator.
 	 *
@@ -18,6 +71,33 @@ public class NormalDistr extends ContinuousDistributionAbstract {
 	 */
 	public NormalDistr(long seed, double mean, double standardDeviation) {
 		super(new NormalDistribution(mean, standardDeviation), seed);
+		this.random = null;
+		this.mean = mean;
+		this.standardDeviation = standardDeviation;
+	}
+
+	/**
+	 * Creates a new normal (Gaussian) pseudo random number generator
+	 * which uses a {@link XoroshiroRandomGenerator} for a given stream of a seed,
+	 * such as the stream for an experiment replication.
+	 * Values are sampled by the
+	 * <a href="https://www.doornik.com/research/ziggurat.pdf">ziggurat method</a>,
+	 * which is faster than the default generator, but produces a different sequence for the same seed.
+	 *
+	 * @param seed the seed to be used.
+	 * @param stream the number of the stream of the seed (starting from 0)
+	 * @param mean the mean for the distribution.
+	 * @param standardDeviation the standard deviation for the distribution.
+	 */
+	public NormalDistr(long seed, int stream, double mean, double standardDeviation) {
+		this(new XoroshiroRandomGenerator(seed, stream), seed, mean, standardDeviation);
+	}
+
+	private NormalDistr(XoroshiroRandomGenerator random, long seed, double mean, double standardDeviation) {
+		super(new NormalDistribution(random, mean, standardDeviation), seed);
+		this.random = random;
+		this.mean = mean;
+		this.standardDeviation = standardDeviation;
 	}
 
 	/**
@@ -30,4 +110,68 @@ public class NormalDistr extends ContinuousDistributionAbstract {
 		this(-1, mean, standardDeviation);
 	}
 
+	@Override
+	public double sample() {
+		return random == null ? super.sample() : mean + standardDeviation * sampleStandardNormal();
+	}
+
+	@Override
+	public void sample(double[] samples, int offset, int length) {
+		if (random == null) {
+			super.sample(samples, offset, length);
+			return;
+		}
+
+		ContinuousDistribution.checkBounds(samples, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			samples[i] = mean + standardDeviation * sampleStandardNormal();
+		}
+	}
+
+	/**
+	 * Samples a value from the standard normal distribution using the ziggurat method.
+	 * A single random long provides both the block index and the x coordinate,
+	 * which is accepted right away in about 98% of the times.
+	 *
+	 * @return the sampled value
+	 */
+	private double sampleStandardNormal() {
+		while (true) {
+			final long bits = random.nextLong();
+			final int i = (int) (bits >>> 4) & (ZIGGURAT_BLOCKS - 1);
+			final double u = 2 * ((bits >>> 11) * 0x1.0p-53) - 1;
+			if (Math.abs(u) < ZIGGURAT_RATIO[i]) {
+				return u * ZIGGURAT_X[i];
+			}
+
+			if (i == 0) {
+				return sampleTail(u < 0);
+			}
+
+			final double x = u * ZIGGURAT_X[i];
+			final double f0 = Math.exp(-0.5 * (ZIGGURAT_X[i] * ZIGGURAT_X[i] - x * x));
+			final double f1 = Math.exp(-0.5 * (ZIGGURAT_X[i + 1] * ZIGGURAT_X[i + 1] - x * x));
+			if (f1 + random.nextDouble() * (f0 - f1) < 1) {
+				return x;
+			}
+		}
+	}
+
+	/**
+	 * Samples a value from the tail of the standard normal distribution,
+	 * beyond the base block of the ziggurat.
+	 *
+	 * @param negative true to sample from the negative tail, false for the positive one
+	 * @return the sampled value
+	 */
+	private double sampleTail(boolean negative) {
+		double x;
+		double y;
+		do {
+			x = Math.log(1 - random.nextDouble()) / ZIGGURAT_R;
+			y = Math.log(1 - random.nextDouble());
+		} while (-2 * y < x * x);
+
+		return negative ? x - ZIGGURAT_R : ZIGGURAT_R - x;
+	}
 }
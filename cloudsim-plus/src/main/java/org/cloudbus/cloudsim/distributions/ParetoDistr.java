@@ -19,6 +19,7 @@ import org.apache.commons.math3.distribution.ParetoDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class ParetoDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Instantiates a new Pareto pseudo random number generator.
@@ -20,11 +20,23 @@ import org.apache.commons.math3.distribution.UniformRealDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class UniformDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #isApplyAntitheticVariatesTechnique()
      */
     private boolean applyAntitheticVariatesTechnique;
 
+    /**
+     * The fast generator used to sample values directly,
+     * or null if values are sampled by the commons-math distribution using its default generator.
+     * @see #UniformDistr(double, double, long, int)
+     */
+    private final XoroshiroRandomGenerator random;
+
+    private final double min;
+    private final double max;
+
     /**
      * Creates new uniform pseudo random number generator
      * that generates values between [0 and 1[ using the current
@@ -65,11 +77,53 @@ public class UniformDistr extends ContinuousDistributionAbstract {
     public UniformDistr(double min, double max, long seed) {
         super(new UniformRealDistribution(min, max), seed);
         applyAntitheticVariatesTechnique = false;
+        this.random = null;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Creates new uniform pseudo random number generator
+     * which uses a {@link XoroshiroRandomGenerator} for a given stream of a seed,
+     * such as the stream for an experiment replication.
+     * It's faster than the default generator, but produces a different sequence for the same seed.
+     *
+     * @param min minimum value (inclusive)
+     * @param max maximum value (exclusive)
+     * @param seed simulation seed to be used
+     * @param stream the number of the stream of the seed (starting from 0)
+     */
+    public UniformDistr(double min, double max, long seed, int stream) {
+        this(new XoroshiroRandomGenerator(seed, stream), min, max, seed);
+    }
+
+    private UniformDistr(XoroshiroRandomGenerator random, double min, double max, long seed) {
+        super(new UniformRealDistribution(random, min, max), seed);
+        applyAntitheticVariatesTechnique = false;
+        this.random = random;
+        this.min = min;
+        this.max = max;
     }
 
     @Override
     public double sample() {
-        return (applyAntitheticVariatesTechnique ? 1 - super.sample() : super.sample());
+        final double value = random == null ? super.sample() : min + random.nextDouble() * (max - min);
+        return (applyAntitheticVariatesTechnique ? 1 - value : value);
+    }
+
+    @Override
+    public void sample(double[] samples, int offset, int length) {
+        if (random == null) {
+            super.sample(samples, offset, length);
+            return;
+        }
+
+        ContinuousDistribution.checkBounds(samples, offset, length);
+        final double range = max - min;
+        for (int i = offset; i < offset + length; i++) {
+            final double value = min + random.nextDouble() * range;
+            samples[i] = applyAntitheticVariatesTechnique ? 1 - value : value;
+        }
     }
 
     /**
@@ -0,0 +1,204 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.distributions;
+
+import org.apache.commons.math3.random.BitsStreamGenerator;
+
+/**
+ * A fast pseudo random number generator (PRNG) implementing the
+ * <a href="http://xoroshiro.di.unimi.it">xoroshiro128+</a> algorithm,
+ * which has a period of 2<sup>128</sup> - 1 and keeps its state in just two long values.
+ * It can be used by any distribution which accepts a commons-math
+ * {@link org.apache.commons.math3.random.RandomGenerator}, instead of the
+ * default generators that keep hundreds of integers as state.
+ *
+ * <p>A generator can be split into independent streams by {@link #jump() jumping}
+ * 2<sup>64</sup> values ahead, which guarantees that the sequences of different streams don't overlap.
+ * This way, using the same seed with a different stream for each simulation
+ * or experiment replication provides independent and reproducible sequences.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ * @see #XoroshiroRandomGenerator(long, int)
+ */
+public class XoroshiroRandomGenerator extends BitsStreamGenerator {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The increment of the SplitMix64 generator used to initialize the state from a seed.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * The polynomial that advances the generator 2<sup>64</sup> values.
+     */
+    private static final long[] JUMP = {0xdf900294d8f554a5L, 0x170865df4b3201fcL};
+
+    /**
+     * The multiplier which converts the 53 highest bits of a long into a double in the range [0 .. 1[.
+     */
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /**
+     * @see #getStream()
+     */
+    private final int stream;
+
+    private long state0;
+    private long state1;
+
+    /**
+     * Creates a generator using the current time as seed.
+     */
+    public XoroshiroRandomGenerator() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a generator using a given seed.
+     *
+     * @param seed the seed to initialize the generator
+     */
+    public XoroshiroRandomGenerator(final long seed) {
+        this(seed, 0);
+    }
+
+    /**
+     * Creates a generator for a given stream of a seed,
+     * such as the stream for an experiment replication.
+     * The sequences of different streams using the same seed don't overlap.
+     *
+     * @param seed the seed to initialize the generator
+     * @param stream the number of the stream (starting from 0), which is the number of times the generator
+     *               {@link #jump() jumps} after being initialized with the seed
+     */
+    public XoroshiroRandomGenerator(final long seed, final int stream) {
+        super();
+        if (stream < 0) {
+            throw new IllegalArgumentException("The stream number cannot be negative.");
+        }
+
+        this.stream = stream;
+        setSeed(seed);
+    }
+
+    /**
+     * Gets the number of the stream of the seed this generator produces.
+     * @return
+     */
+    public int getStream() {
+        return stream;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The generator is moved to its {@link #getStream() stream} again.
+     * @param seed {@inheritDoc}
+     */
+    @Override
+    public final void setSeed(final long seed) {
+        state0 = mix(seed + GOLDEN_GAMMA);
+        state1 = mix(seed + 2 * GOLDEN_GAMMA);
+        for (int i = 0; i < stream; i++) {
+            jump();
+        }
+
+        clear();
+    }
+
+    @Override
+    public void setSeed(final int seed) {
+        setSeed((long) seed);
+    }
+
+    @Override
+    public void setSeed(final int[] seed) {
+        long value = 0;
+        for (final int i : seed) {
+            value = mix(value + i);
+        }
+
+        setSeed(value);
+    }
+
+    /**
+     * Mixes the bits of a value using the SplitMix64 finalizer,
+     * so that similar seeds produce very different states.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    @Override
+    public long nextLong() {
+        final long s0 = state0;
+        long s1 = state1;
+        final long result = s0 + s1;
+        s1 ^= s0;
+        state0 = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16);
+        state1 = Long.rotateLeft(s1, 37);
+        return result;
+    }
+
+    @Override
+    protected int next(final int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Advances the generator 2<sup>64</sup> values,
+     * which is equivalent to move it to the next stream.
+     */
+    public final void jump() {
+        long s0 = 0;
+        long s1 = 0;
+        for (final long polynomial : JUMP) {
+            for (int bit = 0; bit < 64; bit++) {
+                if ((polynomial & (1L << bit)) != 0) {
+                    s0 ^= state0;
+                    s1 ^= state1;
+                }
+                nextLong();
+            }
+        }
+
+        state0 = s0;
+        state1 = s1;
+    }
+}
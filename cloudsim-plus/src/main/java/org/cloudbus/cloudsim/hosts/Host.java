@@ -381,6 +381,7 @@ public interface Host extends Identificable, Resourceful, Comparable<Host> {
      * objects.
      */
     Host NULL = new Host(){
+        private static final long serialVersionUID = 1L;
         @Override public List<ResourceManageable> getResources() { return Collections.emptyList(); }
         @Override public int compareTo(Host o) { return 0; }
         @Override public void addMigratingInVm(Vm vm) {}
@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
  * @since CloudSim Toolkit 2.0
  */
 public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamicWorkload {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The utilization mips.
@@ -94,13 +95,7 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
         setUtilizationMips(0);
         double hostTotalRequestedMips = 0;
 
-        for (Vm vm : getVmList()) {
-            getVmScheduler().deallocatePesForVm(vm);
-        }
-
-        for (Vm vm : getVmList()) {
-            getVmScheduler().allocatePesForVm(vm, vm.getCurrentRequestedMips());
-        }
+        getVmScheduler().reallocateAll(getVmList());
 
         for (Vm vm : getVmList()) {
             double totalRequestedMips = vm.getCurrentRequestedTotalMips();
@@ -131,10 +126,12 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
             }
 
             if (getVmsMigratingIn().contains(vm)) {
-                Log.printFormattedLine("%.2f: [Host #" + getId() + "] VM #" + vm.getId()
-                        + " is being migrated to Host #" + getId(), getSimulation().clock());
+                if (Log.isEnabled()) {
+                    Log.printFormattedLine("%.2f: [Host #" + getId() + "] VM #" + vm.getId()
+                            + " is being migrated to Host #" + getId(), getSimulation().clock());
+                }
             } else {
-                if (totalAllocatedMips + 0.1 < totalRequestedMips) {
+                if (totalAllocatedMips + 0.1 < totalRequestedMips && Log.isEnabled()) {
                     Log.printFormattedLine("%.2f: [Host #" + getId() + "] Under allocated MIPS for VM #" + vm.getId()
                             + ": %.2f", getSimulation().clock(), totalRequestedMips - totalAllocatedMips);
                 }
@@ -147,9 +144,11 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
                 vm.addStateHistoryEntry(entry);
 
                 if (vm.isInMigration()) {
-                    Log.printFormattedLine(
-                            "%.2f: [Host #" + getId() + "] VM #" + vm.getId() + " is in migration",
-                            getSimulation().clock());
+                    if (Log.isEnabled()) {
+                        Log.printFormattedLine(
+                                "%.2f: [Host #" + getId() + "] VM #" + vm.getId() + " is in migration",
+                                getSimulation().clock());
+                    }
                     totalAllocatedMips /= 0.9; // performance degradation due to migration - 10%
                 }
             }
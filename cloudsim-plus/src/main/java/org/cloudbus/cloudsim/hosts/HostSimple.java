@@ -6,6 +6,7 @@
  */
 package org.cloudbus.cloudsim.hosts;
 
+import org.cloudbus.cloudsim.core.SideEffectBuffer;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
@@ -35,6 +36,7 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class HostSimple implements Host {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getId()
@@ -102,6 +104,13 @@ public class HostSimple implements Host {
     private List<ResourceManageable> resources;
     private List<ResourceProvisioner> provisioners;
 
+    /**
+     * The MIPS share allocated to the VM being currently updated,
+     * reused for every VM in order to avoid creating a new list at each
+     * {@link #updateProcessing(double)} call.
+     */
+    private final MipsShare vmMipsShare = new MipsShare();
+
     /**
      * Creates a Host.
      *
@@ -158,7 +167,7 @@ public class HostSimple implements Host {
     public double updateProcessing(double currentTime) {
         double nextSimulationTime = Double.MAX_VALUE;
         for (Vm vm : getVmList()) {
-            double time = vm.updateProcessing(currentTime, getVmScheduler().getAllocatedMipsForVm(vm));
+            double time = vm.updateProcessing(currentTime, getVmScheduler().getAllocatedMipsForVm(vm, vmMipsShare));
             nextSimulationTime = Math.min(time, nextSimulationTime);
         }
 
@@ -167,8 +176,12 @@ public class HostSimple implements Host {
     }
 
     private void notifyOnUpdateProcessingListeners(double nextSimulationTime) {
+        if (onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
         final HostUpdatesVmsProcessingEventInfo info = HostUpdatesVmsProcessingEventInfo.of(this, nextSimulationTime);
-        onUpdateProcessingListeners.forEach(l -> l.update(info));
+        SideEffectBuffer.run(() -> onUpdateProcessingListeners.forEach(l -> l.update(info)));
     }
 
     @Override
@@ -8,13 +8,16 @@
 
 package org.cloudbus.cloudsim.hosts;
 
+import java.io.Serializable;
+
 /**
  * Stores historic data about a host.
  *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 2.1.2
  */
-public class HostStateHistoryEntry {
+public class HostStateHistoryEntry implements Serializable {
+	private static final long serialVersionUID = 1L;
 
 	/** The time. */
 	private double time;
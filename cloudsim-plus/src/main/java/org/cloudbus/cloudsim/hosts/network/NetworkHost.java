@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.hosts.network;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.hosts.HostSimple;
 import org.cloudbus.cloudsim.network.HostPacket;
@@ -25,7 +26,6 @@ import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.lists.PeList;
-import org.cloudbus.cloudsim.lists.VmList;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 
 /**
@@ -51,6 +51,7 @@ import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
  * @since CloudSim Toolkit 3.0
  */
 public class NetworkHost extends HostSimple {
+    private static final long serialVersionUID = 1L;
 
     private int totalDataTransferBytes = 0;
 
@@ -137,32 +138,41 @@ public class NetworkHost extends HostSimple {
 
     /**
      * Receives packets and forwards them to targeting VMs and respective Cloudlets.
+     * Packets whose destination VM has migrated to another Host while they were
+     * in transit are forwarded to the new Host.
      */
     private void receivePackets() {
         try{
             for (HostPacket hostPkt : hostPacketsReceived) {
-                hostPkt.getVmPacket().setReceiveTime(getSimulation().clock());
+                final VmPacket vmPkt = hostPkt.getVmPacket();
+                vmPkt.setReceiveTime(getSimulation().clock());
 
                 //Checks if the destinationVm is inside this host
-                Vm destinationVm = VmList.getById(getVmList(), hostPkt.getVmPacket().getDestination().getId());
-                if(destinationVm.equals(Vm.NULL)){
+                final Vm destinationVm = vmPkt.getDestination();
+                final NetworkHost destinationHost = getVmRoutedHost(destinationVm);
+                if(destinationHost == null){
                     Log.println(
                         Log.Level.ERROR, getClass(), getSimulation().clock(),
                         "Destination VM %d was not found inside the Host %d",
-                        hostPkt.getVmPacket().getDestination().getId(), getId());
-                    return;
+                        destinationVm.getId(), getId());
+                    continue;
+                }
+
+                if(destinationHost != this){
+                    packetsToSendForExternalVms.add(new HostPacket(this, vmPkt));
+                    continue;
                 }
 
                 PacketScheduler packetScheduler = getVmPacketScheduler(destinationVm);
-                packetScheduler.addPacketToListOfPacketsSentFromVm(hostPkt.getVmPacket());
+                packetScheduler.addPacketToListOfPacketsSentFromVm(vmPkt);
                 Log.println(
                     Log.Level.DEBUG, getClass(), getSimulation().clock(),
                     "Host %d received pkt with %d bytes from Cloudlet %d in VM %d and forwarded it to Cloudlet %d in VM %d",
-                    getId(), hostPkt.getVmPacket().getSize(),
-                    hostPkt.getVmPacket().getSenderCloudlet().getId(),
-                    hostPkt.getVmPacket().getSource().getId(),
-                    hostPkt.getVmPacket().getReceiverCloudlet().getId(),
-                    hostPkt.getVmPacket().getDestination().getId());
+                    getId(), vmPkt.getSize(),
+                    vmPkt.getSenderCloudlet().getId(),
+                    vmPkt.getSource().getId(),
+                    vmPkt.getReceiverCloudlet().getId(),
+                    destinationVm.getId());
             }
 
             hostPacketsReceived.clear();
@@ -172,6 +182,23 @@ public class NetworkHost extends HostSimple {
         }
     }
 
+    /**
+     * Gets the Host where a given VM is currently running.
+     * If this Host belongs to a {@link NetworkDatacenter}, the Datacenter
+     * routing table is used, which is kept updated across VM creation,
+     * destruction and migration.
+     *
+     * @param vm the VM to get its Host
+     * @return the Host where the VM is running or null if it wasn't found
+     */
+    private NetworkHost getVmRoutedHost(Vm vm) {
+        if(getDatacenter() instanceof NetworkDatacenter){
+            return ((NetworkDatacenter)getDatacenter()).getVmHost(vm.getId());
+        }
+
+        return vm.getHost() instanceof NetworkHost ? (NetworkHost)vm.getHost() : null;
+    }
+
     /**
      * Gets all packet lists of all VMs placed into the host and send them all.
      * It checks whether a packet belongs to a local VM or to a VM hosted on other machine.
@@ -286,8 +313,7 @@ public class NetworkHost extends HostSimple {
     private void collectPacketToSendFromVm(VmPacket vmPkt) {
         HostPacket hostPkt = new HostPacket(this, vmPkt);
         //Checks if the VM is inside this Host
-        Vm receiverVm = VmList.getById(this.getVmList(), vmPkt.getDestination().getId());
-        if (receiverVm != Vm.NULL) {
+        if (getVmRoutedHost(vmPkt.getDestination()) == this) {
             packetsToSendForLocalVms.add(hostPkt);
         } else {
             packetsToSendForExternalVms.add(hostPkt);
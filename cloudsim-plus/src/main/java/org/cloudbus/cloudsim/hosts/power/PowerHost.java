@@ -82,6 +82,7 @@ public interface PowerHost extends HostDynamicWorkload {
      * objects.
      */
     PowerHost NULL = new PowerHost() {
+        private static final long serialVersionUID = 1L;
         @Override public List<ResourceManageable> getResources() { return Collections.emptyList(); }
         @Override public int compareTo(Host o) { return 0; }
         @Override public double getEnergyLinearInterpolation(double fromUtilization, double toUtilization, double time) { return 0; }
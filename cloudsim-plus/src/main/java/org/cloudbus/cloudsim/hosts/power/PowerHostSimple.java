@@ -34,6 +34,7 @@ import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerHostSimple extends HostDynamicWorkloadSimple implements PowerHost {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The power model used by the host.
@@ -36,6 +36,8 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerHostUtilizationHistory extends PowerHostSimple {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a PowerHostUtilizationHistory.
      *
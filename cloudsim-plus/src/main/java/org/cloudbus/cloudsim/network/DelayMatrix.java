@@ -12,6 +12,7 @@ import org.cloudbus.cloudsim.network.topologies.TopologicalGraph;
 import org.cloudbus.cloudsim.network.topologies.TopologicalLink;
 
 import java.util.Iterator;
+import java.io.Serializable;
 
 /**
  * This class represents a delay matrix between every pair or nodes
@@ -20,7 +21,8 @@ import java.util.Iterator;
  * @author Thomas Hohnstein
  * @since CloudSim Toolkit 1.0
  */
-public class DelayMatrix {
+public class DelayMatrix implements Serializable {
+	private static final long serialVersionUID = 1L;
 
 	/**
 	 * Matrix holding delay information between any two nodes.
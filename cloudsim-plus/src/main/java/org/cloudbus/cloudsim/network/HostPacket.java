@@ -33,6 +33,7 @@ import org.cloudbus.cloudsim.hosts.network.NetworkHost;
  * @since CloudSim Toolkit 1.0
  */
 public class HostPacket implements NetworkPacket<NetworkHost> {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Information about the virtual sender and receiver entities of the packet
@@ -42,6 +42,8 @@ import java.util.Objects;
  * @since CloudSim Toolkit 1.0
  */
 public class IcmpPacket implements NetworkPacket<SimEntity> {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getTag()
      */
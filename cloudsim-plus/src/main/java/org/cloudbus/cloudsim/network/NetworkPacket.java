@@ -16,6 +16,8 @@ package org.cloudbus.cloudsim.network;
 
 import org.cloudbus.cloudsim.core.Identificable;
 
+import java.io.Serializable;
+
 /**
  * Defines the structure for a network packet.
  *
@@ -27,7 +29,7 @@ import org.cloudbus.cloudsim.core.Identificable;
  *
  * @since CloudSim Toolkit 1.0
  */
-public interface NetworkPacket<T extends Identificable> {
+public interface NetworkPacket<T extends Identificable> extends Serializable {
     /**
      * Gets the size of the packet in bytes.
      *
@@ -34,6 +34,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 1.0
  */
 public class VmPacket implements NetworkPacket<Vm> {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see NetworkPacket#getSource()
@@ -56,10 +57,15 @@ public class VmPacket implements NetworkPacket<Vm> {
     private final Cloudlet receiverCloudlet;
 
     /**
-     * @see #getSize()
+     * @see #getPacketSize()
      */
     private final long size;
 
+    /**
+     * @see #getNumberOfPackets()
+     */
+    private final long numberOfPackets;
+
     /**
      * The time the packet was sent.
      */
@@ -85,10 +91,38 @@ public class VmPacket implements NetworkPacket<Vm> {
         long size,
         Cloudlet senderCloudlet,
         Cloudlet receiverCloudlet) {
+        this(sourceVm, destinationVm, size, 1, senderCloudlet, receiverCloudlet);
+    }
+
+    /**
+     * Creates a packet representing a batch of packets with the same size,
+     * all of them sent at once from a Cloudlet to another one.
+     * It enables bulk transfers to be simulated without creating
+     * one object for each transferred packet.
+     *
+     * @param sourceVm id of the VM sending the packets
+     * @param destinationVm id of the VM that has to receive the packets
+     * @param size data length of each packet in bytes
+     * @param numberOfPackets number of packets in the batch
+     * @param senderCloudlet cloudlet sending the packets
+     * @param receiverCloudlet cloudlet that has to receive the packets
+     */
+    public VmPacket(
+        Vm sourceVm,
+        Vm destinationVm,
+        long size,
+        long numberOfPackets,
+        Cloudlet senderCloudlet,
+        Cloudlet receiverCloudlet) {
         super();
+        if(numberOfPackets <= 0){
+            throw new IllegalArgumentException("The number of packets must be greater than zero.");
+        }
+
         this.sourceVm = sourceVm;
         this.destinationVm = destinationVm;
         this.size = size;
+        this.numberOfPackets = numberOfPackets;
         this.receiverCloudlet = receiverCloudlet;
         this.senderCloudlet = senderCloudlet;
     }
@@ -177,8 +211,36 @@ public class VmPacket implements NetworkPacket<Vm> {
         return receiverCloudlet;
     }
 
+    /**
+     * {@inheritDoc}
+     * If this object represents a batch of packets,
+     * it is the total size of all packets in the batch.
+     *
+     * @return {@inheritDoc}
+     * @see #getPacketSize()
+     * @see #getNumberOfPackets()
+     */
     @Override
     public long getSize() {
+        return size * numberOfPackets;
+    }
+
+    /**
+     * Gets the size of each packet represented by this object (in bytes).
+     * @return
+     */
+    public long getPacketSize() {
         return size;
     }
+
+    /**
+     * Gets the number of packets represented by this object.
+     * It is 1 for regular packets, or the number of packets in the batch
+     * for bulk transfers.
+     *
+     * @return
+     */
+    public long getNumberOfPackets() {
+        return numberOfPackets;
+    }
 }
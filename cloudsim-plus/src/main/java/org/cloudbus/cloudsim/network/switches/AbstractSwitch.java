@@ -23,7 +23,6 @@ import org.cloudbus.cloudsim.hosts.network.NetworkHost;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.*;
 import org.cloudbus.cloudsim.core.predicates.PredicateType;
-import org.cloudbus.cloudsim.lists.VmList;
 
 /**
  * An base class for implementing Network Switch.
@@ -32,6 +31,7 @@ import org.cloudbus.cloudsim.lists.VmList;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Map of packets sent to Datacenter on the uplink, where each key is a switch
@@ -165,12 +165,14 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     }
 
     /**
-     * Gets the Host where a VM is placed.
+     * Gets the Host where a VM is placed, according to
+     * the {@link NetworkDatacenter#getVmHost(int) Datacenter routing table}.
+     *
      * @param vm the VM to get its Host
-     * @return the Host where the VM is placed
+     * @return the Host where the VM is placed or null if the VM isn't running into the Datacenter
      */
     protected NetworkHost getVmHost(Vm vm) {
-        return (NetworkHost)vm.getHost();
+        return getHostOfVm(vm.getId());
     }
 
     /**
@@ -296,20 +298,14 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     }
 
     /**
-     * Gets the host of a given VM.
+     * Gets the host of a given VM, according to
+     * the {@link NetworkDatacenter#getVmHost(int) Datacenter routing table}.
      *
      * @param vmId The id of the VM
-     * @return the host of the VM
+     * @return the host of the VM or null if the VM isn't running into the Datacenter
      */
     protected NetworkHost getHostOfVm(int vmId) {
-        for (NetworkHost host : hostList) {
-            Vm vm = VmList.getById(host.getVmList(), vmId);
-            if (vm != Vm.NULL) {
-                return host;
-            }
-        }
-
-        return null;
+        return datacenter.getVmHost(vmId);
     }
 
     @Override
@@ -441,11 +437,13 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     }
 
     /**
-     * Gets the {@link EdgeSwitch} that the Host where the VM is placed is connected to.
+     * Gets the {@link EdgeSwitch} that the Host where the VM is placed is connected to,
+     * according to the {@link NetworkDatacenter#getVmEdgeSwitch(int) Datacenter routing table}.
+     *
      * @param vm the VM to get the Edge Switch
-     * @return the connected Edge Switch
+     * @return the connected Edge Switch or null if the VM isn't running into the Datacenter
      */
     protected EdgeSwitch getVmEdgeSwitch(Vm vm) {
-        return ((NetworkHost)vm.getHost()).getEdgeSwitch();
+        return datacenter.getVmEdgeSwitch(vm.getId());
     }
 }
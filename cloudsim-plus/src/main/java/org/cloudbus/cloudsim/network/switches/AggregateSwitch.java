@@ -12,6 +12,7 @@ import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.network.HostPacket;
 import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
 /**
@@ -36,6 +37,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 1.0
  */
 public class AggregateSwitch extends AbstractSwitch {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The level (layer) of the switch in the network topology.
      */
@@ -83,6 +86,11 @@ public class AggregateSwitch extends AbstractSwitch {
         // packet is coming from root so need to be sent to edgelevel swich
         // find the id for edgelevel switch
         Switch netSwitch = getVmEdgeSwitch(receiverVm);
+        if (netSwitch == null) {
+            Log.printFormattedLine("%s: No destination switch for packet sent to VM %d", getName(), receiverVm.getId());
+            return;
+        }
+
         addPacketToBeSentToDownlinkSwitch(netSwitch, netPkt);
     }
 
@@ -97,7 +105,7 @@ public class AggregateSwitch extends AbstractSwitch {
         // either root or another edge level swich
         // find the id for edge level switch
         Switch edgeSwitch = getVmEdgeSwitch(receiverVm);
-        if (findConnectedEdgeSwitch(edgeSwitch)) {
+        if (edgeSwitch != null && findConnectedEdgeSwitch(edgeSwitch)) {
             addPacketToBeSentToDownlinkSwitch(edgeSwitch, netPkt);
         } else { // send to up
             Switch sw = getUplinkSwitches().get(0);
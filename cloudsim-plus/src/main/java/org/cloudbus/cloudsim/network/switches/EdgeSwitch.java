@@ -19,6 +19,7 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.hosts.network.NetworkHost;
 import org.cloudbus.cloudsim.network.HostPacket;
 import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
 /**
@@ -43,6 +44,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  *
  */
 public class EdgeSwitch extends AbstractSwitch {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The level (layer) of the switch in the network topology.
      */
@@ -90,6 +93,11 @@ public class EdgeSwitch extends AbstractSwitch {
         Vm receiverVm = netPkt.getVmPacket().getDestination();
         // packet is to be received by host
         NetworkHost host = getVmHost(receiverVm);
+        if (Objects.isNull(host)) {
+            Log.printFormattedLine("%s: Destination VM %d is not running into the Datacenter", getName(), receiverVm.getId());
+            return;
+        }
+
         netPkt.setDestination(host);
         addPacketToBeSentToHost(host, netPkt);
     }
@@ -104,10 +112,10 @@ public class EdgeSwitch extends AbstractSwitch {
         // packet is received from host
         // packet is to be sent to aggregate level or to another host in the same level
         NetworkHost host = getVmHost(receiverVm);
-        hostPkt.setDestination(host);
 
         // packet needs to go to a host which is connected directly to switch
-        if (!Objects.isNull(host)) {
+        if (!Objects.isNull(host) && this.equals(host.getEdgeSwitch())) {
+            hostPkt.setDestination(host);
             addPacketToBeSentToHost(host, hostPkt);
             return;
         }
@@ -40,6 +40,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 3.0
  */
 public class RootSwitch extends AbstractSwitch {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The level (layer) of the switch in the network topology.
      */
@@ -100,6 +102,10 @@ public class RootSwitch extends AbstractSwitch {
      * edge switch or {@link Switch#NULL} if not found.
      */
     private Switch findAggregateSwitchConnectedToGivenEdgeSwitch(Switch edgeSwitch) {
+        if (edgeSwitch == null) {
+            return Switch.NULL;
+        }
+
         for (Switch aggregateSw : getDownlinkSwitches()) {
             for (Switch edgeSw : aggregateSw.getDownlinkSwitches()) {
                 if (edgeSw.getId() == edgeSwitch.getId()) {
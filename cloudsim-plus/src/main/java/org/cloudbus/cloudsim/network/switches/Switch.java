@@ -147,6 +147,7 @@ public interface Switch extends Identificable {
      * objects.
      */
     Switch NULL = new Switch() {
+        private static final long serialVersionUID = 1L;
         private final NetworkDatacenter dc =
             new NetworkDatacenter(Simulation.NULL, DatacenterCharacteristics.NULL, VmAllocationPolicy.NULL);
 
@@ -8,11 +8,14 @@
 package org.cloudbus.cloudsim.network.topologies;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.cloudbus.cloudsim.core.ImmutableDataHolder;
 import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.network.DelayMatrix;
 import org.cloudbus.cloudsim.network.topologies.readers.TopologyReaderBrite;
@@ -35,7 +38,8 @@ import org.cloudbus.cloudsim.network.topologies.readers.TopologyReaderBrite;
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 1.0
  */
-public class BriteNetworkTopology implements NetworkTopology {
+public class BriteNetworkTopology implements NetworkTopology, ImmutableDataHolder {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The BRITE id to use for the next node to be created in the network.
@@ -234,4 +238,15 @@ public class BriteNetworkTopology implements NetworkTopology {
     public TopologicalGraph getTopologycalGraph() {
         return graph;
     }
+
+    /**
+     * {@inheritDoc}
+     * The delay and bandwidth matrices are never changed, but
+     * created again when a link is added.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public List<Object> getImmutableData() {
+        return Arrays.asList(delayMatrix, bwMatrix);
+    }
 }
@@ -7,6 +7,8 @@
  */
 package org.cloudbus.cloudsim.network.topologies;
 
+import java.io.Serializable;
+
 /**
  **
  * Implements a network layer by reading the topology from a file in a specific format
@@ -19,7 +21,7 @@ package org.cloudbus.cloudsim.network.topologies;
  * @see BriteNetworkTopology
  * @since CloudSim Plus 1.0
  */
-public interface NetworkTopology {
+public interface NetworkTopology extends Serializable {
     /**
      * Adds a new link in the network topology. The CloudSim entities that
      * represent the source and destination of the link will be mapped to BRITE
@@ -94,6 +96,7 @@ public interface NetworkTopology {
      * objects.
      */
     NetworkTopology NULL = new NetworkTopology() {
+        private static final long serialVersionUID = 1L;
         private final TopologicalGraph graph = new TopologicalGraph();
 
         @Override public void addLink(int srcId, int destId, double bw, double lat) {}
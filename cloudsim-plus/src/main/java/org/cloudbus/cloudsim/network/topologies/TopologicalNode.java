@@ -8,6 +8,8 @@
 
 package org.cloudbus.cloudsim.network.topologies;
 
+import java.io.Serializable;
+
 /**
  * Represents an topological network node that retrieves its information from a
  * topological-generated file (eg. topology-generator)
@@ -15,7 +17,8 @@ package org.cloudbus.cloudsim.network.topologies;
  * @author Thomas Hohnstein
  * @since CloudSim Toolkit 1.0
  */
-public class TopologicalNode {
+public class TopologicalNode implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The BRITE id of the node inside the network.
@@ -9,6 +9,8 @@ package org.cloudbus.cloudsim.power.models;
 
 import org.cloudbus.cloudsim.hosts.power.PowerHost;
 
+import java.io.Serializable;
+
 /**
  * The PowerModel interface needs to be implemented in order to provide a model
  * of power consumption of hosts, depending on utilization of a critical system
@@ -36,7 +38,7 @@ import org.cloudbus.cloudsim.hosts.power.PowerHost;
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 2.0
  */
-public interface PowerModel {
+public interface PowerModel extends Serializable {
 
     /**
      * A property that implements the Null Object Design Pattern for {@link PowerHost}
@@ -30,6 +30,7 @@ package org.cloudbus.cloudsim.power.models;
  * implementing the PowerModel interface.
  */
 public class PowerModelLinear implements PowerModel {
+	private static final long serialVersionUID = 1L;
 
 	/** The max power that can be consumed. */
 	private double maxPower;
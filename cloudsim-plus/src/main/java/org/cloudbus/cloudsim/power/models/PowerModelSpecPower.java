@@ -26,6 +26,8 @@ package org.cloudbus.cloudsim.power.models;
  * @since CloudSim Toolkit 3.0
  */
 public abstract class PowerModelSpecPower implements PowerModel {
+	private static final long serialVersionUID = 1L;
+
 	@Override
 	public double getPower(double utilization) throws IllegalArgumentException {
 		if (utilization < 0 || utilization > 1) {
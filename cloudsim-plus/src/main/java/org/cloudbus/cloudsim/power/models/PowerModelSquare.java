@@ -25,6 +25,7 @@ package org.cloudbus.cloudsim.power.models;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerModelSquare implements PowerModel {
+	private static final long serialVersionUID = 1L;
 
 	/** The max power that can be consumed. */
 	private double maxPower;
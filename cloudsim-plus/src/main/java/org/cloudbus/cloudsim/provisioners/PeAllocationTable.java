@@ -0,0 +1,352 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.provisioners;
+
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.io.Serializable;
+
+/**
+ * Stores the MIPS allocated from every {@link Pe} of a Host to every VM into a single
+ * {@code long} array, instead of keeping a {@code Map<Vm, Long>} for each PE,
+ * as the {@link PeProvisionerSimple} does.
+ *
+ * <p>Each VM having MIPS allocated from any Host PE gets a small slot index,
+ * which is reused by other VMs after the VM is deallocated from all PEs.
+ * The allocations of each VM are stored contiguously, at the position
+ * {@code slot * numberOfPes + peIndex}, so that the array grows by just appending rows.
+ * Each PE also keeps the list of slots it has entries for, so that releasing all VMs
+ * from a PE doesn't scan all slots.
+ * The slot of the last VM used is cached, since VM schedulers usually
+ * perform a sequence of operations over different PEs for the same VM.</p>
+ *
+ * <p>Creating a table assigns a {@link PeProvisionerIndexed} to every given PE,
+ * which is a {@link PeProvisioner} view over the table.
+ * Therefore, the table must be created before any VM is placed into the Host, as follows:</p>
+ *
+ * <pre>
+ * {@code
+ * List<Pe> peList = ...;
+ * new PeAllocationTable(peList);
+ * Host host = new HostSimple(ram, bw, storage, peList);
+ * }
+ * </pre>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class PeAllocationTable implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The value returned when a PE has no entry for a VM slot.
+     */
+    private static final long NO_ENTRY = -1;
+
+    private final List<PeProvisionerIndexed> provisioners;
+
+    /**
+     * The amount of MIPS allocated to each VM slot from each PE,
+     * at the position {@code slot * numberOfPes + peIndex}.
+     */
+    private long[] allocations;
+
+    /**
+     * The position of each entry into the {@link #peSlots} of its PE or -1 if there is no entry,
+     * stored at the same positions of the {@link #allocations}.
+     */
+    private int[] positions;
+
+    /**
+     * The slots having an entry in each PE, so that all entries of a PE
+     * can be removed without scanning all slots.
+     */
+    private final int[][] peSlots;
+    private final int[] peSlotsCount;
+
+    /**
+     * The total MIPS allocated from each PE.
+     */
+    private final long[] peAllocated;
+
+    /**
+     * The VM using each slot or null if the slot is free.
+     */
+    private Vm[] slotVms;
+
+    /**
+     * The number of PEs having an entry for each VM slot.
+     */
+    private int[] slotEntries;
+
+    /**
+     * The slots that were used and are now free.
+     */
+    private int[] freeSlots;
+    private int freeSlotsCount;
+
+    /**
+     * The number of slots ever used, which are the ones from 0 to this value (exclusive).
+     */
+    private int usedSlots;
+
+    private final Map<Vm, Integer> slots;
+
+    /**
+     * The last VM whose slot was looked up and its slot.
+     */
+    private Vm cachedVm;
+    private int cachedSlot;
+
+    /**
+     * Creates a table for a list of PEs, assigning a {@link PeProvisionerIndexed} to each one.
+     *
+     * @param peList the list of PEs of a Host
+     */
+    public PeAllocationTable(final List<? extends Pe> peList) {
+        this.peAllocated = new long[peList.size()];
+        this.allocations = new long[0];
+        this.positions = new int[0];
+        this.peSlots = new int[peList.size()][];
+        this.peSlotsCount = new int[peList.size()];
+        Arrays.fill(peSlots, new int[0]);
+        this.slotVms = new Vm[0];
+        this.slotEntries = new int[0];
+        this.freeSlots = new int[0];
+        this.slots = new HashMap<>();
+        final List<PeProvisionerIndexed> list = new ArrayList<>(peList.size());
+        for (int i = 0; i < peList.size(); i++) {
+            final PeProvisionerIndexed provisioner = new PeProvisionerIndexed(this, i);
+            list.add(provisioner);
+            peList.get(i).setPeProvisioner(provisioner);
+        }
+
+        this.provisioners = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Gets the provisioners of each PE, in the order of the PE list used to create the table.
+     * @return
+     */
+    public List<PeProvisionerIndexed> getProvisioners() {
+        return provisioners;
+    }
+
+    /**
+     * Gets the number of PEs managed by the table.
+     * @return
+     */
+    public int getNumberOfPes() {
+        return peAllocated.length;
+    }
+
+    /**
+     * Gets the number of VMs that currently have an entry in at least one PE.
+     * @return
+     */
+    public int getNumberOfVms() {
+        return slots.size();
+    }
+
+    /**
+     * Gets the MIPS allocated from a PE to a VM.
+     *
+     * @param vm the VM to get the allocated MIPS
+     * @param pe the index of the PE
+     * @return the allocated MIPS or 0 if the VM has no MIPS allocated from the PE
+     */
+    long get(final Vm vm, final int pe) {
+        final int slot = findSlot(vm);
+        if (slot < 0) {
+            return 0;
+        }
+
+        final int index = slot * peAllocated.length + pe;
+        return positions[index] < 0 ? 0 : allocations[index];
+    }
+
+    /**
+     * Checks if a PE has an entry for a VM, even if the allocated MIPS is zero.
+     *
+     * @param vm the VM to check
+     * @param pe the index of the PE
+     * @return
+     */
+    boolean contains(final Vm vm, final int pe) {
+        final int slot = findSlot(vm);
+        return slot >= 0 && positions[slot * peAllocated.length + pe] >= 0;
+    }
+
+    /**
+     * Sets the MIPS allocated from a PE to a VM, replacing any previous value.
+     *
+     * @param vm the VM to set the allocated MIPS
+     * @param pe the index of the PE
+     * @param mips the MIPS to allocate
+     */
+    void put(final Vm vm, final int pe, final long mips) {
+        final int slot = getOrCreateSlot(vm);
+        final int index = slot * peAllocated.length + pe;
+        if (positions[index] < 0) {
+            if (peSlotsCount[pe] == peSlots[pe].length) {
+                peSlots[pe] = Arrays.copyOf(peSlots[pe], Math.max(4, peSlots[pe].length * 2));
+            }
+
+            positions[index] = peSlotsCount[pe];
+            peSlots[pe][peSlotsCount[pe]++] = slot;
+            slotEntries[slot]++;
+        } else {
+            peAllocated[pe] -= allocations[index];
+        }
+
+        allocations[index] = mips;
+        peAllocated[pe] += mips;
+    }
+
+    /**
+     * Removes the entry of a VM from a PE.
+     *
+     * @param vm the VM to remove
+     * @param pe the index of the PE
+     * @return the MIPS that were allocated to the VM or -1 if the PE had no entry for the VM
+     */
+    long remove(final Vm vm, final int pe) {
+        final int slot = findSlot(vm);
+        return slot < 0 ? NO_ENTRY : remove(slot, pe);
+    }
+
+    private long remove(final int slot, final int pe) {
+        final int index = slot * peAllocated.length + pe;
+        final int position = positions[index];
+        if (position < 0) {
+            return NO_ENTRY;
+        }
+
+        //Moves the last slot of the PE to the position of the removed one
+        final int last = peSlots[pe][--peSlotsCount[pe]];
+        peSlots[pe][position] = last;
+        positions[last * peAllocated.length + pe] = position;
+        positions[index] = -1;
+
+        final long mips = allocations[index];
+        allocations[index] = 0;
+        peAllocated[pe] -= mips;
+        if (--slotEntries[slot] == 0) {
+            freeSlot(slot);
+        }
+
+        return mips;
+    }
+
+    /**
+     * Removes the entries of all VMs from a PE.
+     *
+     * @param pe the index of the PE
+     * @return the total MIPS that were allocated from the PE
+     */
+    long removeAll(final int pe) {
+        long total = 0;
+        while (peSlotsCount[pe] > 0) {
+            total += remove(peSlots[pe][peSlotsCount[pe] - 1], pe);
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets the total MIPS allocated from a PE.
+     *
+     * @param pe the index of the PE
+     * @return
+     */
+    long getTotalAllocated(final int pe) {
+        return peAllocated[pe];
+    }
+
+    private int findSlot(final Vm vm) {
+        if (vm == cachedVm) {
+            return cachedSlot;
+        }
+
+        final Integer slot = slots.get(vm);
+        if (slot == null) {
+            return -1;
+        }
+
+        cachedVm = vm;
+        cachedSlot = slot;
+        return slot;
+    }
+
+    private int getOrCreateSlot(final Vm vm) {
+        final int found = findSlot(vm);
+        if (found >= 0) {
+            return found;
+        }
+
+        final int slot = freeSlotsCount > 0 ? freeSlots[--freeSlotsCount] : usedSlots++;
+        if (slot >= slotVms.length) {
+            grow();
+        }
+
+        slotVms[slot] = vm;
+        slots.put(vm, slot);
+        cachedVm = vm;
+        cachedSlot = slot;
+        return slot;
+    }
+
+    private void freeSlot(final int slot) {
+        slots.remove(slotVms[slot]);
+        if (cachedSlot == slot) {
+            cachedVm = null;
+        }
+
+        slotVms[slot] = null;
+        if (freeSlotsCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(4, freeSlots.length * 2));
+        }
+        freeSlots[freeSlotsCount++] = slot;
+    }
+
+    /**
+     * Doubles the number of slots the table can store.
+     */
+    private void grow() {
+        final int previous = slotVms.length;
+        final int capacity = Math.max(4, previous * 2);
+        slotVms = Arrays.copyOf(slotVms, capacity);
+        slotEntries = Arrays.copyOf(slotEntries, capacity);
+        allocations = Arrays.copyOf(allocations, capacity * peAllocated.length);
+        positions = Arrays.copyOf(positions, capacity * peAllocated.length);
+        Arrays.fill(positions, previous * peAllocated.length, positions.length, -1);
+    }
+}
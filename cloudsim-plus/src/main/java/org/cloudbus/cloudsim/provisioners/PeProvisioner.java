@@ -89,6 +89,7 @@ public interface PeProvisioner extends ResourceProvisioner {
      * PeProvisioner objects.
      */
     PeProvisioner NULL = new PeProvisioner(){
+        private static final long serialVersionUID = 1L;
         @Override public void setPe(Pe pe) {}
         @Override public boolean allocateResourceForVm(Vm vm, long newTotalVmResourceCapacity) { return false; }
         @Override public boolean allocateResourceForVm(Vm vm, double newTotalVmResource) { return false; }
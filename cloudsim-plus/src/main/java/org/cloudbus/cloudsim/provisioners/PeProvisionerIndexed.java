@@ -0,0 +1,160 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.provisioners;
+
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.Objects;
+
+/**
+ * A {@link PeProvisioner} that stores the MIPS allocated to each VM into
+ * a {@link PeAllocationTable} shared by all PEs of a Host,
+ * instead of using a {@code Map<Vm, Long>} for each PE.
+ * It allocates MIPS exactly as the {@link PeProvisionerSimple}.
+ *
+ * <p>Instances are created by the {@link PeAllocationTable} constructor.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class PeProvisionerIndexed implements PeProvisioner {
+    private static final long serialVersionUID = 1L;
+
+    private final PeAllocationTable table;
+
+    /**
+     * The index of the PE into the {@link #table}.
+     */
+    private final int index;
+
+    private Pe pe;
+
+    /**
+     * Creates a provisioner for a PE, which is assigned when it's set to the PE.
+     *
+     * @param table the table storing the allocations of all PEs of the Host
+     * @param index the index of the PE into the table
+     */
+    PeProvisionerIndexed(final PeAllocationTable table, final int index) {
+        this.table = table;
+        this.index = index;
+        this.pe = Pe.NULL;
+    }
+
+    @Override
+    public void setPe(Pe pe) {
+        Objects.requireNonNull(pe);
+        this.pe = pe;
+    }
+
+    @Override
+    public boolean allocateResourceForVm(Vm vm, long mipsCapacity) {
+        Objects.requireNonNull(vm);
+        if (!isSuitableForVm(vm, mipsCapacity)) {
+            return false;
+        }
+
+        final long previous = table.remove(vm, index);
+        if (previous > 0) {
+            pe.deallocateResource(previous);
+        }
+
+        pe.allocateResource(mipsCapacity);
+        table.put(vm, index, mipsCapacity);
+        return true;
+    }
+
+    @Override
+    public boolean allocateResourceForVm(Vm vm, double newTotalVmResource) {
+        return allocateResourceForVm(vm, (long) newTotalVmResource);
+    }
+
+    @Override
+    public long getAllocatedResourceForVm(Vm vm) {
+        return table.get(vm, index);
+    }
+
+    @Override
+    public boolean deallocateResourceForVm(Vm vm) {
+        final long mips = table.remove(vm, index);
+        if (mips > 0) {
+            pe.deallocateResource(mips);
+        }
+
+        return mips > 0;
+    }
+
+    @Override
+    public void deallocateResourceForAllVms() {
+        final long mips = table.removeAll(index);
+        if (mips > 0) {
+            pe.deallocateResource(mips);
+        }
+    }
+
+    @Override
+    public long getTotalAllocatedResource() {
+        return table.getTotalAllocated(index);
+    }
+
+    @Override
+    public double getUtilization() {
+        return getTotalAllocatedResource() / (double) getCapacity();
+    }
+
+    @Override
+    public boolean isSuitableForVm(Vm vm, long newVmTotalAllocatedResource) {
+        final long currentAllocatedResource = getAllocatedResourceForVm(vm);
+        if (newVmTotalAllocatedResource <= currentAllocatedResource) {
+            return true;
+        }
+
+        return getAvailableResource() >= newVmTotalAllocatedResource - currentAllocatedResource;
+    }
+
+    @Override
+    public ResourceManageable getResource() {
+        return pe;
+    }
+
+    @Override
+    public long getCapacity() {
+        return pe.getCapacity();
+    }
+
+    @Override
+    public long getAvailableResource() {
+        return pe.getAvailableResource();
+    }
+
+    /**
+     * Gets the index of the PE into the {@link PeAllocationTable}.
+     * @return
+     */
+    public int getIndex() {
+        return index;
+    }
+}
@@ -28,6 +28,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 2.0
  */
 public class PeProvisionerSimple extends ResourceProvisionerSimple implements PeProvisioner {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Instantiates a new PeProvisionerSimple that the {@link Pe} it will manage will be set
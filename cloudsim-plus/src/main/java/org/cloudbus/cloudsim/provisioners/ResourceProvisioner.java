@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+
 /**
  * An interface that represents the provisioning policy used by a {@link Host}
  * to allocate a given physical resource to {@link Vm}s inside it.
@@ -24,7 +26,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface ResourceProvisioner {
+@SuppressWarnings("serial")
+public interface ResourceProvisioner extends Serializable {
     /**
      * Allocates an amount of the physical resource for a given VM, changing the current capacity
      * of the virtual resource to the given amount.
@@ -135,6 +138,7 @@ public interface ResourceProvisioner {
      * ResourceProvisioner objects.
      */
     ResourceProvisioner NULL = new ResourceProvisioner(){
+        private static final long serialVersionUID = 1L;
         @Override public boolean allocateResourceForVm(Vm vm, long newTotalVmResourceCapacity) { return false; }
         @Override public long getAllocatedResourceForVm(Vm vm) { return 0; }
         @Override public long getTotalAllocatedResource() { return 0; }
@@ -26,6 +26,8 @@ import org.cloudbus.cloudsim.resources.ResourceManageable;
  * @since 3.0.4
  */
 public abstract class ResourceProvisionerAbstract implements ResourceProvisioner {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getResource()
      */
@@ -27,6 +27,8 @@ import java.util.Objects;
  * @since 3.0.4
  */
 public class ResourceProvisionerSimple extends ResourceProvisionerAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new ResourceProvisionerSimple.
      *
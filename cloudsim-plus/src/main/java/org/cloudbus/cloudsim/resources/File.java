@@ -11,6 +11,7 @@ package org.cloudbus.cloudsim.resources;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
 import java.util.Objects;
+import java.io.Serializable;
 
 /**
  * A class for representing a physical file in a DataCloud environment
@@ -19,7 +20,9 @@ import java.util.Objects;
  * @author Anthony Sulistio
  * @since CloudSim Toolkit 1.0
  */
-public class File {
+public class File implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /** Denotes that this file has not been registered to a Replica Catalogue. */
     public static final int NOT_REGISTERED = -1;
 
@@ -13,6 +13,7 @@ import java.util.Objects;
 
 import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.util.DataCloudTags;
+import java.io.Serializable;
 
 
 /**
@@ -23,7 +24,8 @@ import org.cloudbus.cloudsim.util.DataCloudTags;
  * @author Anthony Sulistio
  * @since CloudSim Toolkit 1.0
  */
-public class FileAttribute {
+public class FileAttribute implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Owner name of this file.
@@ -32,6 +32,8 @@ import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class HarddriveStorage implements FileStorage {
+    private static final long serialVersionUID = 1L;
+
     /** The internal storage that just manages
      * the HD capacity and used space.
      * The {@link HarddriveStorage} (HD) does not extends such class
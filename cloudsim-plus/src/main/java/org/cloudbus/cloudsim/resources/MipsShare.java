@@ -0,0 +1,314 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.resources;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.io.Serializable;
+
+/**
+ * The MIPS capacity of each {@link Pe} requested by or allocated to a VM,
+ * stored into a primitive {@code double} array instead of a {@code List<Double>}.
+ *
+ * <p>An instance is meant to be reused: the {@code set} methods
+ * change its content, only allocating a new array when the current one is too small.
+ * Therefore, objects receiving a MipsShare to process must copy its values
+ * if they need to keep them, instead of storing the given instance.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class MipsShare implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private double[] values;
+
+    /** @see #size() */
+    private int size;
+
+    /**
+     * A read-only {@link List} view of this MipsShare.
+     * @see #asList()
+     */
+    private transient List<Double> listView;
+
+    /**
+     * Creates an empty MipsShare.
+     */
+    public MipsShare() {
+        this.values = new double[0];
+    }
+
+    /**
+     * Creates a MipsShare with the values of a MIPS list.
+     *
+     * @param mipsList the MIPS capacity of each PE
+     */
+    public MipsShare(final List<Double> mipsList) {
+        this();
+        set(mipsList);
+    }
+
+    /**
+     * Creates a MipsShare with given values.
+     *
+     * @param mips the MIPS capacity of each PE
+     */
+    public MipsShare(final double... mips) {
+        this.values = mips.clone();
+        this.size = mips.length;
+    }
+
+    /**
+     * Gets the number of PEs.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if there is no PE.
+     * @return
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the MIPS capacity of a PE.
+     *
+     * @param index the index of the PE
+     * @return the PE MIPS capacity
+     * @throws IndexOutOfBoundsException when the index is not between 0 and {@link #size()} (exclusive)
+     */
+    public double get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return values[index];
+    }
+
+    /**
+     * Changes the MIPS capacity of a PE.
+     *
+     * @param index the index of the PE
+     * @param mips the new PE MIPS capacity
+     * @return
+     * @throws IndexOutOfBoundsException when the index is not between 0 and {@link #size()} (exclusive)
+     */
+    public MipsShare set(final int index, final double mips) {
+        get(index);
+        values[index] = mips;
+        return this;
+    }
+
+    /**
+     * Replaces the content of this MipsShare by a number of PEs with the same MIPS capacity.
+     *
+     * @param pes the number of PEs
+     * @param mips the MIPS capacity of each PE
+     * @return
+     */
+    public MipsShare setAll(final int pes, final double mips) {
+        resize(pes);
+        Arrays.fill(values, 0, pes, mips);
+        return this;
+    }
+
+    /**
+     * Replaces the content of this MipsShare by the values of a MIPS list.
+     *
+     * @param mipsList the MIPS capacity of each PE
+     * @return
+     */
+    public MipsShare set(final List<Double> mipsList) {
+        Objects.requireNonNull(mipsList);
+        final int newSize = mipsList.size();
+        ensureCapacity(newSize);
+        for (int i = 0; i < newSize; i++) {
+            values[i] = mipsList.get(i);
+        }
+
+        size = newSize;
+        return this;
+    }
+
+    /**
+     * Replaces the content of this MipsShare by the values of another one.
+     *
+     * @param mipsShare the MipsShare to copy the values from
+     * @return
+     */
+    public MipsShare set(final MipsShare mipsShare) {
+        Objects.requireNonNull(mipsShare);
+        if (mipsShare != this) {
+            resize(mipsShare.size);
+            System.arraycopy(mipsShare.values, 0, values, 0, size);
+        }
+
+        return this;
+    }
+
+    private void resize(final int newSize) {
+        if (newSize < 0) {
+            throw new IllegalArgumentException("The number of PEs cannot be negative.");
+        }
+
+        ensureCapacity(newSize);
+        size = newSize;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    /**
+     * Gets the sum of the MIPS capacity of all PEs.
+     * @return
+     */
+    public double getTotal() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets the maximum MIPS capacity among all PEs.
+     * @return the maximum MIPS or 0 if there is no PE
+     */
+    public double getMax() {
+        if (size == 0) {
+            return 0;
+        }
+
+        double max = values[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+
+        return max;
+    }
+
+    /**
+     * Gets a new array with the MIPS capacity of each PE.
+     * @return
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Gets a new mutable {@link List} with the MIPS capacity of each PE.
+     * @return
+     */
+    public List<Double> toList() {
+        final List<Double> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+
+        return list;
+    }
+
+    /**
+     * Gets a read-only {@link List} view of this MipsShare,
+     * which reflects any later change in its content.
+     * It's intended to be used where a {@code List<Double>} is expected,
+     * without copying the values.
+     *
+     * @return
+     */
+    public List<Double> asList() {
+        if (listView == null) {
+            listView = new ListView();
+        }
+
+        return listView;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MipsShare)) {
+            return false;
+        }
+
+        final MipsShare that = (MipsShare) other;
+        if (size != that.size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(values[i], that.values[i]) != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            final long bits = Double.doubleToLongBits(values[i]);
+            result = 31 * result + (int) (bits ^ (bits >>> 32));
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    /**
+     * A read-only {@link List} view of the enclosing MipsShare.
+     */
+    private final class ListView extends AbstractList<Double> implements RandomAccess {
+        @Override
+        public Double get(final int index) {
+            return MipsShare.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
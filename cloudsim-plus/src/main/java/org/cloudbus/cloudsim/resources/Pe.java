@@ -129,6 +129,7 @@ public interface Pe extends Identificable, ResourceManageable {
      * objects.
      */
     Pe NULL = new Pe(){
+        private static final long serialVersionUID = 1L;
         @Override public long getAvailableResource() { return 0; }
         @Override public long getAllocatedResource() { return 0; }
         @Override public boolean isResourceAmountAvailable(long amountToCheck) { return false; }
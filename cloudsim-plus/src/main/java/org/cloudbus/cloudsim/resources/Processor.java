@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
@@ -40,6 +39,8 @@ import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
  * @since CloudSim Plus 1.0
  */
 public class Processor implements ResourceCapacity {
+    private static final long serialVersionUID = 1L;
+
     private long capacity;
 
     /** @see #getNumberOfPes() */
@@ -84,21 +85,45 @@ public class Processor implements ResourceCapacity {
             throw new IllegalArgumentException("The mipsList cannot be null.");
         }
 
-        mipsList = getNonZeroMipsElements(mipsList);
+        return fromMipsShare(new MipsShare(mipsList), cloudletExecList);
+    }
+
+    /**
+     * Instantiates a new Processor from a given {@link MipsShare},
+     * ignoring all elements having zero capacity.
+     *
+     * @param mipsShare the capacity of each {@link Pe Processing Elements (cores)},
+     * where all elements have the same capacity
+     * @param cloudletExecList list of cloudlets currently executing in this processor.
+     *
+     * @return the new processor
+     */
+    public static Processor fromMipsShare(MipsShare mipsShare,
+                                          List<CloudletExecutionInfo> cloudletExecList) {
+        if(Objects.isNull(mipsShare)){
+            throw new IllegalArgumentException("The mipsShare cannot be null.");
+        }
 
         double peMips = 0;
-        if(!mipsList.isEmpty()){
-            peMips = mipsList.get(0);
+        int numberOfPes = 0;
+        for (int i = 0; i < mipsShare.size(); i++) {
+            final double mips = mipsShare.get(i);
+            if(mips <= 0){
+                continue;
+            }
 
-            if(mipsList.stream().distinct().count() > 1){
+            if(numberOfPes == 0){
+                peMips = mips;
+            } else if(Double.compare(mips, peMips) != 0){
                 throw new IllegalArgumentException(
                     String.format(
                         "mipsShare list doesn't have all elements with %.2f MIPS",
                         peMips));
             }
+            numberOfPes++;
         }
 
-        Processor p = new Processor(peMips, mipsList.size());
+        Processor p = new Processor(peMips, numberOfPes);
         p.cloudletExecList = cloudletExecList;
         return p;
     }
@@ -117,10 +142,6 @@ public class Processor implements ResourceCapacity {
         return Processor.fromMipsList(mipsList, Collections.EMPTY_LIST);
     }
 
-    private static List<Double> getNonZeroMipsElements(List<Double> mipsList) {
-        return mipsList.stream().filter(mips -> mips > 0).collect(Collectors.toList());
-    }
-
     /**
      * Gets the total MIPS capacity of the Processor,
      * that is the sum of all its {@link Pe Processing Elements (cores)} capacity.
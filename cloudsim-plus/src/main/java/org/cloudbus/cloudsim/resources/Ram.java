@@ -31,6 +31,8 @@ package org.cloudbus.cloudsim.resources;
  * @since CloudSim Plus 1.0
  */
 public final class Ram extends ResourceManageableAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new RAM resource.
      * @param capacity the RAM capacity in Megabytes
@@ -19,6 +19,7 @@ package org.cloudbus.cloudsim.resources;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
+@SuppressWarnings("serial")
 public interface Resource extends ResourceCapacity {
     /**
      * Checks if a given object is instance of a given class.
@@ -116,6 +117,7 @@ public interface Resource extends ResourceCapacity {
      * objects.
      */
     Resource NULL = new Resource() {
+        private static final long serialVersionUID = 1L;
         @Override public long getAvailableResource() { return 0; }
         @Override public long getAllocatedResource() { return 0; }
         @Override public boolean isResourceAmountAvailable(long amountToCheck) { return false; }
@@ -23,13 +23,15 @@
  */
 package org.cloudbus.cloudsim.resources;
 
+import java.io.Serializable;
+
 /**
  * An interface to allow getting the capacity of a given resource.
  *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface ResourceCapacity  {
+public interface ResourceCapacity extends Serializable {
     /**
      * Gets the total capacity of the resource.
      *
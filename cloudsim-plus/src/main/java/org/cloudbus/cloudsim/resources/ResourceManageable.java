@@ -16,6 +16,7 @@ package org.cloudbus.cloudsim.resources;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
+@SuppressWarnings("serial")
 public interface ResourceManageable extends Resource {
 
     /**
@@ -141,6 +142,7 @@ public interface ResourceManageable extends Resource {
      * ResourceManageable&lt;long&gt; objects.
      */
     ResourceManageable NULL = new ResourceManageable() {
+        private static final long serialVersionUID = 1L;
         @Override public boolean setCapacity(long newCapacity) {
             return false;
         }
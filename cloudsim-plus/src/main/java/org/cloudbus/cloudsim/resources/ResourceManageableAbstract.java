@@ -23,6 +23,8 @@ package org.cloudbus.cloudsim.resources;
  * @since CloudSim Plus 1.0
  */
 public abstract class ResourceManageableAbstract implements ResourceManageable {
+    private static final long serialVersionUID = 1L;
+
     /** @see #getCapacity() */
     private long capacity;
 
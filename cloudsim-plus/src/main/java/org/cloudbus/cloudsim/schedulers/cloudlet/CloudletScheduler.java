@@ -18,6 +18,7 @@ import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.resources.MipsShare;
 import org.cloudbus.cloudsim.resources.Pe;
 
 /**
@@ -149,6 +150,16 @@ public interface CloudletScheduler extends Serializable {
      */
     List<Double> getCurrentRequestedMips();
 
+    /**
+     * Gets the current requested MIPS as a {@link MipsShare},
+     * avoiding the creation of a {@code List<Double>}.
+     * The returned object belongs to the scheduler and must not be changed.
+     *
+     * @return the current requested MIPS
+     * @see #getCurrentRequestedMips()
+     */
+    MipsShare getCurrentRequestedMipsShare();
+
     /**
      /**
      * Gets the current utilization percentage of Bandwidth that the running Cloudlets are requesting (in scale from 0 to 1).
@@ -305,6 +316,22 @@ public interface CloudletScheduler extends Serializable {
      */
     double updateVmProcessing(double currentTime, List<Double> mipsShare);
 
+    /**
+     * Updates the processing of cloudlets inside the Vm running under management of this scheduler,
+     * receiving the MIPS share of each Pe as a {@link MipsShare}.
+     * The scheduler copies the given values, so the caller can
+     * reuse the same MipsShare object in subsequent calls.
+     *
+     * @param currentTime current simulation time
+     * @param mipsShare MIPS share of each Pe available to the scheduler
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (that is a future simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @pre currentTime >= 0
+     * @post $none
+     */
+    double updateVmProcessing(double currentTime, MipsShare mipsShare);
+
     /**
      * Gets the Vm that uses the scheduler.
      * @return
@@ -366,6 +393,7 @@ public interface CloudletScheduler extends Serializable {
      * objects.
      */
     CloudletScheduler NULL = new CloudletScheduler() {
+        private static final long serialVersionUID = 1L;
         @Override public Cloudlet cloudletCancel(int cloudletId) { return Cloudlet.NULL; }
         @Override public void cloudletFinish(CloudletExecutionInfo rcl) {}
         @Override public boolean cloudletPause(int cloudletId) { return false; }
@@ -376,6 +404,7 @@ public interface CloudletScheduler extends Serializable {
         @Override public int getCloudletStatus(int cloudletId) { return 0; }
         @Override public List<Double> getCurrentMipsShare() { return Collections.emptyList(); }
         @Override public List<Double> getCurrentRequestedMips() { return Collections.emptyList(); }
+        @Override public MipsShare getCurrentRequestedMipsShare() { return new MipsShare(); }
         @Override public double getCurrentRequestedBwPercentUtilization() { return 0.0; }
         @Override public double getCurrentRequestedRamPercentUtilization() { return 0.0; }
         @Override public Cloudlet removeNextFinishedCloudlet() { return Cloudlet.NULL; }
@@ -391,6 +420,7 @@ public interface CloudletScheduler extends Serializable {
         @Override public Cloudlet getCloudletToMigrate() { return Cloudlet.NULL; }
         @Override public int runningCloudletsNumber() { return 0; }
         @Override public double updateVmProcessing(double currentTime, List<Double> mipsShare) { return 0.0; }
+        @Override public double updateVmProcessing(double currentTime, MipsShare mipsShare) { return 0.0; }
         @Override public Vm getVm() { return Vm.NULL; }
         @Override public void setVm(Vm vm) {}
         @Override public int getUsedPes() { return 0; }
@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet.Status;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.resources.MipsShare;
 import org.cloudbus.cloudsim.resources.Ram;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketScheduler;
@@ -40,6 +41,8 @@ import org.cloudbus.cloudsim.resources.Processor;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getCloudletPausedList()
      */
@@ -71,7 +74,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     /**
      * @see #getCurrentMipsShare()
      */
-    private List<Double> currentMipsShare;
+    private final MipsShare currentMipsShare;
     /**
      * @see #getCloudletExecList()
      */
@@ -86,6 +89,19 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private Vm vm;
 
+    /**
+     * The utilization models of the running Cloudlets for a given resource,
+     * reused to get their utilization in a single batch.
+     * @see #getCurrentRequestedAbsoluteUtilization(Function, double)
+     */
+    private final List<UtilizationModel> utilizationModels;
+
+    /**
+     * The utilization of each model in {@link #utilizationModels},
+     * reused to avoid creating an array every time the utilization is requested.
+     */
+    private double[] utilization;
+
     /**
      * Creates a new CloudletScheduler object. A CloudletScheduler must be
      * created before starting the actual simulation.
@@ -103,8 +119,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cloudletFinishedList = new ArrayList<>();
         cloudletFailedList = new ArrayList<>();
         cloudletWaitingList = new ArrayList<>();
-        currentMipsShare = new ArrayList<>();
+        currentMipsShare = new MipsShare();
         packetScheduler = PacketScheduler.NULL;
+        utilizationModels = new ArrayList<>();
+        utilization = new double[0];
     }
 
     @Override
@@ -122,8 +140,20 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         this.previousTime = previousTime;
     }
 
+    /**
+     * {@inheritDoc}
+     * The returned list is a read-only view of the values stored
+     * into the scheduler.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public List<Double> getCurrentMipsShare() {
+        return currentMipsShare.asList();
+    }
+
+    @Override
+    public MipsShare getCurrentRequestedMipsShare() {
         return currentMipsShare;
     }
 
@@ -135,8 +165,19 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @see #getCurrentMipsShare()
      */
     protected void setCurrentMipsShare(List<Double> currentMipsShare) {
-        this.currentMipsShare = currentMipsShare;
-        processor = Processor.fromMipsList(currentMipsShare, getCloudletExecList());
+        setCurrentMipsShare(new MipsShare(currentMipsShare));
+    }
+
+    /**
+     * Sets the current mips share available for the VM using the
+     * scheduler, copying the values from the given object.
+     *
+     * @param currentMipsShare the new current mips share
+     * @see #getCurrentMipsShare()
+     */
+    protected void setCurrentMipsShare(MipsShare currentMipsShare) {
+        this.currentMipsShare.set(currentMipsShare);
+        processor = Processor.fromMipsShare(this.currentMipsShare, getCloudletExecList());
     }
 
     @Override
@@ -439,7 +480,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     }
 
     @Override
-    public double updateVmProcessing(double currentTime, List<Double> mipsShare) {
+    public final double updateVmProcessing(double currentTime, List<Double> mipsShare) {
+        return updateVmProcessing(currentTime, new MipsShare(mipsShare));
+    }
+
+    @Override
+    public double updateVmProcessing(double currentTime, MipsShare mipsShare) {
         setCurrentMipsShare(mipsShare);
 
         // no more cloudlets in this scheduler
@@ -709,7 +755,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * <p>
      * <p>
      * This method is called internally by the
-     * {@link CloudletScheduler#updateVmProcessing(double, List)} one.</p>
+     * {@link CloudletScheduler#updateVmProcessing(double, MipsShare)} one.</p>
      *
      * @pre currentTime >= 0
      * @post $none
@@ -761,7 +807,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * represent the last CPU capacity assigned to the scheduler.
      *
      * @return
-     * @see CloudletScheduler#updateVmProcessing(double, List)
+     * @see CloudletScheduler#updateVmProcessing(double, MipsShare)
      */
     protected Processor getProcessor() {
         return processor;
@@ -887,33 +933,43 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public double getCurrentRequestedBwPercentUtilization() {
-        return getCloudletExecList().stream()
-            .map(CloudletExecutionInfo::getCloudlet)
-            .map(Cloudlet::getUtilizationModelBw)
-            .mapToDouble(um -> getAbsoluteCloudletResourceUtilization(um, vm.getBw().getCapacity()))
-            .sum() / vm.getBw().getCapacity();
+        final double capacity = vm.getBw().getCapacity();
+        return getCurrentRequestedAbsoluteUtilization(Cloudlet::getUtilizationModelBw, capacity) / capacity;
     }
 
     @Override
     public double getCurrentRequestedRamPercentUtilization() {
-        return getCloudletExecList().stream()
-            .map(CloudletExecutionInfo::getCloudlet)
-            .map(Cloudlet::getUtilizationModelRam)
-            .mapToDouble(um -> getAbsoluteCloudletResourceUtilization(um, vm.getRam().getCapacity()))
-            .sum() / vm.getRam().getCapacity();
+        final double capacity = vm.getRam().getCapacity();
+        return getCurrentRequestedAbsoluteUtilization(Cloudlet::getUtilizationModelRam, capacity) / capacity;
     }
 
     /**
-     * Computes the absolute amount of a resource used by a given Cloudlet
-     * for the current simulation time, based on the maximum amount of resource that the Cloudlet can use
-     * this time.
+     * Computes the absolute amount of a resource used by all running Cloudlets
+     * for the current simulation time, getting the utilization of their
+     * {@link UtilizationModel}s in a single batch.
      *
-     * @param um                      the {@link UtilizationModel} to get the absolute amount of resource used by the Cloudlet
-     * @param maxResourceAllowedToUse the maximum absolute resource that the Cloudlet will be allowed to use
-     * @return the absolute amount of resource that the Cloudlet will use
+     * @param modelGetter             a function that gets the {@link UtilizationModel} of a Cloudlet for the resource
+     * @param maxResourceAllowedToUse the maximum absolute resource that each Cloudlet will be allowed to use
+     * @return the absolute amount of resource that the Cloudlets will use
+     * @see UtilizationModel#getUtilization(List, double, double[])
      */
-    private double getAbsoluteCloudletResourceUtilization(UtilizationModel um, double maxResourceAllowedToUse) {
-        return getAbsoluteCloudletResourceUtilization(um, vm.getSimulation().clock(), maxResourceAllowedToUse);
+    private double getCurrentRequestedAbsoluteUtilization(
+        final Function<Cloudlet, UtilizationModel> modelGetter, final double maxResourceAllowedToUse)
+    {
+        for (final CloudletExecutionInfo rcl : cloudletExecList) {
+            utilizationModels.add(modelGetter.apply(rcl.getCloudlet()));
+        }
+
+        utilization = UtilizationModel.getUtilization(utilizationModels, vm.getSimulation().clock(), utilization);
+        double total = 0;
+        for (int i = 0; i < utilizationModels.size(); i++) {
+            total += utilizationModels.get(i).getUnit() == Unit.ABSOLUTE ?
+                Math.min(utilization[i], maxResourceAllowedToUse) :
+                utilization[i] * maxResourceAllowedToUse;
+        }
+
+        utilizationModels.clear();
+        return total;
     }
 
     /**
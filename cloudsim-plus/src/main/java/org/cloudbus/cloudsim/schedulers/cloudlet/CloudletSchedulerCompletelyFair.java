@@ -28,6 +28,7 @@ import java.util.*;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.resources.MipsShare;
 import org.cloudbus.cloudsim.resources.Pe;
 
 import java.util.function.Predicate;
@@ -116,6 +117,8 @@ import static java.util.stream.Collectors.toList;
  * @see <a href="https://oakbytes.wordpress.com/linux-scheduler/">Linux Scheduler FAQ</a>
  */
 public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTimeShared {
+	private static final long serialVersionUID = 1L;
+
 	/**
 	 * @see #getMinimumGranularity()
 	 */
@@ -355,7 +358,7 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * the time of the next expiring Cloudlet, enabling the preemption process), or Double.MAX_VALUE if there is no next events
      */
     @Override
-    public double updateVmProcessing(double currentTime, List<Double> mipsShare) {
+    public double updateVmProcessing(double currentTime, MipsShare mipsShare) {
         super.updateVmProcessing(currentTime, mipsShare);
         return getCloudletExecList().stream()
                 .mapToDouble(CloudletExecutionInfo::getTimeSlice)
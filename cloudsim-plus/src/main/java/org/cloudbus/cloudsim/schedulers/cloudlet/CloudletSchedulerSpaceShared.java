@@ -34,6 +34,7 @@ import org.cloudbus.cloudsim.resources.Processor;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a new CloudletSchedulerSpaceShared object. This method must be
@@ -73,6 +73,7 @@ import org.cloudbus.cloudsim.util.Conversion;
  * @see CloudletSchedulerCompletelyFair
  */
 public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a new CloudletSchedulerTimeShared object. This method must be
@@ -18,6 +18,7 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.network.NetworkVm;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 
@@ -39,7 +40,7 @@ import java.util.List;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface PacketScheduler {
+public interface PacketScheduler extends Serializable {
     /**
      * Gets the Vm that the PacketScheduler will sent packets from or receive packets to.
      * @return
@@ -103,6 +104,7 @@ public interface PacketScheduler {
      * objects.
      */
     PacketScheduler NULL = new PacketScheduler() {
+        private static final long serialVersionUID = 1L;
         @Override public Vm getVm() { return Vm.NULL; }
         @Override public void setVm(Vm vm) {}
         @Override public void clearVmPacketsToSend() {}
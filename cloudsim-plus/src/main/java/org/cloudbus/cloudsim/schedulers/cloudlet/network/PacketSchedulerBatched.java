@@ -0,0 +1,237 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet.network;
+
+import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletSendTask;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link PacketScheduler} that stores received packets into
+ * queues keyed by the pair (source VM, receiver Cloudlet), instead of
+ * keeping a list of packets for each source VM that has to be filtered
+ * every time a {@link CloudletReceiveTask} checks for packets.
+ *
+ * <p>Each queue is a ring buffer of primitive arrays that just stores
+ * the number and size of packets in each received {@link VmPacket},
+ * together with a counter of pending packets.
+ * This way, a {@link CloudletReceiveTask} consumes its packets
+ * by just updating counters, without storing any packet object.
+ * Along with batched packets created by
+ * {@link CloudletSendTask#addPackets(org.cloudbus.cloudsim.cloudlets.Cloudlet, long, long)},
+ * a bulk transfer of N packets of size S is sent, forwarded and consumed
+ * as a single object.</p>
+ *
+ * <p>Since a {@link CloudletReceiveTask} just knows the VM it expects packets from,
+ * the sender side of the queue key is the source VM,
+ * while the receiver side is the Cloudlet running the receive task.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class PacketSchedulerBatched extends PacketSchedulerSimple {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A map of queues of received packets, where each key is a combination
+     * of the id of the sender VM and the id of the receiver Cloudlet
+     * (see {@link #queueKey(int, int)}) and each value is the queue of packets
+     * sent from that VM to that Cloudlet.
+     */
+    private final Map<Long, PacketQueue> receivedPacketsQueues;
+
+    /**
+     * Creates a PacketSchedulerBatched object.
+     */
+    public PacketSchedulerBatched() {
+        super();
+        receivedPacketsQueues = new HashMap<>();
+    }
+
+    @Override
+    public boolean addPacketToListOfPacketsSentFromVm(VmPacket pkt) {
+        getPacketQueue(pkt.getSource().getId(), pkt.getReceiverCloudlet().getId())
+            .add(pkt.getNumberOfPackets(), pkt.getPacketSize());
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The task consumes just the number of packets it is still expecting,
+     * leaving the remaining ones for the next receive tasks of the same Cloudlet.
+     * If the task doesn't define a number of expected packets,
+     * all pending packets are consumed.</p>
+     *
+     * @param sourceCloudlet {@inheritDoc}
+     */
+    @Override
+    protected void receivePackets(NetworkCloudlet sourceCloudlet) {
+        final CloudletReceiveTask task = (CloudletReceiveTask)sourceCloudlet.getCurrentTask();
+        final PacketQueue queue = receivedPacketsQueues.get(queueKey(task.getSourceVm().getId(), sourceCloudlet.getId()));
+        if(queue == null || queue.isEmpty()){
+            return;
+        }
+
+        final long pending = task.getNumberOfPendingPacketsToReceive();
+        final long received = queue.poll(task, pending > 0 ? pending : queue.getPendingPackets());
+        if (Log.isEnabled(Log.Level.DEBUG)) {
+            Log.println(
+                Log.Level.DEBUG, getClass(), sourceCloudlet.getSimulation().clock(),
+                "Cloudlet %d in VM %d received %d pkts from VM %d",
+                sourceCloudlet.getId(), sourceCloudlet.getVm().getId(),
+                received, task.getSourceVm().getId());
+        }
+
+        scheduleNextTaskIfCurrentIsFinished(sourceCloudlet);
+    }
+
+    /**
+     * Gets the number of packets sent from a given VM to a given Cloudlet
+     * which weren't consumed yet.
+     *
+     * @param sourceVm the VM that sent the packets
+     * @param receiverCloudlet the Cloudlet that has to receive the packets
+     * @return the number of pending packets
+     */
+    public long getPendingPackets(Vm sourceVm, NetworkCloudlet receiverCloudlet) {
+        final PacketQueue queue = receivedPacketsQueues.get(queueKey(sourceVm.getId(), receiverCloudlet.getId()));
+        return queue == null ? 0 : queue.getPendingPackets();
+    }
+
+    private PacketQueue getPacketQueue(int sourceVmId, int receiverCloudletId) {
+        return receivedPacketsQueues.computeIfAbsent(queueKey(sourceVmId, receiverCloudletId), k -> new PacketQueue());
+    }
+
+    /**
+     * Combines the id of a sender VM and a receiver Cloudlet into a single key.
+     * @param sourceVmId the id of the VM sending packets
+     * @param receiverCloudletId the id of the Cloudlet receiving packets
+     * @return the queue key
+     */
+    private static long queueKey(int sourceVmId, int receiverCloudletId) {
+        return ((long)sourceVmId << 32) | (receiverCloudletId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A FIFO ring buffer of received packet batches, storing just
+     * the number of packets and the size of each packet for each batch.
+     */
+    private static final class PacketQueue implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private long[] counts = new long[INITIAL_CAPACITY];
+        private long[] sizes = new long[INITIAL_CAPACITY];
+
+        /**
+         * Index of the oldest batch in the buffer.
+         */
+        private int head;
+
+        /**
+         * Number of batches in the buffer.
+         */
+        private int batches;
+
+        /**
+         * Total number of packets in all batches.
+         */
+        private long pendingPackets;
+
+        void add(long numberOfPackets, long packetSize) {
+            final int last = batches == 0 ? -1 : (head + batches - 1) % counts.length;
+            pendingPackets += numberOfPackets;
+            //Consecutive packets with the same size are merged into the last batch
+            if(last >= 0 && sizes[last] == packetSize){
+                counts[last] += numberOfPackets;
+                return;
+            }
+
+            if(batches == counts.length){
+                grow();
+            }
+
+            final int tail = (head + batches) % counts.length;
+            counts[tail] = numberOfPackets;
+            sizes[tail] = packetSize;
+            batches++;
+        }
+
+        /**
+         * Removes up to a given number of packets from the head of the queue,
+         * delivering them to a given task.
+         *
+         * @param task the task to deliver packets to
+         * @param maxPackets the maximum number of packets to deliver
+         * @return the number of delivered packets
+         */
+        long poll(CloudletReceiveTask task, long maxPackets) {
+            long delivered = 0;
+            while(batches > 0 && delivered < maxPackets){
+                final long n = Math.min(counts[head], maxPackets - delivered);
+                task.receivePackets(n, sizes[head]);
+                delivered += n;
+                counts[head] -= n;
+                if(counts[head] == 0){
+                    head = (head + 1) % counts.length;
+                    batches--;
+                }
+            }
+
+            pendingPackets -= delivered;
+            return delivered;
+        }
+
+        private void grow() {
+            final long[] newCounts = new long[counts.length * 2];
+            final long[] newSizes = new long[sizes.length * 2];
+            for (int i = 0; i < batches; i++) {
+                final int j = (head + i) % counts.length;
+                newCounts[i] = counts[j];
+                newSizes[i] = sizes[j];
+            }
+
+            counts = newCounts;
+            sizes = newSizes;
+            head = 0;
+        }
+
+        boolean isEmpty() {
+            return batches == 0;
+        }
+
+        long getPendingPackets() {
+            return pendingPackets;
+        }
+    }
+}
@@ -37,6 +37,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 1.0
  */
 public class PacketSchedulerSimple implements PacketScheduler {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getVm()
      */
@@ -136,7 +138,7 @@ public class PacketSchedulerSimple implements PacketScheduler {
      *
      * @param sourceCloudlet cloudlet to check if there are packets to be received from.
      */
-    private void receivePackets(NetworkCloudlet sourceCloudlet) {
+    protected void receivePackets(NetworkCloudlet sourceCloudlet) {
         CloudletReceiveTask task = (CloudletReceiveTask)sourceCloudlet.getCurrentTask();
 
         final List<VmPacket> receivedPkts = getPacketsSentToGivenTask(task);
@@ -195,8 +197,9 @@ public class PacketSchedulerSimple implements PacketScheduler {
 
     /**
      * Schedules the execution of the next task of a given cloudlet.
+     * @param cloudlet the cloudlet to schedule the next task
      */
-    private void scheduleNextTaskIfCurrentIsFinished(NetworkCloudlet cloudlet) {
+    protected void scheduleNextTaskIfCurrentIsFinished(NetworkCloudlet cloudlet) {
         if(!cloudlet.startNextTaskIfCurrentIsFinished(cloudlet.getSimulation().clock())){
             return;
         }
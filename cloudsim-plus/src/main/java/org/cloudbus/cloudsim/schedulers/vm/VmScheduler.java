@@ -7,12 +7,16 @@
  */
 package org.cloudbus.cloudsim.schedulers.vm;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
 
 import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.resources.MipsShare;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.resources.Resource;
@@ -34,7 +38,8 @@ import org.cloudbus.cloudsim.resources.Resource;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface VmScheduler {
+@SuppressWarnings("serial")
+public interface VmScheduler extends Serializable {
     /**
      * Requests the allocation of PEs for a VM.
      *
@@ -80,6 +85,47 @@ public interface VmScheduler {
      */
     void deallocatePesForVm(Vm vm);
 
+    /**
+     * Reallocates PEs for a set of VMs at once, as if each one was
+     * {@link #deallocatePesForVm(Vm) deallocated} and then
+     * {@link #allocatePesForVm(Vm, List) allocated} again with the given MIPS share,
+     * following the iteration order of the given map.
+     * VMs that aren't into the map keep their current allocation.
+     *
+     * <p>This default implementation just performs such deallocations and allocations.
+     * Implementations can override it to recompute the allocation of the Host PEs
+     * only once for all VMs.</p>
+     *
+     * @param vmsMipsShareRequested a map where each key is a VM and each value is the
+     *                              MIPS share requested by each VM PE
+     */
+    default void reallocateAll(Map<Vm, double[]> vmsMipsShareRequested) {
+        vmsMipsShareRequested.keySet().forEach(this::deallocatePesForVm);
+        vmsMipsShareRequested.forEach((vm, mips) ->
+            allocatePesForVm(vm, DoubleStream.of(mips).boxed().collect(Collectors.toList())));
+    }
+
+    /**
+     * Reallocates PEs for a list of VMs at once, using the MIPS share
+     * {@link Vm#getCurrentRequestedMips() currently requested} by each VM.
+     * It works as {@link #reallocateAll(Map)}, but the requested MIPS are
+     * got directly from the VMs, so that the caller doesn't need to build a map for them.
+     *
+     * <p>This default implementation just {@link #deallocatePesForVm(Vm) deallocates}
+     * and then {@link #allocatePesForVm(Vm, List) allocates} every VM again.</p>
+     *
+     * @param vms the VMs to reallocate PEs to, in the order they have to be allocated
+     */
+    default void reallocateAll(List<? extends Vm> vms) {
+        for (final Vm vm : vms) {
+            deallocatePesForVm(vm);
+        }
+
+        for (final Vm vm : vms) {
+            allocatePesForVm(vm, vm.getCurrentRequestedMips());
+        }
+    }
+
     /**
      * Gets the MIPS share of each host's Pe that is allocated to a given VM.
      *
@@ -90,6 +136,21 @@ public interface VmScheduler {
      */
     List<Double> getAllocatedMipsForVm(Vm vm);
 
+    /**
+     * Gets the MIPS share of each host's {@link Pe} that is allocated to a given VM,
+     * storing it into a given {@link MipsShare} instead of returning a list.
+     * It enables the caller to reuse the same MipsShare object
+     * across calls, avoiding the creation of new objects.
+     *
+     * @param vm the vm to get the allocated MIPS share
+     * @param mipsShare the object where the allocated MIPS share will be stored
+     * @return the given MipsShare object, filled with the allocated MIPS share
+     * @see #getAllocatedMipsForVm(Vm)
+     */
+    default MipsShare getAllocatedMipsForVm(Vm vm, MipsShare mipsShare) {
+        return mipsShare.set(getAllocatedMipsForVm(vm));
+    }
+
     /**
      * Gets the amount of MIPS that is free.
      *
@@ -229,10 +290,14 @@ public interface VmScheduler {
      * objects.
      */
     VmScheduler NULL = new VmScheduler(){
+        private static final long serialVersionUID = 1L;
         @Override public boolean allocatePesForVm(Vm vm, List<Double> mipsShare) { return false; }
         @Override public void deallocatePesForAllVms() {}
         @Override public void deallocatePesForVm(Vm vm) {}
+        @Override public void reallocateAll(Map<Vm, double[]> vmsMipsShareRequested) {}
+        @Override public void reallocateAll(List<? extends Vm> vms) {}
         @Override public List<Double> getAllocatedMipsForVm(Vm vm) { return Collections.emptyList(); }
+        @Override public MipsShare getAllocatedMipsForVm(Vm vm, MipsShare mipsShare) { return mipsShare.setAll(0, 0); }
         @Override public double getAvailableMips() { return 0.0; }
         @Override public double getMaxAvailableMips() { return 0.0; }
         @Override public long getPeCapacity() { return 0; }
@@ -24,6 +24,8 @@ import org.cloudbus.cloudsim.lists.PeList;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class VmSchedulerAbstract implements VmScheduler {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getHost()
      */
@@ -79,13 +81,17 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
 
     @Override
     public List<Double> getAllocatedMipsForVm(Vm vm) {
-        getMipsMapAllocated().putIfAbsent(vm, new ArrayList<>());
-        return getMipsMapAllocated().get(vm);
+        return getMipsMapAllocated().computeIfAbsent(vm, v -> new ArrayList<>());
     }
 
     @Override
     public double getTotalAllocatedMipsForVm(Vm vm) {
-        return getAllocatedMipsForVm(vm).stream().mapToDouble(v -> v).sum();
+        double total = 0;
+        for (final double mips : getAllocatedMipsForVm(vm)) {
+            total += mips;
+        }
+
+        return total;
     }
 
     @Override
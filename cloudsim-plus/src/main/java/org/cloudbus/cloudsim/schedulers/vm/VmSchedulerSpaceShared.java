@@ -31,6 +31,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 1.0
  */
 public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * A map between each VM and its allocated PEs, where the key is a VM ID and
@@ -54,6 +54,7 @@ import org.cloudbus.cloudsim.lists.PeList;
  * @since CloudSim Toolkit 1.0
  */
 public class VmSchedulerTimeShared extends VmSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getMipsMapRequested()
@@ -0,0 +1,320 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.vm;
+
+import org.cloudbus.cloudsim.lists.PeList;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link VmSchedulerTimeShared} that changes the allocation of Host PEs
+ * only for the VMs being allocated or deallocated, instead of reallocating the PEs
+ * of all VMs at each operation.
+ *
+ * <p>The {@link VmSchedulerTimeShared} clears and recomputes the allocation of all Host PEs
+ * each time a single VM is allocated or deallocated. Since a {@link org.cloudbus.cloudsim.hosts.HostDynamicWorkload}
+ * reallocates every one of its VMs at each processing update, a Host with V VMs
+ * performs O(V<sup>2</sup>) PE provisioner operations per update.
+ * This scheduler allocates and deallocates a VM touching just the PEs such a VM uses.
+ * And its {@link #reallocateAll(Map)} computes the new allocation
+ * of all given VMs once, over primitive arrays, writing the result to the PE provisioners at the end.</p>
+ *
+ * <p>The MIPS allocated to each VM are the same ones allocated by the {@link VmSchedulerTimeShared}.
+ * The difference is that when a VM is deallocated, the MIPS of the remaining VMs
+ * are not recomputed, so they aren't affected by changes on their migration state
+ * since the last time they were allocated.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class VmSchedulerTimeSharedIncremental extends VmSchedulerTimeShared {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The PEs allocated to each VM and the amount of MIPS reserved for them.
+     */
+    private final Map<Vm, Allocation> allocations;
+
+    /**
+     * Creates a time-shared VM scheduler that allocates PEs incrementally.
+     */
+    public VmSchedulerTimeSharedIncremental() {
+        super();
+        allocations = new HashMap<>();
+    }
+
+    @Override
+    public boolean allocatePesForVm(Vm vm, List<Double> mipsShareRequested) {
+        release(vm);
+        final Allocation allocation = reserve(vm, mipsShareRequested);
+        if (allocation == null) {
+            return false;
+        }
+
+        final long[] available = new long[getPeList().size()];
+        for (int i = 0; i < available.length; i++) {
+            available[i] = getPeList().get(i).getPeProvisioner().getAvailableResource();
+        }
+
+        allocatePes(vm, allocation, available, 0);
+        return true;
+    }
+
+    @Override
+    public void deallocatePesForVm(Vm vm) {
+        release(vm);
+        if (allocations.isEmpty()) {
+            setAvailableMips(PeList.getTotalMips(getPeList()));
+        }
+    }
+
+    @Override
+    public void deallocatePesForAllVms() {
+        super.deallocatePesForAllVms();
+        allocations.clear();
+        getPeMap().clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>It releases the PEs of all given VMs, reserves the requested MIPS for each VM
+     * and then assigns Host PEs to them in a single pass over the PEs.</p>
+     *
+     * @param vmsMipsShareRequested {@inheritDoc}
+     */
+    @Override
+    public void reallocateAll(Map<Vm, double[]> vmsMipsShareRequested) {
+        reallocate(vmsMipsShareRequested.keySet(), vmsMipsShareRequested);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>It works as {@link #reallocateAll(Map)}, using the MIPS list
+     * currently requested by each VM.</p>
+     *
+     * @param vms {@inheritDoc}
+     */
+    @Override
+    public void reallocateAll(List<? extends Vm> vms) {
+        reallocate(vms, null);
+    }
+
+    /**
+     * Releases the PEs of all given VMs, reserves the requested MIPS for each VM
+     * and then assigns Host PEs to them in a single pass over the PEs.
+     *
+     * @param vms the VMs to reallocate
+     * @param vmsMipsShareRequested a map with the MIPS share requested by each VM
+     *                              or null to use the MIPS currently requested by the VMs
+     */
+    private void reallocate(final Collection<? extends Vm> vms, final Map<Vm, double[]> vmsMipsShareRequested) {
+        for (final Vm vm : vms) {
+            release(vm);
+        }
+
+        if (allocations.isEmpty()) {
+            //Avoids accumulating floating-point errors when all VMs are reallocated at every Host update
+            setAvailableMips(PeList.getTotalMips(getPeList()));
+        }
+
+        final List<Pe> peList = getPeList();
+        final long[] available = new long[peList.size()];
+        for (int i = 0; i < available.length; i++) {
+            available[i] = peList.get(i).getPeProvisioner().getAvailableResource();
+        }
+
+        int firstAvailablePe = 0;
+        for (final Vm vm : vms) {
+            final List<Double> requested = vmsMipsShareRequested == null ?
+                vm.getCurrentRequestedMips() :
+                toList(vmsMipsShareRequested.get(vm));
+            final Allocation allocation = reserve(vm, requested);
+            if (allocation != null) {
+                while (firstAvailablePe < available.length && available[firstAvailablePe] <= 0) {
+                    firstAvailablePe++;
+                }
+
+                allocatePes(vm, allocation, available, firstAvailablePe);
+            }
+        }
+    }
+
+    private static List<Double> toList(final double[] mipsShare) {
+        final List<Double> list = new ArrayList<>(mipsShare.length);
+        for (final double mips : mipsShare) {
+            list.add(mips);
+        }
+
+        return list;
+    }
+
+    /**
+     * Updates the migration state of a VM and reserves the MIPS requested by it,
+     * if there is enough capacity.
+     *
+     * @param vm the VM to reserve MIPS for
+     * @param mipsShareRequested the MIPS requested by each VM PE
+     * @return the allocation created for the VM or null if there isn't enough capacity
+     */
+    private Allocation reserve(final Vm vm, final List<Double> mipsShareRequested) {
+        if (vm.isInMigration()) {
+            if (!getVmsMigratingIn().contains(vm) && !getVmsMigratingOut().contains(vm)) {
+                addVmMigratingOut(vm);
+            }
+        } else if (getVmsMigratingOut().contains(vm)) {
+            removeVmMigratingOut(vm);
+        }
+
+        final double availableMips = getAvailableMips();
+        if (!updateMapOfRequestedMipsForVm(vm, mipsShareRequested)) {
+            return null;
+        }
+
+        final Allocation allocation = new Allocation(availableMips - getAvailableMips(), mipsShareRequested.size());
+        allocations.put(vm, allocation);
+        return allocation;
+    }
+
+    /**
+     * Assigns Host PEs to each VM PE, following the same rules of the {@link VmSchedulerTimeShared},
+     * updating the given available MIPS of each Host PE and allocating the PEs from their provisioners.
+     *
+     * @param vm the VM to allocate Host PEs to
+     * @param allocation the VM allocation to record the PEs into
+     * @param available the available MIPS of each Host PE
+     * @param firstPe the index of the first Host PE that may have available MIPS
+     */
+    private void allocatePes(final Vm vm, final Allocation allocation, final long[] available, final int firstPe) {
+        final List<Pe> peList = getPeList();
+        final List<Pe> vmPes = new ArrayList<>(allocation.requestedPes);
+        int pe = firstPe;
+        for (final double requestedMips : getMipsMapAllocated().get(vm)) {
+            if (requestedMips <= 0) {
+                continue;
+            }
+
+            double allocatedMips = 0;
+            while (allocatedMips <= 0 && pe < available.length) {
+                final int selected = pe++;
+                final long mips;
+                if (available[selected] >= requestedMips) {
+                    mips = (long) requestedMips;
+                    allocatedMips = requestedMips;
+                } else if (available[selected] > 0) {
+                    //Allocates the remaining MIPS of the PE, even if it isn't enough for the VM PE
+                    mips = available[selected];
+                    allocatedMips += mips;
+                } else {
+                    continue;
+                }
+
+                available[selected] -= mips;
+                allocation.add(selected);
+                vmPes.add(peList.get(selected));
+                peList.get(selected).getPeProvisioner().allocateResourceForVm(vm, mips);
+            }
+
+            if (requestedMips > 0.1 && allocatedMips <= 0.1) {
+                Log.printFormattedLine(
+                    "Vm %s is requiring a total of %.2f MIPS but the Host PEs currently don't have such an available MIPS amount. Only %.2f MIPS were allocated.",
+                    vm, requestedMips, allocatedMips);
+            }
+        }
+
+        getPeMap().put(vm, vmPes);
+    }
+
+    /**
+     * Releases the MIPS reserved for a VM and the Host PEs allocated to it.
+     *
+     * @param vm the VM to release resources from
+     */
+    private void release(final Vm vm) {
+        getMipsMapRequested().remove(vm);
+        getMipsMapAllocated().remove(vm);
+        getPeMap().remove(vm);
+        final Allocation allocation = allocations.remove(vm);
+        if (allocation == null) {
+            return;
+        }
+
+        setAvailableMips(getAvailableMips() + allocation.reservedMips);
+        setPesInUse(getPesInUse() - allocation.requestedPes);
+        for (int i = 0; i < allocation.size; i++) {
+            getPeList().get(allocation.pes[i]).getPeProvisioner().deallocateResourceForVm(vm);
+        }
+    }
+
+    /**
+     * The Host PEs allocated to a VM and the amount of MIPS reserved for it.
+     */
+    private static final class Allocation implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The amount of MIPS subtracted from the {@link #getAvailableMips()} for the VM.
+         */
+        private final double reservedMips;
+
+        /**
+         * The number of PEs requested by the VM.
+         */
+        private final int requestedPes;
+
+        /**
+         * The indexes of the Host PEs allocated to the VM.
+         */
+        private int[] pes;
+
+        /**
+         * The number of used positions in {@link #pes}.
+         */
+        private int size;
+
+        private Allocation(final double reservedMips, final int requestedPes) {
+            this.reservedMips = reservedMips;
+            this.requestedPes = requestedPes;
+            this.pes = new int[requestedPes];
+        }
+
+        private void add(final int pe) {
+            if (size == pes.length) {
+                pes = Arrays.copyOf(pes, pes.length * 2 + 1);
+            }
+
+            pes[size++] = pe;
+        }
+    }
+}
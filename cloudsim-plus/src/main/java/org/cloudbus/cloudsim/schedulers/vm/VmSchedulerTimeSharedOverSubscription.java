@@ -26,6 +26,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Instantiates a new vm scheduler time shared over subscription.
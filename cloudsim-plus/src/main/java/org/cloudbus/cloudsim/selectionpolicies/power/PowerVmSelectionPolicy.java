@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import org.cloudbus.cloudsim.hosts.power.PowerHost;
 import org.cloudbus.cloudsim.vms.power.PowerVm;
 import org.cloudbus.cloudsim.vms.Vm;
+import java.io.Serializable;
 
 /**
  * An abstract VM selection policy used to select VMs from a list of migratable VMs.
@@ -32,7 +33,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 3.0
  */
-public abstract class PowerVmSelectionPolicy {
+public abstract class PowerVmSelectionPolicy implements Serializable {
+	private static final long serialVersionUID = 1L;
 
 	/**
 	 * Gets a VM to migrate from a given host.
@@ -31,6 +31,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmSelectionPolicyMinimumMigrationTime extends PowerVmSelectionPolicy {
+	private static final long serialVersionUID = 1L;
+
 	@Override
 	public Vm getVmToMigrate(PowerHost host) {
 		List<PowerVm> migratableVms = getMigratableVms(host);
@@ -35,6 +35,8 @@ import java.util.function.Predicate;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmSelectionPolicyMinimumUtilization extends PowerVmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Vm getVmToMigrate(PowerHost host) {
         List<? extends Vm> migratableVms = getMigratableVms(host);
@@ -32,6 +32,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerVmSelectionPolicyRandomSelection extends PowerVmSelectionPolicy {
+	private static final long serialVersionUID = 1L;
+
 	@Override
 	public Vm getVmToMigrate(PowerHost host) {
 		List<PowerVm> migratableVms = getMigratableVms(host);
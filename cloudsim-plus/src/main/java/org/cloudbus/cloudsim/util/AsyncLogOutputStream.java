@@ -0,0 +1,273 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An {@link OutputStream} that writes data to another stream asynchronously,
+ * to be used as a {@link Log} output.
+ * Each write call enqueues the written bytes into a bounded ring buffer
+ * and returns immediately, while a background thread
+ * drains the buffer into the target stream through a {@link BufferedOutputStream}.
+ * This way, the simulation thread doesn't wait for I/O.
+ *
+ * <p>Since {@link Log} writes each message with a single write call,
+ * messages are never interleaved, even if the stream is shared among simulations
+ * running in parallel. If the buffer is full, writers wait for the
+ * background thread, so that messages are never discarded.</p>
+ *
+ * <p>The stream must be {@link #close() closed} at the end, in order to
+ * write all pending messages and stop the background thread.
+ * The target stream is flushed but not closed, since it's owned by the caller
+ * (which may be {@link System#out}).
+ * A write concurrent with the closing of the stream either succeeds,
+ * having the message written before the background thread stops, or fails with an {@link IOException}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class AsyncLogOutputStream extends OutputStream {
+    /**
+     * The default number of messages that the buffer can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * A marker enqueued to stop the background thread.
+     */
+    private static final byte[] END = new byte[0];
+
+    private final OutputStream target;
+    private final BlockingQueue<byte[]> queue;
+    private final Thread writer;
+
+    /**
+     * A lock whose read lock is held while a message is enqueued and whose write lock is held
+     * to close the stream. This way, a message is never enqueued after the {@link #END} marker.
+     */
+    private final ReadWriteLock closeLock;
+
+    /**
+     * The number of messages enqueued so far.
+     */
+    private long enqueued;
+
+    /**
+     * The number of messages written to the target so far.
+     */
+    private long written;
+
+    /**
+     * The number of messages written to the target when it was last flushed.
+     */
+    private long flushed;
+
+    private volatile IOException error;
+    private volatile boolean closed;
+
+    /**
+     * Creates an AsyncLogOutputStream with the {@link #DEFAULT_CAPACITY default capacity}.
+     *
+     * @param target the stream to write data to
+     */
+    public AsyncLogOutputStream(final OutputStream target) {
+        this(target, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an AsyncLogOutputStream.
+     *
+     * @param target the stream to write data to
+     * @param capacity the number of messages that the buffer can hold
+     */
+    public AsyncLogOutputStream(final OutputStream target, final int capacity) {
+        this.target = new BufferedOutputStream(Objects.requireNonNull(target), 64 * 1024);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.closeLock = new ReentrantReadWriteLock();
+        this.writer = new Thread(this::drain, getClass().getSimpleName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        enqueue(new byte[]{(byte) b});
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (len > 0) {
+            enqueue(Arrays.copyOfRange(b, off, off + len));
+        }
+    }
+
+    private void enqueue(final byte[] data) throws IOException {
+        closeLock.readLock().lock();
+        try {
+            checkState();
+            synchronized (this) {
+                enqueued++;
+            }
+            queue.put(data);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing log message");
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Takes messages from the buffer and writes them to the target stream,
+     * flushing it every time the buffer gets empty.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                final byte[] data = queue.take();
+                if (data == END) {
+                    break;
+                }
+
+                writeToTarget(data);
+                if (queue.isEmpty()) {
+                    flushTarget();
+                }
+            }
+            flushTarget();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                flushed = enqueued;
+                notifyAll();
+            }
+        }
+    }
+
+    private void writeToTarget(final byte[] data) {
+        try {
+            target.write(data);
+        } catch (IOException e) {
+            error = e;
+        }
+
+        synchronized (this) {
+            written++;
+        }
+    }
+
+    private void flushTarget() {
+        try {
+            target.flush();
+        } catch (IOException e) {
+            error = e;
+        }
+
+        synchronized (this) {
+            flushed = written;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until all messages written so far are written to the target stream
+     * and flushes it.
+     *
+     * @throws IOException when the target stream failed or the waiting was interrupted
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            final long pending = enqueued;
+            while (flushed < pending && writer.isAlive()) {
+                try {
+                    wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while flushing log messages");
+                }
+            }
+        }
+
+        checkError();
+    }
+
+    /**
+     * Writes all pending messages, flushes the target stream and stops the background thread.
+     * The target stream is not closed.
+     *
+     * @throws IOException when the target stream failed or the waiting was interrupted
+     */
+    @Override
+    public void close() throws IOException {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            queue.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the log output");
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the log output");
+        }
+
+        checkError();
+    }
+
+    private void checkState() throws IOException {
+        if (closed) {
+            throw new IOException("The log output is closed.");
+        }
+        checkError();
+    }
+
+    private void checkError() throws IOException {
+        final IOException e = error;
+        if (e != null) {
+            throw e;
+        }
+    }
+}
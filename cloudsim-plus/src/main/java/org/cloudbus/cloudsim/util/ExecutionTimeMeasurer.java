@@ -8,11 +8,15 @@
 
 package org.cloudbus.cloudsim.util;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Measurement of execution times of CloudSim's methods.
+ * Since measurements are identified just by name, the same name
+ * must not be measured concurrently by different threads.
+ * The execution time of code running inside a simulation should be measured
+ * using the {@link SimulationProfiler} of that simulation instead.
  *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 3.0
@@ -22,11 +26,11 @@ public final class ExecutionTimeMeasurer {
     /**
      * A map of execution start times where each key
      * represents the name of the method/process and each key is the
-     * time the method/process started (in milliseconds).
+     * time the method/process started (in nanoseconds, as given by {@link System#nanoTime()}).
      * Usually, this name is the method/process name, making
      * it easy to identify the execution start times into the map.
      */
-    private static final Map<String, Long> executionStartTimes = new HashMap<>();
+    private static final Map<String, Long> executionStartTimes = new ConcurrentHashMap<>();
 
     /**
      * Starts measuring the execution time of a method/process.
@@ -37,7 +41,7 @@ public final class ExecutionTimeMeasurer {
      * @see #getExecutionStartTimes()
      */
     public static void start(String name) {
-        getExecutionStartTimes().put(name, System.currentTimeMillis());
+        getExecutionStartTimes().put(name, System.nanoTime());
     }
 
     /**
@@ -48,9 +52,7 @@ public final class ExecutionTimeMeasurer {
      * @see #getExecutionStartTimes()
      */
     public static double end(String name) {
-        double executionTime = (System.currentTimeMillis() - getExecutionStartTimes().get(name)) / 1000.0;
-        getExecutionStartTimes().remove(name);
-        return executionTime;
+        return (System.nanoTime() - getExecutionStartTimes().remove(name)) / 1e9;
     }
 
     /**
@@ -7,15 +7,31 @@
  */
 package org.cloudbus.cloudsim.util;
 
+import org.cloudbus.cloudsim.core.SideEffectBuffer;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Logger used for performing logging of the simulation process. It provides the
  * ability to substitute the output stream by any OutputStream subclass.
  *
+ * <p>Messages are only formatted after checking the logger is enabled.
+ * However, arguments are still evaluated before the call:
+ * varargs methods such as {@link #printFormattedLine(String, Object...)} allocate
+ * an array and box primitive arguments, and a {@link Supplier} such as the one given to
+ * {@link #printLine(Supplier)} is a new object whenever it captures variables.
+ * Thus, in frequently executed code, calls should be guarded by {@link #isEnabled()},
+ * so that building the message costs nothing when the logger is disabled.</p>
+ *
+ * <p>The output and the disabled flag set by the static methods of this class
+ * are global. However, while a simulation is running, the logger uses the
+ * {@link LogScope} of that simulation (see {@link org.cloudbus.cloudsim.core.CloudSim#getLogScope()}),
+ * which enables simulations running in parallel to use different outputs
+ * or to be independently enabled or disabled.</p>
+ *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 2.0
  */
@@ -48,12 +64,12 @@ public final class Log {
      * Indicates if the logger is disabled or not. If set to true, the call for
      * any print method has no effect.
      */
-    private static boolean disabled;
+    private static volatile boolean disabled;
 
     /**
-     * Buffer to avoid creating new string builder upon every print.
+     * The {@link LogScope} of the simulation running in the current thread, if any.
      */
-    private static StringBuilder buffer = new StringBuilder();
+    private static final ThreadLocal<LogScope> currentScope = new ThreadLocal<>();
 
     /**
      * Checks if application is running in debug mode.
@@ -74,11 +90,48 @@ public final class Log {
      */
     public static void print(String message) {
         if (isEnabled()) {
-            try {
-                getOutput().write(message.getBytes());
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            write(message);
+        }
+    }
+
+    /**
+     * Prints a message that is just built if the logger is enabled.
+     *
+     * @param messageSupplier a {@link Supplier} that builds the message
+     */
+    public static void print(Supplier<String> messageSupplier) {
+        if (isEnabled()) {
+            write(messageSupplier.get());
+        }
+    }
+
+    /**
+     * Writes a message to the output or, if a {@link SideEffectBuffer} is collecting
+     * actions for the current thread, defers the writing until such a buffer is flushed.
+     *
+     * @param message the message to write
+     */
+    private static void write(String message) {
+        //Avoids creating a lambda for every message when no buffer is collecting actions
+        if (SideEffectBuffer.isCollecting()) {
+            SideEffectBuffer.run(() -> writeNow(message));
+        } else {
+            writeNow(message);
+        }
+    }
+
+    /**
+     * Writes a message to the output with a single write call,
+     * so that messages from different threads sharing the same output
+     * are not interleaved.
+     *
+     * @param message the message to write
+     */
+    private static void writeNow(String message) {
+        try {
+            getOutput().write(message.getBytes());
+        } catch (IOException e) {
+            e.printStackTrace();
         }
     }
 
@@ -97,7 +150,20 @@ public final class Log {
      * @param message the message
      */
     public static void printLine(String message) {
-        print(message + LINE_SEPARATOR);
+        if (isEnabled()) {
+            write(message + LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Prints a message, which is just built if the logger is enabled, and a new line.
+     *
+     * @param messageSupplier a {@link Supplier} that builds the message
+     */
+    public static void printLine(Supplier<String> messageSupplier) {
+        if (isEnabled()) {
+            write(messageSupplier.get() + LINE_SEPARATOR);
+        }
     }
 
     /**
@@ -113,7 +179,9 @@ public final class Log {
      * @param message the message
      */
     public static void printLine(Object message) {
-        printLine(String.valueOf(message));
+        if (isEnabled()) {
+            printLine(String.valueOf(message));
+        }
     }
 
     /**
@@ -123,11 +191,7 @@ public final class Log {
      */
     public static void printConcat(Object... messages) {
         if (isEnabled()) {
-            buffer = new StringBuilder(messages.length);
-            for (Object message : messages) {
-                buffer.append(String.valueOf(message));
-            }
-            print(buffer);
+            print(concat(messages));
         }
     }
 
@@ -139,14 +203,18 @@ public final class Log {
      */
     public static void printConcatLine(Object... messages) {
         if (isEnabled()) {
-            buffer = new StringBuilder(messages.length);
-            for (Object message : messages) {
-                buffer.append(String.valueOf(message));
-            }
-            printLine(buffer);
+            printLine(concat(messages));
         }
     }
 
+    private static String concat(Object... messages) {
+        final StringBuilder builder = new StringBuilder();
+        for (Object message : messages) {
+            builder.append(String.valueOf(message));
+        }
+        return builder.toString();
+    }
+
     /**
      * Prints a string formated as in String.printFormatted().
      *
@@ -154,7 +222,9 @@ public final class Log {
      * @param args the args
      */
     public static void printFormatted(String format, Object... args) {
-        print(String.format(format, args));
+        if (isEnabled()) {
+            write(String.format(format, args));
+        }
     }
 
     /**
@@ -165,7 +235,9 @@ public final class Log {
      * @param args the args
      */
     public static void printFormattedLine(String format, Object... args) {
-        printLine(String.format(format, args));
+        if (isEnabled()) {
+            write(String.format(format, args) + LINE_SEPARATOR);
+        }
     }
 
     /**
@@ -181,14 +253,41 @@ public final class Log {
      * @param args the args
      */
     public static void println(Level level, Class klass, double time, String format, Object... args) {
-        if((level == Level.DEBUG && isDebug()) || (level != Level.DEBUG)){
-            String msg = String.format(format, args);
-            printFormattedLine("Time %.1f %s/%s\n   %s", time, level.name(), klass.getSimpleName(), msg);
+        if(isEnabled(level)){
+            printFormattedLine("Time %.1f %s/%s\n   %s", time, level.name(), klass.getSimpleName(), String.format(format, args));
         }
     }
 
     /**
-     * Sets the output stream.
+     * Prints a message followed by a new line, that will be printed only according to
+     * the specified level. The message is just built if it is going to be printed.
+     *
+     * @param level the level that define the kind of message
+     * @param klass Class that is asking to print a message (where the print method
+     * is being called)
+     * @param time current simulation time
+     * @param messageSupplier a {@link Supplier} that builds the message
+     */
+    public static void println(Level level, Class klass, double time, Supplier<String> messageSupplier) {
+        if(isEnabled(level)){
+            printFormattedLine("Time %.1f %s/%s\n   %s", time, level.name(), klass.getSimpleName(), messageSupplier.get());
+        }
+    }
+
+    /**
+     * Checks if messages of a given level are printed,
+     * considering that {@link Level#DEBUG} messages are
+     * only printed when the application is running in {@link #isDebug() debug mode}.
+     *
+     * @param level the level to check
+     * @return true if messages of the given level are printed, false otherwise
+     */
+    public static boolean isEnabled(Level level) {
+        return isEnabled() && (level != Level.DEBUG || isDebug());
+    }
+
+    /**
+     * Sets the global output stream.
      *
      * @param newOutput the new output
      */
@@ -197,11 +296,24 @@ public final class Log {
     }
 
     /**
-     * Gets the output stream.
+     * Gets the output stream, which is the output of the {@link LogScope}
+     * of the simulation running in the current thread (if any) or the
+     * global output otherwise.
      *
      * @return the output
      */
     public static OutputStream getOutput() {
+        final LogScope scope = currentScope.get();
+        return scope == null ? getGlobalOutput() : scope.getOutput();
+    }
+
+    /**
+     * Gets the global output stream, used when no simulation is running
+     * in the current thread or the running simulation doesn't define its own output.
+     *
+     * @return the global output
+     */
+    static OutputStream getGlobalOutput() {
         if (Objects.isNull(output)) {
             setOutput(System.out);
         }
@@ -209,7 +321,7 @@ public final class Log {
     }
 
     /**
-     * Sets the disable output flag.
+     * Sets the global disable output flag.
      *
      * @param _disabled the new disabled
      */
@@ -218,11 +330,23 @@ public final class Log {
     }
 
     /**
-     * Checks if the output is disabled.
+     * Checks if the output is disabled, considering the {@link LogScope}
+     * of the simulation running in the current thread (if any)
+     * or the global disabled flag otherwise.
      *
      * @return true, if it is disable
      */
     public static boolean isDisabled() {
+        final LogScope scope = currentScope.get();
+        return scope == null ? disabled : scope.isDisabled();
+    }
+
+    /**
+     * Checks if the output is globally disabled.
+     *
+     * @return true if it's globally disabled, false otherwise
+     */
+    static boolean isGloballyDisabled() {
         return disabled;
     }
 
@@ -232,7 +356,34 @@ public final class Log {
      * @return true, if it is enable
      */
     public static boolean isEnabled() {
-        return !disabled;
+        return !isDisabled();
+    }
+
+    /**
+     * Gets the {@link LogScope} used by the current thread.
+     *
+     * @return the scope of the current thread or null if it uses the global settings
+     */
+    public static LogScope getCurrentScope() {
+        return currentScope.get();
+    }
+
+    /**
+     * Sets the {@link LogScope} to be used by the current thread,
+     * which is usually the scope of the simulation running in such a thread.
+     *
+     * @param scope the scope to set or null to use the global settings
+     * @return the scope previously used by the current thread (which may be null)
+     */
+    public static LogScope setCurrentScope(LogScope scope) {
+        final LogScope previous = currentScope.get();
+        if (scope == null) {
+            currentScope.remove();
+        } else {
+            currentScope.set(scope);
+        }
+
+        return previous;
     }
 
     /**
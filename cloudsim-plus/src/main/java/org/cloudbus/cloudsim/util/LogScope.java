@@ -0,0 +1,138 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * Defines the {@link Log} settings for a single simulation,
+ * which are used while such a simulation is running.
+ * This way, simulations running in parallel can write their logs
+ * to different outputs and each one can be enabled or disabled
+ * independently of the others.
+ *
+ * <p>Settings that are not defined in the scope are taken from
+ * the global settings of the {@link Log} class. This way, a new scope
+ * behaves exactly as the global logger.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ * @see org.cloudbus.cloudsim.core.CloudSim#getLogScope()
+ */
+public class LogScope implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @see #getOutput()
+     */
+    private transient volatile OutputStream output;
+
+    /**
+     * Indicates if the logger is disabled for this scope,
+     * or null if the global setting has to be used.
+     */
+    private volatile Boolean disabled;
+
+    /**
+     * Gets the output stream of this scope or the global {@link Log} output
+     * if no output was set for this scope.
+     *
+     * @return
+     */
+    public OutputStream getOutput() {
+        final OutputStream out = output;
+        return out == null ? Log.getGlobalOutput() : out;
+    }
+
+    /**
+     * Sets the output stream of this scope.
+     * A {@link java.io.BufferedOutputStream} or an {@link AsyncLogOutputStream}
+     * can be used to avoid performing a system call for every logged message.
+     *
+     * @param output the output to set or null to use the global {@link Log} output
+     * @return
+     */
+    public LogScope setOutput(final OutputStream output) {
+        this.output = output;
+        return this;
+    }
+
+    /**
+     * Checks if the logger is disabled for this scope.
+     * If it was not explicitly enabled or disabled for this scope,
+     * the global {@link Log} setting is used.
+     *
+     * @return true if disabled, false otherwise
+     */
+    public boolean isDisabled() {
+        final Boolean value = disabled;
+        return value == null ? Log.isGloballyDisabled() : value;
+    }
+
+    /**
+     * Enables or disables the logger for this scope.
+     *
+     * @param disabled true to disable, false to enable
+     * @return
+     */
+    public LogScope setDisabled(final boolean disabled) {
+        this.disabled = disabled;
+        return this;
+    }
+
+    /**
+     * Disables the logger for this scope.
+     * @return
+     */
+    public LogScope disable() {
+        return setDisabled(true);
+    }
+
+    /**
+     * Enables the logger for this scope.
+     * @return
+     */
+    public LogScope enable() {
+        return setDisabled(false);
+    }
+
+    /**
+     * Flushes the output of this scope, if it was set.
+     * The global output is not flushed.
+     */
+    public void flush() {
+        final OutputStream out = output;
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
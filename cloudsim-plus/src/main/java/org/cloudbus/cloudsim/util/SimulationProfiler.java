@@ -0,0 +1,426 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the execution time of named sections of code
+ * for a single simulation, using {@link System#nanoTime()}.
+ * The times of each section are recorded into a lock-free histogram,
+ * which enables computing percentiles of execution times
+ * without storing every measurement.
+ *
+ * <p>The profiler is disabled by default. When disabled,
+ * {@link #start()} and {@link #stop(String, long)} do nothing but checking a flag.
+ * When enabled, the simulation records the following built-in sections
+ * and prints a report at the end of its execution:
+ * <ul>
+ *     <li>{@link #EVENT_DISPATCH}: the processing of each event by its destination entity,
+ *     with one section for each event tag;</li>
+ *     <li>{@link #HOST_UPDATE}: the update of processing of each Host;</li>
+ *     <li>{@link #VM_PLACEMENT}: the selection of a Host to place each VM;</li>
+ *     <li>{@link #MIGRATION_OPTIMIZATION}: the computation of VM migrations
+ *     by power-aware allocation policies.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Since each simulation has its own profiler
+ * (see {@link org.cloudbus.cloudsim.core.Simulation#getProfiler()}),
+ * simulations running in parallel don't interfere with each other's measurements.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class SimulationProfiler implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The prefix of the sections that measure the processing of events,
+     * which is followed by the name of the event tag.
+     */
+    public static final String EVENT_DISPATCH = "event-dispatch:";
+
+    /**
+     * The section that measures the update of processing of Hosts.
+     */
+    public static final String HOST_UPDATE = "host-update";
+
+    /**
+     * The section that measures the selection of a Host to place a VM.
+     */
+    public static final String VM_PLACEMENT = "vm-placement";
+
+    /**
+     * The section that measures the computation of VM migrations.
+     */
+    public static final String MIGRATION_OPTIMIZATION = "migration-optimization";
+
+    /**
+     * A value returned by {@link #start()} when the profiler is disabled.
+     */
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    /**
+     * The number of event tags that have their sections cached in an array.
+     */
+    private static final int CACHED_TAGS = 256;
+
+    /**
+     * The names of the {@link CloudSimTags} constants, indexed by their values.
+     */
+    private static final Map<Integer, String> TAG_NAMES = createTagNamesMap();
+
+    /**
+     * A profiler that is always disabled, used by {@link org.cloudbus.cloudsim.core.Simulation#NULL}.
+     */
+    public static final SimulationProfiler NULL = new SimulationProfiler() {
+        private static final long serialVersionUID = 1L;
+        @Override public SimulationProfiler setEnabled(boolean enabled) { return this; }
+    };
+
+    private final Map<String, Section> sections;
+
+    /**
+     * The sections for event tags from 0 to {@link #CACHED_TAGS}-1,
+     * avoiding building the section name for every event.
+     */
+    private final AtomicReferenceArray<Section> eventSections;
+
+    /**
+     * @see #isEnabled()
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Creates a disabled SimulationProfiler.
+     */
+    public SimulationProfiler() {
+        sections = new ConcurrentHashMap<>();
+        eventSections = new AtomicReferenceArray<>(CACHED_TAGS);
+    }
+
+    /**
+     * Gets the current time to be used as the start time of a section,
+     * if the profiler is enabled.
+     *
+     * @return the current value of {@link System#nanoTime()} or
+     * a value that is ignored by {@link #stop(String, long)} if the profiler is disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Records the time elapsed since a given start time for a section.
+     *
+     * @param section the name of the section
+     * @param startNanos the start time returned by {@link #start()}
+     */
+    public void stop(final String section, final long startNanos) {
+        if (startNanos != NOT_STARTED) {
+            getSection(section).record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records the time elapsed since a given start time for the processing of an event.
+     *
+     * @param tag the tag of the processed event
+     * @param startNanos the start time returned by {@link #start()}
+     * @see #EVENT_DISPATCH
+     */
+    public void stopEvent(final int tag, final long startNanos) {
+        if (startNanos == NOT_STARTED) {
+            return;
+        }
+
+        final long elapsed = System.nanoTime() - startNanos;
+        if (tag < 0 || tag >= CACHED_TAGS) {
+            getSection(EVENT_DISPATCH + getTagName(tag)).record(elapsed);
+            return;
+        }
+
+        Section section = eventSections.get(tag);
+        if (section == null) {
+            section = getSection(EVENT_DISPATCH + getTagName(tag));
+            eventSections.set(tag, section);
+        }
+        section.record(elapsed);
+    }
+
+    /**
+     * Records a given execution time for a section,
+     * if the profiler is enabled.
+     *
+     * @param section the name of the section
+     * @param nanos the execution time in nanoseconds
+     */
+    public void record(final String section, final long nanos) {
+        if (enabled) {
+            getSection(section).record(nanos);
+        }
+    }
+
+    /**
+     * Gets the name of the {@link CloudSimTags} constant with a given value.
+     *
+     * @param tag the tag value
+     * @return the name of the tag constant, the names of all constants
+     * sharing that value separated by "|", or the tag value if no constant is found
+     * @see #TAG_NAMES
+     */
+    private static String getTagName(final int tag) {
+        final String name = TAG_NAMES.get(tag);
+        return name == null ? String.valueOf(tag) : name;
+    }
+
+    /**
+     * Maps the value of each {@link CloudSimTags} constant to its name.
+     * Constants sharing the same value have their names joined,
+     * such as "NETWORK_EVENT_HOST|FAILURE".
+     *
+     * @return the map of tag values to names
+     */
+    private static Map<Integer, String> createTagNamesMap() {
+        final Map<Integer, String> names = new HashMap<>();
+        for (final Field field : CloudSimTags.class.getFields()) {
+            if (field.getType() != int.class || !Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
+            try {
+                names.merge(field.getInt(null), field.getName(), (previous, name) -> previous + "|" + name);
+            } catch (IllegalAccessException e) {
+                break;
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Gets a section, creating it if it doesn't exist yet.
+     *
+     * @param name the name of the section
+     * @return the section
+     */
+    public Section getSection(final String name) {
+        return sections.computeIfAbsent(name, k -> new Section());
+    }
+
+    /**
+     * Gets a read-only snapshot of all sections that have recorded some time,
+     * sorted by section name.
+     *
+     * @return a map where each key is a section name and each value is the section
+     */
+    public Map<String, Section> getSections() {
+        return new TreeMap<>(sections);
+    }
+
+    /**
+     * Removes all recorded times.
+     */
+    public void reset() {
+        sections.clear();
+        for (int i = 0; i < eventSections.length(); i++) {
+            eventSections.set(i, null);
+        }
+    }
+
+    /**
+     * Prints a table with the statistics of every section, through the {@link Log}.
+     */
+    public void print() {
+        Log.printLine(() -> {
+            final StringBuilder builder = new StringBuilder();
+            builder.append(String.format("%nSimulation profile (times in microseconds)%n"));
+            builder.append(String.format("%-45s %10s %12s %10s %10s %10s %10s%n",
+                "Section", "Count", "Total(ms)", "Mean", "p50", "p99", "Max"));
+            for (final Map.Entry<String, Section> entry : getSections().entrySet()) {
+                final Section s = entry.getValue();
+                builder.append(String.format("%-45s %10d %12.3f %10.2f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(), s.getCount(), s.getTotalNanos() / 1e6, s.getMeanNanos() / 1e3,
+                    s.getPercentileNanos(50) / 1e3, s.getPercentileNanos(99) / 1e3, s.getMaxNanos() / 1e3));
+            }
+            return builder.toString();
+        });
+    }
+
+    /**
+     * Checks if the profiler is recording execution times.
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the profiler.
+     *
+     * @param enabled true to enable, false to disable
+     * @return
+     */
+    public SimulationProfiler setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Enables the profiler.
+     * @return
+     */
+    public SimulationProfiler enable() {
+        return setEnabled(true);
+    }
+
+    /**
+     * The execution times recorded for a section of code,
+     * stored into a lock-free histogram with logarithmic buckets,
+     * where each power of 2 is split into {@link #SUB_BUCKETS} linear buckets.
+     * This way, values are recorded with a relative error of at most 1/{@link #SUB_BUCKETS}.
+     */
+    public static final class Section implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private static final int SUB_BUCKET_BITS = 5;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Records an execution time.
+         *
+         * @param nanos the execution time in nanoseconds
+         */
+        public void record(final long nanos) {
+            final long value = Math.max(nanos, 0);
+            buckets.incrementAndGet(bucketIndex(value));
+            count.increment();
+            total.add(value);
+            if (value > max.get()) {
+                max.accumulateAndGet(value, Math::max);
+            }
+        }
+
+        private static int bucketIndex(final long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+
+            final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - 1 - SUB_BUCKET_BITS;
+            return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+        }
+
+        /**
+         * Gets the highest value that is recorded into a given bucket.
+         */
+        private static long bucketUpperBound(final int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+
+            final int shift = index / SUB_BUCKETS - 1;
+            final long top = index % SUB_BUCKETS + SUB_BUCKETS;
+            return ((top + 1) << shift) - 1;
+        }
+
+        /**
+         * Gets the number of recorded execution times.
+         * @return
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the sum of all recorded execution times, in nanoseconds.
+         * @return
+         */
+        public long getTotalNanos() {
+            return total.sum();
+        }
+
+        /**
+         * Gets the mean execution time, in nanoseconds.
+         * @return
+         */
+        public double getMeanNanos() {
+            final long n = getCount();
+            return n == 0 ? 0 : getTotalNanos() / (double) n;
+        }
+
+        /**
+         * Gets the maximum execution time, in nanoseconds.
+         * @return
+         */
+        public long getMaxNanos() {
+            return max.get();
+        }
+
+        /**
+         * Gets an approximation of a given percentile of the execution times,
+         * in nanoseconds.
+         *
+         * @param percentile the percentile to get, from 0 to 100
+         * @return the approximated percentile value (which is never greater than {@link #getMaxNanos()})
+         */
+        public long getPercentileNanos(final double percentile) {
+            long n = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                n += buckets.get(i);
+            }
+            if (n == 0) {
+                return 0;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+            long accumulated = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                accumulated += buckets.get(i);
+                if (accumulated >= rank) {
+                    return Math.min(bucketUpperBound(i), getMaxNanos());
+                }
+            }
+
+            return getMaxNanos();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Reads jobs from a binary workload file created by {@link #convert(WorkloadFileReader, String)}
+ * and creates a list of {@link Cloudlet Cloudlets} from them.
+ * The binary file stores the already parsed fields of each job from a trace
+ * read by a {@link WorkloadFileReader}, so that loading it doesn't require
+ * any text parsing.
+ *
+ * <p>The file is read through a memory-mapped buffer, which enables the
+ * operating system to share its pages among all simulations
+ * that load the same workload on the same machine.</p>
+ *
+ * <p>Jobs are stored in a columnar layout, where all numbers are little-endian:
+ * <ul>
+ *     <li>header: magic number, format version, number of jobs and
+ *     a reserved value (4 ints);</li>
+ *     <li>the submit time of every job (longs);</li>
+ *     <li>the id of every job (ints);</li>
+ *     <li>the run time of every job, in seconds (ints);</li>
+ *     <li>the number of PEs of every job (ints).</li>
+ * </ul>
+ * </p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ * @see WorkloadFileReader
+ */
+public class WorkloadBinaryFileReader implements WorkloadReader {
+    /**
+     * The number that identifies a workload binary file ("CSPW").
+     */
+    private static final int MAGIC = 0x43535057;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * The bytes stored for each job: submit time, id, run time and number of PEs.
+     */
+    private static final int JOB_SIZE = Long.BYTES + 3 * Integer.BYTES;
+
+    /**
+     * The binary workload file.
+     */
+    private final File file;
+
+    /**
+     * The Cloudlet's PE rating (in MIPS), considering that all PEs of a
+     * Cloudlet have the same rate.
+     */
+    private final int rating;
+
+    /**
+     * List of Cloudlets created from the jobs in the file.
+     */
+    private List<Cloudlet> jobs;
+
+    /**
+     * Creates a new WorkloadBinaryFileReader object.
+     *
+     * @param fileName the path of a binary workload file created by {@link #convert(WorkloadFileReader, String)}
+     * @param rating   the cloudlet's PE rating (in MIPS), considering that all
+     *                 PEs of a cloudlet have the same rate
+     * @throws FileNotFoundException when the file doesn't exist
+     * @throws IllegalArgumentException when the file name is null or empty or the rating is not greater than 0
+     */
+    public WorkloadBinaryFileReader(final String fileName, final int rating) throws FileNotFoundException {
+        if (Objects.isNull(fileName) || fileName.isEmpty()) {
+            throw new IllegalArgumentException("Invalid workload file name.");
+        } else if (rating <= 0) {
+            throw new IllegalArgumentException("Resource PE rating must be > 0.");
+        }
+
+        file = new File(fileName);
+        if (!file.exists()) {
+            throw new FileNotFoundException("Workload file " + fileName + " does not exist");
+        }
+
+        this.jobs = new ArrayList<>();
+        this.rating = rating;
+    }
+
+    /**
+     * Converts a trace file read by a {@link WorkloadFileReader} into a binary workload file.
+     * The trace is read just once using the settings of the given reader, such as
+     * its fields and comment definition and maximum number of lines to read.
+     *
+     * @param source the reader of the trace file to convert
+     * @param outputFile the path of the binary file to create
+     * @throws IOException when the trace file cannot be read or the binary file cannot be written
+     */
+    public static void convert(final WorkloadFileReader source, final String outputFile) throws IOException {
+        final Columns columns = new Columns();
+        try (Stream<Cloudlet> cloudlets = source.stream()) {
+            cloudlets.forEach(cloudlet ->
+                columns.add(
+                    (long) cloudlet.getSubmissionDelay(), cloudlet.getId(),
+                    (int) (cloudlet.getLength() / source.getRating()), cloudlet.getNumberOfPes()));
+        }
+
+        columns.write(outputFile);
+    }
+
+    @Override
+    public List<Cloudlet> generateWorkload() throws IOException {
+        if (jobs.isEmpty()) {
+            final ByteBuffer buffer = map();
+            final int count = buffer.getInt(2 * Integer.BYTES);
+            jobs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                jobs.add(createJob(buffer, count, i));
+            }
+        }
+
+        return jobs;
+    }
+
+    /**
+     * Gets a lazy {@link Stream} of the Cloudlets in the file,
+     * where each Cloudlet is just created when requested.
+     * As in {@link WorkloadFileReader#stream()}, the submission delay of each Cloudlet
+     * is set to the submit time of the job, which enables a {@link WorkloadFeeder}
+     * to submit it when simulation time reaches such a submit time.
+     *
+     * @return a sequential and ordered Cloudlet stream
+     * @throws IOException when the file cannot be read
+     * @see WorkloadFeeder
+     */
+    public Stream<Cloudlet> stream() throws IOException {
+        final ByteBuffer buffer = map();
+        final int count = buffer.getInt(2 * Integer.BYTES);
+        return IntStream.range(0, count).mapToObj(i -> {
+            final Cloudlet cloudlet = createJob(buffer, count, i);
+            cloudlet.setSubmissionDelay(getSubmitTime(buffer, i));
+            return cloudlet;
+        });
+    }
+
+    /**
+     * Maps the binary file into memory, checking its header.
+     * The file channel is closed right after mapping,
+     * while the mapping remains valid until the buffer is garbage collected.
+     *
+     * @return the buffer with the file content
+     * @throws IOException when the file cannot be read
+     * @throws IllegalArgumentException when the file is not a valid binary workload file
+     */
+    private ByteBuffer map() throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException(file + " is not a binary workload file.");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary workload file version in " + file);
+        }
+        if (HEADER_SIZE + (long) buffer.getInt(2 * Integer.BYTES) * JOB_SIZE > buffer.limit()) {
+            throw new IllegalArgumentException("Binary workload file " + file + " is truncated.");
+        }
+
+        return buffer;
+    }
+
+    private Cloudlet createJob(final ByteBuffer buffer, final int count, final int index) {
+        final int intColumns = HEADER_SIZE + count * Long.BYTES;
+        final int id = buffer.getInt(intColumns + index * Integer.BYTES);
+        final int runTime = buffer.getInt(intColumns + (count + index) * Integer.BYTES);
+        final int numProc = buffer.getInt(intColumns + (2 * count + index) * Integer.BYTES);
+        return WorkloadFileReader.createJob(id, runTime, numProc, rating);
+    }
+
+    private static long getSubmitTime(final ByteBuffer buffer, final int index) {
+        return buffer.getLong(HEADER_SIZE + index * Long.BYTES);
+    }
+
+    /**
+     * Gets the Cloudlet's PE rating (in MIPS), considering that all PEs of a
+     * Cloudlet have the same rate.
+     *
+     * @return
+     */
+    public int getRating() {
+        return rating;
+    }
+
+    /**
+     * Growable primitive columns used to store the jobs of a trace
+     * before writing them to a binary file, since the number of jobs
+     * is just known after reading the whole trace.
+     */
+    private static final class Columns {
+        private long[] submitTimes = new long[1024];
+        private int[] ids = new int[1024];
+        private int[] runTimes = new int[1024];
+        private int[] numProcs = new int[1024];
+        private int count;
+
+        void add(final long submitTime, final int id, final int runTime, final int numProc) {
+            if (count == ids.length) {
+                final int capacity = count * 2;
+                submitTimes = Arrays.copyOf(submitTimes, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                runTimes = Arrays.copyOf(runTimes, capacity);
+                numProcs = Arrays.copyOf(numProcs, capacity);
+            }
+
+            submitTimes[count] = submitTime;
+            ids[count] = id;
+            runTimes[count] = runTime;
+            numProcs[count] = numProc;
+            count++;
+        }
+
+        void write(final String outputFile) throws IOException {
+            final ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + count * JOB_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(0);
+            out.asLongBuffer().put(submitTimes, 0, count);
+            out.position(out.position() + count * Long.BYTES);
+            for (final int[] column : Arrays.asList(ids, runTimes, numProcs)) {
+                out.asIntBuffer().put(column, 0, count);
+                out.position(out.position() + count * Integer.BYTES);
+            }
+
+            out.flip();
+            try (FileChannel channel = FileChannel.open(new File(outputFile).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+            }
+        }
+    }
+}
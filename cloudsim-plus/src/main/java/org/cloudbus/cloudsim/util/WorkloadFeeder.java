@@ -0,0 +1,203 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * An entity that lazily reads Cloudlets from a workload {@link Stream}
+ * and submits them to a broker as the simulation time advances,
+ * according to the submission delay of each Cloudlet.
+ * This way, just the Cloudlets that are about to arrive are kept in memory,
+ * instead of loading the entire workload before the simulation starts.
+ *
+ * <p>The submission delay of each Cloudlet in the stream is taken as the absolute
+ * time (since the simulation start) the Cloudlet has to be submitted,
+ * such as the submit time of jobs in the Cloudlet streams
+ * created by {@link WorkloadFileReader#stream()}.
+ * Cloudlets must be ordered by such a time.</p>
+ *
+ * <p>Since the workload stream cannot be stored, simulations having a WorkloadFeeder
+ * cannot be stored into {@link org.cloudbus.cloudsim.core.CloudSim#checkpoint(java.io.OutputStream) checkpoints}.</p>
+ *
+ * <p>The feeder always submits the next batch of Cloudlets to the broker
+ * (with the remaining delay until their submit time) before the previous batch arrives.
+ * This way, the broker always has Cloudlets waiting to arrive and doesn't
+ * finish its execution while there are Cloudlets to be read from the workload.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class WorkloadFeeder extends CloudSimEntity {
+    private static final long serialVersionUID = 1L;
+
+    private final DatacenterBroker broker;
+    private final Stream<Cloudlet> cloudlets;
+    private final Iterator<Cloudlet> iterator;
+
+    /**
+     * The next Cloudlet read from the workload, which wasn't submitted yet.
+     */
+    private Cloudlet next;
+
+    /**
+     * @see #getSubmissionInterval()
+     */
+    private double submissionInterval;
+
+    /**
+     * @see #getSubmittedCloudlets()
+     */
+    private long submittedCloudlets;
+
+    /**
+     * Creates a WorkloadFeeder.
+     *
+     * @param simulation The CloudSim instance that represents the simulation the Entity is related to
+     * @param broker the broker to submit Cloudlets to
+     * @param cloudlets the stream of Cloudlets to submit, ordered by submission delay.
+     *                  It's closed after all Cloudlets are submitted.
+     */
+    public WorkloadFeeder(Simulation simulation, DatacenterBroker broker, Stream<Cloudlet> cloudlets) {
+        super(simulation);
+        this.broker = Objects.requireNonNull(broker);
+        this.cloudlets = Objects.requireNonNull(cloudlets);
+        this.iterator = cloudlets.iterator();
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(getName() + " cannot be stored since Cloudlets are read from a stream.");
+    }
+
+    @Override
+    protected void startEntity() {
+        Log.printConcatLine(getName(), " is starting...");
+        next = readNextCloudlet();
+        submitNextBatch();
+    }
+
+    @Override
+    public void processEvent(SimEvent ev) {
+        if (ev.getTag() == CloudSimTags.WORKLOAD_FEEDER_SUBMIT) {
+            submitNextBatch();
+        }
+    }
+
+    /**
+     * Submits to the broker the next batch of Cloudlets, which includes
+     * all Cloudlets whose submit time is within the {@link #getSubmissionInterval() submission interval}
+     * after the submit time of the first Cloudlet of the batch.
+     * It then schedules the submission of the following batch for the time
+     * the first Cloudlet of the current batch arrives.
+     */
+    private void submitNextBatch() {
+        if (next == null) {
+            cloudlets.close();
+            return;
+        }
+
+        final double now = getSimulation().clock();
+        final double batchStartTime = Math.max(next.getSubmissionDelay(), now);
+        final List<Cloudlet> batch = new ArrayList<>();
+        while (next != null && next.getSubmissionDelay() <= batchStartTime + submissionInterval) {
+            next.setSubmissionDelay(Math.max(next.getSubmissionDelay() - now, 0));
+            next.setBroker(broker);
+            batch.add(next);
+            next = readNextCloudlet();
+        }
+
+        submittedCloudlets += batch.size();
+        broker.submitCloudletList(batch);
+        schedule(getId(), batchStartTime - now, CloudSimTags.WORKLOAD_FEEDER_SUBMIT);
+    }
+
+    private Cloudlet readNextCloudlet() {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void shutdownEntity() {
+        cloudlets.close();
+        Log.printConcatLine(getName(), " is shutting down...");
+    }
+
+    /**
+     * Gets the broker the Cloudlets are submitted to.
+     * @return
+     */
+    public DatacenterBroker getBroker() {
+        return broker;
+    }
+
+    /**
+     * Gets the time interval (in seconds) used to group Cloudlets into a single submission.
+     * All Cloudlets whose submit time is within such an interval are submitted to the
+     * broker at once (each one keeping its own submission delay),
+     * reducing the number of events required to feed the broker.
+     * The default value is 0, which groups just Cloudlets with the same submit time.
+     *
+     * @return
+     */
+    public double getSubmissionInterval() {
+        return submissionInterval;
+    }
+
+    /**
+     * Sets the time interval (in seconds) used to group Cloudlets into a single submission.
+     *
+     * @param submissionInterval the interval to set
+     * @return
+     * @see #getSubmissionInterval()
+     */
+    public WorkloadFeeder setSubmissionInterval(double submissionInterval) {
+        if (submissionInterval < 0) {
+            throw new IllegalArgumentException("Submission interval cannot be negative.");
+        }
+
+        this.submissionInterval = submissionInterval;
+        return this;
+    }
+
+    /**
+     * Gets the number of Cloudlets submitted to the broker so far.
+     * @return
+     */
+    public long getSubmittedCloudlets() {
+        return submittedCloudlets;
+    }
+}
@@ -7,17 +7,29 @@
  */
 package org.cloudbus.cloudsim.util;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -52,6 +64,14 @@ import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
  * <li>The default Cloudlet file size for sending to and receiving from a Datacenter is
  * {@link DataCloudTags#DEFAULT_MTU}. However, you can
  * specify the file size by using {@link Cloudlet#setFileSize(long)}.
+ * <li>Huge trace files can be lazily read by calling {@link #stream()} instead of
+ * {@link #generateWorkload()}. The returned Cloudlets can be submitted to a broker
+ * according to their submit time using a {@link WorkloadFeeder}.
+ * <li>Plain text and zip trace files can be parsed in parallel by calling
+ * {@link #setParallel(boolean)} before {@link #generateWorkload()}.
+ * <li>Trace files read many times can be converted to a binary format by
+ * {@link WorkloadBinaryFileReader#convert(WorkloadFileReader, String)},
+ * which is loaded much faster by a {@link WorkloadBinaryFileReader}.
  * <li>A job run time is only for 1 PE <tt>not</tt> the total number of
  * allocated PEs. Therefore, a Cloudlet length is also calculated for 1 PE.<br>
  * For example, job #1 in the trace has a run time of 100 seconds for 2
@@ -144,15 +164,29 @@ public class WorkloadFileReader implements WorkloadReader {
     private final int IRRELEVANT = -1;
 
     /**
-     * A temp array storing all the fields read from a line of the trace file.
+     * Default size of the chunks of a plain text trace file (in bytes) to be parsed
+     * in parallel by different threads.
+     * @see #setParallel(boolean)
      */
-    private String[] fieldArray = null;
+    private static final int PARALLEL_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Size of the chunks of a plain text trace file (in bytes) to be parsed
+     * in parallel by different threads.
+     * @see #setParallelChunkSize(int)
+     */
+    private int parallelChunkSize = PARALLEL_CHUNK_SIZE;
 
     /**
      * @see #getMaxNumberOfLinesToRead()
      */
     private int maxNumberOfLinesToRead;
 
+    /**
+     * @see #isParallel()
+     */
+    private boolean parallel;
+
     /**
      * Create a new WorkloadFileReader object.
      *
@@ -190,9 +224,6 @@ public class WorkloadFileReader implements WorkloadReader {
     @Override
     public List<Cloudlet> generateWorkload() throws IOException {
         if (jobs.isEmpty()) {
-            // create a temp array
-            fieldArray = new String[MAX_FIELD];
-
                 /*@todo It would be implemented
                 using specific classes to avoid using ifs.
                 If a new format is included, the code has to be
@@ -209,6 +240,31 @@ public class WorkloadFileReader implements WorkloadReader {
         return jobs;
     }
 
+    /**
+     * Gets a lazy {@link Stream} of the Cloudlets in the trace file,
+     * where each line is just read and parsed when the next Cloudlet is requested.
+     * This way, the whole trace doesn't have to be loaded into memory
+     * before the simulation starts.
+     *
+     * <p>The submission delay of each Cloudlet is set to the submit time
+     * of the job in the trace file (in seconds since the trace start),
+     * which enables a {@link WorkloadFeeder} to submit each Cloudlet
+     * to a broker when simulation time reaches such a submit time.</p>
+     *
+     * <p>The returned stream must be closed after use in order to release
+     * the trace file.</p>
+     *
+     * @return a sequential and ordered Cloudlet stream
+     * @throws IOException when the trace file cannot be opened
+     * @see WorkloadFeeder
+     */
+    public Stream<Cloudlet> stream() throws IOException {
+        final CloudletIterator iterator = new CloudletIterator();
+        final Spliterator<Cloudlet> spliterator =
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
     /**
      * Sets the string that identifies the start of a comment line.
      *
@@ -302,169 +358,204 @@ public class WorkloadFileReader implements WorkloadReader {
     }
 
     /**
-     * Creates a Cloudlet with the given information and adds to the list of
-     * {@link #jobs}.
+     * Creates a Cloudlet with the given information.
      *
      * @param id         a Cloudlet ID
-     * @param submitTime Cloudlet's submit time
      * @param runTime    The number of seconds the Cloudlet has to run. Considering
      *                   that and the {@link #rating}, the {@link Cloudlet#getLength()} is
      *                   computed.
      * @param numProc    number of Cloudlet's PEs
-     * @param userID     user id
-     * @param groupID    user's group id
+     * @return the created Cloudlet
      * @pre id >= 0
-     * @pre submitTime >= 0
      * @pre runTime >= 0
      * @pre numProc > 0
      * @post $none
      * @see #rating
      */
-    private void createJob(
-        final int id,
-        final long submitTime,
-        final int runTime,
-        final int numProc,
-        final int userID,
-        final int groupID) {
+    private Cloudlet createJob(final int id, final int runTime, final int numProc) {
+        return createJob(id, runTime, numProc, rating);
+    }
+
+    /**
+     * Creates a Cloudlet with the given information.
+     *
+     * @param id         a Cloudlet ID
+     * @param runTime    The number of seconds the Cloudlet has to run
+     * @param numProc    number of Cloudlet's PEs
+     * @param rating     the Cloudlet's PE rating (in MIPS), used to compute the {@link Cloudlet#getLength()}
+     * @return the created Cloudlet
+     * @see WorkloadBinaryFileReader
+     */
+    static Cloudlet createJob(final int id, final int runTime, final int numProc, final int rating) {
         final int len = runTime * rating;
         UtilizationModel utilizationModel = new UtilizationModelFull();
-        final Cloudlet cloudlet = new CloudletSimple(id, len, numProc)
+        return new CloudletSimple(id, len, numProc)
             .setFileSize(DataCloudTags.DEFAULT_MTU)
             .setOutputSize(DataCloudTags.DEFAULT_MTU)
             .setUtilizationModel(utilizationModel);
-        jobs.add(cloudlet);
     }
 
     /**
-     * Extracts relevant information from a given array of fields, representing
-     * a line from the trace file, and creates a cloudlet using this
-     * information.
+     * Reads traces from a InputStream to a workload file
+     * in any supported format, adding the created Cloudlets to a given list.
      *
-     * @param array the array of fields generated from a line of the trace file.
-     * @param line  the line number
-     * @pre array != null
-     * @pre line > 0
-     */
-    private void createCloudletFromOneTraceFileLine(final String[] array, final int line) {
-        Integer obj;
-
-        // get the job number
-        int id;
-        if (JOB_NUM == IRRELEVANT) {
-            id = jobs.size() + 1;
-        } else {
-            obj = new Integer(array[JOB_NUM].trim());
-            id = obj;
+     * @param inputStream the stream that is able to read data from a workload file
+     * @param cloudlets the list to add the Cloudlets created from the trace to
+     * @throws IOException           if the there was any error reading the file
+     */
+    private void readFile(final InputStream inputStream, final List<Cloudlet> cloudlets) throws IOException {
+        try (LineReader reader = new LineReader(inputStream)) {
+            final TraceLineParser parser = new TraceLineParser();
+            int line = 1;
+            while (isNotMaxNumberOfLinesToRead(line) && reader.readLine()) {
+                if (parser.parse(reader.buffer(), reader.lineStart(), reader.lineEnd())) {
+                    cloudlets.add(parser.createCloudlet(cloudlets.size() + 1));
+                }
+                line++;
+            }
         }
+    }
 
-        // get the submit time
-        final Long l = new Long(array[SUBMIT_TIME].trim());
-        final long submitTime = l.intValue();
-
-        // get the user estimated run time
-        obj = new Integer(array[REQ_RUN_TIME].trim());
-        final int reqRunTime = obj;
-
-        // if the required run time field is ignored, then use
-        // the actual run time
-        obj = new Integer(array[RUN_TIME].trim());
-        int runTime = obj;
-
-        final int userID = new Integer(array[USER_ID].trim());
-        final int groupID = new Integer(array[GROUP_ID].trim());
+    private void readFile(final InputStream inputStream) throws IOException {
+        readFile(inputStream, jobs);
+    }
 
-        // according to the SWF manual, runtime of 0 is possible due
-        // to rounding down. E.g. runtime is 0.4 seconds -> runtime = 0
-        if (runTime <= 0) {
-            runTime = 1; // change to 1 second
+    /**
+     * Reads traces from a text file, usually with the swf extension, one line at a time.
+     *
+     * @param fl a file name
+     * @return <code>true</code> if successful, <code>false</code> otherwise.
+     * @throws IOException           if the there was any error reading the file
+     */
+    protected void readTextFile(final File fl) throws IOException {
+        if (isParallelReadingEnabled()) {
+            readTextFileInParallel(fl);
+            return;
         }
 
-        // get the number of allocated processors
-        obj = new Integer(array[REQ_NUM_PROC].trim());
-        int numProc = obj;
-
-        // if the required num of allocated processors field is ignored
-        // or zero, then use the actual field
-        if (numProc == IRRELEVANT || numProc == 0) {
-            obj = new Integer(array[NUM_PROC].trim());
-            numProc = obj;
-        }
+        readFile(new FileInputStream(fl));
+    }
 
-        // finally, check if the num of PEs required is valid or not
-        if (numProc <= 0) {
-            numProc = 1;
+    /**
+     * Reads traces from a text file, splitting it into chunks of lines
+     * which are parsed in parallel using the common ForkJoinPool.
+     * The Cloudlets are added to the list of {@link #jobs} in the same order
+     * they appear in the file.
+     *
+     * @param fl a file name
+     * @throws IOException if the there was any error reading the file
+     */
+    private void readTextFileInParallel(final File fl) throws IOException {
+        try (FileChannel channel = FileChannel.open(fl.toPath(), StandardOpenOption.READ)) {
+            final long[] boundaries = computeChunkBoundaries(channel);
+            final List<List<Cloudlet>> chunks = IntStream.range(0, boundaries.length - 1)
+                .parallel()
+                .mapToObj(i -> readChunk(channel, boundaries[i], boundaries[i + 1]))
+                .collect(Collectors.toList());
+            addJobsFromChunks(chunks);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-        createJob(id, submitTime, runTime, numProc, userID, groupID);
     }
 
     /**
-     * Breaks a line from the trace file into many fields into the
-     * {@link #fieldArray}.
+     * Splits a file into chunks of approximately {@link #parallelChunkSize} bytes,
+     * ensuring each chunk ends at a line break.
      *
-     * @param line    a line from the trace file
-     * @param lineNum the line number
-     * @return true if the line was parsed, false otherwise
-     * @pre line != null
-     * @pre lineNum > 0
-     * @post $none
+     * @param channel the channel to read the file
+     * @return an array where each element i is the start position of the i-th chunk
+     * and the last element is the file size
+     * @throws IOException if the there was any error reading the file
      */
-    private boolean parseValue(final String line, final int lineNum) {
-        // skip a comment line
-        if (line.startsWith(COMMENT)) {
-            return false;
+    private long[] computeChunkBoundaries(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        final ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long position = parallelChunkSize;
+        while (position < size) {
+            final long lineBreak = findNextLineBreak(channel, position, buffer);
+            if (lineBreak < 0 || lineBreak + 1 >= size) {
+                break;
+            }
+            boundaries.add(lineBreak + 1);
+            position = lineBreak + 1 + parallelChunkSize;
         }
 
-        final String[] sp = line.split("\\s+"); // split the fields based on a
-        // space
-        int index = 0; // the index of an array
-
-        // check for each field in the array
-        for (String elem : sp) {
+        boundaries.add(size);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
 
-            // if it is empty then ignore
-            if (elem.length() == 0) {
-                continue;
+    private long findNextLineBreak(final FileChannel channel, long position, final ByteBuffer buffer) throws IOException {
+        while (true) {
+            buffer.clear();
+            final int read = channel.read(buffer, position);
+            if (read <= 0) {
+                return -1;
             }
-            fieldArray[index] = elem;
-            index++;
-        }
 
-        if (index == MAX_FIELD) {
-            createCloudletFromOneTraceFileLine(fieldArray, lineNum);
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i;
+                }
+            }
+            position += read;
         }
-
-        return true;
     }
 
     /**
-     * Reads traces from a InputStream to a workload file
-     * in any supported format.
+     * Reads and parses a chunk of lines from a file.
      *
-     * @param inputStream the stream that is able to read data from a workload file
-     * @return <code>true</code> if successful, <code>false</code> otherwise.
-     * @throws IOException           if the there was any error reading the file
+     * @param channel the channel to read the file
+     * @param start the position of the first byte of the chunk
+     * @param end the position after the last byte of the chunk
+     * @return the list of Cloudlets created from the chunk
      */
-    private void readFile(final InputStream inputStream) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            int line = 1;
-            String readLine;
-            while ((readLine = readNextLine(reader, line)) != null) {
-                parseValue(readLine, line);
-                line++;
+    private List<Cloudlet> readChunk(final FileChannel channel, final long start, final long end) {
+        final byte[] bytes = new byte[(int) (end - start)];
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final TraceLineParser parser = new TraceLineParser();
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i <= buffer.position(); i++) {
+            if (i == buffer.position() || bytes[i] == '\n') {
+                if (parser.parse(bytes, lineStart, i)) {
+                    cloudlets.add(parser.createCloudlet(0));
+                }
+                lineStart = i + 1;
             }
         }
+
+        return cloudlets;
     }
 
     /**
-     * Reads traces from a text file, usually with the swf extension, one line at a time.
+     * Adds the Cloudlets read from a list of chunks to the list of {@link #jobs},
+     * in the order of the chunks.
+     * If job numbers aren't read from the trace,
+     * Cloudlet IDs are sequentially defined.
      *
-     * @param fl a file name
-     * @return <code>true</code> if successful, <code>false</code> otherwise.
-     * @throws IOException           if the there was any error reading the file
+     * @param chunks the list of chunks of Cloudlets
      */
-    protected void readTextFile(final File fl) throws IOException {
-        readFile(new FileInputStream(fl));
+    private void addJobsFromChunks(final List<List<Cloudlet>> chunks) {
+        for (List<Cloudlet> chunk : chunks) {
+            for (Cloudlet cloudlet : chunk) {
+                if (JOB_NUM == IRRELEVANT) {
+                    cloudlet.setId(jobs.size() + 1);
+                }
+                jobs.add(cloudlet);
+            }
+        }
     }
 
     /**
@@ -488,6 +579,11 @@ public class WorkloadFileReader implements WorkloadReader {
      */
     protected boolean readZipFile(final File fl) throws IOException {
         try (ZipFile zipFile = new ZipFile(fl)) {
+            if (isParallelReadingEnabled()) {
+                readZipEntriesInParallel(zipFile);
+                return true;
+            }
+
             // ZipFile offers an Enumeration of all the files in the file
             final Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
             while (zipEntries.hasMoreElements()) {
@@ -499,19 +595,53 @@ public class WorkloadFileReader implements WorkloadReader {
     }
 
     /**
-     * Reads the next line of the workload file.
+     * Reads each trace file inside a Zip file in parallel,
+     * adding the Cloudlets to the list of {@link #jobs} in the order of the entries.
      *
-     * @param reader     the object that is reading the workload file
-     * @param lineNumber the number of the line that that will be read from the workload file
-     * @return the line read; or null if there isn't any more lines to read or if
-     * the number of lines read reached the {@link #getMaxNumberOfLinesToRead()}
+     * @param zipFile the zip file to read
+     * @throws IOException if the there was any error reading the file
      */
-    private String readNextLine(BufferedReader reader, int lineNumber) throws IOException {
-        if (reader.ready() && (maxNumberOfLinesToRead == -1 || lineNumber <= maxNumberOfLinesToRead)) {
-            return reader.readLine();
+    private void readZipEntriesInParallel(final ZipFile zipFile) throws IOException {
+        try {
+            final List<List<Cloudlet>> chunks = Collections.list(zipFile.entries())
+                .parallelStream()
+                .map(entry -> readZipEntry(zipFile, entry))
+                .collect(Collectors.toList());
+            addJobsFromChunks(chunks);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private List<Cloudlet> readZipEntry(final ZipFile zipFile, final ZipEntry entry) {
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        try {
+            readFile(zipFile.getInputStream(entry), cloudlets);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        return null;
+        return cloudlets;
+    }
+
+    /**
+     * Checks if a given line number has not reached the {@link #getMaxNumberOfLinesToRead()}.
+     *
+     * @param lineNumber the number of the line that that will be read from the workload file
+     * @return true if the line can be read, false otherwise
+     */
+    private boolean isNotMaxNumberOfLinesToRead(final int lineNumber) {
+        return maxNumberOfLinesToRead == -1 || lineNumber <= maxNumberOfLinesToRead;
+    }
+
+    /**
+     * Gets the Cloudlet's PE rating (in MIPS), considering that all PEs of a
+     * Cloudlet have the same rate.
+     *
+     * @return
+     */
+    public int getRating() {
+        return rating;
     }
 
     /**
@@ -535,4 +665,401 @@ public class WorkloadFileReader implements WorkloadReader {
     public void setMaxNumberOfLinesToRead(int maxNumberOfLinesToRead) {
         this.maxNumberOfLinesToRead = maxNumberOfLinesToRead;
     }
+
+    /**
+     * Checks if plain text and zip trace files are parsed in parallel
+     * by {@link #generateWorkload()}.
+     *
+     * @return true if parallel parsing is enabled, false otherwise
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Defines if plain text and zip trace files have to be parsed in parallel
+     * by {@link #generateWorkload()}, using the common ForkJoinPool.
+     * Plain text files are split into chunks of lines, while each file
+     * inside a zip archive is parsed by a different thread.
+     * The generated Cloudlets are exactly the same
+     * (and in the same order) as in sequential reading.
+     *
+     * <p>Gzip files are always read sequentially, as well as any file when
+     * a {@link #setMaxNumberOfLinesToRead(int) maximum number of lines} is set.</p>
+     *
+     * @param parallel true to enable parallel parsing, false to disable
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Sets the size of the chunks of a plain text trace file (in bytes)
+     * to be parsed in parallel, which enables splitting small files into many chunks.
+     *
+     * @param parallelChunkSize the chunk size to set
+     */
+    void setParallelChunkSize(int parallelChunkSize) {
+        if (parallelChunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be greater than zero.");
+        }
+
+        this.parallelChunkSize = parallelChunkSize;
+    }
+
+    private boolean isParallelReadingEnabled() {
+        return parallel && maxNumberOfLinesToRead == -1;
+    }
+
+    /**
+     * Parses a line of the trace file, stored into a byte array,
+     * without creating any String or intermediate object.
+     * Each instance keeps the fields of the last parsed line, so that
+     * an instance cannot be shared among threads.
+     */
+    private final class TraceLineParser {
+        /**
+         * The start and end positions of each field of the last parsed line.
+         */
+        private final int[] fieldStart = new int[MAX_FIELD];
+        private final int[] fieldEnd = new int[MAX_FIELD];
+        private final byte[] comment = COMMENT.getBytes(StandardCharsets.UTF_8);
+
+        private byte[] line;
+        private int lineStart;
+        private int lineEnd;
+
+        /**
+         * Breaks a line from the trace file into many fields.
+         *
+         * @param line  a buffer containing a line from the trace file
+         * @param start the position of the first char of the line in the buffer
+         * @param end   the position after the last char of the line in the buffer
+         * @return true if the line has the expected number of fields, false
+         * if it's a comment or an incomplete line
+         */
+        boolean parse(final byte[] line, final int start, final int end) {
+            if (isComment(line, start, end)) {
+                return false;
+            }
+
+            this.line = line;
+            this.lineStart = start;
+            this.lineEnd = end;
+            int index = 0;
+            int i = start;
+            while (i < end) {
+                while (i < end && isWhitespace(line[i])) {
+                    i++;
+                }
+                if (i == end) {
+                    break;
+                }
+                if (index == MAX_FIELD) {
+                    return false;
+                }
+
+                fieldStart[index] = i;
+                while (i < end && !isWhitespace(line[i])) {
+                    i++;
+                }
+                fieldEnd[index++] = i;
+            }
+
+            return index == MAX_FIELD;
+        }
+
+        private boolean isComment(final byte[] line, final int start, final int end) {
+            if (end - start < comment.length) {
+                return false;
+            }
+
+            for (int i = 0; i < comment.length; i++) {
+                if (line[start + i] != comment[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean isWhitespace(final byte b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '\f' || b == 0x0B;
+        }
+
+        /**
+         * Gets the value of a given field from the last parsed line.
+         * Decimal values are truncated.
+         *
+         * @param field the index of the field
+         * @return the field value
+         * @throws NumberFormatException when the field is not a number
+         */
+        long getField(final int field) {
+            final int start = fieldStart[field];
+            final int end = fieldEnd[field];
+            final boolean negative = line[start] == '-';
+            int i = negative || line[start] == '+' ? start + 1 : start;
+            if (i == end) {
+                throw newNumberFormatException(field);
+            }
+
+            long value = 0;
+            for (; i < end && line[i] != '.'; i++) {
+                final int digit = line[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw newNumberFormatException(field);
+                }
+                value = value * 10 + digit;
+            }
+
+            return negative ? -value : value;
+        }
+
+        private NumberFormatException newNumberFormatException(final int field) {
+            return new NumberFormatException(
+                String.format(
+                    "Invalid value '%s' for field %d at line '%s'",
+                    new String(line, fieldStart[field], fieldEnd[field] - fieldStart[field], StandardCharsets.UTF_8),
+                    field + 1,
+                    new String(line, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8)));
+        }
+
+        long getSubmitTime() {
+            return getField(SUBMIT_TIME);
+        }
+
+        /**
+         * Creates a Cloudlet using the information from the last parsed line.
+         *
+         * @param generatedId the id to assign to the Cloudlet if the job number
+         *                    is not read from the trace file
+         * @return the created Cloudlet
+         */
+        Cloudlet createCloudlet(final int generatedId) {
+            final int id = JOB_NUM == IRRELEVANT ? generatedId : (int) getField(JOB_NUM);
+
+            // according to the SWF manual, runtime of 0 is possible due
+            // to rounding down. E.g. runtime is 0.4 seconds -> runtime = 0
+            int runTime = (int) getField(RUN_TIME);
+            if (runTime <= 0) {
+                runTime = 1; // change to 1 second
+            }
+
+            // get the number of allocated processors
+            int numProc = (int) getField(REQ_NUM_PROC);
+
+            // if the required num of allocated processors field is ignored
+            // or zero, then use the actual field
+            if (numProc == IRRELEVANT || numProc == 0) {
+                numProc = (int) getField(NUM_PROC);
+            }
+
+            // finally, check if the num of PEs required is valid or not
+            if (numProc <= 0) {
+                numProc = 1;
+            }
+
+            return createJob(id, runTime, numProc);
+        }
+    }
+
+    /**
+     * Reads lines from an InputStream into a reusable byte buffer,
+     * avoiding the creation of a String for each line.
+     */
+    private static final class LineReader implements AutoCloseable {
+        private final InputStream inputStream;
+        private byte[] buffer = new byte[64 * 1024];
+
+        /**
+         * Number of valid bytes into the buffer.
+         */
+        private int length;
+
+        /**
+         * Position where the next line starts.
+         */
+        private int position;
+
+        private int lineStart;
+        private int lineEnd;
+        private boolean endOfStream;
+
+        LineReader(final InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        /**
+         * Reads the next line.
+         * @return true if a line was read, false if the end of the stream was reached
+         * @throws IOException if the there was any error reading the stream
+         */
+        boolean readLine() throws IOException {
+            int i = position;
+            while (true) {
+                for (; i < length; i++) {
+                    if (buffer[i] == '\n') {
+                        lineStart = position;
+                        lineEnd = i;
+                        position = i + 1;
+                        return true;
+                    }
+                }
+
+                if (endOfStream) {
+                    if (position < length) {
+                        lineStart = position;
+                        lineEnd = length;
+                        position = length;
+                        return true;
+                    }
+                    return false;
+                }
+
+                i -= position;
+                fill();
+            }
+        }
+
+        /**
+         * Moves the unread bytes to the beginning of the buffer
+         * (growing it if full) and reads more bytes from the stream.
+         */
+        private void fill() throws IOException {
+            final int remaining = length - position;
+            if (remaining == buffer.length) {
+                final byte[] newBuffer = new byte[buffer.length * 2];
+                System.arraycopy(buffer, position, newBuffer, 0, remaining);
+                buffer = newBuffer;
+            } else {
+                System.arraycopy(buffer, position, buffer, 0, remaining);
+            }
+
+            length = remaining;
+            position = 0;
+            final int read = inputStream.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                endOfStream = true;
+            } else {
+                length += read;
+            }
+        }
+
+        byte[] buffer() {
+            return buffer;
+        }
+
+        int lineStart() {
+            return lineStart;
+        }
+
+        int lineEnd() {
+            return lineEnd;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Lazily reads Cloudlets from the trace file, in any supported format.
+     * @see #stream()
+     */
+    private final class CloudletIterator implements Iterator<Cloudlet> {
+        private final TraceLineParser parser = new TraceLineParser();
+        private final ZipFile zipFile;
+        private final Enumeration<? extends ZipEntry> zipEntries;
+        private LineReader reader;
+        private Cloudlet next;
+        private int line;
+        private int generatedId;
+
+        CloudletIterator() throws IOException {
+            if (file.getName().endsWith(".zip")) {
+                zipFile = new ZipFile(file);
+                zipEntries = zipFile.entries();
+                reader = null;
+            } else {
+                zipFile = null;
+                zipEntries = null;
+                final InputStream in = new FileInputStream(file);
+                reader = new LineReader(file.getName().endsWith(".gz") ? new GZIPInputStream(in) : in);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = readNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public Cloudlet next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Cloudlet cloudlet = next;
+            next = null;
+            return cloudlet;
+        }
+
+        private Cloudlet readNext() throws IOException {
+            while (nextReader()) {
+                while (isNotMaxNumberOfLinesToRead(++line) && reader.readLine()) {
+                    if (parser.parse(reader.buffer(), reader.lineStart(), reader.lineEnd())) {
+                        final Cloudlet cloudlet = parser.createCloudlet(++generatedId);
+                        cloudlet.setSubmissionDelay(parser.getSubmitTime());
+                        return cloudlet;
+                    }
+                }
+
+                reader.close();
+                reader = null;
+            }
+
+            return null;
+        }
+
+        /**
+         * Ensures there is a reader for the current file or zip entry.
+         * @return true if there is a reader, false if there is no more file to read
+         */
+        private boolean nextReader() throws IOException {
+            if (reader != null) {
+                return true;
+            }
+
+            if (zipEntries != null && zipEntries.hasMoreElements()) {
+                reader = new LineReader(zipFile.getInputStream(zipEntries.nextElement()));
+                line = 0;
+                return true;
+            }
+
+            return false;
+        }
+
+        void close() {
+            try {
+                if (reader != null) {
+                    reader.close();
+                }
+                if (zipFile != null) {
+                    zipFile.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
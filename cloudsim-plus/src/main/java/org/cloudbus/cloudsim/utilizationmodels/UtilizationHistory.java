@@ -0,0 +1,325 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the resource utilization of a {@link UtilizationModelStochastic} along the simulation time
+ * into primitive arrays sorted by time, avoiding the memory overhead of a {@code Map<Double, Double>}
+ * with a boxed entry for each time.
+ *
+ * <p>Utilization values are found by a binary search on the times,
+ * but the values for the last time, which is the most requested one, are found directly.
+ * The arrays are used as a circular buffer, so that a history with a {@link #getMaxSize() maximum size}
+ * keeps just the values for the latest times, discarding the oldest ones when it's full.</p>
+ *
+ * <p>The values of many histories can be {@link #write(List, String) written} to a compact binary file
+ * and {@link #read(String) read} back, to replay a simulation with the same random utilization values.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class UtilizationHistory implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number that identifies a utilization history binary file ("CSPH").
+     */
+    private static final int MAGIC = 0x43535048;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * @see #getMaxSize()
+     */
+    private final int maxSize;
+
+    /**
+     * The times in which the utilization was stored, in ascending order
+     * starting from the {@link #head} position.
+     */
+    private double[] times;
+
+    /**
+     * The utilization for each time in the {@link #times} array.
+     */
+    private double[] values;
+
+    /**
+     * The position of the oldest time in the circular {@link #times} and {@link #values} arrays.
+     */
+    private int head;
+
+    /**
+     * @see #size()
+     */
+    private int size;
+
+    /**
+     * Creates a history without a maximum size.
+     */
+    public UtilizationHistory() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a history that keeps just the utilization for the latest times.
+     *
+     * @param maxSize the maximum number of times to keep
+     */
+    public UtilizationHistory(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the history must be at least 1.");
+        }
+
+        this.maxSize = maxSize;
+        final int capacity = Math.min(INITIAL_CAPACITY, maxSize);
+        this.times = new double[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Gets the utilization stored for a given time.
+     *
+     * @param time the time to get the utilization
+     * @return the stored utilization or {@link Double#NaN} if there is no utilization for the given time
+     */
+    public double get(final double time) {
+        final int index = indexOf(time);
+        return index < 0 ? Double.NaN : values[position(index)];
+    }
+
+    /**
+     * Stores the utilization for a given time, replacing any utilization previously stored for it.
+     * If the history is full, the utilization for the oldest time is discarded,
+     * unless the given time is older than all stored ones, in which case it's not stored.
+     *
+     * @param time the time to store the utilization
+     * @param utilization the utilization to store
+     */
+    public void put(final double time, final double utilization) {
+        int index = indexOf(time);
+        if (index >= 0) {
+            values[position(index)] = utilization;
+            return;
+        }
+
+        index = -(index + 1);
+        if (size == maxSize) {
+            if (index == 0) {
+                return;
+            }
+
+            head = position(1);
+            size--;
+            index--;
+        }
+
+        if (size == times.length) {
+            grow();
+        }
+
+        for (int i = size; i > index; i--) {
+            times[position(i)] = times[position(i - 1)];
+            values[position(i)] = values[position(i - 1)];
+        }
+
+        times[position(index)] = time;
+        values[position(index)] = utilization;
+        size++;
+    }
+
+    /**
+     * Finds the index of a time, where 0 is the oldest stored time.
+     *
+     * @param time the time to find
+     * @return the index of the time if it's stored; otherwise, {@code -(insertion point) - 1}
+     *         (as in {@link java.util.Arrays#binarySearch(double[], double)})
+     */
+    private int indexOf(final double time) {
+        if (size == 0) {
+            return -1;
+        }
+
+        final double last = times[position(size - 1)];
+        if (time >= last) {
+            return time == last ? size - 1 : -(size + 1);
+        }
+
+        int low = 0;
+        int high = size - 2;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final double midTime = times[position(mid)];
+            if (midTime < time) {
+                low = mid + 1;
+            } else if (midTime > time) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Gets the position in the circular arrays of the time with a given index.
+     * @param index the index of the time, where 0 is the oldest stored time
+     * @return
+     */
+    private int position(final int index) {
+        final int position = head + index;
+        return position < times.length ? position : position - times.length;
+    }
+
+    /**
+     * Increases the capacity of the arrays, placing the oldest time at the first position.
+     */
+    private void grow() {
+        final int capacity = (int) Math.min(maxSize, Math.max(INITIAL_CAPACITY, times.length * 2L));
+        final double[] newTimes = new double[capacity];
+        final double[] newValues = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            newTimes[i] = times[position(i)];
+            newValues[i] = values[position(i)];
+        }
+
+        times = newTimes;
+        values = newValues;
+        head = 0;
+    }
+
+    /**
+     * Gets the number of times which have a stored utilization.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of times the history keeps.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Writes a list of histories to a binary file,
+     * such as the histories of all {@link UtilizationModelStochastic} objects used in a simulation.
+     *
+     * @param histories the histories to write
+     * @param fileName the path of the file to write
+     * @throws IOException when the file cannot be written
+     * @see #read(String)
+     */
+    public static void write(final List<? extends UtilizationHistory> histories, final String fileName) throws IOException {
+        long fileSize = HEADER_SIZE;
+        for (final UtilizationHistory history : histories) {
+            fileSize += 2 * Integer.BYTES + 2L * history.size * Double.BYTES;
+        }
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The histories are too large to be written to a single file.");
+        }
+
+        final ByteBuffer out = ByteBuffer.allocate((int) fileSize).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putInt(histories.size());
+        for (final UtilizationHistory history : histories) {
+            out.putInt(history.maxSize).putInt(history.size);
+            for (int i = 0; i < history.size; i++) {
+                out.putDouble(history.times[history.position(i)]);
+            }
+            for (int i = 0; i < history.size; i++) {
+                out.putDouble(history.values[history.position(i)]);
+            }
+        }
+
+        out.flip();
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Reads the histories from a binary file written by {@link #write(List, String)}.
+     *
+     * @param fileName the path of the file to read
+     * @return the list of histories, in the order they were written
+     * @throws IOException when the file cannot be read
+     * @throws IllegalArgumentException when the file is not a valid utilization history binary file
+     */
+    public static List<UtilizationHistory> read(final String fileName) throws IOException {
+        final ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        if (in.limit() < HEADER_SIZE || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException(fileName + " is not a utilization history binary file.");
+        }
+        if (in.getInt() != VERSION) {
+            throw new IllegalArgumentException("Unsupported utilization history binary file version in " + fileName);
+        }
+
+        final int count = in.getInt();
+        final List<UtilizationHistory> histories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.remaining() < 2 * Integer.BYTES) {
+                throw new IllegalArgumentException("Utilization history binary file " + fileName + " is truncated.");
+            }
+
+            final UtilizationHistory history = new UtilizationHistory(in.getInt());
+            final int size = in.getInt();
+            if (size < 0 || size > history.maxSize || in.remaining() < 2L * size * Double.BYTES) {
+                throw new IllegalArgumentException("Utilization history binary file " + fileName + " is truncated.");
+            }
+
+            history.times = new double[Math.max(size, history.times.length)];
+            history.values = new double[history.times.length];
+            in.asDoubleBuffer().get(history.times, 0, size);
+            in.position(in.position() + size * Double.BYTES);
+            in.asDoubleBuffer().get(history.values, 0, size);
+            in.position(in.position() + size * Double.BYTES);
+            history.size = size;
+            histories.add(history);
+        }
+
+        return histories;
+    }
+}
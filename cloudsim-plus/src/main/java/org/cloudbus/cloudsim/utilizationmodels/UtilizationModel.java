@@ -11,6 +11,9 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+import java.util.List;
+
 /**
  * The UtilizationModel interface needs to be implemented in order to provide a
  * fine-grained control over resource usage by a Cloudlet.
@@ -23,7 +26,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 2.0
  */
-public interface UtilizationModel {
+@SuppressWarnings("serial")
+public interface UtilizationModel extends Serializable {
     /**
      * Defines the unit of the resource utilization.
      */
@@ -85,11 +89,43 @@ public interface UtilizationModel {
      */
     double getUtilization();
 
+    /**
+     * Gets the <b>expected</b> utilization of a list of models at the same simulation time,
+     * such as the models of all Cloudlets running inside a VM.
+     * Each value can be a percentage in scale from [0 to 1] or an absolute value,
+     * depending on the {@link #getUnit()} of the related model.
+     *
+     * <p>The array to store the values is given as parameter to enable reusing it
+     * when the utilization of the same models is got at different times.
+     * Like in {@link java.util.Collection#toArray(Object[])}, if the array is not
+     * large enough, a new one is created.</p>
+     *
+     * @param models the models to get the utilization
+     * @param time the time to get the resource usage
+     * @param utilization the array to store the utilization of each model,
+     *                    where the element at index i is the utilization of the i-th model
+     * @return the given utilization array or a new one if it isn't large enough
+     * @see #getUtilization(double)
+     */
+    static double[] getUtilization(final List<? extends UtilizationModel> models, final double time, double[] utilization) {
+        if (utilization.length < models.size()) {
+            utilization = new double[models.size()];
+        }
+
+        int i = 0;
+        for (final UtilizationModel model : models) {
+            utilization[i++] = model.getUtilization(time);
+        }
+
+        return utilization;
+    }
+
     /**
      * A property that implements the Null Object Design Pattern for {@link UtilizationModel}
      * objects using a Lambda Expression.
      */
     UtilizationModel NULL = new UtilizationModel() {
+        private static final long serialVersionUID = 1L;
         @Override public Simulation getSimulation() { return Simulation.NULL; }
         @Override public Unit getUnit() { return Unit.PERCENTAGE; }
         @Override public UtilizationModel setSimulation(Simulation simulation) { return this; }
@@ -18,6 +18,8 @@ import java.util.Objects;
  * @since CloudSim Plus 1.2
  */
 public abstract class UtilizationModelAbstract implements UtilizationModel {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A constant which indicates that values lower or equal to this value
      * will be considered as zero.
@@ -27,6 +29,16 @@ public abstract class UtilizationModelAbstract implements UtilizationModel {
     private Simulation simulation;
     private Unit unit;
 
+    /**
+     * The last utilization computed by a subclass, which is returned again
+     * while the utilization is requested for the same time.
+     * The object is replaced at every new time, instead of changed,
+     * so that a model shared by Cloudlets running in different threads
+     * always reads a time and utilization that match, without locking.
+     * @see #getCachedUtilization(double)
+     */
+    private transient volatile UtilizationSample lastSample;
+
     public UtilizationModelAbstract(){
         this(Unit.PERCENTAGE);
     }
@@ -69,6 +81,42 @@ public abstract class UtilizationModelAbstract implements UtilizationModel {
         return getUtilization(simulation.clock());
     }
 
+    /**
+     * Gets the utilization previously {@link #cacheUtilization(double, double) cached}
+     * for a given time, enabling subclasses whose utilization is expensive to compute
+     * to compute it just once for each simulation time,
+     * despite the many times Cloudlet schedulers request it.
+     *
+     * @param time the time to get the cached utilization
+     * @return the cached utilization or {@link Double#NaN} if the utilization
+     *         for the given time is not cached
+     */
+    protected final double getCachedUtilization(final double time) {
+        final UtilizationSample sample = lastSample;
+        return sample != null && sample.time == time ? sample.utilization : Double.NaN;
+    }
+
+    /**
+     * Caches the utilization computed for a given time, replacing the previously cached one.
+     *
+     * @param time the time the utilization was computed for
+     * @param utilization the computed utilization
+     * @return the given utilization
+     * @see #getCachedUtilization(double)
+     */
+    protected final double cacheUtilization(final double time, final double utilization) {
+        lastSample = new UtilizationSample(time, utilization);
+        return utilization;
+    }
+
+    /**
+     * Clears the cached utilization,
+     * which must be called when some attribute used to compute the utilization is changed.
+     */
+    protected final void clearCachedUtilization() {
+        lastSample = null;
+    }
+
     /**
      * Checks if a given field has a valid value, considering that the minimum value is zero.
      * @param fieldName the name of the field to display at the Exception when the value is invalid
@@ -93,4 +141,16 @@ public abstract class UtilizationModelAbstract implements UtilizationModel {
         }
     }
 
+    /**
+     * A utilization computed for a given time.
+     */
+    private static final class UtilizationSample {
+        private final double time;
+        private final double utilization;
+
+        private UtilizationSample(final double time, final double utilization) {
+            this.time = time;
+            this.utilization = utilization;
+        }
+    }
 }
@@ -25,6 +25,7 @@ package org.cloudbus.cloudsim.utilizationmodels;
 
 import org.cloudbus.cloudsim.util.Conversion;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -42,6 +43,8 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.0
  */
 public class UtilizationModelDynamic extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
+
     private boolean readOnly;
     private double currentUtilization = 0;
 
@@ -124,7 +127,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
          * The {@link #setUtilizationUpdateFunction(Function)} should be used to defined
          * a different increment function.
          */
-        utilizationUpdateFunction = um -> um.currentUtilization;
+        utilizationUpdateFunction = (Function<UtilizationModelDynamic, Double> & Serializable) um -> um.currentUtilization;
     }
 
     /**
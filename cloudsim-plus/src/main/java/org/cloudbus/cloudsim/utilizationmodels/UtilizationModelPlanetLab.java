@@ -1,15 +1,28 @@
 package org.cloudbus.cloudsim.utilizationmodels;
 
+import org.cloudbus.cloudsim.core.ImmutableDataHolder;
+
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Defines the resource utilization model based on a
  * <a href="https://www.planet-lab.org">PlanetLab</a>
  * Datacenter trace file.
  */
-public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
+public class UtilizationModelPlanetLab extends UtilizationModelAbstract implements ImmutableDataHolder {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default number of utilization data samples of a PlanetLab trace,
+     * that is the utilization for an entire day, in intervals of 5
+     * minutes (5 min * 288 = 24 hours), plus the utilization at the end of the day.
+     */
+    public static final int DEFAULT_DATA_SAMPLES = 289;
 
     /**
      * The scheduling interval.
@@ -18,10 +31,22 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
 
     /**
      * The resource utilization data for an entire day, in intervals of 5
-     * minutes (5 min * 288 = 24 hours).
+     * minutes (5 min * 288 = 24 hours),
+     * or null if the data is read from a {@link #traceFile}.
      */
     private final double[] data;
 
+    /**
+     * The binary file the utilization data is read from,
+     * or null if the data is stored in the {@link #data} array.
+     */
+    private final UtilizationTraceBinaryFile traceFile;
+
+    /**
+     * The index of the trace inside the {@link #traceFile}.
+     */
+    private final int traceIndex;
+
     /**
      * Instantiates a new PlanetLab resource utilization model from a trace
      * file.
@@ -35,16 +60,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
     public UtilizationModelPlanetLab(String inputPath, double schedulingInterval)
             throws NumberFormatException, IOException
     {
-        super();
-        data = new double[289];
-        setSchedulingInterval(schedulingInterval);
-        try (BufferedReader input = new BufferedReader(new FileReader(inputPath))) {
-            int n = data.length;
-            for (int i = 0; i < n - 1; i++) {
-                data[i] = Integer.valueOf(input.readLine()) / 100.0;
-            }
-            data[n - 1] = data[n - 2];
-        }
+        this(inputPath, schedulingInterval, DEFAULT_DATA_SAMPLES);
     }
 
     /**
@@ -61,30 +77,152 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
     public UtilizationModelPlanetLab(String inputPath, double schedulingInterval, int dataSamples)
             throws NumberFormatException, IOException
     {
+        this(toUtilizationData(readTraceFile(inputPath, dataSamples - 1)), schedulingInterval);
+    }
+
+    /**
+     * Instantiates a new PlanetLab resource utilization model from
+     * utilization data already loaded into memory, such as the data
+     * read from a {@link UtilizationTraceBinaryFile}.
+     *
+     * @param utilizationData the utilization data samples, in scale from 0 to 1,
+     *                        where the last element is the utilization at the end
+     *                        of the last interval. The array is used directly, not copied.
+     * @param schedulingInterval the scheduling interval that defines the time interval in which precise utilization is be got
+     * @see #getSchedulingInterval()
+     */
+    public UtilizationModelPlanetLab(double[] utilizationData, double schedulingInterval) {
+        super();
+        setSchedulingInterval(schedulingInterval);
+        this.data = Objects.requireNonNull(utilizationData);
+        this.traceFile = null;
+        this.traceIndex = -1;
+    }
+
+    /**
+     * Instantiates a new PlanetLab resource utilization model which reads the
+     * utilization data directly from a trace in a {@link UtilizationTraceBinaryFile},
+     * without copying it.
+     *
+     * @param traceFile the binary file to read the utilization data from
+     * @param traceIndex the index of the trace inside the file
+     * @param schedulingInterval the scheduling interval that defines the time interval in which precise utilization is be got
+     * @see UtilizationTraceBinaryFile#createUtilizationModel(int, double)
+     */
+    UtilizationModelPlanetLab(UtilizationTraceBinaryFile traceFile, int traceIndex, double schedulingInterval) {
         super();
         setSchedulingInterval(schedulingInterval);
-        data = new double[dataSamples];
+        this.data = null;
+        this.traceFile = Objects.requireNonNull(traceFile);
+        this.traceIndex = traceIndex;
+    }
+
+    /**
+     * Gets a PlanetLab resource utilization model from a trace file,
+     * sharing the utilization data with all other models created
+     * from the same file by this method.
+     * The file is read just once and its data is kept in the
+     * {@link UtilizationTraceCache#getDefault() default trace cache}.
+     *
+     * @param inputPath The path of a PlanetLab Datacenter trace file.
+     * @param schedulingInterval the scheduling interval that defines the time interval in which precise utilization is be got
+     * @return the utilization model
+     * @throws NumberFormatException the number format exception
+     * @throws IOException Signals that an I/O exception has occurred
+     * @see #getSchedulingInterval()
+     */
+    public static UtilizationModelPlanetLab getInstance(String inputPath, double schedulingInterval)
+            throws NumberFormatException, IOException
+    {
+        return getInstance(inputPath, schedulingInterval, DEFAULT_DATA_SAMPLES);
+    }
+
+    /**
+     * Gets a PlanetLab resource utilization model with variable
+     * data samples from a trace file,
+     * sharing the utilization data with all other models created
+     * from the same file by this method.
+     *
+     * @param inputPath The path of a PlanetLab Datacenter trace file.
+     * @param schedulingInterval the scheduling interval that defines the time interval in which precise utilization is be got
+     * @param dataSamples number of samples in the file
+     * @return the utilization model
+     * @throws NumberFormatException the number format exception
+     * @throws IOException Signals that an I/O exception has occurred
+     * @see #getInstance(String, double)
+     */
+    public static UtilizationModelPlanetLab getInstance(String inputPath, double schedulingInterval, int dataSamples)
+            throws NumberFormatException, IOException
+    {
+        return new UtilizationModelPlanetLab(
+            UtilizationTraceCache.getDefault().getUtilizationData(inputPath, dataSamples), schedulingInterval);
+    }
+
+    /**
+     * Reads the utilization percentages from a PlanetLab trace file,
+     * which has one integer value per line.
+     *
+     * @param inputPath The path of a PlanetLab Datacenter trace file.
+     * @param lines the number of lines to read
+     * @return the utilization percentages read (from 0 to 100)
+     * @throws NumberFormatException when a line doesn't have a valid integer
+     * @throws IOException when the file cannot be read
+     */
+    static int[] readTraceFile(String inputPath, int lines) throws IOException {
+        final int[] percentages = new int[lines];
         try (BufferedReader input = new BufferedReader(new FileReader(inputPath))) {
-            int n = data.length;
-            for (int i = 0; i < n - 1; i++) {
-                data[i] = Integer.valueOf(input.readLine()) / 100.0;
+            for (int i = 0; i < lines; i++) {
+                percentages[i] = Integer.parseInt(input.readLine());
             }
-            data[n - 1] = data[n - 2];
         }
+
+        return percentages;
+    }
+
+    /**
+     * Converts utilization percentages read from a trace to the utilization data
+     * used by the model, duplicating the last sample so that the utilization
+     * at the end of the last interval is defined.
+     *
+     * @param percentages the utilization percentages (from 0 to 100)
+     * @return the utilization data in scale from 0 to 1
+     */
+    static double[] toUtilizationData(int[] percentages) {
+        final int n = percentages.length + 1;
+        final double[] data = new double[n];
+        for (int i = 0; i < n - 1; i++) {
+            data[i] = percentages[i] / 100.0;
+        }
+        data[n - 1] = data[n - 2];
+        return data;
     }
 
+    /**
+     * {@inheritDoc}
+     * The utilization is interpolated just once for each time.
+     * @param time {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public double getUtilization(double time) {
+        final double cached = getCachedUtilization(time);
+        return Double.isNaN(cached) ? cacheUtilization(time, interpolateUtilization(time)) : cached;
+    }
+
+    private double interpolateUtilization(double time) {
         if (time % getSchedulingInterval() == 0) {
-            return data[(int) time / (int) getSchedulingInterval()];
+            return getData((int) time / (int) getSchedulingInterval());
         }
         int time1 = (int) Math.floor(time / getSchedulingInterval());
         int time2 = (int) Math.ceil(time / getSchedulingInterval());
-        double utilization1 = data[time1];
-        double utilization2 = data[time2];
+        double utilization1 = getData(time1);
+        double utilization2 = getData(time2);
         double delta = (utilization2 - utilization1) / ((time2 - time1) * getSchedulingInterval());
         return utilization1 + delta * (time - time1 * getSchedulingInterval());
+    }
 
+    private double getData(int index) {
+        return data == null ? traceFile.getUtilization(traceIndex, index) : data[index];
     }
 
     /**
@@ -111,5 +249,17 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      */
     public final void setSchedulingInterval(double schedulingInterval) {
         this.schedulingInterval = schedulingInterval;
+        clearCachedUtilization();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The utilization data (or the binary file it's read from) is never changed,
+     * thus it's shared with the models of forked simulations.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public List<Object> getImmutableData() {
+        return Collections.singletonList(data == null ? traceFile : data);
     }
 }
@@ -15,19 +15,32 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 
 /**
  * Implements a model, according to which a Cloudlet generates
  * random resource utilization every time frame.
  *
+ * <p>The generated values are stored into a history to return the same utilization
+ * whenever it's requested again for the same time. By default, the history is a map
+ * that keeps all values along the simulation. A {@link UtilizationHistory} can be
+ * {@link #setUtilizationHistory(UtilizationHistory) set} instead,
+ * which stores values into primitive arrays and may keep just the values for the latest times.
+ * The histories of many models can be written to a single binary file by
+ * {@link UtilizationHistory#write(List, String)} and set to the models again to
+ * replay the simulation with the same utilization values.</p>
+ *
  * @author Anton Beloglazov
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 2.0
  */
 public class UtilizationModelStochastic extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The random generator.
@@ -39,6 +52,11 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
      */
     private Map<Double, Double> history;
 
+    /**
+     * @see #getUtilizationHistory()
+     */
+    private UtilizationHistory utilizationHistory;
+
     /**
      * Instantiates a new utilization model stochastic
      * that defines the resource utilization in percentage.
@@ -85,15 +103,38 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
         setRandomGenerator(new UniformDistr(seed));
     }
 
+    /**
+     * {@inheritDoc}
+     * The utilization for the last requested time is cached,
+     * avoiding to look it up in the history every time.
+     * @param time {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public double getUtilization(double time) {
-        if (getHistory().containsKey(time)) {
-            return getHistory().get(time);
+        final double cached = getCachedUtilization(time);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+
+        if (utilizationHistory != null) {
+            double utilization = utilizationHistory.get(time);
+            if (Double.isNaN(utilization)) {
+                utilization = getRandomGenerator().sample();
+                utilizationHistory.put(time, utilization);
+            }
+
+            return cacheUtilization(time, utilization);
+        }
+
+        final Double previous = getHistory().get(time);
+        if (previous != null) {
+            return cacheUtilization(time, previous);
         }
 
         double utilization = getRandomGenerator().sample();
         getHistory().put(time, utilization);
-        return utilization;
+        return cacheUtilization(time, utilization);
     }
 
     /**
@@ -115,15 +156,54 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
      */
     protected final void setHistory(Map<Double, Double> history) {
         this.history = history;
+        this.utilizationHistory = null;
+        clearCachedUtilization();
+    }
+
+    /**
+     * Gets the history storing the utilization values into primitive arrays,
+     * which is used instead of the {@link #getHistory() map history} when set.
+     *
+     * @return the utilization history or null if the map history is being used
+     */
+    public UtilizationHistory getUtilizationHistory() {
+        return utilizationHistory;
+    }
+
+    /**
+     * Sets a history to store the utilization values into primitive arrays,
+     * instead of the default map history, which is cleared.
+     * Using a history with a maximum size, such as {@code new UtilizationHistory(100)},
+     * bounds the memory used along long simulations,
+     * but a new random value is generated if the utilization
+     * is requested for a time older than the ones kept.
+     *
+     * @param utilizationHistory the history to set, which may contain values
+     *                           previously generated to replay a simulation
+     * @return
+     */
+    public UtilizationModelStochastic setUtilizationHistory(UtilizationHistory utilizationHistory) {
+        this.utilizationHistory = Objects.requireNonNull(utilizationHistory);
+        this.history.clear();
+        clearCachedUtilization();
+        return this;
     }
 
     /**
      * Save the utilization history to a file.
+     * If a {@link #getUtilizationHistory() utilization history} is set,
+     * it's written in the binary format of {@link UtilizationHistory#write(List, String)};
+     * otherwise, the map history is written using Java serialization.
      *
      * @param filename the filename
      * @throws Exception the exception
      */
     public void saveHistory(String filename) throws Exception {
+        if (utilizationHistory != null) {
+            UtilizationHistory.write(Collections.singletonList(utilizationHistory), filename);
+            return;
+        }
+
         FileOutputStream fos = new FileOutputStream(filename);
         ObjectOutputStream oos = new ObjectOutputStream(fos);
         oos.writeObject(getHistory());
@@ -132,12 +212,24 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
 
     /**
      * Load an utilization history from a file.
+     * If a {@link #getUtilizationHistory() utilization history} is set,
+     * the file must have been saved in the binary format, which replaces the current utilization history;
+     * otherwise, it must contain a map history saved using Java serialization.
      *
      * @param filename the filename
      * @throws Exception the exception
      */
     @SuppressWarnings("unchecked")
     public void loadHistory(String filename) throws Exception {
+        if (utilizationHistory != null) {
+            final List<UtilizationHistory> histories = UtilizationHistory.read(filename);
+            if (histories.size() != 1) {
+                throw new IllegalArgumentException(filename + " doesn't contain the history of a single utilization model.");
+            }
+            setUtilizationHistory(histories.get(0));
+            return;
+        }
+
         FileInputStream fis = new FileInputStream(filename);
         try (ObjectInputStream ois = new ObjectInputStream(fis)) {
             setHistory((Map<Double, Double>) ois.readObject());
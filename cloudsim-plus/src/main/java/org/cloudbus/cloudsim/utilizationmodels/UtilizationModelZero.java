@@ -15,6 +15,7 @@ package org.cloudbus.cloudsim.utilizationmodels;
  * @since CloudSim Toolkit 2.0
  */
 public class UtilizationModelZero extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
 
     @Override
     public double getUtilization(double time) {
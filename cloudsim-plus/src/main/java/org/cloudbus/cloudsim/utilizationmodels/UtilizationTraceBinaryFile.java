@@ -0,0 +1,349 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A binary file containing a set of pre-parsed <a href="https://www.planet-lab.org">PlanetLab</a>
+ * utilization traces, which is read through a memory-mapped buffer
+ * to create {@link UtilizationModelPlanetLab} instances.
+ *
+ * <p>Loading thousands of PlanetLab trace files, each one with a
+ * utilization percentage per line, requires opening every file and parsing every line.
+ * A binary file created by {@link #convert(List, int, String)} stores all these traces
+ * into a single file, where each utilization percentage takes just one byte.
+ * Since the file is mapped into memory instead of being read,
+ * just the pages of the traces actually used are loaded and such pages are
+ * shared by all simulations reading the same file on the same machine.</p>
+ *
+ * <p>The models created by {@link #createUtilizationModel(int, double)} read the utilization
+ * directly from the mapped buffer, instead of keeping a copy of the trace.
+ * Therefore, all models created from the same trace, including the ones of
+ * {@link org.cloudbus.cloudsim.core.CloudSim#fork(int) forked simulations},
+ * use the same memory pages. When a simulation is stored into a
+ * {@link org.cloudbus.cloudsim.core.CloudSim#checkpoint(java.io.OutputStream) checkpoint},
+ * just the path of the file is stored and the file is mapped again when the checkpoint is restored.</p>
+ *
+ * <p>The file has the following layout, where all numbers are little-endian:
+ * <ul>
+ *     <li>header: magic number, format version, number of traces
+ *     and number of samples per trace (4 ints);</li>
+ *     <li>names table: for each trace, the length of its name (short)
+ *     followed by the name bytes in UTF-8;</li>
+ *     <li>data: the utilization percentages (from 0 to 100) of every trace,
+ *     one byte per sample, with all samples of a trace stored contiguously.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class UtilizationTraceBinaryFile implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number that identifies a utilization trace binary file ("CSPU").
+     */
+    private static final int MAGIC = 0x43535055;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * The absolute path of the file.
+     */
+    private final String fileName;
+
+    /**
+     * The memory-mapped file content.
+     */
+    private transient ByteBuffer buffer;
+
+    /**
+     * A map where each key is a trace name and each value is its index.
+     */
+    private final Map<String, Integer> traceIndexes;
+
+    /**
+     * @see #getSamplesPerTrace()
+     */
+    private final int samplesPerTrace;
+
+    /**
+     * The position of the first sample of the first trace in the file.
+     */
+    private final int dataOffset;
+
+    /**
+     * Opens a utilization trace binary file, mapping it into memory.
+     *
+     * @param fileName the path of the binary file created by {@link #convert(List, int, String)}
+     * @throws IOException when the file cannot be read
+     * @throws IllegalArgumentException when the file is not a valid utilization trace binary file
+     */
+    public UtilizationTraceBinaryFile(final String fileName) throws IOException {
+        this.fileName = Paths.get(fileName).toAbsolutePath().toString();
+        buffer = map(this.fileName);
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException(fileName + " is not a utilization trace binary file.");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported utilization trace binary file version in " + fileName);
+        }
+
+        final int numberOfTraces = buffer.getInt(2 * Integer.BYTES);
+        samplesPerTrace = buffer.getInt(3 * Integer.BYTES);
+        traceIndexes = new LinkedHashMap<>(numberOfTraces * 2);
+        final ByteBuffer names = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        names.position(HEADER_SIZE);
+        for (int i = 0; i < numberOfTraces; i++) {
+            final byte[] name = new byte[names.getShort()];
+            names.get(name);
+            if (traceIndexes.put(new String(name, StandardCharsets.UTF_8), i) != null) {
+                throw new IllegalArgumentException(
+                    "Utilization trace binary file " + fileName + " has duplicated trace names.");
+            }
+        }
+
+        dataOffset = names.position();
+        if ((long) dataOffset + (long) numberOfTraces * samplesPerTrace > buffer.limit()) {
+            throw new IllegalArgumentException("Utilization trace binary file " + fileName + " is truncated.");
+        }
+    }
+
+    private static ByteBuffer map(final String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Maps the file into memory again when a simulation is restored from a checkpoint.
+     *
+     * @param in the stream to read the object from
+     * @throws IOException when the file cannot be read
+     * @throws ClassNotFoundException when the class of some field is not found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        buffer = map(fileName);
+    }
+
+    /**
+     * Converts a set of PlanetLab trace files into a single utilization trace binary file.
+     * Each trace is named after the name of its file (without the directory),
+     * thus the files must have different names.
+     *
+     * @param inputPaths the paths of the PlanetLab trace files to convert
+     * @param dataSamples number of samples to read from each trace file
+     *                    (as in {@link UtilizationModelPlanetLab#UtilizationModelPlanetLab(String, double, int)})
+     * @param outputFile the path of the binary file to create
+     * @throws IOException when a trace file cannot be read or the binary file cannot be written
+     * @throws IllegalArgumentException when a trace has a utilization percentage out of the range [0 .. 100]
+     *                                  or two files have the same name
+     */
+    public static void convert(final List<String> inputPaths, final int dataSamples, final String outputFile) throws IOException {
+        if (dataSamples < 2) {
+            throw new IllegalArgumentException("The number of data samples must be at least 2.");
+        }
+
+        final int samples = dataSamples - 1;
+        final List<byte[]> names = new ArrayList<>(inputPaths.size());
+        final Set<String> uniqueNames = new HashSet<>(inputPaths.size() * 2);
+        int namesSize = 0;
+        for (final String path : inputPaths) {
+            final String fileName = new File(path).getName();
+            if (!uniqueNames.add(fileName)) {
+                throw new IllegalArgumentException("There is more than one trace file named " + fileName);
+            }
+
+            final byte[] name = fileName.getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            namesSize += Short.BYTES + name.length;
+        }
+
+        final ByteBuffer out = ByteBuffer
+            .allocate(HEADER_SIZE + namesSize + inputPaths.size() * samples)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putInt(inputPaths.size()).putInt(samples);
+        for (final byte[] name : names) {
+            out.putShort((short) name.length).put(name);
+        }
+
+        for (final String path : inputPaths) {
+            for (final int percentage : UtilizationModelPlanetLab.readTraceFile(path, samples)) {
+                if (percentage < 0 || percentage > 100) {
+                    throw new IllegalArgumentException(
+                        String.format("Invalid utilization percentage %d in %s", percentage, path));
+                }
+                out.put((byte) percentage);
+            }
+        }
+
+        out.flip();
+        try (FileChannel channel = FileChannel.open(Paths.get(outputFile),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Converts all PlanetLab trace files inside a directory into a single utilization trace binary file,
+     * using the {@link UtilizationModelPlanetLab#DEFAULT_DATA_SAMPLES default number of samples}.
+     * Files are stored in ascending order of name.
+     *
+     * @param inputFolder the directory containing the PlanetLab trace files
+     * @param outputFile the path of the binary file to create
+     * @throws IOException when a trace file cannot be read or the binary file cannot be written
+     * @see #convert(List, int, String)
+     */
+    public static void convert(final File inputFolder, final String outputFile) throws IOException {
+        final File[] files = inputFolder.listFiles(File::isFile);
+        if (Objects.isNull(files)) {
+            throw new IOException(inputFolder + " is not a readable directory.");
+        }
+
+        Arrays.sort(files);
+        final List<String> paths = new ArrayList<>(files.length);
+        for (final File file : files) {
+            paths.add(file.getPath());
+        }
+
+        convert(paths, UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES, outputFile);
+    }
+
+    /**
+     * Creates a {@link UtilizationModelPlanetLab} from a trace in the file,
+     * which reads the utilization directly from the memory-mapped file.
+     *
+     * @param traceIndex the index of the trace (from 0 to {@link #getNumberOfTraces()} - 1)
+     * @param schedulingInterval the scheduling interval that defines the time interval in which precise utilization is be got
+     * @return the created utilization model
+     */
+    public UtilizationModelPlanetLab createUtilizationModel(final int traceIndex, final double schedulingInterval) {
+        checkTraceIndex(traceIndex);
+        return new UtilizationModelPlanetLab(this, traceIndex, schedulingInterval);
+    }
+
+    /**
+     * Creates a {@link UtilizationModelPlanetLab} from a trace in the file.
+     *
+     * @param traceName the name of the trace, which is the name of the file it was converted from
+     * @param schedulingInterval the scheduling interval that defines the time interval in which precise utilization is be got
+     * @return the created utilization model
+     * @throws IllegalArgumentException when there is no trace with the given name
+     */
+    public UtilizationModelPlanetLab createUtilizationModel(final String traceName, final double schedulingInterval) {
+        final Integer index = traceIndexes.get(traceName);
+        if (index == null) {
+            throw new IllegalArgumentException("There is no utilization trace named " + traceName);
+        }
+
+        return createUtilizationModel(index, schedulingInterval);
+    }
+
+    /**
+     * Gets the utilization data of a trace, in scale from 0 to 1,
+     * in the format used by {@link UtilizationModelPlanetLab}.
+     *
+     * @param traceIndex the index of the trace (from 0 to {@link #getNumberOfTraces()} - 1)
+     * @return a new array with the utilization data of the trace
+     */
+    public double[] getUtilizationData(final int traceIndex) {
+        checkTraceIndex(traceIndex);
+        final double[] data = new double[samplesPerTrace + 1];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = getUtilization(traceIndex, i);
+        }
+
+        return data;
+    }
+
+    /**
+     * Gets a utilization sample of a trace, in scale from 0 to 1,
+     * as if the trace was stored in the format used by {@link UtilizationModelPlanetLab}.
+     * That is, the sample after the last one is equal to the last one.
+     *
+     * @param traceIndex the index of the trace, which must be valid
+     * @param sampleIndex the index of the sample (from 0 to {@link #getSamplesPerTrace()})
+     * @return the utilization sample
+     */
+    double getUtilization(final int traceIndex, final int sampleIndex) {
+        if (sampleIndex < 0 || sampleIndex > samplesPerTrace) {
+            throw new IndexOutOfBoundsException("Invalid sample index: " + sampleIndex);
+        }
+
+        return buffer.get(dataOffset + traceIndex * samplesPerTrace + Math.min(sampleIndex, samplesPerTrace - 1)) / 100.0;
+    }
+
+    private void checkTraceIndex(final int traceIndex) {
+        if (traceIndex < 0 || traceIndex >= getNumberOfTraces()) {
+            throw new IndexOutOfBoundsException("Invalid trace index: " + traceIndex);
+        }
+    }
+
+    /**
+     * Gets the number of traces in the file.
+     * @return
+     */
+    public int getNumberOfTraces() {
+        return traceIndexes.size();
+    }
+
+    /**
+     * Gets the number of utilization samples read from each original trace file.
+     * @return
+     */
+    public int getSamplesPerTrace() {
+        return samplesPerTrace;
+    }
+
+    /**
+     * Gets the names of the traces in the file, in the order they are stored.
+     * @return a read-only list of trace names
+     */
+    public List<String> getTraceNames() {
+        return Collections.unmodifiableList(new ArrayList<>(traceIndexes.keySet()));
+    }
+}
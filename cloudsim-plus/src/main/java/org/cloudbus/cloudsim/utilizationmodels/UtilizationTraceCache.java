@@ -0,0 +1,177 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe cache of utilization data read from
+ * <a href="https://www.planet-lab.org">PlanetLab</a> trace files,
+ * which enables every {@link UtilizationModelPlanetLab} created from the same file
+ * to share a single read-only data array, instead of each one loading
+ * and storing its own copy.
+ *
+ * <p>The cache is shared by all simulations running in the same JVM
+ * (such as parallel runs of an experiment), which avoids re-reading
+ * the same traces for every simulation.
+ * It keeps at most {@link #getMaxTraces()} traces, evicting
+ * the least recently used ones when such a limit is reached.
+ * Evicted data remains available to the models already using it
+ * and is garbage collected when such models are.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ * @see UtilizationModelPlanetLab#getInstance(String, double)
+ */
+public final class UtilizationTraceCache {
+    /**
+     * The default maximum number of traces kept in a cache.
+     */
+    public static final int DEFAULT_MAX_TRACES = 10000;
+
+    private static final UtilizationTraceCache DEFAULT = new UtilizationTraceCache(DEFAULT_MAX_TRACES);
+
+    /**
+     * The cached utilization data, where each key is the absolute path of a trace file
+     * followed by the number of samples read from it.
+     * Entries are kept in access order to allow evicting the least recently used ones.
+     */
+    private final LinkedHashMap<String, double[]> traces;
+
+    /**
+     * @see #getMaxTraces()
+     */
+    private volatile int maxTraces;
+
+    /**
+     * Creates a UtilizationTraceCache.
+     *
+     * @param maxTraces the maximum number of traces to keep in the cache
+     */
+    public UtilizationTraceCache(final int maxTraces) {
+        this.traces = new LinkedHashMap<String, double[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, double[]> eldest) {
+                return size() > UtilizationTraceCache.this.maxTraces;
+            }
+        };
+        setMaxTraces(maxTraces);
+    }
+
+    /**
+     * Gets the cache shared by the entire JVM.
+     * @return
+     */
+    public static UtilizationTraceCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the utilization data from a PlanetLab trace file,
+     * reading the file only if it isn't in the cache yet.
+     * The returned array is shared and <b>must not be changed</b>.
+     *
+     * @param inputPath The path of a PlanetLab Datacenter trace file.
+     * @param dataSamples number of samples in the file
+     * @return the utilization data in the format used by {@link UtilizationModelPlanetLab}
+     * @throws NumberFormatException when a line of the file doesn't have a valid integer
+     * @throws IOException when the file cannot be read
+     */
+    public double[] getUtilizationData(final String inputPath, final int dataSamples) throws IOException {
+        final String key = new File(inputPath).getAbsolutePath() + '#' + dataSamples;
+        synchronized (traces) {
+            final double[] data = traces.get(key);
+            if (data != null) {
+                return data;
+            }
+        }
+
+        /* The file is read outside the lock so that different traces can be loaded concurrently.
+         * If the same trace is loaded by two threads at the same time, the first one stored is kept. */
+        final double[] data =
+            UtilizationModelPlanetLab.toUtilizationData(UtilizationModelPlanetLab.readTraceFile(inputPath, dataSamples - 1));
+        synchronized (traces) {
+            final double[] previous = traces.putIfAbsent(key, data);
+            return previous == null ? data : previous;
+        }
+    }
+
+    /**
+     * Gets the number of traces currently in the cache.
+     * @return
+     */
+    public int size() {
+        synchronized (traces) {
+            return traces.size();
+        }
+    }
+
+    /**
+     * Removes all traces from the cache.
+     */
+    public void clear() {
+        synchronized (traces) {
+            traces.clear();
+        }
+    }
+
+    /**
+     * Gets the maximum number of traces kept in the cache.
+     * When a new trace is loaded and the cache is full,
+     * the least recently used trace is evicted.
+     *
+     * @return
+     */
+    public int getMaxTraces() {
+        return maxTraces;
+    }
+
+    /**
+     * Sets the maximum number of traces kept in the cache.
+     * If the cache has more traces than the new limit,
+     * the least recently used ones are evicted.
+     *
+     * @param maxTraces the maximum number of traces to set
+     */
+    public void setMaxTraces(final int maxTraces) {
+        if (maxTraces <= 0) {
+            throw new IllegalArgumentException("The maximum number of traces must be greater than 0.");
+        }
+
+        this.maxTraces = maxTraces;
+        synchronized (traces) {
+            final Iterator<String> it = traces.keySet().iterator();
+            while (traces.size() > maxTraces) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+}
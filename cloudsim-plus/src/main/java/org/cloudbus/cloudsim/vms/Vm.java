@@ -99,6 +99,16 @@ public interface Vm extends UniquelyIdentificable, ChangeableId, Delayable, Reso
      */
     List<Double> getCurrentRequestedMips();
 
+    /**
+     * Gets the current requested MIPS of each virtual {@link Pe} as a {@link MipsShare},
+     * avoiding the creation of a {@code List<Double>}.
+     * The returned object must not be changed.
+     *
+     * @return the current requested MIPS of each Pe
+     * @see #getCurrentRequestedMips()
+     */
+    MipsShare getCurrentRequestedMipsShare();
+
     /**
      * Gets the current requested ram.
      *
@@ -437,6 +447,21 @@ public interface Vm extends UniquelyIdentificable, ChangeableId, Delayable, Reso
      */
     double updateProcessing(double currentTime, List<Double> mipsShare);
 
+    /**
+     * Updates the processing of cloudlets running on this VM,
+     * receiving the MIPS share of each Pe as a {@link MipsShare}.
+     * The given values are copied, so the caller can reuse the same MipsShare object.
+     *
+     * @param currentTime current simulation time
+     * @param mipsShare MIPS share of each Pe available to the scheduler
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (that is a future simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @pre currentTime >= 0
+     * @post $none
+     */
+    double updateProcessing(double currentTime, MipsShare mipsShare);
+
     /**
      * Sets the Cloudlet scheduler the Vm uses to schedule cloudlets execution.
      * It also sets the Vm itself to the given scheduler.
@@ -543,6 +568,7 @@ public interface Vm extends UniquelyIdentificable, ChangeableId, Delayable, Reso
      * objects.
      */
     Vm NULL = new Vm() {
+        private static final long serialVersionUID = 1L;
         @Override public void setId(int id) {}
         @Override public int getId() { return -1; }
         @Override public double getSubmissionDelay() { return 0; }
@@ -556,6 +582,7 @@ public interface Vm extends UniquelyIdentificable, ChangeableId, Delayable, Reso
         @Override public long getCurrentRequestedBw() { return 0; }
         @Override public double getCurrentRequestedMaxMips() { return 0.0; }
         @Override public List<Double> getCurrentRequestedMips() { return Collections.emptyList(); }
+        @Override public MipsShare getCurrentRequestedMipsShare() { return new MipsShare(); }
         @Override public long getCurrentRequestedRam() { return 0; }
         @Override public double getCurrentRequestedTotalMips() { return 0.0; }
         @Override public Host getHost() { return Host.NULL; }
@@ -591,6 +618,7 @@ public interface Vm extends UniquelyIdentificable, ChangeableId, Delayable, Reso
         @Override public Vm setRam(long ramCapacity) { return this; }
         @Override public Vm setSize(long size) { return this; }
         @Override public double updateProcessing(double currentTime, List<Double> mipsShare){ return 0.0; }
+        @Override public double updateProcessing(double currentTime, MipsShare mipsShare){ return 0.0; }
         @Override public Vm setCloudletScheduler(CloudletScheduler cloudletScheduler) { return this; }
         @Override public int compareTo(Vm o) { return 0; }
         @Override public double getTotalMipsCapacity() { return 0.0; }
@@ -6,6 +6,7 @@
  */
 package org.cloudbus.cloudsim.vms;
 
+import org.cloudbus.cloudsim.core.SideEffectBuffer;
 import java.util.*;
 
 import org.cloudbus.cloudsim.core.UniquelyIdentificable;
@@ -42,6 +43,8 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
  * without defining a specific method for each one.
  */
 public class VmSimple implements Vm {
+    private static final long serialVersionUID = 1L;
+
     private HorizontalVmScaling horizontalScaling;
     private boolean failed;
 
@@ -125,6 +128,13 @@ public class VmSimple implements Vm {
     private VerticalVmScaling ramVerticalScaling;
     private VerticalVmScaling bwVerticalScaling;
 
+    /**
+     * The MIPS requested by the VM while it isn't created yet,
+     * reused to avoid creating a new object at each request.
+     * @see #getCurrentRequestedMipsShare()
+     */
+    private final MipsShare requestedMipsShare;
+
     /**
      * Creates a Vm with 1024 MEGABYTE of RAM, 1000 Megabits/s of Bandwidth and 1024 MEGABYTE of Storage Size.
      *
@@ -157,6 +167,7 @@ public class VmSimple implements Vm {
         setVmm("Xen");
         setCloudletScheduler(CloudletScheduler.NULL);
         stateHistory = new LinkedList<>();
+        requestedMipsShare = new MipsShare();
 
         this.onHostAllocationListeners = new HashSet<>();
         this.onHostDeallocationListeners = new HashSet<>();
@@ -261,6 +272,15 @@ public class VmSimple implements Vm {
             return Double.MAX_VALUE;
         }
 
+        return updateProcessing(currentTime, new MipsShare(mipsShare));
+    }
+
+    @Override
+    public double updateProcessing(double currentTime, MipsShare mipsShare) {
+        if (Objects.isNull(mipsShare)) {
+            return Double.MAX_VALUE;
+        }
+
         final double nextSimulationTime = getCloudletScheduler().updateVmProcessing(currentTime, mipsShare);
         notifyOnUpdateProcessingListeners();
         return nextSimulationTime;
@@ -283,12 +303,21 @@ public class VmSimple implements Vm {
 
     @Override
     public double getCurrentRequestedMaxMips() {
-        return getCurrentRequestedMips().stream().mapToDouble(m->m).max().orElse(0.0);
+        return getCurrentRequestedMipsShare().getMax();
     }
 
     @Override
     public double getCurrentRequestedTotalMips() {
-        return getCurrentRequestedMips().stream().mapToDouble(m->m).sum();
+        return getCurrentRequestedMipsShare().getTotal();
+    }
+
+    @Override
+    public MipsShare getCurrentRequestedMipsShare() {
+        if (!isCreated()) {
+            return requestedMipsShare.setAll(getNumberOfPes(), getMips());
+        }
+
+        return getCloudletScheduler().getCurrentRequestedMipsShare();
     }
 
     @Override
@@ -729,8 +758,12 @@ public class VmSimple implements Vm {
          * Notifies all registered listeners when the processing of the Vm is updated in its {@link Host}.
          */
     public void notifyOnUpdateProcessingListeners() {
+        if (onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
         final VmHostEventInfo info = VmHostEventInfo.of(this);
-        onUpdateProcessingListeners.forEach(l -> l.update(info));
+        SideEffectBuffer.run(() -> onUpdateProcessingListeners.forEach(l -> l.update(info)));
     }
 
     @Override
@@ -7,13 +7,16 @@
  */
 package org.cloudbus.cloudsim.vms;
 
+import java.io.Serializable;
+
 /**
  * Stores historic data about a VM.
  *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 2.1.2
  */
-public class VmStateHistoryEntry {
+public class VmStateHistoryEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The time.
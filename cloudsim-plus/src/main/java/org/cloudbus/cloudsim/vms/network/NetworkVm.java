@@ -40,6 +40,8 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
  * @since CloudSim Toolkit 3.0
  */
 public class NetworkVm extends VmSimple {
+    private static final long serialVersionUID = 1L;
+
     private List<NetworkCloudlet> cloudletList;
     private List<VmPacket> receivedPacketList;
     private boolean free;
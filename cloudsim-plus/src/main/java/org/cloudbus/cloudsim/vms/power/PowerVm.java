@@ -38,6 +38,7 @@ import org.cloudbus.cloudsim.vms.VmSimple;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerVm extends VmSimple {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The maximum number of entries that will be stored.
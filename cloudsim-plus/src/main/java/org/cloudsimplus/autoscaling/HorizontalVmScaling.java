@@ -136,6 +136,7 @@ public interface HorizontalVmScaling extends VmScaling {
      * objects.
      */
     HorizontalVmScaling NULL = new HorizontalVmScaling() {
+        private static final long serialVersionUID = 1L;
         @Override public Supplier<Vm> getVmSupplier() { return () -> Vm.NULL; }
         @Override public HorizontalVmScaling setVmSupplier(Supplier<Vm> supplier) { return this; }
         @Override public boolean requestScalingIfPredicateMatch(double time) { return false; }
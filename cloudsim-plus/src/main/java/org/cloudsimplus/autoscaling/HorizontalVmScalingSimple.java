@@ -27,6 +27,7 @@ import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -46,6 +47,8 @@ import java.util.function.Supplier;
  * @since CloudSim Plus 1.0
  */
 public class HorizontalVmScalingSimple extends VmScalingAbstract implements HorizontalVmScaling {
+    private static final long serialVersionUID = 1L;
+
     private Supplier<Vm> vmSupplier;
 
     /**
@@ -57,7 +60,7 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
 
     public HorizontalVmScalingSimple(){
         super();
-        this.vmSupplier = () -> Vm.NULL;
+        this.vmSupplier = (Supplier<Vm> & Serializable) () -> Vm.NULL;
     }
 
     @Override
@@ -67,7 +70,7 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
 
     @Override
     public final HorizontalVmScaling setVmSupplier(Supplier<Vm> supplier) {
-        this.vmSupplier = (Objects.isNull(supplier) ? () -> Vm.NULL : supplier);
+        this.vmSupplier = (Objects.isNull(supplier) ? (Supplier<Vm> & Serializable) () -> Vm.NULL : supplier);
         return this;
     }
 
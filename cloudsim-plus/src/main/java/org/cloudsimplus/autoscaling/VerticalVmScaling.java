@@ -156,6 +156,7 @@ public interface VerticalVmScaling extends VmScaling {
      * objects.
      */
     VerticalVmScaling NULL = new VerticalVmScaling() {
+        private static final long serialVersionUID = 1L;
         @Override public Class<? extends ResourceManageable> getResourceClassToScale() { return ResourceManageable.class; }
         @Override public VerticalVmScaling setResourceClassToScale(Class<? extends ResourceManageable> resourceClassToScale) { return this; }
         @Override public double getScalingFactor() { return 0; }
@@ -44,6 +44,8 @@ import java.util.Objects;
  * @since CloudSim Plus 1.1
  */
 public class VerticalVmScalingSimple extends VmScalingAbstract implements VerticalVmScaling {
+    private static final long serialVersionUID = 1L;
+
     private double scalingFactor;
     private Class<? extends ResourceManageable> resourceClassToScale;
 
@@ -26,6 +26,7 @@ package org.cloudsimplus.autoscaling;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventListener;
 
+import java.io.Serializable;
 import java.util.function.Predicate;
 
 /**
@@ -34,7 +35,7 @@ import java.util.function.Predicate;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface VmScaling {
+public interface VmScaling extends Serializable {
     /**
      * A {@link Predicate} that always returns false independently of any condition.
      */
@@ -45,6 +46,7 @@ public interface VmScaling {
      * objects.
      */
     VmScaling NULL = new VmScaling() {
+        private static final long serialVersionUID = 1L;
         @Override public Vm getVm() { return Vm.NULL; }
         @Override public VmScaling setVm(Vm vm) { return this; }
         @Override public Predicate<Vm> getOverloadPredicate() { return FALSE_PREDICATE; }
@@ -35,6 +35,8 @@ import java.util.function.Predicate;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class VmScalingAbstract implements VmScaling {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Last time the scheduler checked for VM overload.
      */
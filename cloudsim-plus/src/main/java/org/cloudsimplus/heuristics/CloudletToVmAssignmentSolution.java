@@ -0,0 +1,368 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A solution for mapping a set of Cloudlets to a set of VMs that stores
+ * the index of the VM assigned to each Cloudlet into an array,
+ * instead of a {@link Map} as the {@link CloudletToVmMappingSolution} does.
+ * The sum of PEs of the Cloudlets assigned to each VM is kept up to date,
+ * thus swapping the VMs of two Cloudlets updates the {@link #getCost() cost}
+ * in constant time, instead of recomputing the cost of the entire mapping.
+ *
+ * <p>The cost is computed exactly as in {@link CloudletToVmMappingSolution}:
+ * it is the sum of the number of idle or overloaded PEs of every VM
+ * having at least one Cloudlet.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ * @see CloudletToVmMappingSimulatedAnnealing
+ */
+public class CloudletToVmAssignmentSolution implements HeuristicSolution<Map<Cloudlet, Vm>> {
+    private static final long serialVersionUID = 1L;
+
+    private final CloudletToVmMappingHeuristic heuristic;
+    private final List<Cloudlet> cloudletList;
+    private final List<Vm> vmList;
+
+    /**
+     * The number of PEs of each Cloudlet, in the order of the {@link #cloudletList}.
+     */
+    private final int[] cloudletPes;
+
+    /**
+     * The number of PEs of each VM, in the order of the {@link #vmList}.
+     */
+    private final int[] vmPes;
+
+    /**
+     * The index of the VM in the {@link #vmList} that each Cloudlet is assigned to.
+     */
+    private final int[] cloudletToVm;
+
+    /**
+     * The sum of PEs of the Cloudlets assigned to each VM.
+     */
+    private final long[] vmCloudletsPes;
+
+    /**
+     * The number of Cloudlets assigned to each VM.
+     */
+    private final int[] vmCloudlets;
+
+    /**
+     * @see #getCost()
+     */
+    private long cost;
+
+    /**
+     * The map returned by {@link #getResult()}, which is built
+     * just when requested after the assignment is changed.
+     */
+    private Map<Cloudlet, Vm> result;
+
+    /**
+     * Creates a solution where every Cloudlet is assigned to the first VM.
+     *
+     * @param heuristic the heuristic implementation used to find the solution
+     * @param cloudletList the Cloudlets to assign to VMs
+     * @param vmList the VMs to assign Cloudlets to
+     */
+    public CloudletToVmAssignmentSolution(
+        CloudletToVmMappingHeuristic heuristic, List<Cloudlet> cloudletList, List<Vm> vmList)
+    {
+        if (vmList.isEmpty() && !cloudletList.isEmpty()) {
+            throw new IllegalArgumentException("There is no VM to assign Cloudlets to.");
+        }
+
+        this.heuristic = heuristic;
+        this.cloudletList = cloudletList;
+        this.vmList = vmList;
+        this.cloudletPes = new int[cloudletList.size()];
+        this.vmPes = new int[vmList.size()];
+        this.cloudletToVm = new int[cloudletList.size()];
+        this.vmCloudletsPes = new long[vmList.size()];
+        this.vmCloudlets = new int[vmList.size()];
+
+        for (int i = 0; i < vmPes.length; i++) {
+            vmPes[i] = vmList.get(i).getNumberOfPes();
+        }
+
+        for (int i = 0; i < cloudletPes.length; i++) {
+            cloudletPes[i] = cloudletList.get(i).getNumberOfPes();
+            vmCloudletsPes[0] += cloudletPes[i];
+        }
+
+        if (!cloudletList.isEmpty()) {
+            vmCloudlets[0] = cloudletList.size();
+            cost = getVmCost(0);
+        }
+    }
+
+    /**
+     * Creates a solution with the same assignment of a given {@link CloudletToVmMappingSolution}.
+     * Cloudlets the given solution doesn't map to any VM in the list are assigned to the first VM.
+     *
+     * @param heuristic the heuristic implementation used to find the solution
+     * @param cloudletList the Cloudlets to assign to VMs
+     * @param vmList the VMs to assign Cloudlets to
+     * @param solution the solution to get the VM of each Cloudlet from
+     */
+    public CloudletToVmAssignmentSolution(
+        CloudletToVmMappingHeuristic heuristic, List<Cloudlet> cloudletList,
+        List<Vm> vmList, CloudletToVmMappingSolution solution)
+    {
+        this(heuristic, cloudletList, vmList);
+        final Map<Vm, Integer> vmIndexes = new IdentityHashMap<>(vmList.size());
+        for (int i = 0; i < vmList.size(); i++) {
+            vmIndexes.put(vmList.get(i), i);
+        }
+
+        final Map<Cloudlet, Vm> map = solution.getResult();
+        for (int i = 0; i < cloudletList.size(); i++) {
+            assign(i, vmIndexes.getOrDefault(map.get(cloudletList.get(i)), 0));
+        }
+    }
+
+    /**
+     * Clones a given solution.
+     *
+     * @param solution the solution to be cloned
+     */
+    public CloudletToVmAssignmentSolution(CloudletToVmAssignmentSolution solution) {
+        this.heuristic = solution.heuristic;
+        this.cloudletList = solution.cloudletList;
+        this.vmList = solution.vmList;
+        this.cloudletPes = solution.cloudletPes;
+        this.vmPes = solution.vmPes;
+        this.cloudletToVm = solution.cloudletToVm.clone();
+        this.vmCloudletsPes = solution.vmCloudletsPes.clone();
+        this.vmCloudlets = solution.vmCloudlets.clone();
+        this.cost = solution.cost;
+    }
+
+    /**
+     * Assigns a Cloudlet to a VM, updating the cost in constant time.
+     *
+     * @param cloudletIndex the index of the Cloudlet in the Cloudlet list
+     * @param vmIndex the index of the VM in the VM list
+     */
+    public void assign(final int cloudletIndex, final int vmIndex) {
+        final int previous = cloudletToVm[cloudletIndex];
+        if (previous == vmIndex) {
+            return;
+        }
+
+        final int pes = cloudletPes[cloudletIndex];
+        cost -= getVmCost(previous) + getVmCost(vmIndex);
+        vmCloudletsPes[previous] -= pes;
+        vmCloudlets[previous]--;
+        vmCloudletsPes[vmIndex] += pes;
+        vmCloudlets[vmIndex]++;
+        cost += getVmCost(previous) + getVmCost(vmIndex);
+        cloudletToVm[cloudletIndex] = vmIndex;
+        result = null;
+    }
+
+    /**
+     * Computes how the cost would change if a Cloudlet was assigned to a given VM,
+     * in constant time and without changing the solution.
+     *
+     * @param cloudletIndex the index of the Cloudlet in the Cloudlet list
+     * @param vmIndex the index of the VM in the VM list
+     * @return the difference between the cost after and before the assignment
+     * @see #assign(int, int)
+     */
+    public long getAssignCostDelta(final int cloudletIndex, final int vmIndex) {
+        final int previous = cloudletToVm[cloudletIndex];
+        if (previous == vmIndex) {
+            return 0;
+        }
+
+        final int pes = cloudletPes[cloudletIndex];
+        final long previousCost = vmCloudlets[previous] == 1 ? 0 :
+            Math.abs(vmPes[previous] - (vmCloudletsPes[previous] - pes));
+        final long newCost = Math.abs(vmPes[vmIndex] - (vmCloudletsPes[vmIndex] + pes));
+        return previousCost - getVmCost(previous) + newCost - getVmCost(vmIndex);
+    }
+
+    /**
+     * Computes how the cost would change if the VMs of two Cloudlets were swapped,
+     * in constant time and without changing the solution.
+     *
+     * @param i the index of the first Cloudlet in the Cloudlet list
+     * @param j the index of the second Cloudlet in the Cloudlet list
+     * @return the difference between the cost after and before the swap
+     * @see #swap(int, int)
+     */
+    public long getSwapCostDelta(final int i, final int j) {
+        final int vm1 = cloudletToVm[i];
+        final int vm2 = cloudletToVm[j];
+        final int diff = cloudletPes[j] - cloudletPes[i];
+        if (vm1 == vm2 || diff == 0) {
+            return 0;
+        }
+
+        // Swapping doesn't change the number of Cloudlets of the VMs, that is at least 1 for both of them
+        return Math.abs(vmPes[vm1] - (vmCloudletsPes[vm1] + diff)) - Math.abs(vmPes[vm1] - vmCloudletsPes[vm1]) +
+               Math.abs(vmPes[vm2] - (vmCloudletsPes[vm2] - diff)) - Math.abs(vmPes[vm2] - vmCloudletsPes[vm2]);
+    }
+
+    /**
+     * Swaps the VMs of two Cloudlets, updating the cost in constant time.
+     *
+     * @param i the index of the first Cloudlet in the Cloudlet list
+     * @param j the index of the second Cloudlet in the Cloudlet list
+     * @see #getSwapCostDelta(int, int)
+     */
+    public void swap(final int i, final int j) {
+        final int vm1 = cloudletToVm[i];
+        final int vm2 = cloudletToVm[j];
+        if (vm1 == vm2) {
+            return;
+        }
+
+        final int diff = cloudletPes[j] - cloudletPes[i];
+        cost += getSwapCostDelta(i, j);
+        vmCloudletsPes[vm1] += diff;
+        vmCloudletsPes[vm2] -= diff;
+        cloudletToVm[i] = vm2;
+        cloudletToVm[j] = vm1;
+        result = null;
+    }
+
+    /**
+     * Gets the number of idle or overloaded PEs of a VM,
+     * which is zero if the VM has no Cloudlets.
+     *
+     * @param vmIndex the index of the VM in the VM list
+     * @return the VM cost
+     */
+    private long getVmCost(final int vmIndex) {
+        return vmCloudlets[vmIndex] == 0 ? 0 : Math.abs(vmPes[vmIndex] - vmCloudletsPes[vmIndex]);
+    }
+
+    /**
+     * Gets the index of the VM assigned to a Cloudlet.
+     *
+     * @param cloudletIndex the index of the Cloudlet in the Cloudlet list
+     * @return the index of the VM in the VM list
+     */
+    public int getVmIndex(final int cloudletIndex) {
+        return cloudletToVm[cloudletIndex];
+    }
+
+    /**
+     * Gets the number of Cloudlets in the solution.
+     * @return
+     */
+    public int getNumberOfCloudlets() {
+        return cloudletToVm.length;
+    }
+
+    /**
+     * Gets the number of VMs Cloudlets can be assigned to.
+     * @return
+     */
+    public int getNumberOfVms() {
+        return vmPes.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Heuristic<HeuristicSolution<Map<Cloudlet, Vm>>> getHeuristic() {
+        return (Heuristic<HeuristicSolution<Map<Cloudlet, Vm>>>) (Heuristic<?>) heuristic;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The cost is kept up to date as the solution changes, thus it's returned in constant time.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double getCost() {
+        return cost;
+    }
+
+    /**
+     * Compares this solution with another given one, based on the solution cost,
+     * in the same way as {@link CloudletToVmMappingSolution#compareTo(HeuristicSolution)}.
+     *
+     * @param o the solution to compare this instance to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int compareTo(HeuristicSolution<Map<Cloudlet, Vm>> o) {
+        final double diff = this.getCost() - o.getCost();
+        if(Math.abs(diff) <= 0.0001)
+            return 0;
+
+        return (diff > 0 ? -1 : 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The map is built in linear time the first time this method is called
+     * after the solution is changed.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Map<Cloudlet, Vm> getResult() {
+        if (result == null) {
+            final Map<Cloudlet, Vm> map = new HashMap<>(cloudletToVm.length * 2);
+            for (int i = 0; i < cloudletToVm.length; i++) {
+                map.put(cloudletList.get(i), vmList.get(cloudletToVm[i]));
+            }
+            result = Collections.unmodifiableMap(map);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a {@link CloudletToVmMappingSolution} with the same assignment of this solution.
+     *
+     * @param heuristic the heuristic to be associated to the created solution
+     * @return the created solution
+     */
+    public CloudletToVmMappingSolution toMappingSolution(CloudletToVmMappingHeuristic heuristic) {
+        final CloudletToVmMappingSolution solution = new CloudletToVmMappingSolution(heuristic);
+        for (int i = 0; i < cloudletToVm.length; i++) {
+            solution.bindCloudletToVm(cloudletList.get(i), vmList.get(cloudletToVm[i]));
+        }
+
+        return solution;
+    }
+}
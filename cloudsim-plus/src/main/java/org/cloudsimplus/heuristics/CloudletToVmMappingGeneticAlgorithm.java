@@ -0,0 +1,350 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A <a href="https://en.wikipedia.org/wiki/Genetic_algorithm">Genetic Algorithm</a>
+ * implementation to find a sub-optimal mapping among a set of Cloudlets and VMs
+ * in order to reduce the number of idle or overloaded VM PEs.
+ *
+ * <p>Each individual of the population is a {@link CloudletToVmAssignmentSolution},
+ * where the gene of each Cloudlet is the index of the VM it's assigned to.
+ * At each generation (iteration), the {@link #getEliteSize() elite} individuals
+ * are kept and the remaining ones are replaced by children created from
+ * parents chosen by tournament selection, using two-point crossover and per-gene mutation.
+ * Since the cost of an individual is updated at each gene change,
+ * evaluating the fitness of a child costs no more than creating it.
+ * The children of a generation are created and evaluated in parallel.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class CloudletToVmMappingGeneticAlgorithm extends CloudletToVmMappingHeuristicAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Sorts individuals from the cheapest to the most expensive one
+     * (the natural order of solutions sorts them by fitness instead).
+     */
+    private static final Comparator<CloudletToVmAssignmentSolution> BY_COST =
+        Comparator.comparingDouble(CloudletToVmAssignmentSolution::getCost);
+
+    /** @see #getPopulationSize() */
+    private int populationSize;
+
+    /** @see #getEliteSize() */
+    private int eliteSize;
+
+    /** @see #getTournamentSize() */
+    private int tournamentSize;
+
+    /** @see #getCrossoverRate() */
+    private double crossoverRate;
+
+    /** @see #getMutationRate() */
+    private double mutationRate;
+
+    /**
+     * Creates a Genetic Algorithm.
+     *
+     * @param random a random number generator, which seed is used to seed the generators of all children
+     */
+    public CloudletToVmMappingGeneticAlgorithm(ContinuousDistribution random) {
+        super(random);
+        this.populationSize = 50;
+        this.eliteSize = 2;
+        this.tournamentSize = 3;
+        this.crossoverRate = 0.9;
+        this.mutationRate = 0.01;
+        setMaxIterations(200);
+    }
+
+    @Override
+    protected CloudletToVmAssignmentSolution search(final CloudletToVmAssignmentSolution initialSolution) {
+        List<CloudletToVmAssignmentSolution> population = createInitialPopulation(initialSolution);
+        while (!isToStopSearch()) {
+            population = nextGeneration(population);
+            updateSystemState();
+        }
+
+        return population.get(0);
+    }
+
+    /**
+     * Creates the initial population, including the initial solution
+     * and random individuals, sorted by cost.
+     *
+     * @param initialSolution the initial solution
+     * @return the initial population
+     */
+    private List<CloudletToVmAssignmentSolution> createInitialPopulation(final CloudletToVmAssignmentSolution initialSolution) {
+        final List<Callable<CloudletToVmAssignmentSolution>> tasks = new ArrayList<>(populationSize);
+        tasks.add(() -> initialSolution);
+        for (int i = 1; i < populationSize; i++) {
+            final int individual = i;
+            tasks.add(() -> createRandomAssignment(createTaskRandom(individual)));
+        }
+
+        final List<CloudletToVmAssignmentSolution> population = runInParallel(tasks);
+        population.sort(BY_COST);
+        return population;
+    }
+
+    /**
+     * Creates the next generation, keeping the elite of the current one.
+     *
+     * @param population the current population, sorted by cost
+     * @return the new population, sorted by cost
+     */
+    private List<CloudletToVmAssignmentSolution> nextGeneration(final List<CloudletToVmAssignmentSolution> population) {
+        final int elite = Math.min(eliteSize, population.size());
+        final List<Callable<CloudletToVmAssignmentSolution>> tasks = new ArrayList<>(populationSize - elite);
+        for (int i = elite; i < populationSize; i++) {
+            final int child = i;
+            tasks.add(() -> createChild(population, createTaskRandom(child)));
+        }
+
+        final List<CloudletToVmAssignmentSolution> next = new ArrayList<>(populationSize);
+        next.addAll(population.subList(0, elite));
+        next.addAll(runInParallel(tasks));
+        next.sort(BY_COST);
+        return next;
+    }
+
+    /**
+     * Creates a child from two parents selected from the population.
+     * This method doesn't change the population, so that many children can be created in parallel.
+     *
+     * @param population the current population
+     * @param random the random number generator for the child
+     * @return the new child
+     */
+    private CloudletToVmAssignmentSolution createChild(
+        final List<CloudletToVmAssignmentSolution> population, final ContinuousDistribution random)
+    {
+        final CloudletToVmAssignmentSolution child = new CloudletToVmAssignmentSolution(select(population, random));
+        final CloudletToVmAssignmentSolution other = select(population, random);
+        if (getUniform(random) < crossoverRate) {
+            crossover(child, other, random);
+        }
+
+        mutate(child, random);
+        return child;
+    }
+
+    /**
+     * Selects an individual by tournament, which is the cheapest
+     * of {@link #getTournamentSize()} randomly chosen individuals.
+     *
+     * @param population the population to select an individual from
+     * @param random the random number generator to use
+     * @return the selected individual
+     */
+    private CloudletToVmAssignmentSolution select(
+        final List<CloudletToVmAssignmentSolution> population, final ContinuousDistribution random)
+    {
+        CloudletToVmAssignmentSolution winner = population.get(getRandomValue(random, population.size()));
+        for (int i = 1; i < tournamentSize; i++) {
+            final CloudletToVmAssignmentSolution candidate = population.get(getRandomValue(random, population.size()));
+            if (candidate.getCost() < winner.getCost()) {
+                winner = candidate;
+            }
+        }
+
+        return winner;
+    }
+
+    /**
+     * Performs a two-point crossover, copying the genes between two random points
+     * from a parent to the child.
+     *
+     * @param child the child, which is a copy of the other parent
+     * @param parent the parent to copy genes from
+     * @param random the random number generator to use
+     */
+    private void crossover(
+        final CloudletToVmAssignmentSolution child,
+        final CloudletToVmAssignmentSolution parent,
+        final ContinuousDistribution random)
+    {
+        final int genes = child.getNumberOfCloudlets();
+        final int a = getRandomValue(random, genes);
+        final int b = getRandomValue(random, genes);
+        for (int i = Math.min(a, b); i <= Math.max(a, b); i++) {
+            child.assign(i, parent.getVmIndex(i));
+        }
+    }
+
+    /**
+     * Assigns each gene of the child to a random VM, with probability {@link #getMutationRate()}.
+     * The genes to mutate are chosen by drawing geometrically distributed gaps between them,
+     * so that the mutation costs time proportional to the number of mutated genes
+     * instead of the number of Cloudlets.
+     *
+     * @param child the child to mutate
+     * @param random the random number generator to use
+     */
+    private void mutate(final CloudletToVmAssignmentSolution child, final ContinuousDistribution random) {
+        if (mutationRate <= 0) {
+            return;
+        }
+
+        final int genes = child.getNumberOfCloudlets();
+        final double logComplement = Math.log(1 - mutationRate);
+        long i = -1;
+        while (true) {
+            i += mutationRate >= 1 ? 1 : 1 + (long) (Math.log(1 - getUniform(random)) / logComplement);
+            if (i >= genes) {
+                return;
+            }
+
+            child.assign((int) i, getRandomValue(random, child.getNumberOfVms()));
+        }
+    }
+
+    /**
+     * Gets the number of individuals of the population.
+     * @return
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Sets the number of individuals of the population.
+     *
+     * @param populationSize the population size to set (default is 50)
+     * @return
+     */
+    public CloudletToVmMappingGeneticAlgorithm setPopulationSize(final int populationSize) {
+        if (populationSize < 1) {
+            throw new IllegalArgumentException("The population size must be at least 1.");
+        }
+
+        this.populationSize = populationSize;
+        return this;
+    }
+
+    /**
+     * Gets the number of best individuals that are kept unchanged into the next generation.
+     * @return
+     */
+    public int getEliteSize() {
+        return eliteSize;
+    }
+
+    /**
+     * Sets the number of best individuals that are kept unchanged into the next generation.
+     * At least the best individual must be kept, so that the best solution is never lost.
+     *
+     * @param eliteSize the elite size to set (default is 2)
+     * @return
+     */
+    public CloudletToVmMappingGeneticAlgorithm setEliteSize(final int eliteSize) {
+        if (eliteSize < 1) {
+            throw new IllegalArgumentException("The elite size must be at least 1.");
+        }
+
+        this.eliteSize = eliteSize;
+        return this;
+    }
+
+    /**
+     * Gets the number of individuals randomly chosen to select a parent, from which the cheapest one wins.
+     * @return
+     */
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+
+    /**
+     * Sets the number of individuals randomly chosen to select a parent, from which the cheapest one wins.
+     *
+     * @param tournamentSize the tournament size to set (default is 3)
+     * @return
+     */
+    public CloudletToVmMappingGeneticAlgorithm setTournamentSize(final int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("The tournament size must be at least 1.");
+        }
+
+        this.tournamentSize = tournamentSize;
+        return this;
+    }
+
+    /**
+     * Gets the probability of a child being created by crossover of two parents,
+     * instead of being a copy of a single parent.
+     * @return
+     */
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    /**
+     * Sets the probability of a child being created by crossover of two parents,
+     * instead of being a copy of a single parent.
+     *
+     * @param crossoverRate the crossover rate to set, between 0 and 1 (default is 0.9)
+     * @return
+     */
+    public CloudletToVmMappingGeneticAlgorithm setCrossoverRate(final double crossoverRate) {
+        if (crossoverRate < 0 || crossoverRate > 1) {
+            throw new IllegalArgumentException("The crossover rate must be between 0 and 1.");
+        }
+
+        this.crossoverRate = crossoverRate;
+        return this;
+    }
+
+    /**
+     * Gets the probability of each gene of a child being changed to a random VM.
+     * @return
+     */
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    /**
+     * Sets the probability of each gene of a child being changed to a random VM.
+     *
+     * @param mutationRate the mutation rate to set, between 0 and 1 (default is 0.01)
+     * @return
+     */
+    public CloudletToVmMappingGeneticAlgorithm setMutationRate(final double mutationRate) {
+        if (mutationRate < 0 || mutationRate > 1) {
+            throw new IllegalArgumentException("The mutation rate must be between 0 and 1.");
+        }
+
+        this.mutationRate = mutationRate;
+        return this;
+    }
+}
@@ -74,6 +74,8 @@ public interface CloudletToVmMappingHeuristic extends Heuristic<CloudletToVmMapp
  * for this interface and extensions of it.
  */
 class CloudletToVmMappingHeuristicNull extends HeuristicNull<CloudletToVmMappingSolution> implements CloudletToVmMappingHeuristic {
+    private static final long serialVersionUID = 1L;
+
     @Override public List<Cloudlet> getCloudletList() { return Collections.EMPTY_LIST; }
     @Override public List<Vm> getVmList() { return Collections.EMPTY_LIST; }
     @Override public void setCloudletList(List<Cloudlet> cloudletList) {}
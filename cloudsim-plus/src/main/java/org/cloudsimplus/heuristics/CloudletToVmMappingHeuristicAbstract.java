@@ -0,0 +1,390 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A base class for heuristics that find a sub-optimal mapping among a set of Cloudlets and VMs
+ * by searching over {@link CloudletToVmAssignmentSolution}s, which enables
+ * changing a solution and updating its cost in constant time.
+ *
+ * <p>The search runs until a {@link #setMaxIterations(int) maximum number of iterations}
+ * or a {@link #setMaxSolveTime(double) maximum solve time} is reached,
+ * so that large mapping problems can be solved within a known time budget.
+ * Independent tasks of each iteration are run in parallel into a {@link ForkJoinPool}
+ * (see {@link #setParallelism(int)}), using random number generators
+ * seeded from the seed of the heuristic generator, the iteration and the task index.
+ * This way, the same seed always gives the same solution,
+ * regardless of the parallelism and of how tasks are scheduled
+ * (unless the search is stopped by the time budget).</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public abstract class CloudletToVmMappingHeuristicAbstract
+    extends HeuristicAbstract<CloudletToVmMappingSolution>
+    implements CloudletToVmMappingHeuristic
+{
+    private static final long serialVersionUID = 1L;
+
+    /** @see #getVmList() */
+    private List<Vm> vmList;
+
+    /** @see #getCloudletList() */
+    private List<Cloudlet> cloudletList;
+
+    /** @see #getMaxIterations() */
+    private int maxIterations;
+
+    /** @see #getMaxSolveTime() */
+    private double maxSolveTime;
+
+    /** @see #getParallelism() */
+    private int parallelism;
+
+    /** @see #getIterations() */
+    private int iterations;
+
+    /**
+     * The time the current search started, in milliseconds.
+     */
+    private long startTime;
+
+    /**
+     * The pool used to run tasks in parallel during a search.
+     */
+    private transient ForkJoinPool pool;
+
+    /**
+     * Creates a heuristic.
+     *
+     * @param random a random number generator, which seed is used to seed the generators of all tasks
+     */
+    public CloudletToVmMappingHeuristicAbstract(ContinuousDistribution random) {
+        super(random, CloudletToVmMappingSolution.class);
+        this.cloudletList = Collections.emptyList();
+        this.vmList = Collections.emptyList();
+        this.maxIterations = 1000;
+        this.maxSolveTime = Double.MAX_VALUE;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>It starts from the {@link #getInitialSolution() initial solution}
+     * and runs the {@link #search(CloudletToVmAssignmentSolution)} defined by sub-classes,
+     * converting the found solution to a {@link CloudletToVmMappingSolution} at the end.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public CloudletToVmMappingSolution solve() {
+        startTime = System.currentTimeMillis();
+        iterations = 0;
+        final CloudletToVmMappingSolution initial = getInitialSolution();
+        if (cloudletList.isEmpty() || vmList.isEmpty()) {
+            setBestSolutionSoFar(initial);
+        } else {
+            pool = new ForkJoinPool(parallelism);
+            try {
+                final CloudletToVmAssignmentSolution start =
+                    new CloudletToVmAssignmentSolution(this, cloudletList, vmList, initial);
+                setBestSolutionSoFar(search(start).toMappingSolution(this));
+            } finally {
+                pool.shutdown();
+                pool = null;
+            }
+        }
+
+        setNeighborSolution(getBestSolutionSoFar());
+        setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+        return getBestSolutionSoFar();
+    }
+
+    /**
+     * Searches for a sub-optimal solution, calling {@link #updateSystemState()}
+     * at the end of each iteration, until {@link #isToStopSearch()}.
+     *
+     * @param initialSolution the solution to start from
+     * @return the best solution found
+     */
+    protected abstract CloudletToVmAssignmentSolution search(CloudletToVmAssignmentSolution initialSolution);
+
+    /**
+     * {@inheritDoc}
+     * Counts a new iteration of the search.
+     */
+    @Override
+    protected void updateSystemState() {
+        iterations++;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return true if the {@link #getMaxIterations() maximum number of iterations}
+     * or the {@link #getMaxSolveTime() maximum solve time} was reached, false otherwise
+     */
+    @Override
+    public boolean isToStopSearch() {
+        return iterations >= maxIterations ||
+               (System.currentTimeMillis() - startTime)/1000.0 >= maxSolveTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return 1 if the neighbor solution is not worse than the best solution so far, 0 otherwise
+     */
+    @Override
+    public double getAcceptanceProbability() {
+        return getNeighborSolution().getCost() <= getBestSolutionSoFar().getCost() ? 1 : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * It generates a solution where each Cloudlet is mapped to a random VM.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public CloudletToVmMappingSolution getInitialSolution() {
+        final CloudletToVmMappingSolution solution = new CloudletToVmMappingSolution(this);
+        if (!vmList.isEmpty()) {
+            cloudletList.forEach(c -> solution.bindCloudletToVm(c, vmList.get(getRandomValue(vmList.size()))));
+        }
+
+        return solution;
+    }
+
+    @Override
+    public CloudletToVmMappingSolution createNeighbor(CloudletToVmMappingSolution source) {
+        final CloudletToVmMappingSolution clone = new CloudletToVmMappingSolution(source);
+        clone.swapVmsOfTwoRandomSelectedMapEntries();
+        return clone;
+    }
+
+    /**
+     * Creates a solution where each Cloudlet is assigned to a random VM.
+     *
+     * @param random the random number generator to use
+     * @return the created solution
+     */
+    protected CloudletToVmAssignmentSolution createRandomAssignment(final ContinuousDistribution random) {
+        final CloudletToVmAssignmentSolution solution =
+            new CloudletToVmAssignmentSolution(this, cloudletList, vmList);
+        for (int i = 0; i < solution.getNumberOfCloudlets(); i++) {
+            solution.assign(i, getRandomValue(random, solution.getNumberOfVms()));
+        }
+
+        return solution;
+    }
+
+    /**
+     * Creates a random number generator for a task of the current iteration,
+     * which seed depends only on the seed of the heuristic generator,
+     * the {@link #getIterations() iteration} and the task index.
+     *
+     * @param task the index of the task in the iteration
+     * @return a new uniform random number generator
+     */
+    protected ContinuousDistribution createTaskRandom(final int task) {
+        long seed = getRandom().getSeed();
+        seed = mix(seed + 0x9E3779B97F4A7C15L * (iterations + 1));
+        seed = mix(seed + 0x9E3779B97F4A7C15L * (task + 1));
+        return new UniformDistr(0, 1, seed & Long.MAX_VALUE);
+    }
+
+    /**
+     * Scrambles the bits of a value (the finalizer of the SplitMix64 generator).
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets a random number between 0 (inclusive) and 1 (exclusive),
+     * regardless if the random number generator returns values greater than 1.
+     *
+     * @param random the random number generator to use
+     * @return the random number
+     */
+    protected static double getUniform(final ContinuousDistribution random) {
+        final double value = random.sample();
+        return value - Math.floor(value);
+    }
+
+    /**
+     * Runs a list of tasks in parallel into the pool of the heuristic and waits them to finish.
+     *
+     * @param tasks the tasks to run
+     * @param <T> the type of the result of the tasks
+     * @return the result of each task, in the order of the given tasks
+     */
+    protected <T> List<T> runInParallel(final List<Callable<T>> tasks) {
+        if (tasks.size() == 1 || pool == null) {
+            return runSequentially(tasks);
+        }
+
+        final List<T> results = new ArrayList<>(tasks.size());
+        for (final Future<T> future : pool.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The heuristic was interrupted.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Error when running a heuristic task.", e.getCause());
+            }
+        }
+
+        return results;
+    }
+
+    private <T> List<T> runSequentially(final List<Callable<T>> tasks) {
+        final List<T> results = new ArrayList<>(tasks.size());
+        for (final Callable<T> task : tasks) {
+            try {
+                results.add(task.call());
+            } catch (Exception e) {
+                throw new IllegalStateException("Error when running a heuristic task.", e);
+            }
+        }
+
+        return results;
+    }
+
+    @Override
+    public List<Vm> getVmList() {
+        return vmList;
+    }
+
+    @Override
+    public void setVmList(List<Vm> vmList) {
+        this.vmList = vmList;
+    }
+
+    @Override
+    public List<Cloudlet> getCloudletList() {
+        return cloudletList;
+    }
+
+    @Override
+    public void setCloudletList(List<Cloudlet> cloudletList) {
+        this.cloudletList = cloudletList;
+    }
+
+    /**
+     * Gets the number of iterations performed by the current or last search.
+     * @return
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the maximum number of iterations of the search.
+     * @return
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Sets the maximum number of iterations of the search.
+     *
+     * @param maxIterations the maximum number of iterations to set (default is 1000)
+     * @return
+     */
+    public CloudletToVmMappingHeuristicAbstract setMaxIterations(final int maxIterations) {
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException("The maximum number of iterations cannot be negative.");
+        }
+
+        this.maxIterations = maxIterations;
+        return this;
+    }
+
+    /**
+     * Gets the maximum time the search can take (in seconds).
+     * @return
+     */
+    public double getMaxSolveTime() {
+        return maxSolveTime;
+    }
+
+    /**
+     * Sets the maximum time the search can take (in seconds).
+     * The search stops at the end of the iteration that reaches such a time.
+     *
+     * @param maxSolveTime the maximum solve time to set (default is unlimited)
+     * @return
+     */
+    public CloudletToVmMappingHeuristicAbstract setMaxSolveTime(final double maxSolveTime) {
+        if (maxSolveTime <= 0) {
+            throw new IllegalArgumentException("The maximum solve time must be greater than 0.");
+        }
+
+        this.maxSolveTime = maxSolveTime;
+        return this;
+    }
+
+    /**
+     * Gets the number of threads used to run the tasks of each iteration in parallel.
+     * @return
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of threads used to run the tasks of each iteration in parallel.
+     *
+     * @param parallelism the number of threads to set (default is the number of available CPU cores)
+     * @return
+     */
+    public CloudletToVmMappingHeuristicAbstract setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+}
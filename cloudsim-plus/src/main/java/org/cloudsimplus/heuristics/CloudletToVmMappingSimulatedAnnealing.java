@@ -24,8 +24,10 @@
 package org.cloudsimplus.heuristics;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
 
@@ -34,12 +36,22 @@ import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
  * to find a sub-optimal mapping among a set of Cloudlets and VMs in order to reduce
  * the number of idle or overloaded Vm Pe's.
  *
+ * <p>The {@link #solve()} method searches for a solution using a {@link CloudletToVmAssignmentSolution},
+ * swapping the VMs of two Cloudlets in place and updating the cost in constant time
+ * for each neighbor, instead of cloning the entire solution.
+ * A neighbor is accepted if it's not worse than the current solution or
+ * according to the {@link #getAcceptanceProbability() Boltzmann probability}.
+ * Several independent annealing chains can be run in parallel,
+ * each one starting from a different solution (see {@link #setNumberOfChains(int)}).</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
 public class CloudletToVmMappingSimulatedAnnealing
       extends SimulatedAnnealing<CloudletToVmMappingSolution>
       implements CloudletToVmMappingHeuristic {
+    private static final long serialVersionUID = 1L;
+
     private CloudletToVmMappingSolution initialSolution;
 
     /** @see #getVmList() */
@@ -48,6 +60,9 @@ public class CloudletToVmMappingSimulatedAnnealing
     /** @see #getCloudletList() */
     private List<Cloudlet> cloudletList;
 
+    /** @see #getNumberOfChains() */
+    private int numberOfChains;
+
     /**
      * Creates a new Simulated Annealing Heuristic for solving Cloudlets to Vm's mapping.
      *
@@ -60,6 +75,7 @@ public class CloudletToVmMappingSimulatedAnnealing
         super(random, CloudletToVmMappingSolution.class);
 	    setCurrentTemperature(initialTemperature);
         initialSolution = new CloudletToVmMappingSolution(this);
+        numberOfChains = 1;
     }
 
     public CloudletToVmMappingSolution generateRandomSolution() {
@@ -120,4 +136,133 @@ public class CloudletToVmMappingSimulatedAnnealing
         return clone;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The search is performed over a {@link CloudletToVmAssignmentSolution}
+     * starting from the {@link #getInitialSolution() initial solution},
+     * which enables each neighbor to be generated and assessed in constant time.
+     * If the {@link #getNumberOfChains() number of chains} is greater than 1,
+     * the other chains start from random solutions and run in parallel,
+     * then the solution with the lowest cost among all chains is returned.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public CloudletToVmMappingSolution solve() {
+        final long startTime = System.currentTimeMillis();
+        final CloudletToVmMappingSolution initial = getInitialSolution();
+        if(!isReadToGenerateInitialSolution()){
+            return super.solve();
+        }
+
+        final CloudletToVmAssignmentSolution start =
+            new CloudletToVmAssignmentSolution(this, cloudletList, vmList, initial);
+        final double initialTemperature = getCurrentTemperature();
+        final long seed = getRandom().getSeed();
+        IntStream chains = IntStream.range(0, numberOfChains);
+        if(numberOfChains > 1){
+            chains = chains.parallel();
+        }
+
+        final CloudletToVmAssignmentSolution best = chains
+            .mapToObj(chain -> chain == 0 ?
+                anneal(new CloudletToVmAssignmentSolution(start), getRandom(), initialTemperature) :
+                annealRandomSolution(new UniformDistr(0, 1, seed + chain), initialTemperature))
+            .reduce((a, b) -> a.getCost() <= b.getCost() ? a : b)
+            .orElse(start);
+
+        setCurrentTemperature(getFinalTemperature(initialTemperature));
+        setBestSolutionSoFar(best.toMappingSolution(this));
+        setNeighborSolution(getBestSolutionSoFar());
+        setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+        return getBestSolutionSoFar();
+    }
+
+    private CloudletToVmAssignmentSolution annealRandomSolution(
+        final ContinuousDistribution random, final double initialTemperature)
+    {
+        final CloudletToVmAssignmentSolution solution =
+            new CloudletToVmAssignmentSolution(this, cloudletList, vmList);
+        for (int i = 0; i < solution.getNumberOfCloudlets(); i++) {
+            solution.assign(i, getRandomValue(random, solution.getNumberOfVms()));
+        }
+
+        return anneal(solution, random, initialTemperature);
+    }
+
+    /**
+     * Runs an annealing chain, changing a given solution in place.
+     *
+     * @param solution the solution to start from
+     * @param random the random number generator used by the chain
+     * @param initialTemperature the initial temperature of the system
+     * @return the given solution, after the system is cold
+     */
+    private CloudletToVmAssignmentSolution anneal(
+        final CloudletToVmAssignmentSolution solution,
+        final ContinuousDistribution random, final double initialTemperature)
+    {
+        final int cloudlets = solution.getNumberOfCloudlets();
+        double temperature = initialTemperature;
+        while (temperature > getColdTemperature()) {
+            for (int k = 0; k < getNumberOfNeighborhoodSearchesByIteration(); k++) {
+                final int i = getRandomValue(random, cloudlets);
+                final int j = getRandomValue(random, cloudlets);
+                final long delta = solution.getSwapCostDelta(i, j);
+                if (delta <= 0 || getUniform(random) < Math.exp(-delta / temperature)) {
+                    solution.swap(i, j);
+                }
+            }
+            temperature *= (1 - getCoolingRate());
+        }
+
+        return solution;
+    }
+
+    /**
+     * Gets a random number between 0 (inclusive) and 1 (exclusive),
+     * regardless if the random number generator returns values greater than 1.
+     */
+    private static double getUniform(final ContinuousDistribution random) {
+        final double value = random.sample();
+        return value - Math.floor(value);
+    }
+
+    private double getFinalTemperature(final double initialTemperature) {
+        double temperature = initialTemperature;
+        while (temperature > getColdTemperature()) {
+            temperature *= (1 - getCoolingRate());
+        }
+
+        return temperature;
+    }
+
+    /**
+     * Gets the number of independent annealing chains to run when {@link #solve() solving} the problem.
+     * @return
+     * @see #setNumberOfChains(int)
+     */
+    public int getNumberOfChains() {
+        return numberOfChains;
+    }
+
+    /**
+     * Sets the number of independent annealing chains to run when {@link #solve() solving} the problem
+     * (a multi-start search). The first chain starts from the {@link #getInitialSolution() initial solution}
+     * and uses the random number generator of the heuristic, while each other chain starts from a random solution
+     * and uses its own generator, seeded from the seed of the heuristic generator.
+     * If there is more than one chain, they run in parallel on the available CPU cores.
+     *
+     * @param numberOfChains the number of chains to set (default is 1)
+     * @return
+     */
+    public CloudletToVmMappingSimulatedAnnealing setNumberOfChains(final int numberOfChains) {
+        if(numberOfChains < 1){
+            throw new IllegalArgumentException("The number of chains must be at least 1.");
+        }
+
+        this.numberOfChains = numberOfChains;
+        return this;
+    }
 }
@@ -38,6 +38,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 1.0
  */
 public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudlet, Vm>> {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getResult()
      */
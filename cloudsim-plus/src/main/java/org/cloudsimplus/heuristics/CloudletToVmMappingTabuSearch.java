@@ -0,0 +1,259 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A <a href="https://en.wikipedia.org/wiki/Tabu_search">Tabu Search</a>
+ * implementation to find a sub-optimal mapping among a set of Cloudlets and VMs
+ * in order to reduce the number of idle or overloaded VM PEs.
+ *
+ * <p>At each iteration, {@link #getNumberOfNeighborhoodSearchesByIteration()}
+ * random moves of the current {@link CloudletToVmAssignmentSolution} are evaluated,
+ * where a move either assigns a Cloudlet to another VM or swaps the VMs of two Cloudlets.
+ * The cheapest move is applied even if it increases the cost, which allows the search
+ * to escape local minimums. Cloudlets that were moved cannot be moved again
+ * for {@link #getTabuTenure()} iterations, unless the move gives a solution
+ * better than the best one found so far (aspiration criterion).</p>
+ *
+ * <p>The cost of each move is computed in constant time without changing the solution,
+ * so candidate moves are split into groups of fixed size that are evaluated in parallel.
+ * The best solution is not copied when found: the moves applied after it are recorded
+ * and undone at the end of the search.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.0
+ */
+public class CloudletToVmMappingTabuSearch extends CloudletToVmMappingHeuristicAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of candidate moves evaluated by each parallel task.
+     * It doesn't depend on the parallelism so that results are reproducible.
+     */
+    private static final int MOVES_BY_TASK = 256;
+
+    /** @see #getTabuTenure() */
+    private int tabuTenure;
+
+    /**
+     * The iteration until which each Cloudlet cannot be moved.
+     */
+    private int[] tabuUntil;
+
+    /**
+     * The Cloudlets moved after the best solution was found,
+     * as pairs of the Cloudlet index and its previous VM index.
+     */
+    private int[] journal;
+
+    /**
+     * The number of elements used in the {@link #journal}.
+     */
+    private int journalSize;
+
+    /**
+     * Creates a Tabu Search.
+     *
+     * @param random a random number generator, which seed is used to seed the generators of all tasks
+     */
+    public CloudletToVmMappingTabuSearch(ContinuousDistribution random) {
+        super(random);
+        this.tabuTenure = 10;
+        setNumberOfNeighborhoodSearchesByIteration(MOVES_BY_TASK);
+    }
+
+    @Override
+    protected CloudletToVmAssignmentSolution search(final CloudletToVmAssignmentSolution initialSolution) {
+        final CloudletToVmAssignmentSolution current = new CloudletToVmAssignmentSolution(initialSolution);
+        tabuUntil = new int[current.getNumberOfCloudlets()];
+        journal = new int[16];
+        journalSize = 0;
+        long bestCost = (long) current.getCost();
+
+        while (!isToStopSearch()) {
+            final Move move = findBestMove(current, bestCost);
+            if (move != null) {
+                apply(current, move);
+                if (current.getCost() < bestCost) {
+                    bestCost = (long) current.getCost();
+                    journalSize = 0;
+                }
+            }
+
+            updateSystemState();
+        }
+
+        for (int k = journalSize - 2; k >= 0; k -= 2) {
+            current.assign(journal[k], journal[k + 1]);
+        }
+
+        tabuUntil = null;
+        journal = null;
+        return current;
+    }
+
+    /**
+     * Evaluates random moves of the current solution in parallel
+     * and gets the cheapest allowed one.
+     *
+     * @param current the current solution, which is not changed
+     * @param bestCost the cost of the best solution found so far
+     * @return the cheapest allowed move or null if all evaluated moves are tabu
+     */
+    private Move findBestMove(final CloudletToVmAssignmentSolution current, final long bestCost) {
+        final int moves = Math.max(1, getNumberOfNeighborhoodSearchesByIteration());
+        final int tasks = (moves + MOVES_BY_TASK - 1) / MOVES_BY_TASK;
+        final List<Callable<Move>> callables = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final int task = t;
+            final int taskMoves = Math.min(MOVES_BY_TASK, moves - t * MOVES_BY_TASK);
+            callables.add(() -> findBestMove(current, bestCost, taskMoves, createTaskRandom(task)));
+        }
+
+        Move best = null;
+        for (final Move move : runInParallel(callables)) {
+            if (move != null && (best == null || move.delta < best.delta)) {
+                best = move;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Evaluates a number of random moves of the current solution without changing it
+     * and gets the cheapest allowed one.
+     *
+     * @param current the current solution
+     * @param bestCost the cost of the best solution found so far
+     * @param moves the number of moves to evaluate
+     * @param random the random number generator to use
+     * @return the cheapest allowed move or null if all evaluated moves are tabu
+     */
+    private Move findBestMove(
+        final CloudletToVmAssignmentSolution current, final long bestCost,
+        final int moves, final ContinuousDistribution random)
+    {
+        final int cloudlets = current.getNumberOfCloudlets();
+        final long cost = (long) current.getCost();
+        Move best = null;
+        for (int m = 0; m < moves; m++) {
+            final int i = getRandomValue(random, cloudlets);
+            final boolean swap = getUniform(random) < 0.5;
+            final int target = swap ? getRandomValue(random, cloudlets) : getRandomValue(random, current.getNumberOfVms());
+            final long delta = swap ? current.getSwapCostDelta(i, target) : current.getAssignCostDelta(i, target);
+            if (best != null && delta >= best.delta) {
+                continue;
+            }
+
+            final boolean tabu = isTabu(i) || (swap && isTabu(target));
+            if (!tabu || cost + delta < bestCost) {
+                best = new Move(swap, i, target, delta);
+            }
+        }
+
+        return best;
+    }
+
+    private boolean isTabu(final int cloudletIndex) {
+        return tabuUntil[cloudletIndex] > getIterations();
+    }
+
+    /**
+     * Applies a move to the current solution, making the moved Cloudlets tabu
+     * and recording their previous VMs.
+     *
+     * @param current the current solution
+     * @param move the move to apply
+     */
+    private void apply(final CloudletToVmAssignmentSolution current, final Move move) {
+        record(move.cloudlet, current.getVmIndex(move.cloudlet));
+        tabuUntil[move.cloudlet] = getIterations() + tabuTenure;
+        if (move.swap) {
+            record(move.target, current.getVmIndex(move.target));
+            tabuUntil[move.target] = getIterations() + tabuTenure;
+            current.swap(move.cloudlet, move.target);
+        } else {
+            current.assign(move.cloudlet, move.target);
+        }
+    }
+
+    private void record(final int cloudletIndex, final int vmIndex) {
+        if (journalSize + 2 > journal.length) {
+            journal = Arrays.copyOf(journal, journal.length * 2);
+        }
+
+        journal[journalSize++] = cloudletIndex;
+        journal[journalSize++] = vmIndex;
+    }
+
+    /**
+     * Gets the number of iterations a moved Cloudlet cannot be moved again.
+     * @return
+     */
+    public int getTabuTenure() {
+        return tabuTenure;
+    }
+
+    /**
+     * Sets the number of iterations a moved Cloudlet cannot be moved again.
+     *
+     * @param tabuTenure the tabu tenure to set (default is 10)
+     * @return
+     */
+    public CloudletToVmMappingTabuSearch setTabuTenure(final int tabuTenure) {
+        if (tabuTenure < 0) {
+            throw new IllegalArgumentException("The tabu tenure cannot be negative.");
+        }
+
+        this.tabuTenure = tabuTenure;
+        return this;
+    }
+
+    /**
+     * A move of the current solution, which either assigns a Cloudlet to a VM
+     * or swaps the VMs of two Cloudlets.
+     */
+    private static final class Move {
+        private final boolean swap;
+        private final int cloudlet;
+        /** The index of the VM to assign the Cloudlet to or of the other Cloudlet to swap with. */
+        private final int target;
+        private final long delta;
+
+        private Move(final boolean swap, final int cloudlet, final int target, final long delta) {
+            this.swap = swap;
+            this.cloudlet = cloudlet;
+            this.target = target;
+            this.delta = delta;
+        }
+    }
+}
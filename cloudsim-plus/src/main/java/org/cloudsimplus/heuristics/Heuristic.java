@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.heuristics;
 
+import java.io.Serializable;
+
 /**
  * <p>Provides the methods to be used for implementation of heuristics
  * to find solution for complex problems where the solution space
@@ -47,7 +49,7 @@ package org.cloudsimplus.heuristics;
  * @param <S> the class of solutions the heuristic will deal with
  * @since CloudSim Plus 1.0
  */
-public interface Heuristic<S extends HeuristicSolution<?>> {
+public interface Heuristic<S extends HeuristicSolution<?>> extends Serializable {
     /**
      * Computes the acceptance probability to define if a neighbor solution
      * has to be accepted or not, compared to the {@link #getBestSolutionSoFar()}.
@@ -154,6 +156,8 @@ public interface Heuristic<S extends HeuristicSolution<?>> {
  * for this interface and extensions of it.
  */
 class HeuristicNull<S extends HeuristicSolution<?>> implements Heuristic<S> {
+    private static final long serialVersionUID = 1L;
+
     @Override public double getAcceptanceProbability() { return 0.0; }
 	@Override public int getRandomValue(int maxValue) { return 0; }
 	@Override public boolean isToStopSearch() { return false; }
@@ -40,6 +40,8 @@ import java.util.stream.IntStream;
  * @since CloudSim Plus 1.0
  */
 public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  implements Heuristic<S> {
+	private static final long serialVersionUID = 1L;
+
 	/**
 	 * Reference to the generic class that will be used to instantiate objects.
 	 */
@@ -116,7 +118,20 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 
 	@Override
 	public int getRandomValue(int maxValue){
-		final double uniform = getRandom().sample();
+		return getRandomValue(getRandom(), maxValue);
+	}
+
+	/**
+	 * Gets a random number between 0 (inclusive) and maxValue (exclusive)
+	 * using a given random number generator.
+	 *
+	 * @param random the random number generator to use
+	 * @param maxValue the max value to get (exclusive)
+	 * @return a random number between 0 (inclusive) and maxValue (exclusive)
+	 * @see #getRandomValue(int)
+	 */
+	protected static int getRandomValue(ContinuousDistribution random, int maxValue){
+		final double uniform = random.sample();
 
         /*always get an index between [0 and size[,
         regardless if the random number generator returns
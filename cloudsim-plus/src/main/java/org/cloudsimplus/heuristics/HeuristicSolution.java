@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.heuristics;
 
+import java.io.Serializable;
+
 /**
  * A solution for a complex problem found using a {@link Heuristic} implementation.
  *
@@ -34,7 +36,8 @@ package org.cloudsimplus.heuristics;
  * run each Cloudlet. Such result can be obtained by calling the {@link #getResult()} method.
  * @since CloudSim Plus 1.0
  */
-public interface HeuristicSolution<T> extends Comparable<HeuristicSolution<T>> {
+@SuppressWarnings("serial")
+public interface HeuristicSolution<T> extends Comparable<HeuristicSolution<T>>, Serializable {
 	/**
 	 * @return the heuristic associated to this solution.
 	 */
@@ -74,6 +77,7 @@ public interface HeuristicSolution<T> extends Comparable<HeuristicSolution<T>> {
      * objects.
      */
     HeuristicSolution NULL = new HeuristicSolution() {
+        private static final long serialVersionUID = 1L;
         private final Object object = new Object();
         @Override public double getFitness() { return 0.0; }
         @Override public double getCost() { return 0.0; }
@@ -38,6 +38,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see Cloudlet#addOnUpdateProcessingListener(EventListener)
  * @see Cloudlet#addOnFinishListener(EventListener)
  */
+@SuppressWarnings("serial")
 public interface CloudletVmEventInfo extends CloudletEventInfo, VmEventInfo {
     /**
      * Gets a CloudletVmEventInfo instance from the given parameters.
@@ -51,6 +52,7 @@ public interface CloudletVmEventInfo extends CloudletEventInfo, VmEventInfo {
      */
     static CloudletVmEventInfo of(double time, Cloudlet cloudlet, Vm vm){
         return new CloudletVmEventInfo() {
+            private static final long serialVersionUID = 1L;
             @Override public Cloudlet getCloudlet() { return cloudlet; }
             @Override public Vm getVm() { return vm; }
             @Override public double getTime() { return time; }
@@ -28,6 +28,8 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+
 /**
  * A general interface that represents data to be passed
  * to {@link EventListener} objects that are registered to be notified
@@ -51,7 +53,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see VmEventInfo
  * @see CloudletEventInfo
  */
-public interface EventInfo {
+@SuppressWarnings("serial")
+public interface EventInfo extends Serializable {
     /**
      * Gets the time the event happened.
      *
@@ -66,6 +69,7 @@ public interface EventInfo {
      */
    static EventInfo of(double time){
        return new EventInfo() {
+           private static final long serialVersionUID = 1L;
            @Override public double getTime() { return time; }
        };
    }
@@ -36,6 +36,7 @@ import org.cloudbus.cloudsim.hosts.Host;
  *
  * @see Host#removeOnUpdateProcessingListener(EventListener)
  */
+@SuppressWarnings("serial")
 public interface HostUpdatesVmsProcessingEventInfo extends HostEventInfo  {
     /**
      * Gets the expected completion time of the next finishing cloudlet.
@@ -53,6 +54,7 @@ public interface HostUpdatesVmsProcessingEventInfo extends HostEventInfo  {
     static HostUpdatesVmsProcessingEventInfo of(Host host, double nextCloudletCompletionTime) {
         final double time = host.getSimulation().clock();
         return new HostUpdatesVmsProcessingEventInfo() {
+            private static final long serialVersionUID = 1L;
             @Override public double getNextCloudletCompletionTime() { return nextCloudletCompletionTime; }
             @Override public Host getHost() { return host; }
             @Override public double getTime() { return time; }
@@ -37,6 +37,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  *
  * @see Vm#addOnCreationFailureListener(EventListener)
  */
+@SuppressWarnings("serial")
 public interface VmDatacenterEventInfo extends VmEventInfo, DatacenterEventInfo {
     /**
      * Gets a VmDatacenterEventInfo instance from the given parameters.
@@ -52,6 +53,7 @@ public interface VmDatacenterEventInfo extends VmEventInfo, DatacenterEventInfo
     static VmDatacenterEventInfo of(Vm vm, Datacenter datacenter) {
         final double time = vm.getSimulation().clock();
         return new VmDatacenterEventInfo() {
+            private static final long serialVersionUID = 1L;
             @Override public Datacenter getDatacenter() { return datacenter; }
             @Override public Vm getVm() { return vm; }
             @Override public double getTime() { return time; }
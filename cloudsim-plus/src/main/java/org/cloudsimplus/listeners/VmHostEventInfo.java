@@ -45,6 +45,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see Vm#addOnHostDeallocationListener(EventListener)
  * @see Vm#addOnUpdateProcessingListener(EventListener)
  */
+@SuppressWarnings("serial")
 public interface VmHostEventInfo extends VmEventInfo, HostEventInfo {
     /**
      * Gets a VmHostEventInfo instance from the given parameters.
@@ -61,6 +62,7 @@ public interface VmHostEventInfo extends VmEventInfo, HostEventInfo {
     static VmHostEventInfo of(Vm vm, Host host) {
         final double time = vm.getSimulation().clock();
         return new VmHostEventInfo() {
+            private static final long serialVersionUID = 1L;
             @Override public Host getHost() { return host; }
             @Override public Vm getVm() { return vm; }
             @Override public double getTime() { return time; }
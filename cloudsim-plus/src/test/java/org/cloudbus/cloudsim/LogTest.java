@@ -14,9 +14,15 @@ import static org.junit.Assert.assertTrue;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.cloudbus.cloudsim.util.AsyncLogOutputStream;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogScope;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -175,4 +181,126 @@ public class LogTest {
         OUTPUT.reset();
     }
 
+    @Test
+    public void testSupplierIsNotCalledWhenDisabled() {
+        OUTPUT.reset();
+        Log.disable();
+        try {
+            Log.printLine(() -> { throw new AssertionError("Message built while the log is disabled"); });
+            Log.println(Log.Level.INFO, getClass(), 0, () -> { throw new AssertionError("Message built while the log is disabled"); });
+            assertEquals("", OUTPUT.toString());
+        } finally {
+            Log.enable();
+        }
+
+        Log.printLine(() -> "test test");
+        assertEquals("test test" + LINE_SEPARATOR, OUTPUT.toString());
+        OUTPUT.reset();
+    }
+
+    @Test
+    public void testLogScope() {
+        OUTPUT.reset();
+        final ByteArrayOutputStream scopeOutput = new ByteArrayOutputStream();
+        final LogScope scope = new LogScope().setOutput(scopeOutput);
+        final LogScope previous = Log.setCurrentScope(scope);
+        try {
+            Log.printLine("scoped");
+            assertEquals("scoped" + LINE_SEPARATOR, scopeOutput.toString());
+
+            scope.disable();
+            assertTrue(Log.isDisabled());
+            Log.printLine("disabled");
+            assertEquals("scoped" + LINE_SEPARATOR, scopeOutput.toString());
+        } finally {
+            Log.setCurrentScope(previous);
+        }
+
+        assertFalse(Log.isDisabled());
+        assertEquals("", OUTPUT.toString());
+    }
+
+    @Test
+    public void testAsyncLogOutputStream() throws IOException {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final StringBuilder expected = new StringBuilder();
+        try (AsyncLogOutputStream async = new AsyncLogOutputStream(target, 16)) {
+            for (int i = 0; i < 1000; i++) {
+                final String msg = "message " + i + LINE_SEPARATOR;
+                async.write(msg.getBytes());
+                expected.append(msg);
+            }
+
+            async.flush();
+            assertEquals(expected.toString(), target.toString());
+        }
+    }
+
+    @Test
+    public void testAsyncLogOutputStreamDoesNotCloseTarget() throws IOException {
+        final AtomicBoolean targetClosed = new AtomicBoolean();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                targetClosed.set(true);
+            }
+        };
+
+        final AsyncLogOutputStream async = new AsyncLogOutputStream(target, 16);
+        async.write("message".getBytes());
+        async.close();
+        async.close();
+        assertEquals("message", target.toString());
+        assertFalse(targetClosed.get());
+    }
+
+    @Test(expected = IOException.class)
+    public void testAsyncLogOutputStreamWriteAfterClose() throws IOException {
+        final AsyncLogOutputStream async = new AsyncLogOutputStream(new ByteArrayOutputStream(), 16);
+        async.close();
+        async.write(1);
+    }
+
+    /**
+     * Checks that messages written concurrently with the closing of the stream
+     * are either written to the target or rejected with an exception, but never lost.
+     */
+    @Test
+    public void testAsyncLogOutputStreamWritesRacingWithClose() throws Exception {
+        for (int run = 0; run < 20; run++) {
+            final ByteArrayOutputStream target = new ByteArrayOutputStream();
+            final AsyncLogOutputStream async = new AsyncLogOutputStream(target, 4);
+            final CountDownLatch started = new CountDownLatch(4);
+            final List<Thread> threads = new ArrayList<>();
+            final int[] accepted = new int[4];
+            for (int t = 0; t < accepted.length; t++) {
+                final int thread = t;
+                threads.add(new Thread(() -> {
+                    started.countDown();
+                    try {
+                        while (true) {
+                            async.write('a' + thread);
+                            accepted[thread]++;
+                        }
+                    } catch (IOException e) {
+                        // the stream was closed
+                    }
+                }));
+            }
+
+            threads.forEach(Thread::start);
+            started.await();
+            async.close();
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+
+            final String written = target.toString();
+            for (int t = 0; t < accepted.length; t++) {
+                final char c = (char) ('a' + t);
+                assertEquals(accepted[t], written.chars().filter(ch -> ch == c).count());
+            }
+        }
+    }
+
 }
@@ -0,0 +1,311 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class DatacenterBrokerSimpleTest {
+    private static final int VMS = 3;
+
+    private CloudSim simulation;
+    private DatacenterBrokerSimple broker;
+    private Datacenter datacenter;
+    private List<Vm> vms;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final HostSimple host = new HostSimple(0, 1000000,
+            Collections.singletonList(new PeSimple(1000, new PeProvisionerSimple())));
+        datacenter = new DatacenterSimple(simulation,
+            new DatacenterCharacteristicsSimple(Collections.singletonList(host)), new VmAllocationPolicySimple());
+        broker = new DatacenterBrokerSimple(simulation);
+
+        vms = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = new VmSimple(i, 1000, 1).setBroker(broker);
+            vms.add(vm);
+            broker.processSuccessVmCreationInDatacenter(vm, datacenter);
+        }
+    }
+
+    private List<Cloudlet> submitCloudlets(final int number) {
+        final List<Cloudlet> list = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            list.add(new CloudletSimple(i, 1000, 1).setUtilizationModel(UtilizationModel.NULL).setBroker(broker));
+        }
+        broker.submitCloudletList(list);
+        return list;
+    }
+
+    @Test
+    public void testRoundRobinSelectionOfVms() {
+        final List<Cloudlet> cloudlets = submitCloudlets(7);
+        broker.requestDatacentersToCreateWaitingCloudlets();
+
+        assertTrue(broker.getCloudletsWaitingList().isEmpty());
+        for (int i = 0; i < cloudlets.size(); i++) {
+            assertEquals(vms.get(i % VMS), cloudlets.get(i).getVm());
+        }
+    }
+
+    @Test
+    public void testRoundRobinContinuesAfterBoundVm() {
+        final List<Cloudlet> cloudlets = submitCloudlets(3);
+        broker.bindCloudletToVm(cloudlets.get(0), vms.get(1));
+        broker.requestDatacentersToCreateWaitingCloudlets();
+
+        assertEquals(vms.get(1), cloudlets.get(0).getVm());
+        assertEquals(vms.get(2), cloudlets.get(1).getVm());
+        assertEquals(vms.get(0), cloudlets.get(2).getVm());
+    }
+
+    @Test
+    public void testCloudletBoundToVmNotCreatedUsesRoundRobin() {
+        final List<Cloudlet> cloudlets = submitCloudlets(1);
+        final Vm notCreated = new VmSimple(VMS, 1000, 1).setBroker(broker);
+        broker.bindCloudletToVm(cloudlets.get(0), notCreated);
+        assertFalse(broker.isVmCreated(notCreated));
+
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        assertEquals(vms.get(0), cloudlets.get(0).getVm());
+    }
+
+    @Test
+    public void testGetVmCreatedIndexAfterCreatedListIsChangedDirectly() {
+        assertEquals(2, broker.getVmCreatedIndex(vms.get(2)));
+        broker.getVmsCreatedList().remove(0);
+        assertEquals(1, broker.getVmCreatedIndex(vms.get(2)));
+        assertEquals(-1, broker.getVmCreatedIndex(vms.get(0)));
+        assertEquals(-1, broker.getVmCreatedIndex(Vm.NULL));
+    }
+
+    @Test
+    public void testGetVmCreatedIndexAfterCreatedListIsSorted() {
+        assertEquals(0, broker.getVmCreatedIndex(vms.get(0)));
+        broker.getVmsCreatedList().sort(Comparator.comparingInt(Vm::getId).reversed());
+        assertEquals(2, broker.getVmCreatedIndex(vms.get(0)));
+        assertEquals(1, broker.getVmCreatedIndex(vms.get(1)));
+        assertEquals(0, broker.getVmCreatedIndex(vms.get(2)));
+    }
+
+    @Test
+    public void testGetVmCreatedIndexAfterCreatedVmIsReplaced() {
+        assertEquals(1, broker.getVmCreatedIndex(vms.get(1)));
+        broker.getVmsCreatedList().set(1, vms.get(0));
+        assertEquals(-1, broker.getVmCreatedIndex(vms.get(1)));
+        assertEquals(0, broker.getVmCreatedIndex(vms.get(0)));
+    }
+
+    @Test
+    public void testRoundRobinAfterCreatedListIsSorted() {
+        broker.getVmsCreatedList().sort(Comparator.comparingInt(Vm::getId).reversed());
+        final List<Cloudlet> cloudlets = submitCloudlets(VMS);
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        for (int i = 0; i < cloudlets.size(); i++) {
+            assertEquals(vms.get(VMS - 1 - i), cloudlets.get(i).getVm());
+        }
+    }
+
+    @Test
+    public void testLeastLoadedVmMapperBalancesCloudletsAndIsUpdatedOnReturn() {
+        broker.setVmMapper(broker::selectLeastLoadedVm);
+        final List<Cloudlet> cloudlets = submitCloudlets(4);
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        for (int i = 0; i < cloudlets.size(); i++) {
+            assertEquals(vms.get(i % VMS), cloudlets.get(i).getVm());
+        }
+
+        broker.processCloudletReturn(new CloudSimEvent(simulation, SimEvent.Type.SEND, 0,
+            datacenter.getId(), broker.getId(), CloudSimTags.CLOUDLET_RETURN, cloudlets.get(2)));
+        assertEquals(vms.get(2), broker.selectLeastLoadedVm(new CloudletSimple(10, 1000, 1)));
+    }
+
+    private void sendToBroker(final int tag, final Cloudlet cloudlet) {
+        broker.processEvent(new CloudSimEvent(simulation, SimEvent.Type.SEND, 0,
+            datacenter.getId(), broker.getId(), tag, cloudlet));
+    }
+
+    @Test
+    public void testVmLoadIndexIsNotMaintainedByRoundRobinMapper() {
+        submitCloudlets(4);
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        assertFalse(broker.isVmLoadIndexEnabled());
+    }
+
+    @Test
+    public void testVmLoadIndexIsBuiltFromRunningCloudletsWhenFirstRequested() {
+        final List<Cloudlet> cloudlets = submitCloudlets(4);
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        sendToBroker(CloudSimTags.CLOUDLET_RETURN, cloudlets.get(1));
+        cloudlets.get(2).setStatus(Cloudlet.Status.CANCELED);
+
+        final VmLoadIndex index = broker.getVmLoadIndex();
+        assertTrue(broker.isVmLoadIndexEnabled());
+        assertEquals(2, index.getDemandedPes(vms.get(0)));
+        assertEquals(0, index.getDemandedPes(vms.get(1)));
+        assertEquals(0, index.getDemandedPes(vms.get(2)));
+    }
+
+    @Test
+    public void testCanceledCloudletDecreasesVmLoadOnce() {
+        broker.setVmMapper(broker::selectLeastLoadedVm);
+        final List<Cloudlet> cloudlets = submitCloudlets(4);
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        final Cloudlet cloudlet = cloudlets.get(0);
+        assertEquals(2, broker.getVmLoadIndex().getDemandedPes(cloudlet.getVm()));
+
+        // a cancel notification for a Cloudlet that wasn't canceled is ignored
+        sendToBroker(CloudSimTags.CLOUDLET_CANCEL, cloudlet);
+        assertEquals(2, broker.getVmLoadIndex().getDemandedPes(cloudlet.getVm()));
+
+        cloudlet.setStatus(Cloudlet.Status.CANCELED);
+        sendToBroker(CloudSimTags.CLOUDLET_CANCEL, cloudlet);
+        sendToBroker(CloudSimTags.CLOUDLET_CANCEL, cloudlet);
+        assertEquals(1, broker.getVmLoadIndex().getDemandedPes(cloudlet.getVm()));
+    }
+
+    @Test
+    public void testCloudletsOfDestroyedVmDoNotChangeLoadOfRecreatedVm() {
+        broker.setVmMapper(broker::selectLeastLoadedVm);
+        final List<Cloudlet> cloudlets = submitCloudlets(1);
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        final Vm vm = cloudlets.get(0).getVm();
+
+        broker.destroyVms();
+        assertTrue(broker.getVmLoadIndex().isEmpty());
+
+        broker.processSuccessVmCreationInDatacenter(vm, datacenter);
+        final Cloudlet cloudlet = new CloudletSimple(VMS, 1000, 1).setBroker(broker);
+        broker.submitCloudletList(Collections.singletonList(cloudlet));
+        broker.requestDatacentersToCreateWaitingCloudlets();
+        assertEquals(vm, cloudlet.getVm());
+
+        sendToBroker(CloudSimTags.CLOUDLET_RETURN, cloudlets.get(0));
+        assertEquals(1, broker.getVmLoadIndex().getDemandedPes(vm));
+    }
+
+    @Test
+    public void testVmsRemovedFromCreatedListAreNotSelected() {
+        broker.getVmsCreatedList().remove(0);
+        assertEquals(vms.get(1), broker.selectLeastLoadedVm(new CloudletSimple(0, 1000, 1)));
+    }
+
+    @Test
+    public void testCloudletsAreSubmittedAndReturnedInBatches() {
+        final int cloudlets = 10;
+        final CloudSim simulation = new CloudSim();
+        new DatacenterSimple(simulation,
+            new DatacenterCharacteristicsSimple(Collections.singletonList(createHost())), new VmAllocationPolicySimple());
+        final DatacenterBroker broker = submitCloudletsToNewBroker(simulation, cloudlets);
+
+        final Map<Integer, Integer> eventsByTag = new TreeMap<>();
+        simulation.addOnEventProcessingListener(ev -> eventsByTag.merge(ev.getTag(), 1, Integer::sum));
+        simulation.start();
+
+        assertEquals(cloudlets, broker.getCloudletsFinishedList().size());
+        assertEquals(1, (int) eventsByTag.getOrDefault(CloudSimTags.CLOUDLET_SUBMIT_LIST, 0));
+        assertEquals(0, (int) eventsByTag.getOrDefault(CloudSimTags.CLOUDLET_SUBMIT, 0));
+        assertEquals(1, (int) eventsByTag.getOrDefault(CloudSimTags.CLOUDLET_RETURN_LIST, 0));
+        assertEquals(0, (int) eventsByTag.getOrDefault(CloudSimTags.CLOUDLET_RETURN, 0));
+    }
+
+    @Test
+    public void testCloudletsSubmittedInBatchesAreSubmittedOneByOneToTheDatacenter() {
+        final int cloudlets = 10;
+        final CloudSim simulation = new CloudSim();
+        final List<Cloudlet> submitted = new ArrayList<>();
+        new DatacenterSimple(simulation,
+            new DatacenterCharacteristicsSimple(Collections.singletonList(createHost())), new VmAllocationPolicySimple())
+        {
+            @Override
+            protected void submitCloudlet(Cloudlet cl, boolean ack) {
+                submitted.add(cl);
+                super.submitCloudlet(cl, ack);
+            }
+        };
+        final DatacenterBroker broker = submitCloudletsToNewBroker(simulation, cloudlets);
+        simulation.start();
+
+        assertEquals(broker.getCloudletsFinishedList().size(), submitted.size());
+        assertEquals(cloudlets, submitted.size());
+    }
+
+    @Test
+    public void testCloudletReturnListWithInvalidDataIsRejected() {
+        final SimEvent ev = new CloudSimEvent(
+            simulation, SimEvent.Type.SEND, 0, datacenter.getId(), broker.getId(),
+            CloudSimTags.CLOUDLET_RETURN_LIST, new CloudletSimple(0, 1000, 1));
+        try {
+            broker.processCloudletReturnList(ev);
+            fail("A ClassCastException was expected");
+        } catch (ClassCastException e) {
+            assertTrue(broker.getCloudletsFinishedList().isEmpty());
+        }
+    }
+
+    private HostSimple createHost() {
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+        }
+        final HostSimple host = new HostSimple(0, 1000000, peList);
+        host.setRamProvisioner(new ResourceProvisionerSimple(new Ram(2048)))
+            .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+            .setVmScheduler(new VmSchedulerTimeShared());
+        return host;
+    }
+
+    private DatacenterBroker submitCloudletsToNewBroker(CloudSim simulation, int cloudlets) {
+        final DatacenterBrokerSimple broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(0, 1000, 2)
+            .setRam(512).setBw(1000).setSize(1000)
+            .setCloudletScheduler(new CloudletSchedulerTimeShared())
+            .setBroker(broker);
+        broker.submitVmList(Collections.singletonList(vm));
+
+        final List<Cloudlet> list = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            list.add(new CloudletSimple(i, 1000, 1).setUtilizationModel(new UtilizationModelFull()).setBroker(broker));
+        }
+        broker.submitCloudletList(list);
+        return broker;
+    }
+}
@@ -0,0 +1,115 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class VmLoadIndexTest {
+    private VmLoadIndex index;
+    private Vm vm2Pes;
+    private Vm vm4Pes;
+    private int cloudletId;
+
+    @Before
+    public void setUp() {
+        index = new VmLoadIndex();
+        vm2Pes = new VmSimple(0, 1000, 2);
+        vm4Pes = new VmSimple(1, 1000, 4);
+        index.addVm(vm2Pes);
+        index.addVm(vm4Pes);
+    }
+
+    private Cloudlet mapCloudlet(final Vm vm, final int pes) {
+        final Cloudlet cloudlet = new CloudletSimple(cloudletId++, 1000, pes).setVm(vm);
+        index.addCloudlet(cloudlet);
+        return cloudlet;
+    }
+
+    @Test
+    public void testEmptyIndexReturnsNullVm() {
+        final VmLoadIndex empty = new VmLoadIndex();
+        assertTrue(empty.isEmpty());
+        assertEquals(Vm.NULL, empty.getLeastLoadedVm());
+        assertEquals(Vm.NULL, empty.getBestFitVm(new CloudletSimple(0, 1000, 1)));
+    }
+
+    @Test
+    public void testLeastLoadedVmIsRelativeToVmPes() {
+        assertEquals(vm2Pes, index.getLeastLoadedVm());
+        mapCloudlet(vm2Pes, 1);
+        assertEquals(vm4Pes, index.getLeastLoadedVm());
+        mapCloudlet(vm4Pes, 2);
+        // both VMs have half of their PEs demanded, so the first added one is selected
+        assertEquals(vm2Pes, index.getLeastLoadedVm());
+        mapCloudlet(vm2Pes, 1);
+        assertEquals(vm4Pes, index.getLeastLoadedVm());
+    }
+
+    @Test
+    public void testRemovedCloudletDecreasesLoad() {
+        final Cloudlet cloudlet = mapCloudlet(vm2Pes, 2);
+        assertEquals(2, index.getDemandedPes(vm2Pes));
+        assertEquals(vm4Pes, index.getLeastLoadedVm());
+
+        index.removeCloudlet(cloudlet);
+        assertEquals(0, index.getDemandedPes(vm2Pes));
+        assertEquals(vm2Pes, index.getLeastLoadedVm());
+    }
+
+    @Test
+    public void testCloudletAddedOrRemovedTwiceChangesLoadOnce() {
+        final Cloudlet cloudlet = mapCloudlet(vm4Pes, 2);
+        index.addCloudlet(cloudlet);
+        assertEquals(2, index.getDemandedPes(vm4Pes));
+
+        mapCloudlet(vm4Pes, 1);
+        index.removeCloudlet(cloudlet);
+        index.removeCloudlet(cloudlet);
+        assertEquals(1, index.getDemandedPes(vm4Pes));
+    }
+
+    @Test
+    public void testCloudletOfRemovedVmDoesNotChangeLoadOfVmAddedAgain() {
+        final Cloudlet cloudlet = mapCloudlet(vm4Pes, 2);
+        index.removeVm(vm4Pes);
+        index.addVm(vm4Pes);
+        mapCloudlet(vm4Pes, 1);
+
+        index.removeCloudlet(cloudlet);
+        assertEquals(1, index.getDemandedPes(vm4Pes));
+    }
+
+    @Test
+    public void testBestFitVmHasTheLowestNumberOfEnoughFreePes() {
+        assertEquals(vm2Pes, index.getBestFitVm(new CloudletSimple(0, 1000, 2)));
+        assertEquals(vm4Pes, index.getBestFitVm(new CloudletSimple(0, 1000, 3)));
+
+        mapCloudlet(vm4Pes, 3);
+        assertEquals(vm4Pes, index.getBestFitVm(new CloudletSimple(0, 1000, 1)));
+        // no VM has 3 free PEs, then the least loaded one is selected
+        assertEquals(vm2Pes, index.getBestFitVm(new CloudletSimple(0, 1000, 3)));
+    }
+
+    @Test
+    public void testRetainVms() {
+        mapCloudlet(vm4Pes, 1);
+        final Vm vm = new VmSimple(2, 1000, 1);
+        index.retainVms(Arrays.asList(vm4Pes, vm));
+
+        assertEquals(2, index.size());
+        assertEquals(0, index.getDemandedPes(vm2Pes));
+        assertEquals(1, index.getDemandedPes(vm4Pes));
+        assertEquals(vm, index.getLeastLoadedVm());
+    }
+}
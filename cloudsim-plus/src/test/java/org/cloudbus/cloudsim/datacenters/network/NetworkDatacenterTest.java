@@ -0,0 +1,235 @@
+package org.cloudbus.cloudsim.datacenters.network;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.HostPacket;
+import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketSchedulerBatched;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.network.NetworkVm;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class NetworkDatacenterTest {
+    private static final long MIPS = 1000;
+    private static final int HOST_PES = 4;
+    private static final long PACKET_SIZE = 1000;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private NetworkDatacenter datacenter;
+    private EdgeSwitch edgeSwitch;
+    private NetworkHost host0;
+    private NetworkHost host1;
+    private NetworkVm vm0;
+    private NetworkVm vm1;
+    private NetworkCloudlet sender;
+    private NetworkCloudlet receiver;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        broker = new DatacenterBrokerSimple(simulation);
+        host0 = createHost(0);
+        host1 = createHost(1);
+        final List<Host> hostList = new ArrayList<>();
+        hostList.add(host0);
+        hostList.add(host1);
+        datacenter = new NetworkDatacenter(
+            simulation, new DatacenterCharacteristicsSimple(hostList), new VmAllocationPolicyById());
+
+        edgeSwitch = new EdgeSwitch(simulation, datacenter);
+        datacenter.addSwitch(edgeSwitch);
+        for (Host host : hostList) {
+            edgeSwitch.connectHost((NetworkHost) host);
+            ((NetworkHost) host).setEdgeSwitch(edgeSwitch);
+        }
+
+        vm0 = createVm(0);
+        vm1 = createVm(1);
+        sender = new NetworkCloudlet(0, 1000, 1);
+        sender.setUtilizationModel(new UtilizationModelFull());
+        receiver = new NetworkCloudlet(1, 1000, 1);
+        receiver.setUtilizationModel(new UtilizationModelFull());
+    }
+
+    private NetworkHost createHost(int id) {
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(MIPS, new PeProvisionerSimple()));
+        }
+
+        final NetworkHost host = new NetworkHost(id, 100000, peList);
+        host.setRamProvisioner(new ResourceProvisionerSimple(new Ram(10000)))
+            .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+            .setVmScheduler(new VmSchedulerTimeShared());
+        return host;
+    }
+
+    private NetworkVm createVm(int id) {
+        final NetworkVm vm = new NetworkVm(id, MIPS, 1);
+        vm.setRam(512).setBw(1000).setSize(1000)
+          .setCloudletScheduler(new CloudletSchedulerTimeShared())
+          .setBroker(broker);
+        vm.getCloudletScheduler().setPacketScheduler(new PacketSchedulerBatched());
+        return vm;
+    }
+
+    /**
+     * Runs a given scenario as soon as the simulation starts,
+     * since VMs can only be placed into Hosts while the simulation is running.
+     * When this method returns, the simulation has finished processing
+     * all events generated by the scenario.
+     *
+     * @param scenario the scenario to run
+     */
+    private void runWhenSimulationStarts(Runnable scenario) {
+        final boolean[] executed = {false};
+        simulation.addOnEventProcessingListener(evt -> {
+            if (!executed[0]) {
+                executed[0] = true;
+                scenario.run();
+            }
+        });
+        simulation.start();
+        assertTrue(executed[0]);
+    }
+
+    private SimEvent createEvent(int tag, Object data) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, 0, datacenter.getId(), datacenter.getId(), tag, data);
+    }
+
+    /**
+     * Creates {@link #vm0} and {@link #vm1} into the Datacenter
+     * and submits the {@link #sender} and {@link #receiver} Cloudlets to them,
+     * so that the VMs have some RAM in use to be allocated when migrated.
+     */
+    private void createVms() {
+        assertTrue(datacenter.processVmCreate(createEvent(CloudSimTags.VM_CREATE, vm0), false));
+        assertTrue(datacenter.processVmCreate(createEvent(CloudSimTags.VM_CREATE, vm1), false));
+        assertSame(host0, vm0.getHost());
+        assertSame(host1, vm1.getHost());
+
+        sender.setVm(vm0);
+        vm0.getCloudletScheduler().cloudletSubmit(sender);
+        receiver.setVm(vm1);
+        vm1.getCloudletScheduler().cloudletSubmit(receiver);
+    }
+
+    private void migrateVm(Vm vm, Host targetHost) {
+        targetHost.addMigratingInVm(vm);
+        datacenter.processVmMigrate(
+            createEvent(CloudSimTags.VM_MIGRATE, new AbstractMap.SimpleEntry<>(vm, targetHost)), false);
+    }
+
+    private HostPacket createPacket(NetworkHost senderHost, Vm destinationVm) {
+        return new HostPacket(senderHost, new VmPacket(vm0, destinationVm, PACKET_SIZE, sender, receiver));
+    }
+
+    private long getPendingPackets(Vm destinationVm) {
+        final PacketSchedulerBatched scheduler =
+            (PacketSchedulerBatched) destinationVm.getCloudletScheduler().getPacketScheduler();
+        return scheduler.getPendingPackets(vm0, receiver);
+    }
+
+    @Test
+    public void testVmCreateAddsVmRoute() {
+        assertNull(datacenter.getVmHost(vm0.getId()));
+        runWhenSimulationStarts(this::createVms);
+        assertSame(host0, datacenter.getVmHost(vm0.getId()));
+        assertSame(host1, datacenter.getVmHost(vm1.getId()));
+        assertSame(edgeSwitch, datacenter.getVmEdgeSwitch(vm0.getId()));
+    }
+
+    @Test
+    public void testVmDestroyRemovesVmRoute() {
+        runWhenSimulationStarts(() -> {
+            createVms();
+            datacenter.processVmDestroy(createEvent(CloudSimTags.VM_DESTROY, vm1), false);
+        });
+        assertNull(datacenter.getVmHost(vm1.getId()));
+        assertNull(datacenter.getVmEdgeSwitch(vm1.getId()));
+        assertSame(host0, datacenter.getVmHost(vm0.getId()));
+    }
+
+    @Test
+    public void testVmMigrateUpdatesVmRoute() {
+        runWhenSimulationStarts(() -> {
+            createVms();
+            migrateVm(vm1, host0);
+        });
+        assertSame(host0, vm1.getHost());
+        assertSame(host0, datacenter.getVmHost(vm1.getId()));
+        assertSame(host0, datacenter.getVmHost(vm0.getId()));
+    }
+
+    @Test
+    public void testPacketToMigratedVmReachesNewHost() {
+        runWhenSimulationStarts(() -> {
+            createVms();
+            migrateVm(vm1, host0);
+
+            //the packet was sent before the migration, so it arrives at the old Host
+            host1.addReceivedNetworkPacket(createPacket(host0, vm1));
+            host1.updateProcessing(simulation.clock());
+        });
+        assertEquals(PACKET_SIZE, host1.getTotalDataTransferBytes());
+        assertEquals(0, getPendingPackets(vm1));
+
+        //the packet forwarded by the old Host was delivered to the new one through the Edge Switch
+        host0.updateProcessing(simulation.clock());
+        assertEquals(1, getPendingPackets(vm1));
+    }
+
+    @Test
+    public void testReceivePacketsSkipsPacketForUnknownVm() {
+        runWhenSimulationStarts(() -> {
+            createVms();
+            final NetworkVm unknownVm = createVm(2);
+            host0.addReceivedNetworkPacket(createPacket(host1, unknownVm));
+            host0.addReceivedNetworkPacket(createPacket(host1, vm0));
+            host0.updateProcessing(simulation.clock());
+        });
+        assertEquals(1, getPendingPackets(vm0));
+        assertEquals(0, host0.getTotalDataTransferBytes());
+    }
+
+    /**
+     * A policy that places each VM into the Host with the same index as the VM id,
+     * so that the Host of each VM is known by the tests.
+     */
+    private static final class VmAllocationPolicyById extends VmAllocationPolicySimple {
+        @Override
+        public boolean allocateHostForVm(Vm vm) {
+            return allocateHostForVm(vm, getHostList().get(vm.getId() % getHostList().size()));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.cloudbus.cloudsim.distributions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class XoroshiroRandomGeneratorTest {
+    private static final long SEED = 1475098589732L;
+    private static final int SAMPLES = 1_000_000;
+
+    @Test
+    public void testSameSeedAndStreamGenerateSameSequence() {
+        final XoroshiroRandomGenerator first = new XoroshiroRandomGenerator(SEED, 3);
+        final XoroshiroRandomGenerator second = new XoroshiroRandomGenerator(SEED, 3);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    public void testDifferentStreamsGenerateDifferentSequences() {
+        final XoroshiroRandomGenerator first = new XoroshiroRandomGenerator(SEED, 0);
+        final XoroshiroRandomGenerator second = new XoroshiroRandomGenerator(SEED, 1);
+        assertEquals(1, second.getStream());
+        int equal = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (first.nextLong() == second.nextLong()) {
+                equal++;
+            }
+        }
+        assertEquals(0, equal);
+    }
+
+    @Test
+    public void testStreamIsTheJumpedSeed() {
+        final XoroshiroRandomGenerator jumped = new XoroshiroRandomGenerator(SEED);
+        jumped.jump();
+        jumped.jump();
+        final XoroshiroRandomGenerator stream = new XoroshiroRandomGenerator(SEED, 2);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(jumped.nextLong(), stream.nextLong());
+        }
+    }
+
+    @Test
+    public void testSetSeedRestartsSequence() {
+        final XoroshiroRandomGenerator random = new XoroshiroRandomGenerator(SEED, 1);
+        final long first = random.nextLong();
+        random.nextLong();
+        random.setSeed(SEED);
+        assertEquals(first, random.nextLong());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeStream() {
+        new XoroshiroRandomGenerator(SEED, -1);
+    }
+
+    @Test
+    public void testNextDoubleIsInUnitInterval() {
+        final XoroshiroRandomGenerator random = new XoroshiroRandomGenerator(SEED);
+        double sum = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            final double value = random.nextDouble();
+            assertTrue(value >= 0 && value < 1);
+            sum += value;
+        }
+        assertEquals(0.5, sum / SAMPLES, 0.005);
+    }
+
+    @Test
+    public void testUniformStreamSampling() {
+        final UniformDistr uniform = new UniformDistr(10, 20, SEED, 0);
+        final double[] samples = sampleAndCheckStatistics(uniform, 15, Math.sqrt(100 / 12.0));
+        for (final double value : samples) {
+            assertTrue(value >= 10 && value < 20);
+        }
+    }
+
+    @Test
+    public void testExponentialStreamSampling() {
+        final double[] samples = sampleAndCheckStatistics(new ExponentialDistr(SEED, 0, 4), 4, 4);
+        for (final double value : samples) {
+            assertTrue(value >= 0);
+        }
+    }
+
+    @Test
+    public void testNormalStreamSampling() {
+        final double[] samples = sampleAndCheckStatistics(new NormalDistr(SEED, 0, 10, 2), 10, 2);
+        int beyondFourSigmas = 0;
+        for (final double value : samples) {
+            if (Math.abs(value - 10) > 8) {
+                beyondFourSigmas++;
+            }
+        }
+
+        /* The expected number of samples beyond 4 standard deviations is about 63
+         * for 10^6 samples, which are all generated from the ziggurat tail. */
+        assertTrue(beyondFourSigmas > 20 && beyondFourSigmas < 130);
+    }
+
+    @Test
+    public void testBulkSampleEqualsSequentialSamples() {
+        assertBulkEqualsSequential(new UniformDistr(0, 1, SEED, 2), new UniformDistr(0, 1, SEED, 2));
+        assertBulkEqualsSequential(new ExponentialDistr(SEED, 2, 3), new ExponentialDistr(SEED, 2, 3));
+        assertBulkEqualsSequential(new NormalDistr(SEED, 2, 0, 1), new NormalDistr(SEED, 2, 0, 1));
+        assertBulkEqualsSequential(new NormalDistr(SEED, 0, 1), new NormalDistr(SEED, 0, 1));
+    }
+
+    @Test
+    public void testBulkSampleOnlyFillsTheGivenRange() {
+        final double[] samples = new double[10];
+        new ExponentialDistr(SEED, 0, 3).sample(samples, 2, 5);
+        for (int i = 0; i < samples.length; i++) {
+            assertEquals(i >= 2 && i < 7, samples[i] != 0);
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBulkSampleOutOfBounds() {
+        new NormalDistr(SEED, 0, 0, 1).sample(new double[10], 5, 6);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBulkSampleNegativeLength() {
+        new UniformDistr(SEED).sample(new double[10], 0, -1);
+    }
+
+    private static double[] sampleAndCheckStatistics(
+        final ContinuousDistribution distribution, final double mean, final double standardDeviation)
+    {
+        final double[] samples = new double[SAMPLES];
+        distribution.sample(samples, 0, SAMPLES);
+        double sum = 0;
+        for (final double value : samples) {
+            sum += value;
+        }
+        final double sampleMean = sum / SAMPLES;
+
+        double squares = 0;
+        for (final double value : samples) {
+            squares += (value - sampleMean) * (value - sampleMean);
+        }
+
+        assertEquals(mean, sampleMean, 0.01 * mean);
+        assertEquals(standardDeviation, Math.sqrt(squares / (SAMPLES - 1)), 0.01 * standardDeviation);
+        return samples;
+    }
+
+    private static void assertBulkEqualsSequential(
+        final ContinuousDistribution bulk, final ContinuousDistribution sequential)
+    {
+        final double[] expected = new double[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = sequential.sample();
+        }
+
+        final double[] actual = new double[expected.length];
+        bulk.sample(actual, 0, actual.length);
+        assertArrayEquals(expected, actual, 0);
+        assertFalse(expected[0] == expected[1]);
+    }
+}
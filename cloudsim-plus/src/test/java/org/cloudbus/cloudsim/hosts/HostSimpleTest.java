@@ -13,6 +13,7 @@ import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
 import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.cloudbus.cloudsim.resources.MipsShare;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.PeSimple;
 import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
@@ -246,7 +247,7 @@ public class HostSimpleTest {
             double nextCloudletCompletionTimeOfCurrentVm = i+1;
 
             Vm vm = EasyMock.createMock(Vm.class);
-            EasyMock.expect(vm.updateProcessing(time, mipsShare))
+            EasyMock.expect(vm.updateProcessing(time, new MipsShare(mipsShare)))
                     .andReturn(nextCloudletCompletionTimeOfCurrentVm)
                     .times(1);
             EasyMock.replay(vm);
@@ -255,8 +256,8 @@ public class HostSimpleTest {
         });
 
         VmScheduler vmScheduler = EasyMock.createMock(VmScheduler.class);
-        EasyMock.expect(vmScheduler.getAllocatedMipsForVm(EasyMock.anyObject()))
-                .andReturn(mipsShare)
+        EasyMock.expect(vmScheduler.getAllocatedMipsForVm(EasyMock.anyObject(), EasyMock.anyObject(MipsShare.class)))
+                .andAnswer(() -> ((MipsShare) EasyMock.getCurrentArguments()[1]).set(mipsShare))
                 .times(numberOfVms);
         EasyMock.expect(vmScheduler.setHost(EasyMock.anyObject()))
             .andReturn(vmScheduler)
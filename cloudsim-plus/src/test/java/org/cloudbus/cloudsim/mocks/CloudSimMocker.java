@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.util.SimulationProfiler;
 import org.easymock.EasyMock;
 import org.easymock.IExpectationSetters;
 
@@ -58,6 +59,7 @@ public final class CloudSimMocker {
         CloudSimMocker mocker = new CloudSimMocker();
         consumer.accept(mocker);
         EasyMock.expect(mocker.mock.isRunning()).andReturn(true).anyTimes();
+        EasyMock.expect(mocker.mock.getProfiler()).andReturn(SimulationProfiler.NULL).anyTimes();
         CloudSimMocker.replay(mocker.mock);
         return mocker.mock;
     }
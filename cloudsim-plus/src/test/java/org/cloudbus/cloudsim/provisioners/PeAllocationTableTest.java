@@ -0,0 +1,126 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.provisioners;
+
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PeAllocationTableTest {
+    private static final int PES = 6;
+    private static final int VMS = 20;
+    private static final double MIPS = 1000;
+
+    private List<Pe> simplePes;
+    private List<Pe> indexedPes;
+    private PeAllocationTable table;
+    private List<Vm> vms;
+
+    @Before
+    public void setUp() {
+        simplePes = new ArrayList<>(PES);
+        indexedPes = new ArrayList<>(PES);
+        for (int i = 0; i < PES; i++) {
+            simplePes.add(new PeSimple(i, MIPS, new PeProvisionerSimple()));
+            indexedPes.add(new PeSimple(i, MIPS, new PeProvisionerSimple()));
+        }
+        table = new PeAllocationTable(indexedPes);
+
+        vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmSimpleTest.createVm(i, MIPS, 1));
+        }
+    }
+
+    @Test
+    public void testProvisionersAreAssignedToPes() {
+        for (int i = 0; i < PES; i++) {
+            final PeProvisionerIndexed provisioner = table.getProvisioners().get(i);
+            assertSame(provisioner, indexedPes.get(i).getPeProvisioner());
+            assertSame(indexedPes.get(i), provisioner.getResource());
+            assertEquals(i, provisioner.getIndex());
+            assertEquals(MIPS, provisioner.getAvailableResource(), 0);
+        }
+    }
+
+    @Test
+    public void testBehavesLikeSimpleProvisioner() {
+        final Random random = new Random(1);
+        for (int k = 0; k < 5000; k++) {
+            final int pe = random.nextInt(PES);
+            final Vm vm = vms.get(random.nextInt(VMS));
+            final PeProvisioner simple = simplePes.get(pe).getPeProvisioner();
+            final PeProvisioner indexed = indexedPes.get(pe).getPeProvisioner();
+            final int operation = random.nextInt(10);
+            if (operation < 6) {
+                final long mips = random.nextInt((int) MIPS / 2);
+                assertEquals(simple.allocateResourceForVm(vm, mips), indexed.allocateResourceForVm(vm, mips));
+            } else if (operation < 9) {
+                assertEquals(simple.deallocateResourceForVm(vm), indexed.deallocateResourceForVm(vm));
+            } else {
+                simple.deallocateResourceForAllVms();
+                indexed.deallocateResourceForAllVms();
+            }
+
+            for (int i = 0; i < PES; i++) {
+                final PeProvisioner expected = simplePes.get(i).getPeProvisioner();
+                final PeProvisioner actual = indexedPes.get(i).getPeProvisioner();
+                assertEquals(expected.getTotalAllocatedResource(), actual.getTotalAllocatedResource());
+                assertEquals(expected.getAvailableResource(), actual.getAvailableResource());
+                assertEquals(expected.getAllocatedResourceForVm(vm), actual.getAllocatedResourceForVm(vm));
+            }
+        }
+    }
+
+    @Test
+    public void testSlotsAreReleasedWhenVmHasNoAllocation() {
+        final Vm vm0 = vms.get(0);
+        final Vm vm1 = vms.get(1);
+        indexedPes.get(0).getPeProvisioner().allocateResourceForVm(vm0, 100);
+        indexedPes.get(1).getPeProvisioner().allocateResourceForVm(vm0, 200);
+        indexedPes.get(1).getPeProvisioner().allocateResourceForVm(vm1, 300);
+        assertEquals(2, table.getNumberOfVms());
+
+        indexedPes.get(0).getPeProvisioner().deallocateResourceForVm(vm0);
+        assertEquals(2, table.getNumberOfVms());
+        assertEquals(200, indexedPes.get(1).getPeProvisioner().getAllocatedResourceForVm(vm0));
+
+        indexedPes.get(1).getPeProvisioner().deallocateResourceForAllVms();
+        assertEquals(0, table.getNumberOfVms());
+        assertEquals(0, indexedPes.get(1).getPeProvisioner().getAllocatedResourceForVm(vm0));
+        assertEquals(MIPS, indexedPes.get(1).getPeProvisioner().getAvailableResource(), 0);
+    }
+}
@@ -0,0 +1,81 @@
+package org.cloudbus.cloudsim.resources;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class MipsShareTest {
+    @Test
+    public void testSetAllAndTotals() {
+        final MipsShare share = new MipsShare().setAll(3, 500);
+        assertEquals(3, share.size());
+        assertEquals(1500, share.getTotal(), 0);
+        assertEquals(500, share.getMax(), 0);
+
+        share.setAll(1, 200);
+        assertEquals(1, share.size());
+        assertEquals(200, share.getTotal(), 0);
+    }
+
+    @Test
+    public void testEmpty() {
+        final MipsShare share = new MipsShare();
+        assertTrue(share.isEmpty());
+        assertEquals(0, share.getTotal(), 0);
+        assertEquals(0, share.getMax(), 0);
+        assertTrue(share.asList().isEmpty());
+    }
+
+    @Test
+    public void testSetFromListAndAnotherShare() {
+        final MipsShare share = new MipsShare().setAll(4, 100);
+        share.set(Arrays.asList(1000.0, 500.0));
+        assertEquals(new MipsShare(1000.0, 500.0), share);
+
+        final MipsShare copy = new MipsShare().set(share);
+        assertEquals(share, copy);
+        assertEquals(share.hashCode(), copy.hashCode());
+
+        share.set(share);
+        assertEquals(copy, share);
+    }
+
+    @Test
+    public void testListViewReflectsChangesAndIsReadOnly() {
+        final MipsShare share = new MipsShare(1000.0, 1000.0);
+        final List<Double> view = share.asList();
+        assertEquals(Arrays.asList(1000.0, 1000.0), view);
+
+        share.set(Collections.singletonList(250.0));
+        assertEquals(Collections.singletonList(250.0), view);
+
+        try {
+            view.add(1.0);
+            fail("The list view must be read-only");
+        } catch (UnsupportedOperationException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testToListIsAnIndependentCopy() {
+        final MipsShare share = new MipsShare().setAll(2, 100);
+        final List<Double> list = share.toList();
+        list.add(100.0);
+        assertEquals(2, share.size());
+        assertEquals(new ArrayList<>(Arrays.asList(100.0, 100.0, 100.0)), list);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetBeyondSize() {
+        new MipsShare().setAll(4, 100).setAll(2, 100).get(2);
+    }
+}
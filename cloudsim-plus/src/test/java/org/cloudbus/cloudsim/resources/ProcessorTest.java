@@ -135,4 +135,16 @@ public class ProcessorTest {
         instance.getCloudletExecList().add(null);
     }
 
+
+    @Test
+    public void testFromMipsShare_IgnoresZeroMipsPes() {
+        final Processor instance = Processor.fromMipsShare(new MipsShare(PE_MIPS, 0, PE_MIPS), new ArrayList<>());
+        assertEquals(NUMBER_OF_PES, instance.getNumberOfPes());
+        assertEquals(PE_MIPS, instance.getCapacity(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromMipsShare_PesWithDifferentMips() {
+        Processor.fromMipsShare(new MipsShare(PE_MIPS, PE_MIPS / 2), new ArrayList<>());
+    }
 }
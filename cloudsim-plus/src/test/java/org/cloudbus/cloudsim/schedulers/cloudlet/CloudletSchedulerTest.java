@@ -1,7 +1,10 @@
 package org.cloudbus.cloudsim.schedulers.cloudlet;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.resources.MipsShare;
 import org.junit.Test;
+
+import java.util.List;
 import static org.junit.Assert.*;
 
 /**
@@ -37,7 +40,9 @@ public class CloudletSchedulerTest {
         assertFalse(instance.hasFinishedCloudlets());
         assertEquals(Cloudlet.NULL, instance.getCloudletToMigrate());
         assertEquals(0, instance.runningCloudletsNumber());
-        assertEquals(0, instance.updateVmProcessing(0, null), 0);
+        assertEquals(0, instance.updateVmProcessing(0, (List<Double>) null), 0);
+        assertEquals(0, instance.updateVmProcessing(0, new MipsShare(1000.0)), 0);
+        assertTrue(instance.getCurrentRequestedMipsShare().isEmpty());
     }
 
 }
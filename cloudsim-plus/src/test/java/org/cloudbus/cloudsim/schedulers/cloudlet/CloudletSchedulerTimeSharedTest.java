@@ -185,6 +185,28 @@ public class CloudletSchedulerTimeSharedTest {
         assertEquals(expResult, result, 0.0);
     }
 
+    @Test
+    public void testGetCurrentRequestedUtilizationOfRamWithAbsoluteAndPercentageModels() {
+        final CloudletSchedulerTimeShared instance = createCloudletSchedulerWithMipsList(3, 1000);
+        instance.getVm().setRam(1024);
+        final UtilizationModel[] models = {
+            new UtilizationModelDynamic(UtilizationModel.Unit.ABSOLUTE, 256),
+            new UtilizationModelDynamic(0.5),
+            //Uses more RAM than the VM has, then it's limited to the VM capacity
+            new UtilizationModelDynamic(UtilizationModel.Unit.ABSOLUTE, 2048)
+        };
+        for (int i = 0; i < models.length; i++) {
+            final Cloudlet cloudlet = CloudletSimpleTest.createCloudlet(i, 1000, 1).setUtilizationModelRam(models[i]);
+            cloudlet.assignToDatacenter(Datacenter.NULL);
+            instance.cloudletSubmit(cloudlet);
+        }
+
+        //(256 + 0.5 * 1024 + 1024) / 1024
+        assertEquals(1.75, instance.getCurrentRequestedRamPercentUtilization(), 0.0);
+        //Requesting again reuses the internal buffers
+        assertEquals(1.75, instance.getCurrentRequestedRamPercentUtilization(), 0.0);
+    }
+
     @Test
     public void testGetCurrentRequestedUtilizationOfBw() {
         final long mips = 1000;
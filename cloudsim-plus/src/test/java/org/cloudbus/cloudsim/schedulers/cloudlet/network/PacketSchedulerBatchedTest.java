@@ -0,0 +1,106 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet.network;
+
+import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PacketSchedulerBatchedTest {
+    private static final long PACKET_SIZE = 1000;
+
+    private PacketSchedulerBatched instance;
+    private Vm sourceVm;
+    private NetworkCloudlet sender;
+    private NetworkCloudlet receiver;
+    private CloudletReceiveTask task;
+
+    @Before
+    public void setUp() {
+        instance = new PacketSchedulerBatched();
+        instance.setVm(Vm.NULL);
+        sourceVm = new VmSimple(0, 1000, 1);
+        sender = new NetworkCloudlet(0, 1000, 1);
+        receiver = new NetworkCloudlet(1, 1000, 1);
+        task = new CloudletReceiveTask(0, sourceVm);
+        receiver.addTask(task);
+        //starts the receive task
+        instance.processCloudletPackets(receiver, 0);
+    }
+
+    private VmPacket createPacket(long numberOfPackets) {
+        return new VmPacket(sourceVm, Vm.NULL, PACKET_SIZE, numberOfPackets, sender, receiver);
+    }
+
+    @Test
+    public void testReceiveBatchFinishesTask() {
+        task.setNumberOfExpectedPacketsToReceive(1000);
+        instance.addPacketToListOfPacketsSentFromVm(createPacket(1000));
+        assertEquals(1000, instance.getPendingPackets(sourceVm, receiver));
+
+        instance.processCloudletPackets(receiver, 0);
+        assertTrue(task.isFinished());
+        assertEquals(1000, task.getNumberOfReceivedPackets());
+        assertEquals(1000 * PACKET_SIZE, task.getReceivedBytes());
+        assertTrue(task.getPacketsReceived().isEmpty());
+        assertEquals(0, instance.getPendingPackets(sourceVm, receiver));
+    }
+
+    @Test
+    public void testReceiveJustExpectedPackets() {
+        task.setNumberOfExpectedPacketsToReceive(15);
+        for (int i = 0; i < 20; i++) {
+            instance.addPacketToListOfPacketsSentFromVm(createPacket(1));
+        }
+
+        instance.processCloudletPackets(receiver, 0);
+        assertTrue(task.isFinished());
+        assertEquals(15, task.getNumberOfReceivedPackets());
+        assertEquals(5, instance.getPendingPackets(sourceVm, receiver));
+    }
+
+    @Test
+    public void testReceivePacketsInSeveralUpdates() {
+        task.setNumberOfExpectedPacketsToReceive(30);
+        instance.addPacketToListOfPacketsSentFromVm(createPacket(10));
+        instance.processCloudletPackets(receiver, 0);
+        assertFalse(task.isFinished());
+        assertEquals(20, task.getNumberOfPendingPacketsToReceive());
+
+        instance.addPacketToListOfPacketsSentFromVm(createPacket(20));
+        instance.processCloudletPackets(receiver, 0);
+        assertTrue(task.isFinished());
+    }
+
+    @Test
+    public void testPacketsToAnotherCloudletAreNotReceived() {
+        task.setNumberOfExpectedPacketsToReceive(1);
+        final NetworkCloudlet other = new NetworkCloudlet(2, 1000, 1);
+        instance.addPacketToListOfPacketsSentFromVm(
+            new VmPacket(sourceVm, Vm.NULL, PACKET_SIZE, 1, sender, other));
+
+        instance.processCloudletPackets(receiver, 0);
+        assertFalse(task.isFinished());
+        assertEquals(1, instance.getPendingPackets(sourceVm, other));
+    }
+
+    @Test
+    public void testRingBufferGrowsKeepingOrder() {
+        task.setNumberOfExpectedPacketsToReceive(100);
+        for (int i = 1; i <= 20; i++) {
+            instance.addPacketToListOfPacketsSentFromVm(
+                new VmPacket(sourceVm, Vm.NULL, i, 1, sender, receiver));
+        }
+
+        instance.processCloudletPackets(receiver, 0);
+        assertEquals(20, task.getNumberOfReceivedPackets());
+        assertEquals(20 * 21 / 2, task.getReceivedBytes());
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.vm;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class VmSchedulerTimeSharedIncrementalTest {
+    private static final int HOST_PES = 8;
+    private static final double PE_MIPS = 1000;
+    private static final int VMS = 12;
+
+    private List<Vm> vms;
+    private Random random;
+
+    @Before
+    public void setUp() {
+        random = new Random(1);
+        vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmSimpleTest.createVm(i, PE_MIPS, 1 + random.nextInt(2)));
+        }
+    }
+
+    private static <T extends VmScheduler> T createVmScheduler(final T scheduler) {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(i, PE_MIPS, new PeProvisionerSimple()));
+        }
+
+        final Host host = new HostSimple(1, 1000, peList);
+        scheduler.setHost(host);
+        return scheduler;
+    }
+
+    private List<Double> createRandomMipsShare(final Vm vm) {
+        final List<Double> mips = new ArrayList<>();
+        for (int i = 0; i < vm.getNumberOfPes(); i++) {
+            mips.add(random.nextDouble() * PE_MIPS);
+        }
+        return mips;
+    }
+
+    private static double[] toArray(final List<Double> mips) {
+        return mips.stream().mapToDouble(value -> value).toArray();
+    }
+
+    private static void assertSameMips(final VmScheduler expected, final VmScheduler actual, final List<Vm> vms) {
+        assertEquals(expected.getAvailableMips(), actual.getAvailableMips(), 0.0001);
+        for (final Vm vm : vms) {
+            assertEquals(expected.getAllocatedMipsForVm(vm), actual.getAllocatedMipsForVm(vm));
+        }
+    }
+
+    private static void assertPesAreConsistent(final VmScheduler scheduler, final List<Vm> vms) {
+        for (final Vm vm : vms) {
+            final List<Pe> pes = scheduler.getPeMap().getOrDefault(vm, Collections.emptyList());
+            final long total = pes.stream().mapToLong(pe -> pe.getPeProvisioner().getAllocatedResourceForVm(vm)).sum();
+            final long outsideVmPes = scheduler.getPeList().stream()
+                .filter(pe -> !pes.contains(pe))
+                .mapToLong(pe -> pe.getPeProvisioner().getAllocatedResourceForVm(vm)).sum();
+            assertEquals(0, outsideVmPes);
+            assertTrue(total <= scheduler.getTotalAllocatedMipsForVm(vm) + pes.size());
+        }
+
+        for (final Pe pe : scheduler.getPeList()) {
+            assertTrue(pe.getPeProvisioner().getTotalAllocatedResource() <= pe.getCapacity());
+        }
+    }
+
+    @Test
+    public void testAllocatesTheSameMipsOfTimeSharedScheduler() {
+        final VmScheduler expected = createVmScheduler(new VmSchedulerTimeShared());
+        final VmScheduler actual = createVmScheduler(new VmSchedulerTimeSharedIncremental());
+        for (int k = 0; k < 500; k++) {
+            final Vm vm = vms.get(random.nextInt(VMS));
+            if (random.nextBoolean()) {
+                final List<Double> mips = createRandomMipsShare(vm);
+                expected.deallocatePesForVm(vm);
+                actual.deallocatePesForVm(vm);
+                assertEquals(expected.allocatePesForVm(vm, mips), actual.allocatePesForVm(vm, mips));
+            } else {
+                expected.deallocatePesForVm(vm);
+                actual.deallocatePesForVm(vm);
+            }
+
+            assertSameMips(expected, actual, vms);
+            assertPesAreConsistent(actual, vms);
+        }
+    }
+
+    @Test
+    public void testReallocateAllIsTheSameAsDeallocatingAndAllocatingEachVm() {
+        final VmScheduler sequential = createVmScheduler(new VmSchedulerTimeSharedIncremental());
+        final VmScheduler batch = createVmScheduler(new VmSchedulerTimeSharedIncremental());
+        final VmScheduler timeShared = createVmScheduler(new VmSchedulerTimeShared());
+        for (int k = 0; k < 100; k++) {
+            final Map<Vm, double[]> requested = new LinkedHashMap<>();
+            vms.forEach(vm -> requested.put(vm, toArray(createRandomMipsShare(vm))));
+
+            vms.forEach(sequential::deallocatePesForVm);
+            requested.forEach((vm, mips) -> sequential.allocatePesForVm(vm, toList(mips)));
+            batch.reallocateAll(requested);
+            timeShared.reallocateAll(requested);
+
+            assertSameMips(sequential, batch, vms);
+            assertSameMips(timeShared, batch, vms);
+            for (final Vm vm : vms) {
+                assertEquals(getPeIds(sequential, vm), getPeIds(batch, vm));
+            }
+            for (final Pe pe : batch.getPeList()) {
+                final Pe samePe = sequential.getPeList().get(batch.getPeList().indexOf(pe));
+                assertEquals(samePe.getPeProvisioner().getTotalAllocatedResource(), pe.getPeProvisioner().getTotalAllocatedResource());
+            }
+            assertPesAreConsistent(batch, vms);
+        }
+    }
+
+    @Test
+    public void testReallocateAllVmsUsesTheirCurrentRequestedMips() {
+        final Map<Vm, double[]> requested = new LinkedHashMap<>();
+        vms.forEach(vm -> requested.put(vm, toArray(vm.getCurrentRequestedMips())));
+
+        final VmScheduler fromMap = createVmScheduler(new VmSchedulerTimeSharedIncremental());
+        fromMap.reallocateAll(requested);
+        final VmScheduler fromVms = createVmScheduler(new VmSchedulerTimeSharedIncremental());
+        fromVms.reallocateAll(vms);
+        final VmScheduler timeShared = createVmScheduler(new VmSchedulerTimeShared());
+        timeShared.reallocateAll(vms);
+
+        assertSameMips(fromMap, fromVms, vms);
+        assertSameMips(timeShared, fromVms, vms);
+        for (final Vm vm : vms) {
+            assertEquals(getPeIds(fromMap, vm), getPeIds(fromVms, vm));
+        }
+        assertPesAreConsistent(fromVms, vms);
+    }
+
+    @Test
+    public void testDeallocateOnlyReleasesTheVmPes() {
+        final VmScheduler scheduler = createVmScheduler(new VmSchedulerTimeSharedIncremental());
+        final Vm vm0 = VmSimpleTest.createVm(0, PE_MIPS, 2);
+        final Vm vm1 = VmSimpleTest.createVm(1, PE_MIPS, 2);
+        assertTrue(scheduler.allocatePesForVm(vm0, toList(new double[]{PE_MIPS, PE_MIPS})));
+        assertTrue(scheduler.allocatePesForVm(vm1, toList(new double[]{PE_MIPS / 2, PE_MIPS / 2})));
+        final List<Pe> vm1Pes = new ArrayList<>(scheduler.getPesAllocatedForVM(vm1));
+
+        scheduler.deallocatePesForVm(vm0);
+        assertNull(scheduler.getPesAllocatedForVM(vm0));
+        assertEquals(vm1Pes, scheduler.getPesAllocatedForVM(vm1));
+        assertEquals(PE_MIPS, scheduler.getTotalAllocatedMipsForVm(vm1), 0);
+        assertEquals(HOST_PES * PE_MIPS - PE_MIPS, scheduler.getAvailableMips(), 0);
+
+        scheduler.deallocatePesForVm(vm1);
+        assertEquals(HOST_PES * PE_MIPS, scheduler.getAvailableMips(), 0);
+        scheduler.getPeList().forEach(pe -> assertEquals(0, pe.getPeProvisioner().getTotalAllocatedResource()));
+    }
+
+    private static List<Integer> getPeIds(final VmScheduler scheduler, final Vm vm) {
+        return scheduler.getPeMap().getOrDefault(vm, Collections.emptyList())
+            .stream().map(Pe::getId).collect(Collectors.toList());
+    }
+
+    private static List<Double> toList(final double[] mips) {
+        final List<Double> list = new ArrayList<>(mips.length);
+        for (final double value : mips) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,79 @@
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class SimulationProfilerTest {
+    private static final String SECTION = "section";
+
+    @Test
+    public void testDisabledProfilerRecordsNothing() {
+        final SimulationProfiler profiler = new SimulationProfiler();
+        profiler.stop(SECTION, profiler.start());
+        profiler.stopEvent(CloudSimTags.VM_CREATE, profiler.start());
+        profiler.record(SECTION, 10);
+        assertTrue(profiler.getSections().isEmpty());
+    }
+
+    @Test
+    public void testNullProfilerCannotBeEnabled() {
+        SimulationProfiler.NULL.enable();
+        assertFalse(SimulationProfiler.NULL.isEnabled());
+    }
+
+    @Test
+    public void testEventSectionIsNamedAfterTag() {
+        final SimulationProfiler profiler = new SimulationProfiler().enable();
+        profiler.stopEvent(CloudSimTags.VM_CREATE, profiler.start());
+        profiler.stopEvent(CloudSimTags.VM_CREATE, profiler.start());
+        final SimulationProfiler.Section section = profiler.getSections().get(SimulationProfiler.EVENT_DISPATCH + "VM_CREATE");
+        assertNotNull(section);
+        assertEquals(2, section.getCount());
+    }
+
+    @Test
+    public void testEventSectionOfTagsSharingTheSameValueHasAllTagNames() {
+        final SimulationProfiler profiler = new SimulationProfiler().enable();
+        profiler.stopEvent(CloudSimTags.FAILURE, profiler.start());
+        assertEquals(CloudSimTags.NETWORK_EVENT_HOST, CloudSimTags.FAILURE);
+        assertNotNull(profiler.getSections().get(SimulationProfiler.EVENT_DISPATCH + "NETWORK_EVENT_HOST|FAILURE"));
+        assertEquals(1, profiler.getSections().size());
+    }
+
+    @Test
+    public void testEventSectionOfUnknownTagIsNamedAfterTagValue() {
+        final SimulationProfiler profiler = new SimulationProfiler().enable();
+        profiler.stopEvent(1000, profiler.start());
+        assertNotNull(profiler.getSections().get(SimulationProfiler.EVENT_DISPATCH + "1000"));
+    }
+
+    @Test
+    public void testSectionStatistics() {
+        final SimulationProfiler profiler = new SimulationProfiler().enable();
+        for (int i = 1; i <= 1000; i++) {
+            profiler.record(SECTION, i * 1000L);
+        }
+
+        final SimulationProfiler.Section section = profiler.getSection(SECTION);
+        assertEquals(1000, section.getCount());
+        assertEquals(1_000_000, section.getMaxNanos());
+        assertEquals(500_500.0, section.getMeanNanos(), 0.001);
+        assertEquals(500_000, section.getPercentileNanos(50), 500_000 / 32.0);
+        assertEquals(990_000, section.getPercentileNanos(99), 990_000 / 32.0);
+        assertEquals(1_000_000, section.getPercentileNanos(100));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        final SimulationProfiler.Section section = new SimulationProfiler().getSection(SECTION);
+        section.record(3);
+        section.record(7);
+        assertEquals(3, section.getPercentileNanos(50));
+        assertEquals(7, section.getPercentileNanos(100));
+    }
+}
@@ -0,0 +1,160 @@
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class WorkloadFeederTest {
+    /**
+     * The time interval between the submit time of consecutive Cloudlets,
+     * which is much longer than the time to execute each Cloudlet.
+     */
+    private static final double SUBMIT_INTERVAL = 10;
+    private static final int CLOUDLETS = 4;
+
+    /**
+     * The maximum difference between the submit time of a Cloudlet and
+     * its arrival at the Datacenter, due to the minimum delay between events.
+     */
+    private static final double ARRIVAL_DELTA = 0.5;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private List<Cloudlet> cloudlets;
+    private boolean streamClosed;
+
+    /**
+     * The simulation time of each {@link CloudSimTags#WORKLOAD_FEEDER_SUBMIT} event.
+     */
+    private List<Double> submitEventTimes;
+
+    /**
+     * The number of Cloudlets submitted by the feeder when each
+     * {@link CloudSimTags#WORKLOAD_FEEDER_SUBMIT} event was processed.
+     */
+    private List<Long> submittedCloudlets;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+        }
+        final HostSimple host = new HostSimple(0, 1000000, peList);
+        host.setRamProvisioner(new ResourceProvisionerSimple(new Ram(2048)))
+            .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+            .setVmScheduler(new VmSchedulerTimeShared());
+        new DatacenterSimple(simulation,
+            new DatacenterCharacteristicsSimple(Collections.singletonList(host)), new VmAllocationPolicySimple());
+
+        broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(0, 1000, 2)
+            .setRam(512).setBw(1000).setSize(1000)
+            .setCloudletScheduler(new CloudletSchedulerTimeShared())
+            .setBroker(broker);
+        broker.submitVmList(Collections.singletonList(vm));
+
+        cloudlets = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 1000, 1).setUtilizationModel(new UtilizationModelFull());
+            cloudlet.setSubmissionDelay(i * SUBMIT_INTERVAL);
+            cloudlets.add(cloudlet);
+        }
+
+        submitEventTimes = new ArrayList<>();
+        submittedCloudlets = new ArrayList<>();
+    }
+
+    private WorkloadFeeder createFeeder() {
+        final Stream<Cloudlet> stream = cloudlets.stream().onClose(() -> streamClosed = true);
+        final WorkloadFeeder feeder = new WorkloadFeeder(simulation, broker, stream);
+        simulation.addOnEventProcessingListener(ev -> {
+            if (ev.getTag() == CloudSimTags.WORKLOAD_FEEDER_SUBMIT) {
+                submitEventTimes.add(ev.getTime());
+                submittedCloudlets.add(feeder.getSubmittedCloudlets());
+            }
+        });
+        return feeder;
+    }
+
+    @Test
+    public void testCloudletsArriveAtTheirSubmitTime() {
+        final WorkloadFeeder feeder = createFeeder();
+        simulation.start();
+
+        assertEquals(CLOUDLETS, feeder.getSubmittedCloudlets());
+        assertEquals(CLOUDLETS, broker.getCloudletsFinishedList().size());
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = cloudlets.get(i);
+            assertEquals(i * SUBMIT_INTERVAL, cloudlet.getLastDatacenterArrivalTime(), ARRIVAL_DELTA);
+            assertTrue(cloudlet.getExecStartTime() < (i + 1) * SUBMIT_INTERVAL);
+        }
+        assertTrue(streamClosed);
+    }
+
+    @Test
+    public void testNextCloudletIsSubmittedWhenThePreviousOneArrives() {
+        createFeeder();
+        simulation.start();
+
+        /* Each event submits the Cloudlet following the one arriving at that time,
+         * except the last event, which finds no more Cloudlets to submit.
+         * The listener is notified before the event is processed. */
+        assertEquals(CLOUDLETS, submitEventTimes.size());
+        for (int i = 0; i < CLOUDLETS; i++) {
+            assertEquals(i * SUBMIT_INTERVAL, submitEventTimes.get(i), 0);
+            assertEquals(i + 1, (long) submittedCloudlets.get(i));
+        }
+    }
+
+    @Test
+    public void testCloudletsWithinSubmissionIntervalAreSubmittedTogether() {
+        final WorkloadFeeder feeder = createFeeder().setSubmissionInterval(1.5 * SUBMIT_INTERVAL);
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletsFinishedList().size());
+        assertEquals(2, submitEventTimes.size());
+        assertEquals(0, submitEventTimes.get(0), 0);
+        assertEquals(2 * SUBMIT_INTERVAL, submitEventTimes.get(1), 0);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            assertEquals(i * SUBMIT_INTERVAL, cloudlets.get(i).getLastDatacenterArrivalTime(), ARRIVAL_DELTA);
+        }
+        assertEquals(CLOUDLETS, feeder.getSubmittedCloudlets());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetNegativeSubmissionInterval() {
+        createFeeder().setSubmissionInterval(-1);
+    }
+}
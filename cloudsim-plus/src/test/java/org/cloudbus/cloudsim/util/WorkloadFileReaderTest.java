@@ -2,9 +2,16 @@ package org.cloudbus.cloudsim.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -34,12 +41,124 @@ public class WorkloadFileReaderTest {
                 NUMBER_OF_JOGS_AT_SWF_LCG_FILE+NUMBER_OF_JOGS_AT_SWF_NASA_FILE);
     }
 
-    private void readFile(String fileNameWithoutPath, int numberOfJobs) throws IOException {
-        WorkloadReader r = new WorkloadFileReader("src"
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readZipWithTwoSwfFilesInParallel() throws IOException {
+        final WorkloadFileReader sequential = createReader(ZIP_FILE);
+        final WorkloadFileReader parallel = createReader(ZIP_FILE);
+        parallel.setParallel(true);
+        assertSameCloudlets(sequential.generateWorkload(), parallel.generateWorkload());
+    }
+
+    @Test
+    public void streamGz() throws IOException {
+        try (Stream<Cloudlet> stream = createReader(SWF_FILE + ".gz").stream()) {
+            assertEquals(NUMBER_OF_JOGS_AT_SWF_LCG_FILE, stream.count());
+        }
+    }
+
+    @Test
+    public void streamSetsSubmitTimeAsSubmissionDelay() throws IOException {
+        final File swf = createSwfFile(3);
+        try (Stream<Cloudlet> stream = new WorkloadFileReader(swf.getPath(), 1).stream()) {
+            final List<Cloudlet> list = stream.collect(Collectors.toList());
+            assertEquals(3, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                assertEquals(i+1, list.get(i).getId());
+                assertEquals(i*10, list.get(i).getSubmissionDelay(), 0);
+                assertEquals(2, list.get(i).getNumberOfPes());
+            }
+        }
+    }
+
+    @Test
+    public void readTextFileInParallelWithGeneratedIds() throws IOException {
+        final int lines = 5000;
+        final File swf = createSwfFile(lines);
+        final WorkloadFileReader sequential = new WorkloadFileReader(swf.getPath(), 1);
+        final WorkloadFileReader parallel = new WorkloadFileReader(swf.getPath(), 1);
+        sequential.setField(18, -1, 2, 4, 5);
+        parallel.setField(18, -1, 2, 4, 5);
+        parallel.setParallel(true);
+        //splits the file into dozens of chunks
+        parallel.setParallelChunkSize(4096);
+
+        final List<Cloudlet> list = parallel.generateWorkload();
+        assertSameCloudlets(sequential.generateWorkload(), list);
+        assertEquals(lines, list.size());
+        assertEquals(lines, list.get(list.size()-1).getId());
+    }
+
+    @Test
+    public void convertZipToBinaryFile() throws IOException {
+        final File binary = folder.newFile("workload.bin");
+        WorkloadBinaryFileReader.convert(createReader(ZIP_FILE), binary.getPath());
+
+        final WorkloadBinaryFileReader reader = new WorkloadBinaryFileReader(binary.getPath(), 1);
+        assertSameCloudlets(createReader(ZIP_FILE).generateWorkload(), reader.generateWorkload());
+    }
+
+    @Test
+    public void streamBinaryFileSetsSubmitTimeAsSubmissionDelay() throws IOException {
+        final File swf = createSwfFile(3);
+        final File binary = folder.newFile("workload.bin");
+        WorkloadBinaryFileReader.convert(new WorkloadFileReader(swf.getPath(), 10), binary.getPath());
+
+        try (Stream<Cloudlet> stream = new WorkloadBinaryFileReader(binary.getPath(), 1).stream()) {
+            final List<Cloudlet> list = stream.collect(Collectors.toList());
+            assertEquals(3, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                assertEquals(i+1, list.get(i).getId());
+                assertEquals(i*10, list.get(i).getSubmissionDelay(), 0);
+                assertEquals(i+1, list.get(i).getLength());
+                assertEquals(2, list.get(i).getNumberOfPes());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readBinaryFileWithTextTrace() throws IOException {
+        final File swf = createSwfFile(3);
+        new WorkloadBinaryFileReader(swf.getPath(), 1).generateWorkload();
+    }
+
+    private void assertSameCloudlets(List<Cloudlet> expected, List<Cloudlet> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), actual.get(i).getId());
+            assertEquals(expected.get(i).getLength(), actual.get(i).getLength());
+            assertEquals(expected.get(i).getNumberOfPes(), actual.get(i).getNumberOfPes());
+        }
+    }
+
+    /**
+     * Creates a SWF file with a given number of jobs,
+     * where each job i is submitted at time i*10, runs for i+1 seconds and requires 2 PEs.
+     */
+    private File createSwfFile(int numberOfJobs) throws IOException {
+        final File swf = folder.newFile("test.swf");
+        try (PrintWriter writer = new PrintWriter(swf)) {
+            writer.println("; Comment line");
+            for (int i = 0; i < numberOfJobs; i++) {
+                writer.printf("%d %d -1 %d 2 -1 -1 2 %d -1 1 1 1 -1 -1 -1 -1 -1\n", i+1, i*10, i+1, i+1);
+            }
+        }
+
+        return swf;
+    }
+
+    private WorkloadFileReader createReader(String fileNameWithoutPath) throws IOException {
+        return new WorkloadFileReader("src"
                 + File.separator
                 + "test"
                 + File.separator
                 + fileNameWithoutPath, 1);
+    }
+
+    private void readFile(String fileNameWithoutPath, int numberOfJobs) throws IOException {
+        WorkloadReader r = createReader(fileNameWithoutPath);
         long milisecs = System.currentTimeMillis();
         List<Cloudlet> cloudletlist = r.generateWorkload();
         double seconds = (System.currentTimeMillis() - milisecs)/1000.0;
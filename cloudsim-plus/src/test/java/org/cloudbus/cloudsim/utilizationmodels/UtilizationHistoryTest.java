@@ -0,0 +1,98 @@
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class UtilizationHistoryTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPutOutOfOrderTimes() {
+        final UtilizationHistory history = new UtilizationHistory();
+        final double[] times = {5, 1, 3, 100, 2, 4, 0};
+        for (final double time : times) {
+            history.put(time, time / 100);
+        }
+
+        assertEquals(times.length, history.size());
+        for (final double time : times) {
+            assertEquals(time / 100, history.get(time), 0);
+        }
+        assertTrue(Double.isNaN(history.get(50)));
+        assertTrue(Double.isNaN(history.get(101)));
+
+        history.put(3, 0.9);
+        assertEquals(times.length, history.size());
+        assertEquals(0.9, history.get(3), 0);
+    }
+
+    @Test
+    public void testBoundedHistoryKeepsLatestTimes() {
+        final UtilizationHistory history = new UtilizationHistory(3);
+        for (int time = 0; time < 40; time++) {
+            history.put(time, time / 100.0);
+        }
+
+        assertEquals(3, history.size());
+        assertTrue(Double.isNaN(history.get(36)));
+        assertEquals(0.37, history.get(37), 0);
+        assertEquals(0.39, history.get(39), 0);
+
+        history.put(10, 0.5);
+        assertTrue(Double.isNaN(history.get(10)));
+
+        history.put(38.5, 0.5);
+        assertEquals(3, history.size());
+        assertTrue(Double.isNaN(history.get(37)));
+        assertEquals(0.5, history.get(38.5), 0);
+        assertEquals(0.39, history.get(39), 0);
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        final UtilizationHistory bounded = new UtilizationHistory(2);
+        bounded.put(1, 0.1);
+        bounded.put(2, 0.2);
+        bounded.put(3, 0.3);
+        final UtilizationHistory unbounded = new UtilizationHistory();
+        for (int time = 0; time < 100; time++) {
+            unbounded.put(time, time / 100.0);
+        }
+
+        final File file = folder.newFile("history.bin");
+        UtilizationHistory.write(Arrays.asList(bounded, new UtilizationHistory(), unbounded), file.getPath());
+        final List<UtilizationHistory> histories = UtilizationHistory.read(file.getPath());
+
+        assertEquals(3, histories.size());
+        assertEquals(2, histories.get(0).getMaxSize());
+        assertEquals(2, histories.get(0).size());
+        assertEquals(0.2, histories.get(0).get(2), 0);
+        assertEquals(0.3, histories.get(0).get(3), 0);
+        assertEquals(0, histories.get(1).size());
+        assertEquals(100, histories.get(2).size());
+        for (int time = 0; time < 100; time++) {
+            assertEquals(time / 100.0, histories.get(2).get(time), 0);
+        }
+
+        histories.get(0).put(4, 0.4);
+        assertEquals(2, histories.get(0).size());
+        assertEquals(0.4, histories.get(0).get(4), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadInvalidFile() throws Exception {
+        UtilizationHistory.read(folder.newFile("empty.bin").getPath());
+    }
+}
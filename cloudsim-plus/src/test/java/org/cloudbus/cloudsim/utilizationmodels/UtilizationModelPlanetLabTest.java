@@ -1,9 +1,26 @@
 package org.cloudbus.cloudsim.utilizationmodels;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class UtilizationModelPlanetLabTest {
 
@@ -13,6 +30,9 @@ public class UtilizationModelPlanetLabTest {
 
     private UtilizationModelPlanetLab utilizationModel;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() throws Exception {
         utilizationModel = new UtilizationModelPlanetLab(getClass().getClassLoader()
@@ -21,6 +41,112 @@ public class UtilizationModelPlanetLabTest {
 
     @Test
     public void testGetPowerModel() {
+        assertUtilization(utilizationModel);
+    }
+
+    @Test
+    public void testGetPowerModelFromBinaryFile() throws Exception {
+        final File binary = folder.newFile("planetlab.bin");
+        final String path = getClass().getClassLoader().getResource(FILE).getPath();
+        UtilizationTraceBinaryFile.convert(
+            Collections.singletonList(path), UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES, binary.getPath());
+
+        final UtilizationTraceBinaryFile traces = new UtilizationTraceBinaryFile(binary.getPath());
+        assertEquals(1, traces.getNumberOfTraces());
+        assertEquals(Collections.singletonList(FILE), traces.getTraceNames());
+        assertUtilization(traces.createUtilizationModel(FILE, SCHEDULING_INTERVAL));
+        assertUtilization(traces.createUtilizationModel(0, SCHEDULING_INTERVAL));
+        assertArrayEquals(
+            UtilizationModelPlanetLab.toUtilizationData(UtilizationModelPlanetLab.readTraceFile(path, 288)),
+            traces.getUtilizationData(0), 0);
+    }
+
+    @Test
+    public void testModelsFromBinaryFileShareTheMappedFile() throws Exception {
+        final UtilizationTraceBinaryFile traces = createBinaryFile();
+        final UtilizationModelPlanetLab model1 = traces.createUtilizationModel(0, SCHEDULING_INTERVAL);
+        final UtilizationModelPlanetLab model2 = traces.createUtilizationModel(FILE, SCHEDULING_INTERVAL);
+        assertSame(traces, model1.getImmutableData().get(0));
+        assertSame(traces, model2.getImmutableData().get(0));
+    }
+
+    @Test
+    public void testModelFromBinaryFileIsSerializable() throws Exception {
+        final UtilizationModelPlanetLab model = createBinaryFile().createUtilizationModel(0, SCHEDULING_INTERVAL);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(model);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertUtilization((UtilizationModel) in.readObject());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertTracesWithDuplicatedNames() throws Exception {
+        final String path = getClass().getClassLoader().getResource(FILE).getPath();
+        final File copy = new File(folder.newFolder(), FILE);
+        Files.copy(Paths.get(path), copy.toPath());
+        UtilizationTraceBinaryFile.convert(
+            Arrays.asList(path, copy.getPath()), UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES,
+            folder.newFile("planetlab.bin").getPath());
+    }
+
+    private UtilizationTraceBinaryFile createBinaryFile() throws Exception {
+        final File binary = folder.newFile("planetlab.bin");
+        final String path = getClass().getClassLoader().getResource(FILE).getPath();
+        UtilizationTraceBinaryFile.convert(
+            Collections.singletonList(path), UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES, binary.getPath());
+        return new UtilizationTraceBinaryFile(binary.getPath());
+    }
+
+    @Test
+    public void testGetInstanceSharesUtilizationData() throws Exception {
+        final UtilizationTraceCache cache = new UtilizationTraceCache(1);
+        final String path = getClass().getClassLoader().getResource(FILE).getPath();
+        final double[] data = cache.getUtilizationData(path, UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES);
+        assertSame(data, cache.getUtilizationData(path, UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES));
+        assertEquals(1, cache.size());
+
+        final UtilizationModelPlanetLab model1 = UtilizationModelPlanetLab.getInstance(path, SCHEDULING_INTERVAL);
+        final UtilizationModelPlanetLab model2 = UtilizationModelPlanetLab.getInstance(path, SCHEDULING_INTERVAL);
+        assertNotSame(model1, model2);
+        assertTrue(model1.getImmutableData().get(0) instanceof double[]);
+        assertSame(model1.getImmutableData().get(0), model2.getImmutableData().get(0));
+        assertUtilization(model1);
+        assertUtilization(model2);
+    }
+
+    @Test
+    public void testTraceCacheEvictsLeastRecentlyUsedTrace() throws Exception {
+        final UtilizationTraceCache cache = new UtilizationTraceCache(1);
+        final String path = getClass().getClassLoader().getResource(FILE).getPath();
+        final double[] data = cache.getUtilizationData(path, UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES);
+        cache.getUtilizationData(path, 100);
+        assertEquals(1, cache.size());
+        assertNotSame(data, cache.getUtilizationData(path, UtilizationModelPlanetLab.DEFAULT_DATA_SAMPLES));
+    }
+
+    @Test
+    public void testGetUtilizationAfterChangingSchedulingInterval() {
+        assertEquals(0.34, utilizationModel.getUtilization(SCHEDULING_INTERVAL), 0);
+        utilizationModel.setSchedulingInterval(2 * SCHEDULING_INTERVAL);
+        assertEquals(0.29, utilizationModel.getUtilization(SCHEDULING_INTERVAL), 0.0001);
+    }
+
+    @Test
+    public void testGetUtilizationOfModelsList() {
+        final List<UtilizationModel> models = Arrays.asList(utilizationModel, new UtilizationModelFull(), utilizationModel);
+        final double[] utilization = UtilizationModel.getUtilization(models, SCHEDULING_INTERVAL, new double[0]);
+        assertArrayEquals(new double[]{0.34, 1, 0.34}, utilization, 0);
+
+        final double[] larger = new double[4];
+        assertSame(larger, UtilizationModel.getUtilization(models, 0, larger));
+        assertArrayEquals(new double[]{0.24, 1, 0.24, 0}, larger, 0);
+    }
+
+    private void assertUtilization(UtilizationModel utilizationModel) {
         assertEquals(0.24, utilizationModel.getUtilization(0), 0);
         assertEquals(0.34, utilizationModel.getUtilization(1 * SCHEDULING_INTERVAL), 0);
         assertEquals(
@@ -13,7 +13,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * @author	Anton Beloglazov
@@ -23,6 +25,9 @@ public class UtilizationModelStochasticTest {
 
     private UtilizationModelStochastic utilizationModel;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() {
         utilizationModel = new UtilizationModelStochastic();
@@ -39,4 +44,23 @@ public class UtilizationModelStochasticTest {
         assertEquals(utilization1, utilizationModel.getUtilization(1), 0);
     }
 
+    @Test
+    public void testReplayUtilizationHistory() throws Exception {
+        utilizationModel.setUtilizationHistory(new UtilizationHistory());
+        final double[] expected = new double[10];
+        for (int time = 0; time < expected.length; time++) {
+            expected[time] = utilizationModel.getUtilization(time);
+        }
+        final String file = folder.newFile("history.bin").getPath();
+        utilizationModel.saveHistory(file);
+
+        final UtilizationModelStochastic replay = new UtilizationModelStochastic();
+        replay.setUtilizationHistory(new UtilizationHistory());
+        replay.loadHistory(file);
+        assertEquals(expected.length, replay.getUtilizationHistory().size());
+        for (int time = expected.length - 1; time >= 0; time--) {
+            assertEquals(expected[time], replay.getUtilization(time), 0);
+        }
+    }
+
 }
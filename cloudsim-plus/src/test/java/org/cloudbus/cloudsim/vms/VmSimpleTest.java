@@ -19,6 +19,7 @@ import java.util.List;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.mocks.CloudSimMocker;
 import org.cloudbus.cloudsim.mocks.Mocks;
+import org.cloudbus.cloudsim.resources.MipsShare;
 import org.cloudsimplus.listeners.VmDatacenterEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.VmHostEventInfo;
@@ -341,7 +342,8 @@ public class VmSimpleTest {
 
     @Test
     public void testUpdateVmProcessing() {
-        assertEquals(Double.MAX_VALUE, vm.updateProcessing(0, null), 0);
+        assertEquals(Double.MAX_VALUE, vm.updateProcessing(0, (List<Double>) null), 0);
+        assertEquals(Double.MAX_VALUE, vm.updateProcessing(0, (MipsShare) null), 0);
         List<Double> mipsShare1 = new ArrayList<>();
         mipsShare1.add(1.0);
         List<Double> mipsShare2 = new ArrayList<>();
@@ -438,19 +440,26 @@ public class VmSimpleTest {
     }
     @Test
     public void testGetCurrentRequestedTotalMips() {
-        List<Double> currentMips = new ArrayList<>();
-        currentMips.add(MIPS);
-        currentMips.add(MIPS);
+        final MipsShare currentMips = new MipsShare(MIPS, MIPS / 2);
 
         CloudletSchedulerTimeShared cloudletScheduler = createMock(CloudletSchedulerTimeShared.class);
         cloudletScheduler.setVm(EasyMock.anyObject());
         EasyMock.expectLastCall().once();
-        expect(cloudletScheduler.getCurrentRequestedMips()).andReturn(currentMips);
+        expect(cloudletScheduler.getCurrentRequestedMipsShare()).andReturn(currentMips).times(2);
         replay(cloudletScheduler);
 
         Vm vm = VmSimpleTest.createVm(cloudletScheduler);
-        assertEquals(MIPS * 2, vm.getCurrentRequestedTotalMips(), 0);
+        vm.setCreated(true);
+        assertEquals(MIPS * 1.5, vm.getCurrentRequestedTotalMips(), 0);
+        assertEquals(MIPS, vm.getCurrentRequestedMaxMips(), 0);
         verify(cloudletScheduler);
     }
 
+    @Test
+    public void testGetCurrentRequestedMipsShare_WhenVmWasNotCreatedInsideHost() {
+        Vm vm = VmSimpleTest.createVm(CloudletScheduler.NULL);
+        assertEquals(new MipsShare().setAll(PES_NUMBER, MIPS), vm.getCurrentRequestedMipsShare());
+        assertEquals(MIPS * PES_NUMBER, vm.getCurrentRequestedTotalMips(), 0);
+    }
+
 }
@@ -0,0 +1,163 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimpleTest;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletToVmAssignmentSolutionTest {
+    private static final int CLOUDLETS = 30;
+    private static final int VMS = 10;
+
+    private List<Cloudlet> cloudlets;
+    private List<Vm> vms;
+    private Random random;
+
+    @Before
+    public void setUp() {
+        random = new Random(1);
+        cloudlets = new ArrayList<>();
+        vms = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmSimpleTest.createVm(i, 1000, 1 + random.nextInt(8)));
+        }
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(CloudletSimpleTest.createCloudlet(i, 10000, 1 + random.nextInt(2)));
+        }
+    }
+
+    private CloudletToVmAssignmentSolution createRandomSolution() {
+        final CloudletToVmAssignmentSolution solution =
+            new CloudletToVmAssignmentSolution(CloudletToVmMappingHeuristic.NULL, cloudlets, vms);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            solution.assign(i, random.nextInt(VMS));
+        }
+        return solution;
+    }
+
+    private double getMappingSolutionCost(CloudletToVmAssignmentSolution solution) {
+        return solution.toMappingSolution(CloudletToVmMappingHeuristic.NULL).getCost();
+    }
+
+    @Test
+    public void testCostIsTheSameOfMappingSolution() {
+        final CloudletToVmAssignmentSolution solution = createRandomSolution();
+        assertEquals(getMappingSolutionCost(solution), solution.getCost(), 0);
+    }
+
+    @Test
+    public void testSwapCostDeltaAndIncrementalCost() {
+        final CloudletToVmAssignmentSolution solution = createRandomSolution();
+        for (int k = 0; k < 1000; k++) {
+            final int i = random.nextInt(CLOUDLETS);
+            final int j = random.nextInt(CLOUDLETS);
+            final double before = solution.getCost();
+            final long delta = solution.getSwapCostDelta(i, j);
+            final int vm1 = solution.getVmIndex(i);
+            final int vm2 = solution.getVmIndex(j);
+
+            solution.swap(i, j);
+            assertEquals(before + delta, solution.getCost(), 0);
+            assertEquals(vm2, solution.getVmIndex(i));
+            assertEquals(vm1, solution.getVmIndex(j));
+        }
+
+        assertEquals(getMappingSolutionCost(solution), solution.getCost(), 0);
+    }
+
+    @Test
+    public void testAssignCostDeltaAndIncrementalCost() {
+        final CloudletToVmAssignmentSolution solution = createRandomSolution();
+        for (int k = 0; k < 1000; k++) {
+            final int i = random.nextInt(CLOUDLETS);
+            final int vm = random.nextInt(VMS);
+            final double before = solution.getCost();
+            final long delta = solution.getAssignCostDelta(i, vm);
+
+            solution.assign(i, vm);
+            assertEquals(before + delta, solution.getCost(), 0);
+            assertEquals(vm, solution.getVmIndex(i));
+        }
+
+        assertEquals(getMappingSolutionCost(solution), solution.getCost(), 0);
+    }
+
+    @Test
+    public void testCreateFromMappingSolution() {
+        final CloudletToVmAssignmentSolution solution = createRandomSolution();
+        final CloudletToVmAssignmentSolution copy = new CloudletToVmAssignmentSolution(
+            CloudletToVmMappingHeuristic.NULL, cloudlets, vms, solution.toMappingSolution(CloudletToVmMappingHeuristic.NULL));
+        assertEquals(solution.getResult(), copy.getResult());
+        assertEquals(solution.getCost(), copy.getCost(), 0);
+    }
+
+    @Test
+    public void testClonedSolutionIsIndependent() {
+        final CloudletToVmAssignmentSolution solution = createRandomSolution();
+        final CloudletToVmAssignmentSolution clone = new CloudletToVmAssignmentSolution(solution);
+        final int vm = solution.getVmIndex(0);
+        clone.assign(0, (vm + 1) % VMS);
+        assertEquals(vm, solution.getVmIndex(0));
+        assertEquals(getMappingSolutionCost(solution), solution.getCost(), 0);
+        assertEquals(getMappingSolutionCost(clone), clone.getCost(), 0);
+    }
+
+    @Test
+    public void testSimulatedAnnealingReducesCost() {
+        final double initialCost = createSimulatedAnnealing(1).getInitialSolution().getCost();
+        final CloudletToVmMappingSimulatedAnnealing heuristic = createSimulatedAnnealing(4);
+        final CloudletToVmMappingSolution solution = heuristic.solve();
+
+        assertEquals(CLOUDLETS, solution.getResult().size());
+        assertTrue(solution.getCost() < initialCost);
+        assertTrue(heuristic.isToStopSearch());
+        assertEquals(solution.getCost(), createSimulatedAnnealing(4).solve().getCost(), 0);
+    }
+
+    private CloudletToVmMappingSimulatedAnnealing createSimulatedAnnealing(int chains) {
+        final CloudletToVmMappingSimulatedAnnealing heuristic =
+            new CloudletToVmMappingSimulatedAnnealing(1.0, new UniformDistr(0, 1, 2));
+        heuristic.setColdTemperature(0.0001);
+        heuristic.setCoolingRate(0.01);
+        heuristic.setNumberOfNeighborhoodSearchesByIteration(50);
+        heuristic.setCloudletList(cloudlets);
+        heuristic.setVmList(vms);
+        heuristic.setNumberOfChains(chains);
+        return heuristic;
+    }
+}
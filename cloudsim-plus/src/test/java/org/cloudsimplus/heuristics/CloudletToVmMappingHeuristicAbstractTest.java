@@ -0,0 +1,136 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimpleTest;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletToVmMappingHeuristicAbstractTest {
+    private static final int CLOUDLETS = 200;
+    private static final int VMS = 40;
+    private static final long SEED = 3;
+
+    private List<Cloudlet> cloudlets;
+    private List<Vm> vms;
+
+    @Before
+    public void setUp() {
+        final Random random = new Random(1);
+        cloudlets = new ArrayList<>();
+        vms = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmSimpleTest.createVm(i, 1000, 1 + random.nextInt(8)));
+        }
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(CloudletSimpleTest.createCloudlet(i, 10000, 1 + random.nextInt(2)));
+        }
+    }
+
+    private <T extends CloudletToVmMappingHeuristicAbstract> T setup(final T heuristic, final int parallelism) {
+        heuristic.setCloudletList(cloudlets);
+        heuristic.setVmList(vms);
+        heuristic.setParallelism(parallelism);
+        return heuristic;
+    }
+
+    private CloudletToVmMappingGeneticAlgorithm createGeneticAlgorithm(final int parallelism) {
+        final CloudletToVmMappingGeneticAlgorithm heuristic =
+            setup(new CloudletToVmMappingGeneticAlgorithm(new UniformDistr(0, 1, SEED)), parallelism);
+        heuristic.setPopulationSize(30).setMaxIterations(100);
+        return heuristic;
+    }
+
+    private CloudletToVmMappingTabuSearch createTabuSearch(final int parallelism) {
+        final CloudletToVmMappingTabuSearch heuristic =
+            setup(new CloudletToVmMappingTabuSearch(new UniformDistr(0, 1, SEED)), parallelism);
+        heuristic.setNumberOfNeighborhoodSearchesByIteration(1000);
+        heuristic.setMaxIterations(300);
+        return heuristic;
+    }
+
+    private void assertReducesCost(final CloudletToVmMappingHeuristicAbstract heuristic) {
+        final double initialCost = heuristic.getInitialSolution().getCost();
+        final CloudletToVmMappingSolution solution = heuristic.solve();
+        assertEquals(CLOUDLETS, solution.getResult().size());
+        assertTrue(solution.getCost() < initialCost);
+        assertEquals(heuristic.getMaxIterations(), heuristic.getIterations());
+        assertSame(solution, heuristic.getBestSolutionSoFar());
+    }
+
+    @Test
+    public void testGeneticAlgorithmReducesCost() {
+        assertReducesCost(createGeneticAlgorithm(4));
+    }
+
+    @Test
+    public void testTabuSearchReducesCost() {
+        assertReducesCost(createTabuSearch(4));
+    }
+
+    @Test
+    public void testGeneticAlgorithmIsReproducibleRegardlessOfParallelism() {
+        final CloudletToVmMappingSolution parallel = createGeneticAlgorithm(4).solve();
+        final CloudletToVmMappingSolution sequential = createGeneticAlgorithm(1).solve();
+        assertEquals(sequential.getResult(), parallel.getResult());
+    }
+
+    @Test
+    public void testTabuSearchIsReproducibleRegardlessOfParallelism() {
+        final CloudletToVmMappingSolution parallel = createTabuSearch(4).solve();
+        final CloudletToVmMappingSolution sequential = createTabuSearch(1).solve();
+        assertEquals(sequential.getResult(), parallel.getResult());
+    }
+
+    @Test
+    public void testSearchStopsWhenSolveTimeIsReached() {
+        final CloudletToVmMappingTabuSearch heuristic = createTabuSearch(2);
+        heuristic.setMaxIterations(Integer.MAX_VALUE).setMaxSolveTime(0.2);
+        heuristic.solve();
+        assertTrue(heuristic.getIterations() < Integer.MAX_VALUE);
+        assertTrue(heuristic.getSolveTime() >= 0.2);
+        assertTrue(heuristic.getSolveTime() < 5);
+    }
+
+    @Test
+    public void testSolveWithoutVms() {
+        final CloudletToVmMappingGeneticAlgorithm heuristic = createGeneticAlgorithm(1);
+        heuristic.setVmList(new ArrayList<>());
+        assertTrue(heuristic.solve().getResult().isEmpty());
+        assertEquals(0, heuristic.getIterations());
+    }
+}
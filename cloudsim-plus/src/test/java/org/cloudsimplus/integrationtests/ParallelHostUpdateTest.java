@@ -0,0 +1,185 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostDynamicWorkloadSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * An Integration Test (IT) checking that updating the Hosts of a
+ * {@link DatacenterSimple} in parallel produces exactly the same results
+ * as the sequential update, including the order of listener notifications
+ * and log messages.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public final class ParallelHostUpdateTest {
+    private static final int HOSTS = 256;
+    private static final int HOST_PES = 4;
+    private static final int VMS = HOSTS * 2;
+    private static final int VM_PES = 2;
+    private static final int CLOUDLETS_BY_VM = 3;
+
+    @Test
+    public void testParallelUpdateProducesTheSameResultsAsSequentialOne() {
+        final List<String> sequential = runSimulation(1);
+        final List<String> parallel = runSimulation(4);
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Runs a simulation, collecting everything that has to be
+     * the same for sequential and parallel Host updates.
+     *
+     * @param parallelism the Host update parallelism
+     * @return the collected results, including the notifications
+     *         received by listeners and the log, in the order they happened
+     */
+    private List<String> runSimulation(final int parallelism) {
+        final CloudSim simulation = new CloudSim();
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        simulation.getLogScope().setOutput(log).enable();
+
+        final List<Host> hosts = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            hosts.add(createHost(i));
+        }
+
+        new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(hosts), createVmAllocationPolicy())
+            .setHostUpdateParallelism(parallelism)
+            .setSchedulingInterval(5);
+
+        final List<String> results = new ArrayList<>();
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vms = new ArrayList<>(VMS);
+        final List<Cloudlet> cloudlets = new ArrayList<>(VMS * CLOUDLETS_BY_VM);
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = createVm(i)
+                .setRam(512).setBw(1000).setSize(10000)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared())
+                .setBroker(broker);
+            vm.addOnUpdateProcessingListener(info -> results.add("vm " + info.getVm().getId() + " " + info.getTime()));
+            vms.add(vm);
+
+            for (int j = 0; j < CLOUDLETS_BY_VM; j++) {
+                final int id = cloudlets.size();
+                final Cloudlet cloudlet = new CloudletSimple(id, 10000 + id * 7919 % 40000, 1)
+                    .setUtilizationModel(new UtilizationModelFull())
+                    .setBroker(broker)
+                    .setVm(vm);
+                cloudlet.addOnFinishListener(info -> results.add("cloudlet " + info.getCloudlet().getId() + " " + info.getTime()));
+                cloudlets.add(cloudlet);
+            }
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        for (final Cloudlet cloudlet : broker.getCloudletsFinishedList()) {
+            results.add(cloudlet.getId() + " " + cloudlet.getExecStartTime() + " " + cloudlet.getFinishTime());
+        }
+        results.add(log.toString());
+        return results;
+    }
+
+    /**
+     * Creates a VM whose hash code depends just on its id.
+     * The hash code of a {@link VmSimple} depends on its broker,
+     * whose hash code changes between simulation instances.
+     * Since the {@link VmSchedulerTimeShared} allocates PEs for the VMs of a Host
+     * in the order of their hash codes, the PEs used by each VM (that are logged)
+     * would be different for two simulations.
+     *
+     * @param id the VM id
+     * @return
+     */
+    private Vm createVm(final int id) {
+        return new VmSimple(id, 1000, VM_PES) {
+            @Override
+            public int hashCode() {
+                return id;
+            }
+        };
+    }
+
+    /**
+     * Creates a policy that places each VM into a predefined Host.
+     * The default policy breaks ties among Hosts according to their hash codes,
+     * which change between simulation instances, making it impossible
+     * to compare the results of two simulations.
+     *
+     * @return
+     */
+    private VmAllocationPolicy createVmAllocationPolicy() {
+        return new VmAllocationPolicySimple() {
+            @Override
+            public boolean allocateHostForVm(final Vm vm) {
+                return allocateHostForVm(vm, getHostList().get(vm.getId() % getHostList().size()));
+            }
+        };
+    }
+
+    private Host createHost(final int id) {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+        }
+
+        return new HostDynamicWorkloadSimple(id, 1000000, peList)
+            .setRamProvisioner(new ResourceProvisionerSimple(new Ram(4096)))
+            .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+            .setVmScheduler(new VmSchedulerTimeShared());
+    }
+}
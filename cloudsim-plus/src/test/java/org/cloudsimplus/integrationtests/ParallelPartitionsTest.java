@@ -0,0 +1,279 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.network.topologies.BriteNetworkTopology;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * An Integration Test (IT) checking that processing the partitions of a simulation
+ * in parallel produces exactly the same results as the sequential execution,
+ * including the order of log messages.
+ * Each region of the simulated scenario has a Datacenter and a broker
+ * which uses the Datacenter of the next region, so that events are exchanged
+ * between partitions using the network delay.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public final class ParallelPartitionsTest {
+    private static final int REGIONS = 3;
+    private static final int HOSTS = 8;
+
+    /**
+     * The number of Hosts of each Datacenter when the Hosts are updated in parallel,
+     * which is enough for the Host updates to be split among multiple tasks.
+     */
+    private static final int HOSTS_FOR_PARALLEL_UPDATE = 128;
+    private static final int HOST_PES = 4;
+    private static final int VMS = 12;
+    private static final int VM_PES = 2;
+    private static final int CLOUDLETS_BY_VM = 3;
+    private static final int PING = 900;
+
+    @Test
+    public void testParallelExecutionProducesTheSameResultsAsSequentialOne() {
+        final List<String> sequential = runSimulation(1, 1, HOSTS);
+        final List<String> parallel = runSimulation(REGIONS, 1, HOSTS);
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testParallelHostUpdatesInsideParallelPartitionsProduceTheSameResultsAsSequentialExecution() {
+        final List<String> sequential = runSimulation(1, 1, HOSTS_FOR_PARALLEL_UPDATE);
+        final List<String> parallel = runSimulation(REGIONS, 4, HOSTS_FOR_PARALLEL_UPDATE);
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEventSentToAnotherPartitionBeforeLookaheadIsRejected() {
+        final CloudSim simulation = new CloudSim().setParallelism(2);
+        simulation.getLogScope().disable();
+        final PingEntity ping1 = new PingEntity(simulation);
+        final PingEntity ping2 = new PingEntity(simulation);
+        ping1.target = ping2;
+        ping2.target = ping1;
+        simulation.setPartition(ping1, 1).setPartition(ping2, 2);
+
+        final BriteNetworkTopology topology = new BriteNetworkTopology();
+        topology.addLink(ping1.getId(), ping2.getId(), 1000, 1);
+        simulation.setNetworkTopology(topology);
+        assertEquals(1, simulation.getLookahead(), 0);
+
+        simulation.start();
+    }
+
+    /**
+     * Runs a simulation, collecting everything that has to be
+     * the same for sequential and parallel executions.
+     *
+     * @param parallelism the simulation parallelism
+     * @param hostUpdateParallelism the parallelism for updating the Hosts of each Datacenter
+     * @param hosts the number of Hosts of each Datacenter
+     * @return the collected results, including the log
+     */
+    private List<String> runSimulation(final int parallelism, final int hostUpdateParallelism, final int hosts) {
+        final CloudSim simulation = new CloudSim().setParallelism(parallelism);
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        simulation.getLogScope().setOutput(log).enable();
+
+        final List<Datacenter> datacenters = new ArrayList<>(REGIONS);
+        final List<DatacenterBroker> brokers = new ArrayList<>(REGIONS);
+        for (int region = 0; region < REGIONS; region++) {
+            final Datacenter datacenter = createDatacenter(simulation, region, hostUpdateParallelism, hosts);
+            final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+            simulation.setPartition(datacenter, region + 1).setPartition(broker, region + 1);
+            datacenters.add(datacenter);
+            brokers.add(broker);
+        }
+
+        simulation.setNetworkTopology(createNetworkTopology(datacenters, brokers));
+        for (int region = 0; region < REGIONS; region++) {
+            final Datacenter datacenter = datacenters.get((region + 1) % REGIONS);
+            brokers.get(region).setDatacenterSupplier(() -> datacenter);
+            createVmsAndCloudlets(brokers.get(region), region);
+        }
+
+        final List<String> results = new ArrayList<>();
+        results.add("finish " + simulation.start());
+        for (final DatacenterBroker broker : brokers) {
+            for (final Cloudlet cloudlet : broker.getCloudletsFinishedList()) {
+                results.add(String.format("%s cloudlet %d vm %d host %d %.4f %.4f",
+                    broker.getName(), cloudlet.getId(), cloudlet.getVm().getId(), cloudlet.getVm().getHost().getId(),
+                    cloudlet.getExecStartTime(), cloudlet.getFinishTime()));
+            }
+        }
+        results.add(log.toString());
+        return results;
+    }
+
+    /**
+     * Creates a network where the entities of the same region are
+     * close to each other and far from the ones of other regions.
+     *
+     * @param datacenters the Datacenter of each region
+     * @param brokers the broker of each region
+     * @return
+     */
+    private BriteNetworkTopology createNetworkTopology(final List<Datacenter> datacenters, final List<DatacenterBroker> brokers) {
+        final BriteNetworkTopology topology = new BriteNetworkTopology();
+        for (int i = 0; i < REGIONS; i++) {
+            for (int j = 0; j < REGIONS; j++) {
+                final double latency = i == j ? 0.1 : 1.5 + Math.abs(i - j) * 0.5;
+                topology.addLink(brokers.get(i).getId(), datacenters.get(j).getId(), 10000, latency);
+            }
+        }
+
+        return topology;
+    }
+
+    private void createVmsAndCloudlets(final DatacenterBroker broker, final int region) {
+        final List<Vm> vms = new ArrayList<>(VMS);
+        final List<Cloudlet> cloudlets = new ArrayList<>(VMS * CLOUDLETS_BY_VM);
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = new VmSimple(i, 1000, VM_PES)
+                .setRam(512).setBw(1000).setSize(10000)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared())
+                .setBroker(broker);
+            vms.add(vm);
+
+            for (int j = 0; j < CLOUDLETS_BY_VM; j++) {
+                final int id = cloudlets.size();
+                final Cloudlet cloudlet = new CloudletSimple(id, 10000 + (id + region) * 7919 % 40000, 1)
+                    .setUtilizationModel(new UtilizationModelFull())
+                    .setBroker(broker)
+                    .setVm(vm);
+                cloudlets.add(cloudlet);
+            }
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+    }
+
+    private Datacenter createDatacenter(
+        final CloudSim simulation, final int region, final int hostUpdateParallelism, final int hosts)
+    {
+        final List<Host> hostList = new ArrayList<>(hosts);
+        for (int i = 0; i < hosts; i++) {
+            hostList.add(createHost(i));
+        }
+
+        return new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(hostList), createVmAllocationPolicy())
+            .setHostUpdateParallelism(hostUpdateParallelism)
+            .setSchedulingInterval(region + 2);
+    }
+
+    /**
+     * Creates a policy that places each VM into a predefined Host,
+     * spreading the VMs across the Host list.
+     * The default policy breaks ties among Hosts according to their hash codes,
+     * which change between simulation instances, making it impossible
+     * to compare the results of two simulations.
+     *
+     * @return
+     */
+    private VmAllocationPolicy createVmAllocationPolicy() {
+        return new VmAllocationPolicySimple() {
+            @Override
+            public boolean allocateHostForVm(final Vm vm) {
+                return allocateHostForVm(vm, getHostList().get(vm.getId() * getHostList().size() / VMS));
+            }
+        };
+    }
+
+    private Host createHost(final int id) {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+        }
+
+        return new HostSimple(id, 1000000, peList)
+            .setRamProvisioner(new ResourceProvisionerSimple(new Ram(4096)))
+            .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+            .setVmScheduler(new VmSchedulerTimeShared());
+    }
+
+    /**
+     * An entity that periodically sends events to another one without any delay.
+     */
+    private static final class PingEntity extends CloudSimEntity {
+        private PingEntity target;
+
+        private PingEntity(final CloudSim simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            schedule(getId(), 1, PING);
+        }
+
+        @Override
+        public void processEvent(final SimEvent ev) {
+            if (ev.getSource() == getId()) {
+                schedule(target.getId(), 0, PING);
+            }
+        }
+
+        @Override
+        public void shutdownEntity() {
+        }
+    }
+}
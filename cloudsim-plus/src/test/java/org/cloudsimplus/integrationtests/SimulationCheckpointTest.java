@@ -0,0 +1,357 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.network.topologies.BriteNetworkTopology;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelPlanetLab;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelStochastic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * An Integration Test (IT) checking that a simulation restored from a checkpoint
+ * or forked in memory continues exactly as the original simulation,
+ * producing the same results and log messages.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public final class SimulationCheckpointTest {
+    private static final int DATACENTERS = 2;
+    private static final int HOSTS = 6;
+    private static final int HOST_PES = 4;
+    private static final int VMS = 10;
+    private static final int VM_PES = 2;
+    private static final int CLOUDLETS = 40;
+    private static final int FORKS = 3;
+    private static final double PAUSE_TIME = 30;
+    private static final String START_MESSAGE = "Starting CloudSim Plus version 1.0" + System.lineSeparator();
+
+    @Test
+    public void testRestoredSimulationsContinueAsTheOriginalOne() {
+        final CloudSim simulation = createSimulation();
+        final ByteArrayOutputStream log = enableLog(simulation);
+        final CheckpointWriter writer = new CheckpointWriter(simulation, log);
+        simulation.pause(PAUSE_TIME);
+        simulation.addOnSimulationPausedListener(writer);
+        final List<String> expected = runSimulation(simulation);
+        final String expectedLog = log.toString().substring(writer.logSize);
+
+        assertTrue(writer.checkpoint.size() > 0);
+        for (int i = 0; i < 2; i++) {
+            final CloudSim restored = CloudSim.restore(new ByteArrayInputStream(writer.checkpoint.toByteArray()));
+            final ByteArrayOutputStream restoredLog = enableLog(restored);
+            assertEquals(PAUSE_TIME, restored.clock(), 0);
+            assertFalse(restored.isPaused());
+
+            assertEquals(expected, runSimulation(restored));
+            assertEquals(START_MESSAGE + expectedLog, restoredLog.toString());
+        }
+    }
+
+    /**
+     * Checks that the VMs placed into Hosts are found into the hash-based maps
+     * of Host resources, which are keyed by VMs whose hash code depends on
+     * the broker and the simulation that are also restored.
+     */
+    @Test
+    public void testRestoredHashCollectionsFindTheirObjects() {
+        final CloudSim simulation = createSimulation();
+        final CheckpointWriter writer = new CheckpointWriter(simulation, new ByteArrayOutputStream());
+        simulation.pause(PAUSE_TIME);
+        simulation.addOnSimulationPausedListener(writer);
+        simulation.start();
+
+        final CloudSim restored = CloudSim.restore(new ByteArrayInputStream(writer.checkpoint.toByteArray()));
+        final List<Datacenter> datacenters = restored.getEntityList().stream()
+            .filter(entity -> entity instanceof Datacenter)
+            .map(entity -> (Datacenter) entity)
+            .collect(Collectors.toList());
+        int vms = 0;
+        for (final Datacenter datacenter : datacenters) {
+            for (final Host host : datacenter.getHostList()) {
+                for (final Vm vm : host.getVmList()) {
+                    assertFalse(host.getVmScheduler().getAllocatedMipsForVm(vm).isEmpty());
+                    assertEquals(vm.getRam().getCapacity(), host.getRamProvisioner().getAllocatedResourceForVm(vm));
+                    vms++;
+                }
+            }
+        }
+
+        assertEquals(VMS, vms);
+    }
+
+    @Test
+    public void testSimulationRestoredBeforeStartingRunsAsTheOriginalOne() {
+        final CloudSim simulation = createSimulation();
+        final ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        simulation.checkpoint(checkpoint);
+        final List<String> expected = runSimulation(simulation);
+
+        final CloudSim restored = CloudSim.restore(new ByteArrayInputStream(checkpoint.toByteArray()));
+        assertEquals(expected, runSimulation(restored));
+    }
+
+    @Test
+    public void testForksRunningInParallelContinueAsTheOriginalSimulation() throws Exception {
+        final CloudSim simulation = createSimulation();
+        final List<CloudSim> forks = new ArrayList<>();
+        simulation.pause(PAUSE_TIME);
+        simulation.addOnSimulationPausedListener(info -> {
+            forks.addAll(simulation.fork(FORKS));
+            simulation.resume();
+        });
+        final List<String> expected = runSimulation(simulation);
+
+        assertEquals(FORKS, forks.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(FORKS);
+        try {
+            final List<Future<List<String>>> results = new ArrayList<>();
+            for (final CloudSim fork : forks) {
+                assertEquals(PAUSE_TIME, fork.clock(), 0);
+                results.add(executor.submit(() -> runSimulation(fork)));
+            }
+
+            for (final Future<List<String>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testForksShareImmutableData() {
+        final CloudSim simulation = createSimulation();
+        final UtilizationModel utilization = new UtilizationModelPlanetLab(new double[]{0.5, 0.5}, 300);
+        getBrokers(simulation).get(0).getCloudletsWaitingList().forEach(c -> c.setUtilizationModelCpu(utilization));
+
+        final BriteNetworkTopology topology = (BriteNetworkTopology) simulation.getNetworkTopology();
+        for (final CloudSim fork : simulation.fork(2)) {
+            final BriteNetworkTopology forkTopology = (BriteNetworkTopology) fork.getNetworkTopology();
+            assertNotSame(topology, forkTopology);
+            assertSame(topology.getImmutableData().get(0), forkTopology.getImmutableData().get(0));
+            assertSame(topology.getImmutableData().get(1), forkTopology.getImmutableData().get(1));
+
+            final Cloudlet cloudlet = getBrokers(fork).get(0).getCloudletsWaitingList().get(0);
+            final UtilizationModelPlanetLab forkUtilization = (UtilizationModelPlanetLab) cloudlet.getUtilizationModelCpu();
+            assertNotSame(utilization, forkUtilization);
+            assertSame(((UtilizationModelPlanetLab) utilization).getImmutableData().get(0), forkUtilization.getImmutableData().get(0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForkWithoutCopies() {
+        createSimulation().fork(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCheckpointOfFinishedSimulation() {
+        final CloudSim simulation = createSimulation();
+        simulation.start();
+        simulation.checkpoint(new ByteArrayOutputStream());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testCheckpointWithNotSerializableLambda() {
+        final CloudSim simulation = createSimulation();
+        getBrokers(simulation).get(0).setVmMapper(cloudlet -> Vm.NULL);
+        simulation.checkpoint(new ByteArrayOutputStream());
+    }
+
+    private static ByteArrayOutputStream enableLog(final CloudSim simulation) {
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        simulation.getLogScope().setOutput(log).enable();
+        return log;
+    }
+
+    /**
+     * Runs a simulation and collects its results.
+     *
+     * @param simulation the simulation to run
+     * @return the finish time of the simulation and of each Cloudlet
+     */
+    private static List<String> runSimulation(final CloudSim simulation) {
+        final List<String> results = new ArrayList<>();
+        results.add("finish " + simulation.start());
+        for (final DatacenterBroker broker : getBrokers(simulation)) {
+            for (final Cloudlet cloudlet : broker.getCloudletsFinishedList()) {
+                results.add(String.format("%s cloudlet %d vm %d host %d %.4f %.4f",
+                    broker.getName(), cloudlet.getId(), cloudlet.getVm().getId(), cloudlet.getVm().getHost().getId(),
+                    cloudlet.getExecStartTime(), cloudlet.getFinishTime()));
+            }
+        }
+
+        return results;
+    }
+
+    private static List<DatacenterBroker> getBrokers(final CloudSim simulation) {
+        return simulation.getEntityList().stream()
+            .filter(entity -> entity instanceof DatacenterBroker)
+            .map(entity -> (DatacenterBroker) entity)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a simulation with Cloudlets using a stochastic utilization model
+     * and some of them submitted after the time the simulation is paused.
+     *
+     * @return the created simulation
+     */
+    private static CloudSim createSimulation() {
+        final CloudSim simulation = new CloudSim();
+        simulation.getLogScope().disable();
+        final List<Datacenter> datacenters = new ArrayList<>(DATACENTERS);
+        for (int i = 0; i < DATACENTERS; i++) {
+            datacenters.add(createDatacenter(simulation));
+        }
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final BriteNetworkTopology topology = new BriteNetworkTopology();
+        for (final Datacenter datacenter : datacenters) {
+            topology.addLink(broker.getId(), datacenter.getId(), 10000, 0.5);
+        }
+        simulation.setNetworkTopology(topology);
+
+        final List<Vm> vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(new VmSimple(i, 1000, VM_PES)
+                .setRam(512).setBw(1000).setSize(10000)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared())
+                .setBroker(broker));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 10000 + i * 7919 % 40000, 1)
+                .setUtilizationModelCpu(new UtilizationModelStochastic(i))
+                .setUtilizationModelRam(new UtilizationModelFull())
+                .setUtilizationModelBw(new UtilizationModelFull())
+                .setBroker(broker)
+                .setVm(vms.get(i % VMS));
+            cloudlet.setSubmissionDelay(i % 2 == 0 ? 0 : PAUSE_TIME * 2);
+            cloudlets.add(cloudlet);
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        return simulation;
+    }
+
+    private static Datacenter createDatacenter(final CloudSim simulation) {
+        final List<Host> hosts = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+            }
+
+            hosts.add(new HostSimple(i, 1000000, peList)
+                .setRamProvisioner(new ResourceProvisionerSimple(new Ram(4096)))
+                .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+                .setVmScheduler(new VmSchedulerTimeShared()));
+        }
+
+        return new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicyById())
+            .setSchedulingInterval(3);
+    }
+
+    /**
+     * A policy that places each VM into a predefined Host.
+     * The default policy breaks ties among Hosts according to their hash codes,
+     * which change between simulation instances, making it impossible
+     * to compare the results of two simulations.
+     */
+    private static final class VmAllocationPolicyById extends VmAllocationPolicySimple {
+        @Override
+        public boolean allocateHostForVm(final Vm vm) {
+            return allocateHostForVm(vm, getHostList().get(vm.getId() % getHostList().size()));
+        }
+    }
+
+    /**
+     * Writes a checkpoint when the simulation is paused and then resumes it.
+     * Since the listener is stored into the checkpoint too, the
+     * objects which must not be stored are transient.
+     */
+    private static final class CheckpointWriter implements EventListener<EventInfo> {
+        private final transient CloudSim simulation;
+        private final transient ByteArrayOutputStream log;
+        private final transient ByteArrayOutputStream checkpoint;
+        private int logSize;
+
+        private CheckpointWriter(final CloudSim simulation, final ByteArrayOutputStream log) {
+            this.simulation = simulation;
+            this.log = log;
+            this.checkpoint = new ByteArrayOutputStream();
+        }
+
+        @Override
+        public void update(final EventInfo info) {
+            simulation.getLogScope().flush();
+            logSize = log.size();
+            simulation.checkpoint(checkpoint);
+            simulation.resume();
+        }
+    }
+}